@@ -0,0 +1,319 @@
+package org.example.enumtalentapi.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Drives signup, verify, login, profile update and profile read flows against
+ * a running instance at a fixed arrival rate and records per-endpoint latency
+ * with HdrHistogram.
+ *
+ * <p>Flows start on schedule whether or not earlier ones have finished, and the
+ * first step is timed from its scheduled start, so a stalled server shows up as
+ * latency instead of silently lowering the offered load. Start the server with
+ * the {@code loadtest} profile (optionally plus {@code reactive} or
+ * {@code virtual-threads}). Its in-memory repositories live in the test sources,
+ * so the server runs from the test classpath and the generator from the
+ * benchmarks module:
+ *
+ * <pre>
+ * ./mvnw spring-boot:test-run -Dspring-boot.run.profiles=loadtest
+ * ./mvnw -f benchmarks/pom.xml package
+ * java -cp benchmarks/target/benchmarks.jar org.example.enumtalentapi.loadtest.LoadGenerator \
+ *     --rate=50 --duration=60 --label=servlet --out=target/loadtest/servlet.json
+ * java -cp benchmarks/target/benchmarks.jar org.example.enumtalentapi.loadtest.LoadGenerator \
+ *     --compare=target/loadtest/servlet.json,target/loadtest/reactive.json
+ * </pre>
+ */
+public final class LoadGenerator {
+
+    private static final List<String> ENDPOINTS =
+            List.of("signup", "verify", "login", "profile-update", "profile-read");
+
+    private final Options options;
+    private final HttpClient client;
+    private final ObjectMapper mapper = new ObjectMapper();
+    private final Map<String, Histogram> histograms = new LinkedHashMap<>();
+    private final Map<String, LongAdder> errors = new HashMap<>();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicLong flowsStarted = new AtomicLong();
+    private final AtomicLong flowsDropped = new AtomicLong();
+    private final AtomicInteger failuresLogged = new AtomicInteger();
+    private final String runId = Long.toString(System.currentTimeMillis(), 36);
+
+    private volatile boolean recording;
+
+    private LoadGenerator(Options options) {
+        this.options = options;
+        this.client = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .version(HttpClient.Version.HTTP_1_1)
+                .build();
+        for (String endpoint : ENDPOINTS) {
+            histograms.put(endpoint, new ConcurrentHistogram(3));
+            errors.put(endpoint, new LongAdder());
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        Options options = Options.parse(args);
+
+        if (options.compare != null) {
+            String[] files = options.compare.split(",");
+            Map<String, Double> regressions = LoadReport.compare(
+                    LoadReport.read(Path.of(files[0])), LoadReport.read(Path.of(files[1])),
+                    options.maxP99Regression, System.out);
+            if (!regressions.isEmpty()) {
+                System.out.println("p99 regressions over " + (int) (options.maxP99Regression * 100) + "%: " + regressions.keySet());
+                System.exit(1);
+            }
+            return;
+        }
+
+        LoadReport report = new LoadGenerator(options).run();
+        report.write(options.out);
+        System.out.println("Report written to " + options.out);
+    }
+
+    private LoadReport run() throws IOException, InterruptedException {
+        Instant startedAt = Instant.now();
+        long intervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / options.rate);
+        long start = System.nanoTime();
+        long warmupEnd = start + TimeUnit.SECONDS.toNanos(options.warmupSeconds);
+        long end = warmupEnd + TimeUnit.SECONDS.toNanos(options.durationSeconds);
+
+        log(System.out, "Offering %.1f flows/s to %s for %ds after %ds warmup",
+                options.rate, options.target, options.durationSeconds, options.warmupSeconds);
+
+        for (long n = 0; ; n++) {
+            long intended = start + n * intervalNanos;
+            if (intended >= end) break;
+
+            long wait = intended - System.nanoTime();
+            if (wait > 0) LockSupport.parkNanos(wait);
+
+            if (!recording && intended >= warmupEnd) {
+                recording = true;
+                histograms.values().forEach(Histogram::reset);
+                errors.values().forEach(LongAdder::reset);
+                flowsStarted.set(0);
+                flowsDropped.set(0);
+            }
+
+            flowsStarted.incrementAndGet();
+            if (inFlight.get() >= options.maxInFlight) {
+                flowsDropped.incrementAndGet();
+                continue;
+            }
+            inFlight.incrementAndGet();
+            runFlow(n, intended).whenComplete((ok, error) -> inFlight.decrementAndGet());
+        }
+
+        long drainDeadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+        while (inFlight.get() > 0 && System.nanoTime() < drainDeadline) {
+            Thread.sleep(50);
+        }
+
+        Map<String, LoadReport.EndpointStats> stats = new LinkedHashMap<>();
+        histograms.forEach((name, histogram) -> {
+            stats.put(name, LoadReport.EndpointStats.of(histogram, errors.get(name).sum()));
+            writeDistribution(name, histogram);
+        });
+
+        LoadReport report = new LoadReport(options.label, startedAt, options.rate, options.durationSeconds,
+                flowsStarted.get(), flowsDropped.get(), stats);
+        stats.forEach((name, s) -> log(System.out, "%-15s n=%-7d err=%-5d p50=%6dus p99=%7dus max=%8dus",
+                name, s.count(), s.errors(), s.p50(), s.p99(), s.max()));
+        return report;
+    }
+
+    private CompletableFuture<Void> runFlow(long n, long intendedStart) {
+        String email = "load-" + runId + "-" + n + "@example.com";
+        String password = "load-test-password";
+
+        CompletableFuture<Void> flow = step("signup", intendedStart,
+                post("/api/auth/signup", Map.of("email", email, "password", password)))
+                .thenCompose(body -> step("verify", System.nanoTime(),
+                        get("/api/auth/verify?token=" + after(message(body), "token="))))
+                .thenCompose(body -> step("login", System.nanoTime(),
+                        post("/api/auth/login", Map.of("email", email, "password", password))))
+                .thenCompose(body -> {
+                    String userId = after(message(body), "userId=");
+                    String token = after(message(body), "token=");
+                    return step("profile-update", System.nanoTime(),
+                            post("/api/profile/talent/" + userId, profile(n)))
+                            .thenApply(ignored -> new String[]{userId, token});
+                })
+                .thenCompose(login -> {
+                    // reads go through the token filter like a signed-in owner's would
+                    CompletableFuture<JsonNode> reads = CompletableFuture.completedFuture(null);
+                    for (int i = 0; i < options.readsPerFlow; i++) {
+                        reads = reads.thenCompose(ignored -> step("profile-read", System.nanoTime(),
+                                get("/api/profile/talent/me?userId=" + login[0], login[1])));
+                    }
+                    return reads;
+                })
+                .thenApply(ignored -> null);
+
+        return flow.exceptionally(error -> null);
+    }
+
+    private CompletableFuture<JsonNode> step(String endpoint, long startNanos, HttpRequest request) {
+        return client.sendAsync(request, HttpResponse.BodyHandlers.ofByteArray())
+                .handle((response, error) -> {
+                    long micros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - startNanos);
+                    if (recording) {
+                        histograms.get(endpoint).recordValue(Math.max(0, micros));
+                    }
+                    if (error != null || response.statusCode() >= 300) {
+                        String reason = error != null ? String.valueOf(error.getMessage())
+                                : response.statusCode() + " " + new String(response.body());
+                        if (recording) errors.get(endpoint).increment();
+                        if (failuresLogged.getAndIncrement() < 5) log(System.err, "%s failed: %s", endpoint, reason);
+                        throw new CompletionException(new IllegalStateException(endpoint + " failed: " + reason));
+                    }
+                    try {
+                        return mapper.readTree(response.body());
+                    } catch (IOException e) {
+                        throw new CompletionException(e);
+                    }
+                });
+    }
+
+    private HttpRequest post(String path, Object body) {
+        try {
+            return HttpRequest.newBuilder(URI.create(options.target + path))
+                    .timeout(Duration.ofSeconds(options.timeoutSeconds))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofByteArray(mapper.writeValueAsBytes(body)))
+                    .build();
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private HttpRequest get(String path) {
+        return HttpRequest.newBuilder(URI.create(options.target + path))
+                .timeout(Duration.ofSeconds(options.timeoutSeconds))
+                .GET()
+                .build();
+    }
+
+    private HttpRequest get(String path, String token) {
+        return HttpRequest.newBuilder(URI.create(options.target + path))
+                .timeout(Duration.ofSeconds(options.timeoutSeconds))
+                .header("Authorization", "Token " + token)
+                .GET()
+                .build();
+    }
+
+    private Map<String, Object> profile(long n) {
+        Map<String, Object> profile = new LinkedHashMap<>();
+        profile.put("firstName", "Load");
+        profile.put("lastName", "User" + n);
+        profile.put("headline", "Backend Engineer");
+        profile.put("bio", "Generated by the load generator.");
+        profile.put("skills", List.of("Java", "Spring Boot", "MongoDB"));
+        profile.put("experienceLevel", "MID");
+        profile.put("location", "Lagos, Nigeria");
+        profile.put("transcript", "CSC101 A, CSC201 B, ".repeat(20));
+        profile.put("statementOfPurpose", "I like building reliable services. ".repeat(20));
+        profile.put("salaryExpectation", "NGN 800,000 per month");
+        return profile;
+    }
+
+    private static String message(JsonNode body) {
+        return body == null ? "" : body.path("message").asText("");
+    }
+
+    private static String after(String text, String marker) {
+        int at = text.indexOf(marker);
+        if (at < 0) throw new IllegalStateException("No " + marker + " in '" + text + "'");
+        String value = text.substring(at + marker.length()).trim();
+        int space = value.indexOf(' ');
+        return space < 0 ? value : value.substring(0, space);
+    }
+
+    private void writeDistribution(String endpoint, Histogram histogram) {
+        Path file = options.out.resolveSibling(stripExtension(options.out.getFileName().toString())
+                + "-" + endpoint + ".hgrm");
+        try {
+            Files.createDirectories(file.toAbsolutePath().getParent());
+            try (PrintStream out = new PrintStream(Files.newOutputStream(file))) {
+                histogram.outputPercentileDistribution(out, 1000.0);
+            }
+        } catch (IOException e) {
+            log(System.err, "Could not write %s: %s", file, e.getMessage());
+        }
+    }
+
+    private static String stripExtension(String name) {
+        int dot = name.lastIndexOf('.');
+        return dot > 0 ? name.substring(0, dot) : name;
+    }
+
+    private static void log(PrintStream out, String format, Object... args) {
+        out.println(String.format(format, args));
+    }
+
+    static final class Options {
+        String target = "http://localhost:8081";
+        double rate = 20;
+        long durationSeconds = 60;
+        long warmupSeconds = 10;
+        int readsPerFlow = 3;
+        int maxInFlight = 5000;
+        long timeoutSeconds = 30;
+        String label = "run";
+        Path out = Path.of("target/loadtest/report.json");
+        String compare;
+        double maxP99Regression = 0.10;
+
+        static Options parse(String[] args) {
+            Options options = new Options();
+            for (String arg : args) {
+                String[] kv = arg.replaceFirst("^--", "").split("=", 2);
+                String value = kv.length > 1 ? kv[1] : "";
+                switch (kv[0]) {
+                    case "target" -> options.target = value;
+                    case "rate" -> options.rate = Double.parseDouble(value);
+                    case "duration" -> options.durationSeconds = Long.parseLong(value);
+                    case "warmup" -> options.warmupSeconds = Long.parseLong(value);
+                    case "reads-per-flow" -> options.readsPerFlow = Integer.parseInt(value);
+                    case "max-in-flight" -> options.maxInFlight = Integer.parseInt(value);
+                    case "timeout" -> options.timeoutSeconds = Long.parseLong(value);
+                    case "label" -> options.label = value;
+                    case "out" -> options.out = Path.of(value);
+                    case "compare" -> options.compare = value;
+                    case "max-p99-regression" -> options.maxP99Regression = Double.parseDouble(value);
+                    default -> throw new IllegalArgumentException("Unknown option " + arg);
+                }
+            }
+            return options;
+        }
+    }
+}
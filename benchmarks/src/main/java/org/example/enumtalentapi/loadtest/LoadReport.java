@@ -0,0 +1,88 @@
+package org.example.enumtalentapi.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * Summary of one load run, written as JSON so two builds can be compared.
+ * Latencies are in microseconds.
+ */
+public record LoadReport(String label,
+                         Instant startedAt,
+                         double flowsPerSecond,
+                         long durationSeconds,
+                         long flowsStarted,
+                         long flowsDropped,
+                         Map<String, EndpointStats> endpoints) {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper()
+            .findAndRegisterModules()
+            .enable(SerializationFeature.INDENT_OUTPUT)
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    public record EndpointStats(long count, long errors, double mean,
+                                long p50, long p90, long p99, long p999, long max) {
+
+        static EndpointStats of(Histogram histogram, long errors) {
+            return new EndpointStats(
+                    histogram.getTotalCount(),
+                    errors,
+                    histogram.getMean(),
+                    histogram.getValueAtPercentile(50),
+                    histogram.getValueAtPercentile(90),
+                    histogram.getValueAtPercentile(99),
+                    histogram.getValueAtPercentile(99.9),
+                    histogram.getMaxValue());
+        }
+    }
+
+    public void write(Path file) throws IOException {
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        MAPPER.writeValue(file.toFile(), this);
+    }
+
+    public static LoadReport read(Path file) throws IOException {
+        return MAPPER.readValue(file.toFile(), LoadReport.class);
+    }
+
+    /**
+     * Prints p50/p99 per endpoint for both runs and returns the endpoints whose
+     * p99 got worse by more than the allowed fraction.
+     */
+    public static Map<String, Double> compare(LoadReport baseline, LoadReport candidate,
+                                              double maxP99Regression, Appendable out) throws IOException {
+        Map<String, Double> regressions = new LinkedHashMap<>();
+        out.append(String.format("%-16s %12s %12s %12s %12s %9s %8s%n",
+                "endpoint", "base p50", "cand p50", "base p99", "cand p99", "p99 diff", "errors"));
+
+        TreeSet<String> names = new TreeSet<>(baseline.endpoints().keySet());
+        names.addAll(candidate.endpoints().keySet());
+        for (String name : names) {
+            EndpointStats base = baseline.endpoints().get(name);
+            EndpointStats cand = candidate.endpoints().get(name);
+            if (base == null || cand == null) {
+                out.append(String.format("%-16s only in %s%n", name, base == null ? "candidate" : "baseline"));
+                continue;
+            }
+
+            double change = base.p99() == 0 ? 0 : (cand.p99() - base.p99()) / (double) base.p99();
+            out.append(String.format("%-16s %10dus %10dus %10dus %10dus %+8.1f%% %8d%n",
+                    name, base.p50(), cand.p50(), base.p99(), cand.p99(), change * 100, cand.errors()));
+            if (change > maxP99Regression) {
+                regressions.put(name, change);
+            }
+        }
+        return regressions;
+    }
+}
@@ -0,0 +1,214 @@
+package org.example.enumtalentapi.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Starts the packaged application several times and records the time from
+ * process launch to the first successful health check, the number an
+ * autoscaler actually waits for.
+ *
+ * <pre>
+ * ./mvnw -Pprod package
+ * ./mvnw -f benchmarks/pom.xml package
+ * java -cp benchmarks/target/benchmarks.jar org.example.enumtalentapi.loadtest.StartupBenchmark \
+ *     --label=plain --out=target/startup/plain.json
+ * java -cp benchmarks/target/benchmarks.jar org.example.enumtalentapi.loadtest.StartupBenchmark \
+ *     --label=prod --jar=target/cds/EnumTalentApi-0.0.1-SNAPSHOT.jar \
+ *     '--jvm-args=-XX:SharedArchiveFile=target/cds/application.jsa -Dspring.aot.enabled=true' \
+ *     --app-args=--spring.profiles.active=prod --out=target/startup/prod.json
+ * java -cp benchmarks/target/benchmarks.jar org.example.enumtalentapi.loadtest.StartupBenchmark \
+ *     --compare=target/startup/baseline.json,target/startup/prod.json
+ * </pre>
+ *
+ * Compare exits with status 1 when the median grew by more than
+ * {@code --max-regression}, so it can gate a build.
+ */
+public final class StartupBenchmark {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper()
+            .findAndRegisterModules()
+            .enable(SerializationFeature.INDENT_OUTPUT)
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    private final Options options;
+    private final HttpClient client = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofMillis(500))
+            .version(HttpClient.Version.HTTP_1_1)
+            .build();
+
+    private StartupBenchmark(Options options) {
+        this.options = options;
+    }
+
+    /** Milliseconds to the first healthy response of each run, in run order. */
+    public record StartupReport(String label, Instant startedAt, String jar, String jvmArgs,
+                                String appArgs, List<Long> runsMillis, long medianMillis,
+                                long minMillis, long maxMillis) {
+
+        static StartupReport of(Options options, Instant startedAt, List<Long> runs) {
+            List<Long> sorted = runs.stream().sorted().toList();
+            return new StartupReport(options.label, startedAt, options.jar.toString(), options.jvmArgs,
+                    options.appArgs, runs, sorted.get(sorted.size() / 2),
+                    sorted.get(0), sorted.get(sorted.size() - 1));
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        Options options = Options.parse(args);
+
+        if (options.compare != null) {
+            String[] files = options.compare.split(",");
+            StartupReport baseline = MAPPER.readValue(Path.of(files[0]).toFile(), StartupReport.class);
+            StartupReport candidate = MAPPER.readValue(Path.of(files[1]).toFile(), StartupReport.class);
+            double change = (double) candidate.medianMillis() / baseline.medianMillis() - 1;
+            log(System.out, "%-12s median=%6dms min=%6dms max=%6dms",
+                    baseline.label(), baseline.medianMillis(), baseline.minMillis(), baseline.maxMillis());
+            log(System.out, "%-12s median=%6dms min=%6dms max=%6dms (%+.1f%%)",
+                    candidate.label(), candidate.medianMillis(), candidate.minMillis(), candidate.maxMillis(),
+                    change * 100);
+            if (change > options.maxRegression) {
+                System.out.println("Startup regressed by more than " + (int) (options.maxRegression * 100) + "%");
+                System.exit(1);
+            }
+            return;
+        }
+
+        StartupReport report = new StartupBenchmark(options).run();
+        if (options.out.getParent() != null) {
+            Files.createDirectories(options.out.getParent());
+        }
+        MAPPER.writeValue(options.out.toFile(), report);
+        System.out.println("Report written to " + options.out);
+    }
+
+    private StartupReport run() throws IOException, InterruptedException {
+        Instant startedAt = Instant.now();
+        List<Long> runs = new ArrayList<>();
+        for (int i = 1; i <= options.warmupRuns + options.runs; i++) {
+            boolean warmup = i <= options.warmupRuns;
+            long millis = startOnce(i);
+            log(System.out, "%s %d: %dms", warmup ? "warmup" : "run", i, millis);
+            if (!warmup) runs.add(millis);
+        }
+        StartupReport report = StartupReport.of(options, startedAt, runs);
+        log(System.out, "%s: median=%dms min=%dms max=%dms",
+                report.label(), report.medianMillis(), report.minMillis(), report.maxMillis());
+        return report;
+    }
+
+    private long startOnce(int attempt) throws IOException, InterruptedException {
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        command.addAll(split(options.jvmArgs));
+        command.add("-jar");
+        command.add(options.jar.toString());
+        command.add("--server.port=" + options.port);
+        command.addAll(split(options.appArgs));
+
+        Path logFile = options.out.resolveSibling(options.label + "-" + attempt + ".log");
+        Files.createDirectories(logFile.toAbsolutePath().getParent());
+
+        long start = System.nanoTime();
+        Process process = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(logFile.toFile())
+                .start();
+        try {
+            long deadline = start + TimeUnit.SECONDS.toNanos(options.timeoutSeconds);
+            while (System.nanoTime() < deadline) {
+                if (!process.isAlive()) {
+                    throw new IllegalStateException("Application exited with " + process.exitValue()
+                            + " before becoming healthy, see " + logFile);
+                }
+                if (healthy()) {
+                    return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+                }
+                Thread.sleep(options.pollMillis);
+            }
+            throw new IllegalStateException("Not healthy after " + options.timeoutSeconds + "s, see " + logFile);
+        } finally {
+            process.destroy();
+            if (!process.waitFor(10, TimeUnit.SECONDS)) {
+                process.destroyForcibly().waitFor();
+            }
+        }
+    }
+
+    private boolean healthy() throws InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(
+                        URI.create("http://localhost:" + options.port + options.healthPath))
+                .timeout(Duration.ofSeconds(2))
+                .GET()
+                .build();
+        try {
+            return client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private static List<String> split(String args) {
+        return args.isBlank() ? List.of() : Arrays.asList(args.trim().split("\\s+"));
+    }
+
+    private static void log(PrintStream out, String format, Object... args) {
+        out.println(String.format(format, args));
+    }
+
+    static final class Options {
+        Path jar = Path.of("target/EnumTalentApi-0.0.1-SNAPSHOT.jar");
+        String jvmArgs = "";
+        String appArgs = "";
+        int port = 8090;
+        String healthPath = "/actuator/health";
+        int runs = 5;
+        int warmupRuns = 1;
+        long timeoutSeconds = 120;
+        long pollMillis = 20;
+        String label = "run";
+        Path out = Path.of("target/startup/report.json");
+        String compare;
+        double maxRegression = 0.10;
+
+        static Options parse(String[] args) {
+            Options options = new Options();
+            for (String arg : args) {
+                String[] kv = arg.replaceFirst("^--", "").split("=", 2);
+                String value = kv.length > 1 ? kv[1] : "";
+                switch (kv[0]) {
+                    case "jar" -> options.jar = Path.of(value);
+                    case "jvm-args" -> options.jvmArgs = value;
+                    case "app-args" -> options.appArgs = value;
+                    case "port" -> options.port = Integer.parseInt(value);
+                    case "health-path" -> options.healthPath = value;
+                    case "runs" -> options.runs = Integer.parseInt(value);
+                    case "warmup-runs" -> options.warmupRuns = Integer.parseInt(value);
+                    case "timeout" -> options.timeoutSeconds = Long.parseLong(value);
+                    case "poll-millis" -> options.pollMillis = Long.parseLong(value);
+                    case "label" -> options.label = value;
+                    case "out" -> options.out = Path.of(value);
+                    case "compare" -> options.compare = value;
+                    case "max-regression" -> options.maxRegression = Double.parseDouble(value);
+                    default -> throw new IllegalArgumentException("Unknown option " + arg);
+                }
+            }
+            return options;
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package org.example.enumtalentapi.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.ServletException;
+import org.example.enumtalentapi.entity.User;
+import org.example.enumtalentapi.invalidation.InvalidationBus;
+import org.example.enumtalentapi.repository.RevokedTokenRepository;
+import org.example.enumtalentapi.repository.UserRepository;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.io.IOException;
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-request cost of {@link TokenAuthFilter} with the repositories stubbed out,
+ * so only header parsing, the revocation check and authentication setup are
+ * measured.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class TokenAuthFilterBenchmark {
+
+    private static final String VALID_TOKEN = "3f1c2a9e-5b7d-4e8f-9a0b-1c2d3e4f5a6b";
+    private static final String REVOKED_TOKEN = "7d0e4b1a-2c3f-4a5b-8c9d-0e1f2a3b4c5d";
+
+    private TokenAuthFilter filter;
+
+    @Setup
+    public void setUp() {
+        User user = new User();
+        user.setId("68fb32738623940fa372fb2e");
+        user.setEmail("ada@example.com");
+        user.setVerified(true);
+        user.setToken(VALID_TOKEN);
+
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        InvalidationBus bus = new InvalidationBus(null, false, "bench", Duration.ofMillis(50), 0, registry);
+        TokenRevocationList revocations = new TokenRevocationList(stubRevokedTokens(), bus,
+                Duration.ofDays(30), 100_000, Duration.ofMinutes(1), registry);
+        revocations.revoke(REVOKED_TOKEN);
+
+        filter = new TokenAuthFilter(stubRepository(user), revocations);
+    }
+
+    @TearDown(Level.Invocation)
+    public void clearContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Benchmark
+    public MockHttpServletResponse validToken() throws ServletException, IOException {
+        return run("Token " + VALID_TOKEN);
+    }
+
+    @Benchmark
+    public MockHttpServletResponse unknownToken() throws ServletException, IOException {
+        return run("Token not-a-real-token");
+    }
+
+    @Benchmark
+    public MockHttpServletResponse revokedToken() throws ServletException, IOException {
+        return run("Token " + REVOKED_TOKEN);
+    }
+
+    @Benchmark
+    public MockHttpServletResponse noHeader() throws ServletException, IOException {
+        return run(null);
+    }
+
+    private MockHttpServletResponse run(String authorization) throws ServletException, IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/profile/talent/me");
+        if (authorization != null) {
+            request.addHeader("Authorization", authorization);
+        }
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain());
+        return response;
+    }
+
+    private static UserRepository stubRepository(User user) {
+        return (UserRepository) Proxy.newProxyInstance(
+                UserRepository.class.getClassLoader(),
+                new Class<?>[]{UserRepository.class},
+                (proxy, method, args) -> {
+                    if ("findByToken".equals(method.getName())) {
+                        return VALID_TOKEN.equals(args[0]) ? Optional.of(user) : Optional.empty();
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+    }
+
+    private static RevokedTokenRepository stubRevokedTokens() {
+        return (RevokedTokenRepository) Proxy.newProxyInstance(
+                RevokedTokenRepository.class.getClassLoader(),
+                new Class<?>[]{RevokedTokenRepository.class},
+                (proxy, method, args) -> {
+                    if ("save".equals(method.getName())) {
+                        return args[0];
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+    }
+}
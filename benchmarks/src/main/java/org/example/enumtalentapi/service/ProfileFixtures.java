@@ -0,0 +1,69 @@
+package org.example.enumtalentapi.service;
+
+import org.example.enumtalentapi.dto.TalentProfileRequest;
+import org.example.enumtalentapi.dto.TalentProfileResponse;
+import org.example.enumtalentapi.entity.TalentProfile;
+
+import java.util.List;
+
+/**
+ * Realistic profile payloads shared by the benchmarks.
+ */
+public final class ProfileFixtures {
+
+    private ProfileFixtures() {
+    }
+
+    public static TalentProfileRequest fullRequest() {
+        TalentProfileRequest request = new TalentProfileRequest();
+        request.setFirstName("Ada");
+        request.setLastName("Okafor");
+        request.setPhone("+2348012345678");
+        request.setLocation("Lagos, Nigeria");
+        request.setProfilePicture("/api/profile/talent/68fb32738623940fa372fb2e/picture");
+        request.setBio("Backend engineer who likes making slow things fast. ".repeat(8));
+        request.setHeadline("Senior Java Engineer");
+        request.setSkills(List.of("Java", "Spring Boot", "MongoDB", "Kafka", "Docker", "Kubernetes"));
+        request.setExperienceLevel("SENIOR");
+        request.setCurrentPosition("Software Engineer");
+        request.setCompany("Enum");
+        request.setHighestDegree("BSc");
+        request.setInstitution("University of Lagos");
+        request.setFieldOfStudy("Computer Science");
+        request.setGraduationYear(2018);
+        request.setTranscript("CSC101 A, CSC201 A, MTH101 B, ".repeat(30));
+        request.setStatementOfPurpose("I want to build systems that scale. ".repeat(50));
+        request.setResumeUrl("/api/profile/talent/68fb32738623940fa372fb2e/resume");
+        request.setPortfolioUrl("https://example.com/ada");
+        request.setPreferredRoles(List.of("Backend Engineer", "Platform Engineer"));
+        request.setWorkMode("REMOTE");
+        request.setSalaryExpectation("NGN 1,200,000 - 1,500,000 per month");
+        request.setLocationPreference("Lagos or remote");
+        return request;
+    }
+
+    public static TalentProfile fullProfile() {
+        TalentProfile profile = new TalentProfile();
+        profile.setId("6900000000000000000000aa");
+        profile.setUserId("68fb32738623940fa372fb2e");
+        TalentProfileService.updateProfileFields(profile, fullRequest());
+        TalentProfileService.calculateCompleteness(profile);
+        return profile;
+    }
+
+    public static TalentProfile sparseProfile() {
+        TalentProfile profile = new TalentProfile();
+        profile.setUserId("68fb32738623940fa372fb2f");
+        profile.setFirstName("Tunde");
+        profile.setSkills(List.of());
+        return profile;
+    }
+
+    public static TalentProfileResponse fullResponse() {
+        TalentProfileResponse response = new TalentProfileResponse();
+        response.setEmail("ada@example.com");
+        response.setVerified(true);
+        TalentProfileService.mapProfileToResponse(fullProfile(), response);
+        return response;
+    }
+}
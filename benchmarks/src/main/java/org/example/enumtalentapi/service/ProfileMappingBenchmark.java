@@ -0,0 +1,58 @@
+package org.example.enumtalentapi.service;
+
+import org.example.enumtalentapi.dto.TalentProfileRequest;
+import org.example.enumtalentapi.dto.TalentProfileResponse;
+import org.example.enumtalentapi.entity.TalentProfile;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Completeness scoring and the request/entity/response copies done on every
+ * profile read and write.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ProfileMappingBenchmark {
+
+    private TalentProfileRequest request;
+    private TalentProfile fullProfile;
+    private TalentProfile sparseProfile;
+
+    @Setup
+    public void setUp() {
+        request = ProfileFixtures.fullRequest();
+        fullProfile = ProfileFixtures.fullProfile();
+        sparseProfile = ProfileFixtures.sparseProfile();
+    }
+
+    @Benchmark
+    public TalentProfile calculateCompletenessFull() {
+        TalentProfileService.calculateCompleteness(fullProfile);
+        return fullProfile;
+    }
+
+    @Benchmark
+    public TalentProfile calculateCompletenessSparse() {
+        TalentProfileService.calculateCompleteness(sparseProfile);
+        return sparseProfile;
+    }
+
+    @Benchmark
+    public TalentProfile requestToEntity() {
+        TalentProfile profile = new TalentProfile();
+        TalentProfileService.updateProfileFields(profile, request);
+        return profile;
+    }
+
+    @Benchmark
+    public TalentProfileResponse entityToResponse() {
+        TalentProfileResponse response = new TalentProfileResponse();
+        TalentProfileService.mapProfileToResponse(fullProfile, response);
+        return response;
+    }
+}
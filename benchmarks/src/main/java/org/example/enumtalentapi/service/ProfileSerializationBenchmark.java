@@ -0,0 +1,42 @@
+package org.example.enumtalentapi.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.enumtalentapi.dto.TalentProfileResponse;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JSON encoding of the profile response with the same mapper defaults Spring MVC uses.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ProfileSerializationBenchmark {
+
+    private ObjectMapper objectMapper;
+    private TalentProfileResponse response;
+    private byte[] json;
+
+    @Setup
+    public void setUp() throws IOException {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        response = ProfileFixtures.fullResponse();
+        json = objectMapper.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public byte[] serializeResponse() throws IOException {
+        return objectMapper.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public TalentProfileResponse deserializeResponse() throws IOException {
+        return objectMapper.readValue(json, TalentProfileResponse.class);
+    }
+}
@@ -0,0 +1,98 @@
+package org.example.enumtalentapi.audit;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.time.Instant;
+import java.util.Locale;
+import java.util.zip.CRC32C;
+
+/**
+ * One journaled authentication event. On disk every event takes
+ * {@link #RECORD_BYTES} bytes, big-endian:
+ *
+ * <pre>
+ *  0  long   epoch millis, never 0 for a written record
+ *  8  byte   {@link AuthEventType} code
+ *  9  3      reserved
+ * 12  int    CRC32C of the other 44 bytes
+ * 16  24     userId, US-ASCII, zero padded (blank when the email is unknown)
+ * 40  long   {@link #emailHash(byte[], String)} of the email, 0 when not known
+ * </pre>
+ *
+ * Emails are only stored as a keyed hash, so a journal file alone cannot be
+ * matched against a list of guessed addresses; look them up with the same key.
+ */
+public record AuthEvent(long timestamp, AuthEventType type, String userId, long emailHash) {
+
+    public static final int RECORD_BYTES = 48;
+    static final int USER_ID_BYTES = 24;
+
+    private static final int TIMESTAMP_OFFSET = 0;
+    private static final int TYPE_OFFSET = 8;
+    private static final int CRC_OFFSET = 12;
+    private static final int USER_ID_OFFSET = 16;
+    private static final int EMAIL_HASH_OFFSET = 40;
+    private static final String EMAIL_HASH_ALGORITHM = "HmacSHA256";
+
+    public Instant at() {
+        return Instant.ofEpochMilli(timestamp);
+    }
+
+    /**
+     * First 64 bits of the HMAC-SHA256 of the trimmed, lower-cased email;
+     * 0 for a null email or when no key is configured.
+     */
+    public static long emailHash(byte[] key, String email) {
+        if (email == null || key == null || key.length == 0) {
+            return 0;
+        }
+        try {
+            Mac mac = Mac.getInstance(EMAIL_HASH_ALGORITHM);
+            mac.init(new SecretKeySpec(key, EMAIL_HASH_ALGORITHM));
+            byte[] digest = mac.doFinal(email.trim().toLowerCase(Locale.ROOT).getBytes(StandardCharsets.UTF_8));
+            return ByteBuffer.wrap(digest).getLong();
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(EMAIL_HASH_ALGORITHM + " is not available", e);
+        }
+    }
+
+    byte[] encode() {
+        byte[] record = new byte[RECORD_BYTES];
+        ByteBuffer buffer = ByteBuffer.wrap(record);
+        buffer.putLong(TIMESTAMP_OFFSET, timestamp);
+        buffer.put(TYPE_OFFSET, type.code());
+        if (userId != null) {
+            byte[] id = userId.getBytes(StandardCharsets.US_ASCII);
+            buffer.put(USER_ID_OFFSET, id, 0, Math.min(id.length, USER_ID_BYTES));
+        }
+        buffer.putLong(EMAIL_HASH_OFFSET, emailHash);
+        buffer.putInt(CRC_OFFSET, checksum(record));
+        return record;
+    }
+
+    /** Decodes a record, or returns null when the checksum or type does not match (torn or foreign write). */
+    static AuthEvent decode(byte[] record) {
+        ByteBuffer buffer = ByteBuffer.wrap(record);
+        AuthEventType type = AuthEventType.fromCode(buffer.get(TYPE_OFFSET));
+        if (type == null || buffer.getInt(CRC_OFFSET) != checksum(record)) {
+            return null;
+        }
+        int length = 0;
+        while (length < USER_ID_BYTES && record[USER_ID_OFFSET + length] != 0) {
+            length++;
+        }
+        String userId = length == 0 ? null
+                : new String(record, USER_ID_OFFSET, length, StandardCharsets.US_ASCII);
+        return new AuthEvent(buffer.getLong(TIMESTAMP_OFFSET), type, userId, buffer.getLong(EMAIL_HASH_OFFSET));
+    }
+
+    private static int checksum(byte[] record) {
+        CRC32C crc = new CRC32C();
+        crc.update(record, 0, CRC_OFFSET);
+        crc.update(record, CRC_OFFSET + 4, RECORD_BYTES - CRC_OFFSET - 4);
+        return (int) crc.getValue();
+    }
+}
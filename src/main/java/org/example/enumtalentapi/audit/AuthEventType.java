@@ -0,0 +1,42 @@
+package org.example.enumtalentapi.audit;
+
+/**
+ * Kinds of journaled authentication events. The code is what lands on disk,
+ * so existing codes must never be renumbered.
+ */
+public enum AuthEventType {
+    SIGNUP(1),
+    SIGNUP_RESENT(2),
+    SIGNUP_REJECTED(3),
+    LOGIN(4),
+    LOGIN_FAILED_UNKNOWN_EMAIL(5),
+    LOGIN_FAILED_BAD_PASSWORD(6),
+    LOGIN_FAILED_NOT_VERIFIED(7),
+    VERIFIED(8),
+    VERIFY_FAILED(9),
+    LOGOUT(10),
+    TOKEN_LOGOUT(11);
+
+    private static final AuthEventType[] BY_CODE = new AuthEventType[256];
+
+    static {
+        for (AuthEventType type : values()) {
+            BY_CODE[type.code] = type;
+        }
+    }
+
+    private final int code;
+
+    AuthEventType(int code) {
+        this.code = code;
+    }
+
+    public byte code() {
+        return (byte) code;
+    }
+
+    /** The type for an on-disk code, or null for codes written by a newer version. */
+    public static AuthEventType fromCode(byte code) {
+        return BY_CODE[code & 0xFF];
+    }
+}
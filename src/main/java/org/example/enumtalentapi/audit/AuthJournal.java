@@ -0,0 +1,175 @@
+package org.example.enumtalentapi.audit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Local append-only audit trail of authentication events, see
+ * {@link AuthEvent} for the record layout and {@link AuthJournalReader} for
+ * querying it.
+ *
+ * <p>An append copies one record into a memory-mapped segment, so the auth
+ * call pays for a short lock and a memory copy, never for I/O. The page cache
+ * keeps records across a process crash; a background thread forces them to
+ * disk every {@code force-interval} to survive a machine crash as well. Full
+ * segments are rolled over, and segments whose newest record is older than the
+ * retention are deleted. Journal failures are logged and counted but never
+ * fail the auth call. Emails are keyed with {@code email-key}; without one
+ * they are left out of the journal.
+ */
+@Slf4j
+@Component
+public class AuthJournal {
+
+    private static final long RETENTION_CHECK_MILLIS = TimeUnit.HOURS.toMillis(1);
+
+    private final boolean enabled;
+    private final Path directory;
+    private final long segmentBytes;
+    private final Duration retention;
+    private final Duration forceInterval;
+    private final byte[] emailKey;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Counter appended;
+    private final Counter dropped;
+
+    private JournalSegment segment;
+    private int nextSlot;
+    private long lastTimestamp;
+    private ScheduledExecutorService maintenance;
+
+    public AuthJournal(@Value("${enumtalent.audit.enabled:true}") boolean enabled,
+                       @Value("${enumtalent.audit.dir:./data/audit}") String directory,
+                       @Value("${enumtalent.audit.segment-size:16MB}") DataSize segmentSize,
+                       @Value("${enumtalent.audit.retention:90d}") Duration retention,
+                       @Value("${enumtalent.audit.force-interval:1s}") Duration forceInterval,
+                       @Value("${enumtalent.audit.email-key:}") String emailKey,
+                       MeterRegistry meterRegistry) {
+        this.enabled = enabled;
+        this.directory = Paths.get(directory).toAbsolutePath().normalize();
+        this.segmentBytes = Math.max(segmentSize.toBytes(), AuthEvent.RECORD_BYTES);
+        this.retention = retention;
+        this.forceInterval = forceInterval;
+        this.emailKey = emailKey.getBytes(StandardCharsets.UTF_8);
+        this.appended = Counter.builder("enumtalent.audit.appended").register(meterRegistry);
+        this.dropped = Counter.builder("enumtalent.audit.dropped").register(meterRegistry);
+    }
+
+    @PostConstruct
+    void open() throws IOException {
+        if (!enabled) {
+            return;
+        }
+        Files.createDirectories(directory);
+        List<Path> segments = JournalSegment.list(directory);
+        long sequence = segments.isEmpty() ? 0 : JournalSegment.sequenceOf(segments.get(segments.size() - 1));
+        segment = JournalSegment.openForWrite(directory, sequence, segmentBytes);
+        nextSlot = segment.size();
+        lastTimestamp = nextSlot == 0 ? 0 : segment.timestampAt(nextSlot - 1);
+
+        maintenance = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "auth-journal");
+            thread.setDaemon(true);
+            return thread;
+        });
+        maintenance.scheduleWithFixedDelay(this::force,
+                forceInterval.toMillis(), forceInterval.toMillis(), TimeUnit.MILLISECONDS);
+        maintenance.scheduleWithFixedDelay(this::deleteExpiredSegments,
+                0, RETENTION_CHECK_MILLIS, TimeUnit.MILLISECONDS);
+        log.info("Auth journal at {}, segment {} from record {}", directory, sequence, nextSlot);
+        if (emailKey.length == 0) {
+            log.warn("enumtalent.audit.email-key is not set, auth events are journaled without their email");
+        }
+    }
+
+    @PreDestroy
+    void close() {
+        if (maintenance != null) {
+            maintenance.shutdown();
+            force();
+        }
+    }
+
+    public void append(AuthEventType type, String userId, String email) {
+        if (!enabled) {
+            return;
+        }
+        long emailHash = AuthEvent.emailHash(emailKey, email);
+        lock.lock();
+        try {
+            if (nextSlot == segment.capacity()) {
+                roll();
+            }
+            // keeps timestamps ordered when the wall clock steps back, the reader relies on it
+            long timestamp = Math.max(System.currentTimeMillis(), lastTimestamp);
+            segment.write(nextSlot, new AuthEvent(timestamp, type, userId, emailHash).encode());
+            nextSlot++;
+            lastTimestamp = timestamp;
+            appended.increment();
+        } catch (IOException | RuntimeException e) {
+            dropped.increment();
+            log.warn("Could not journal {} event: {}", type, e.getMessage());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void roll() throws IOException {
+        JournalSegment full = segment;
+        full.force();
+        segment = JournalSegment.openForWrite(directory, full.sequence() + 1, segmentBytes);
+        nextSlot = 0;
+        log.info("Auth journal rolled to {}", segment.path().getFileName());
+    }
+
+    private void force() {
+        JournalSegment current;
+        lock.lock();
+        try {
+            current = segment;
+        } finally {
+            lock.unlock();
+        }
+        try {
+            current.force();
+        } catch (RuntimeException e) {
+            log.warn("Could not force auth journal to disk: {}", e.getMessage());
+        }
+    }
+
+    void deleteExpiredSegments() {
+        long cutoff = System.currentTimeMillis() - retention.toMillis();
+        try {
+            List<Path> segments = JournalSegment.list(directory);
+            // the newest segment is the one being written
+            for (Path file : segments.subList(0, Math.max(0, segments.size() - 1))) {
+                JournalSegment old = JournalSegment.openForRead(file);
+                int size = old.size();
+                if (size == 0 || old.timestampAt(size - 1) < cutoff) {
+                    Files.deleteIfExists(file);
+                    log.info("Deleted auth journal segment {} past retention", file.getFileName());
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            log.warn("Auth journal retention check failed: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package org.example.enumtalentapi.audit;
+
+import org.springframework.boot.convert.DurationStyle;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.function.Predicate;
+
+/**
+ * Scans the auth journal by time range, user and email. Works on a live
+ * journal, records are only ever appended. Segments outside the range are
+ * skipped by their first and last timestamp and the start inside a segment is
+ * found by binary search, so a narrow window costs little however large the
+ * journal is.
+ *
+ * <pre>
+ * java -cp target/classes:... org.example.enumtalentapi.audit.AuthJournalReader \
+ *     --dir=./data/audit --from=24h --user=68fb32738623940fa372fb2e
+ * ENUMTALENT_AUDIT_EMAIL_KEY=... java ... AuthJournalReader \
+ *     --from=2026-10-01T00:00:00Z --to=2026-10-02T00:00:00Z \
+ *     --email=someone@example.com --type=LOGIN_FAILED_BAD_PASSWORD
+ * </pre>
+ *
+ * {@code --from} and {@code --to} take an ISO instant or a duration back from
+ * now ({@code 15m}, {@code 24h}, {@code 7d}). {@code --email} needs the
+ * journal's {@code enumtalent.audit.email-key}, read from the environment so
+ * it stays out of the shell history.
+ */
+public final class AuthJournalReader {
+
+    private final Path directory;
+
+    public AuthJournalReader(Path directory) {
+        this.directory = directory;
+    }
+
+    public interface Visitor {
+        /** Returns false to stop the scan. */
+        boolean visit(AuthEvent event);
+    }
+
+    /**
+     * Visits the events with {@code from <= timestamp < to} that pass the
+     * filter, oldest first. Records failing their checksum are skipped.
+     */
+    public void scan(long from, long to, Predicate<AuthEvent> filter, Visitor visitor) throws IOException {
+        for (Path file : JournalSegment.list(directory)) {
+            JournalSegment segment = JournalSegment.openForRead(file);
+            int size = segment.size();
+            if (size == 0 || segment.timestampAt(size - 1) < from) {
+                continue;
+            }
+            if (segment.timestampAt(0) >= to) {
+                return;
+            }
+            for (int slot = segment.firstSlotFrom(from); slot < size; slot++) {
+                if (segment.timestampAt(slot) >= to) {
+                    return;
+                }
+                AuthEvent event = segment.read(slot);
+                if (event != null && filter.test(event) && !visitor.visit(event)) {
+                    return;
+                }
+            }
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        Path directory = Path.of("./data/audit");
+        long now = System.currentTimeMillis();
+        long from = 0;
+        long to = Long.MAX_VALUE;
+        Predicate<AuthEvent> filter = event -> true;
+        long limit = Long.MAX_VALUE;
+
+        for (String arg : args) {
+            String[] kv = arg.replaceFirst("^--", "").split("=", 2);
+            String value = kv.length > 1 ? kv[1] : "";
+            switch (kv[0]) {
+                case "dir" -> directory = Path.of(value);
+                case "from" -> from = parseTime(value, now);
+                case "to" -> to = parseTime(value, now);
+                case "user" -> filter = filter.and(event -> value.equals(event.userId()));
+                case "email" -> {
+                    String key = System.getenv("ENUMTALENT_AUDIT_EMAIL_KEY");
+                    if (key == null || key.isEmpty()) {
+                        throw new IllegalArgumentException("--email needs ENUMTALENT_AUDIT_EMAIL_KEY");
+                    }
+                    long hash = AuthEvent.emailHash(key.getBytes(StandardCharsets.UTF_8), value);
+                    filter = filter.and(event -> event.emailHash() == hash);
+                }
+                case "type" -> {
+                    AuthEventType type = AuthEventType.valueOf(value);
+                    filter = filter.and(event -> event.type() == type);
+                }
+                case "limit" -> limit = Long.parseLong(value);
+                default -> throw new IllegalArgumentException("Unknown option " + arg);
+            }
+        }
+
+        long max = limit;
+        long[] printed = {0};
+        new AuthJournalReader(directory).scan(from, to, filter, event -> {
+            System.out.printf("%s %-27s user=%-24s email#=%016x%n", event.at(), event.type(),
+                    event.userId() == null ? "-" : event.userId(), event.emailHash());
+            return ++printed[0] < max;
+        });
+        System.err.println(printed[0] + " events");
+    }
+
+    private static long parseTime(String value, long now) {
+        if (Character.isDigit(value.charAt(0)) && value.contains("T")) {
+            return Instant.parse(value).toEpochMilli();
+        }
+        return now - DurationStyle.detectAndParse(value).toMillis();
+    }
+}
@@ -0,0 +1,130 @@
+package org.example.enumtalentapi.audit;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * One fixed-size, memory-mapped journal file. The file is allocated at its
+ * full size up front and filled from the start; the first slot whose
+ * timestamp is still 0 marks the end. Timestamps never decrease within the
+ * journal, so the end and any time bound can be found by binary search.
+ */
+final class JournalSegment {
+
+    private static final Pattern NAME = Pattern.compile("auth-(\\d{16})\\.journal");
+
+    private final Path path;
+    private final long sequence;
+    private final MappedByteBuffer buffer;
+    private final int capacity;
+
+    private JournalSegment(Path path, long sequence, MappedByteBuffer buffer) {
+        this.path = path;
+        this.sequence = sequence;
+        this.buffer = buffer;
+        this.capacity = buffer.capacity() / AuthEvent.RECORD_BYTES;
+    }
+
+    static JournalSegment openForWrite(Path directory, long sequence, long segmentBytes) throws IOException {
+        Path path = directory.resolve(fileName(sequence));
+        long size = segmentBytes - segmentBytes % AuthEvent.RECORD_BYTES;
+        try (FileChannel channel = FileChannel.open(path,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            // an existing segment keeps its size, the mapping would otherwise grow or truncate it
+            long mapped = channel.size() > 0 ? channel.size() : size;
+            return new JournalSegment(path, sequence, channel.map(FileChannel.MapMode.READ_WRITE, 0, mapped));
+        }
+    }
+
+    static JournalSegment openForRead(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            return new JournalSegment(path, sequenceOf(path),
+                    channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    /** Segment files in the directory, oldest first. */
+    static List<Path> list(Path directory) throws IOException {
+        if (!Files.isDirectory(directory)) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            return new ArrayList<>(files
+                    .filter(file -> NAME.matcher(file.getFileName().toString()).matches())
+                    .sorted()
+                    .toList());
+        }
+    }
+
+    static long sequenceOf(Path file) {
+        Matcher matcher = NAME.matcher(file.getFileName().toString());
+        if (!matcher.matches()) {
+            throw new IllegalArgumentException("Not a journal segment: " + file);
+        }
+        return Long.parseLong(matcher.group(1));
+    }
+
+    private static String fileName(long sequence) {
+        return String.format("auth-%016d.journal", sequence);
+    }
+
+    Path path() {
+        return path;
+    }
+
+    long sequence() {
+        return sequence;
+    }
+
+    int capacity() {
+        return capacity;
+    }
+
+    long timestampAt(int slot) {
+        return buffer.getLong(slot * AuthEvent.RECORD_BYTES);
+    }
+
+    /** Number of written records. */
+    int size() {
+        return firstSlotFrom(Long.MAX_VALUE);
+    }
+
+    /** First slot that is empty or has a timestamp of at least {@code timestamp}. */
+    int firstSlotFrom(long timestamp) {
+        int low = 0;
+        int high = capacity;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            long at = timestampAt(mid);
+            if (at != 0 && at < timestamp) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    void write(int slot, byte[] record) {
+        buffer.put(slot * AuthEvent.RECORD_BYTES, record);
+    }
+
+    AuthEvent read(int slot) {
+        byte[] record = new byte[AuthEvent.RECORD_BYTES];
+        buffer.get(slot * AuthEvent.RECORD_BYTES, record);
+        return AuthEvent.decode(record);
+    }
+
+    void force() {
+        buffer.force();
+    }
+}
@@ -0,0 +1,60 @@
+package org.example.enumtalentapi.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.example.enumtalentapi.limiter.AdaptiveLimitFilter;
+import org.example.enumtalentapi.limiter.ReactiveAdaptiveLimitFilter;
+import org.example.enumtalentapi.limiter.RouteClass;
+import org.example.enumtalentapi.limiter.RouteLimiters;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+
+import java.time.Duration;
+import java.util.Map;
+
+@Configuration
+@ConditionalOnProperty(name = "enumtalent.limiter.enabled", havingValue = "true", matchIfMissing = true)
+public class LimiterConfig {
+
+    // after the metrics filter so shed requests still show up in http.server.requests
+    private static final int FILTER_ORDER = Ordered.HIGHEST_PRECEDENCE + 5;
+
+    @Bean
+    public RouteLimiters routeLimiters(
+            @Value("${enumtalent.limiter.auth-target:500ms}") Duration authTarget,
+            @Value("${enumtalent.limiter.profile-write-target:250ms}") Duration writeTarget,
+            @Value("${enumtalent.limiter.profile-read-target:100ms}") Duration readTarget,
+            @Value("${enumtalent.limiter.media-target:5s}") Duration mediaTarget,
+            @Value("${enumtalent.limiter.initial-limit:20}") int initialLimit,
+            @Value("${enumtalent.limiter.min-limit:4}") int minLimit,
+            @Value("${enumtalent.limiter.max-limit:200}") int maxLimit,
+            MeterRegistry meterRegistry) {
+        Map<RouteClass, Duration> targets = Map.of(
+                RouteClass.AUTH, authTarget,
+                RouteClass.PROFILE_WRITE, writeTarget,
+                RouteClass.PROFILE_READ, readTarget,
+                RouteClass.MEDIA, mediaTarget);
+        return new RouteLimiters(targets, initialLimit, minLimit, maxLimit, meterRegistry);
+    }
+
+    @Bean
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+    public FilterRegistrationBean<AdaptiveLimitFilter> adaptiveLimitFilter(RouteLimiters limiters) {
+        FilterRegistrationBean<AdaptiveLimitFilter> registration =
+                new FilterRegistrationBean<>(new AdaptiveLimitFilter(limiters));
+        registration.setOrder(FILTER_ORDER);
+        return registration;
+    }
+
+    @Bean
+    @Order(FILTER_ORDER)
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+    public ReactiveAdaptiveLimitFilter reactiveAdaptiveLimitFilter(RouteLimiters limiters) {
+        return new ReactiveAdaptiveLimitFilter(limiters);
+    }
+}
@@ -0,0 +1,36 @@
+package org.example.enumtalentapi.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Slf4j
+@Configuration
+public class MediaConfig {
+
+    /**
+     * Small bounded pool for thumbnail generation. Work that does not fit is
+     * dropped; the thumbnail endpoint falls back to the original picture.
+     * With {@code spring.threads.virtual.enabled} the workers are virtual
+     * threads, the bounds stay the same.
+     */
+    @Bean
+    public AsyncTaskExecutor mediaTaskExecutor(
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);
+        executor.setMaxPoolSize(2);
+        executor.setQueueCapacity(200);
+        executor.setThreadNamePrefix("media-");
+        if (virtualThreads) {
+            executor.setThreadFactory(new VirtualThreadTaskExecutor("media-").getVirtualThreadFactory());
+        }
+        executor.setRejectedExecutionHandler((task, pool) ->
+                log.warn("Media pool saturated, dropping task"));
+        return executor;
+    }
+}
@@ -0,0 +1,21 @@
+package org.example.enumtalentapi.config;
+
+import org.example.enumtalentapi.observability.MongoCommandTimingListener;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.mongo.MongoClientSettingsBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+public class MongoConfig {
+
+    // applies to both the blocking and the reactive client
+    @Bean
+    public MongoClientSettingsBuilderCustomizer commandTimingCustomizer(
+            @Value("${enumtalent.mongo.slow-command-threshold:100ms}") Duration slowThreshold) {
+        MongoCommandTimingListener listener = new MongoCommandTimingListener(slowThreshold);
+        return settings -> settings.addCommandListener(listener);
+    }
+}
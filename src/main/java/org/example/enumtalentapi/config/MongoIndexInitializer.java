@@ -0,0 +1,69 @@
+package org.example.enumtalentapi.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.enumtalentapi.entity.ProfileRevision;
+import org.example.enumtalentapi.entity.RevokedToken;
+import org.example.enumtalentapi.entity.TalentProfile;
+import org.example.enumtalentapi.entity.User;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.index.IndexResolver;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Creates the indexes the entities declare ({@code @Indexed},
+ * {@code @GeoSpatialIndexed}), since index auto-creation is off: user token
+ * lookup, revoked token expiry, profile lookup by userId, the 2dsphere
+ * location points and revision age. Runs in the background after startup and
+ * retries until MongoDB is reachable.
+ */
+@Slf4j
+@Component
+public class MongoIndexInitializer {
+
+    static final List<Class<?>> INDEXED_TYPES =
+            List.of(User.class, RevokedToken.class, TalentProfile.class, ProfileRevision.class);
+    private static final long RETRY_MILLIS = 5000;
+
+    private final MongoTemplate mongoTemplate;
+
+    public MongoIndexInitializer(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        Thread thread = new Thread(this::createUntilDone, "mongo-indexes");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    private void createUntilDone() {
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                ensureIndexes();
+                return;
+            } catch (RuntimeException e) {
+                log.warn("Could not create indexes, retrying in {} ms: {}", RETRY_MILLIS, e.getMessage());
+                try {
+                    Thread.sleep(RETRY_MILLIS);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+    }
+
+    void ensureIndexes() {
+        IndexResolver resolver = IndexResolver.create(mongoTemplate.getConverter().getMappingContext());
+        for (Class<?> type : INDEXED_TYPES) {
+            IndexOperations indexOps = mongoTemplate.indexOps(type);
+            resolver.resolveIndexFor(type).forEach(indexOps::createIndex);
+        }
+        log.debug("Entity indexes are in place");
+    }
+}
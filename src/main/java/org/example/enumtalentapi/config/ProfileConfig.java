@@ -0,0 +1,56 @@
+package org.example.enumtalentapi.config;
+
+import com.mongodb.MongoException;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.example.enumtalentapi.dto.TalentProfileResponse;
+import org.example.enumtalentapi.util.CircuitBreaker;
+import org.example.enumtalentapi.util.SingleFlight;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.dao.DataAccessException;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.time.Duration;
+
+@Configuration
+public class ProfileConfig {
+
+    // concurrent reads of the same profile share one database round trip
+    @Bean
+    public SingleFlight<String, TalentProfileResponse> profileLoads(
+            @Value("${enumtalent.profile.coalesce-timeout:2s}") Duration followerTimeout,
+            MeterRegistry meterRegistry) {
+        return new SingleFlight<>("profile", followerTimeout, meterRegistry);
+    }
+
+    // only errors from the driver or Spring's translation of them say the database is unwell
+    @Bean
+    public CircuitBreaker mongoCircuitBreaker(
+            @Value("${enumtalent.mongo.breaker.failure-threshold:5}") int failureThreshold,
+            @Value("${enumtalent.mongo.breaker.open-for:5s}") Duration openFor,
+            MeterRegistry meterRegistry) {
+        return new CircuitBreaker("mongo", failureThreshold, openFor,
+                e -> e instanceof DataAccessException || e instanceof MongoException, meterRegistry);
+    }
+
+    /**
+     * Background reloads of stale cached profiles. Reloads that do not fit are
+     * dropped; the next stale read asks again.
+     */
+    @Bean
+    public AsyncTaskExecutor profileRefreshExecutor(
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);
+        executor.setMaxPoolSize(2);
+        executor.setQueueCapacity(500);
+        executor.setThreadNamePrefix("profile-refresh-");
+        if (virtualThreads) {
+            executor.setThreadFactory(new VirtualThreadTaskExecutor("profile-refresh-").getVirtualThreadFactory());
+        }
+        return executor;
+    }
+}
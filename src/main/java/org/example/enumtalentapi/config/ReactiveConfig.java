@@ -0,0 +1,29 @@
+package org.example.enumtalentapi.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Beans only needed when the app runs as a WebFlux server
+ * ({@code spring.main.web-application-type=reactive}).
+ */
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveConfig {
+
+    /**
+     * BCrypt is CPU-bound and blocks, so it must stay off the event loop. The
+     * pool is sized to the cores and has a bounded queue so a login burst
+     * fails fast instead of piling up.
+     */
+    @Bean(destroyMethod = "dispose")
+    public Scheduler passwordHashScheduler(
+            @Value("${enumtalent.reactive.password-hash-queue:1000}") int queueCapacity) {
+        return Schedulers.newBoundedElastic(
+                Runtime.getRuntime().availableProcessors(), queueCapacity, "password-hash");
+    }
+}
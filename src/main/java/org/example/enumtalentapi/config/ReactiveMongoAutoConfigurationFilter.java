@@ -0,0 +1,43 @@
+package org.example.enumtalentapi.config;
+
+import org.springframework.boot.autoconfigure.AutoConfigurationImportFilter;
+import org.springframework.boot.autoconfigure.AutoConfigurationMetadata;
+import org.springframework.context.EnvironmentAware;
+import org.springframework.core.env.Environment;
+
+import java.util.Set;
+
+/**
+ * Leaves out the reactive MongoDB client, template and repositories unless the
+ * app runs as a WebFlux server ({@code spring.main.web-application-type=reactive},
+ * set by the reactive profile). Both starters are on the classpath, and in
+ * servlet mode the reactive client would only open a second connection pool.
+ * Registered in META-INF/spring.factories.
+ */
+public class ReactiveMongoAutoConfigurationFilter implements AutoConfigurationImportFilter, EnvironmentAware {
+
+    static final Set<String> REACTIVE_MONGO = Set.of(
+            "org.springframework.boot.autoconfigure.mongo.MongoReactiveAutoConfiguration",
+            "org.springframework.boot.autoconfigure.data.mongo.MongoReactiveDataAutoConfiguration",
+            "org.springframework.boot.autoconfigure.data.mongo.MongoReactiveRepositoriesAutoConfiguration");
+
+    private Environment environment;
+
+    @Override
+    public void setEnvironment(Environment environment) {
+        this.environment = environment;
+    }
+
+    @Override
+    public boolean[] match(String[] autoConfigurationClasses, AutoConfigurationMetadata autoConfigurationMetadata) {
+        boolean reactive = "reactive".equalsIgnoreCase(
+                environment.getProperty("spring.main.web-application-type", "").trim());
+        boolean[] matches = new boolean[autoConfigurationClasses.length];
+        // entries already dropped by an earlier filter are null
+        for (int i = 0; i < autoConfigurationClasses.length; i++) {
+            String candidate = autoConfigurationClasses[i];
+            matches[i] = reactive || candidate == null || !REACTIVE_MONGO.contains(candidate);
+        }
+        return matches;
+    }
+}
@@ -0,0 +1,50 @@
+package org.example.enumtalentapi.config;
+
+import lombok.RequiredArgsConstructor;
+import org.example.enumtalentapi.repository.reactive.ReactiveUserRepository;
+import org.example.enumtalentapi.security.ReactiveTokenAuthFilter;
+import org.example.enumtalentapi.security.TokenRevocationList;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.config.annotation.web.reactive.EnableWebFluxSecurity;
+import org.springframework.security.config.web.server.SecurityWebFiltersOrder;
+import org.springframework.security.config.web.server.ServerHttpSecurity;
+import org.springframework.security.web.server.SecurityWebFilterChain;
+
+/**
+ * Mirrors {@link SecurityConfig} for reactive mode.
+ */
+@Configuration
+@EnableWebFluxSecurity
+@RequiredArgsConstructor
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveSecurityConfig {
+
+    private final ReactiveUserRepository userRepository;
+    private final TokenRevocationList revocationList;
+
+    @Bean
+    public SecurityWebFilterChain securityWebFilterChain(ServerHttpSecurity http) {
+        return http
+                .csrf(ServerHttpSecurity.CsrfSpec::disable)
+                .authorizeExchange(auth -> auth
+                        .pathMatchers(
+                                "/api/auth/**",
+                                "/api/profile/**",
+                                "/api/user/**",
+                                "/swagger-ui/**",
+                                "/v3/api-docs/**",
+                                "/.well-known/**",
+                                "/actuator/health"
+                        ).permitAll()
+                        .anyExchange().authenticated()
+                )
+                .formLogin(ServerHttpSecurity.FormLoginSpec::disable)
+                .httpBasic(ServerHttpSecurity.HttpBasicSpec::disable)
+                .logout(ServerHttpSecurity.LogoutSpec::disable)
+                .addFilterAt(new ReactiveTokenAuthFilter(userRepository, revocationList),
+                        SecurityWebFiltersOrder.AUTHENTICATION)
+                .build();
+    }
+}
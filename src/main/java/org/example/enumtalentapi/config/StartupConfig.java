@@ -0,0 +1,30 @@
+package org.example.enumtalentapi.config;
+
+import com.mongodb.client.MongoClient;
+import org.example.enumtalentapi.invalidation.InvalidationBus;
+import org.example.enumtalentapi.util.CircuitBreaker;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.web.SecurityFilterChain;
+
+@Configuration
+public class StartupConfig {
+
+    /**
+     * Beans created at startup even when spring.main.lazy-initialization is on
+     * (prod profile): the request path every endpoint shares, the Mongo client
+     * so its connection pool warms up during startup, and the invalidation bus
+     * so no peer evictions are missed.
+     */
+    @Bean
+    public static LazyInitializationExcludeFilter eagerStartupBeans() {
+        return LazyInitializationExcludeFilter.forBeanTypes(
+                SecurityFilterChain.class,
+                PasswordEncoder.class,
+                MongoClient.class,
+                CircuitBreaker.class,
+                InvalidationBus.class);
+    }
+}
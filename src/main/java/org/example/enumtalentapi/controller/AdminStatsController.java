@@ -0,0 +1,37 @@
+package org.example.enumtalentapi.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.example.enumtalentapi.dto.ApiResponse;
+import org.example.enumtalentapi.dto.CompletenessReport;
+import org.example.enumtalentapi.service.CompletenessStats;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+// answered from memory, so the same controller serves servlet and reactive mode; needs an authenticated caller.
+// Rebuilds read every profile, so only one can be queued or running at a time (409 otherwise)
+@RestController
+@RequestMapping("/api/admin/stats")
+@RequiredArgsConstructor
+public class AdminStatsController {
+
+    private final CompletenessStats completenessStats;
+
+    @GetMapping("/completeness")
+    public CompletenessReport getCompleteness() {
+        return completenessStats.report();
+    }
+
+    @PostMapping("/completeness/rebuild")
+    public ResponseEntity<ApiResponse> rebuildCompleteness() {
+        if (!completenessStats.requestRebuild()) {
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                    .body(new ApiResponse("error", "Completeness stats are disabled"));
+        }
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(new ApiResponse("success", "Completeness stats rebuild started"));
+    }
+}
@@ -5,9 +5,8 @@ import lombok.extern.slf4j.Slf4j;
 import org.example.enumtalentapi.dto.ApiResponse;
 import org.example.enumtalentapi.dto.LoginRequest;
 import org.example.enumtalentapi.dto.SignupRequest;
-import org.example.enumtalentapi.exception.CustomException;
 import org.example.enumtalentapi.service.AuthServiceImpl;
-import org.springframework.http.HttpStatus;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -16,6 +15,7 @@ import java.util.Map;
 @Slf4j
 @RequiredArgsConstructor
 @RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @RequestMapping("/api/auth")
 public class AuthController {
 
@@ -23,96 +23,44 @@ public class AuthController {
 
     @PostMapping("/signup")
     public ResponseEntity<ApiResponse> signup(@RequestBody SignupRequest request) {
-        try {
-            log.info("Signup endpoint called for email: {}", request.getEmail());
-            String message = authService.signup(request);
-            return ResponseEntity.ok(new ApiResponse("success", message));
-        } catch (CustomException e) {
-            log.error("Custom exception during signup: {}", e.getMessage());
-            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
-                    .body(new ApiResponse("error", e.getMessage()));
-        } catch (Exception e) {
-            log.error("Unexpected error during signup: ", e);
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                    .body(new ApiResponse("error", "Unexpected error: " + e.getMessage()));
-        }
+        log.info("Signup endpoint called for email: {}", request.getEmail());
+        String message = authService.signup(request);
+        return ResponseEntity.ok(new ApiResponse("success", message));
     }
     @PostMapping("/login")
     public ResponseEntity<?> login(@RequestBody LoginRequest request) {
-        try {
-            String message = authService.login(request);
-            return ResponseEntity.ok(new ApiResponse("success", message));
-        } catch (CustomException e) {
-            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
-                    .body(new ApiResponse("error", e.getMessage()));
-        } catch (Exception e) {
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                    .body(new ApiResponse("error", "Unexpected error: " + e.getMessage()));
-        }
+        String message = authService.login(request);
+        return ResponseEntity.ok(new ApiResponse("success", message));
     }
 
     @PostMapping("/verify-email")
     public ResponseEntity<?> verifyEmail(@RequestBody Map<String, String> body) {
-        try {
-            String token = body.get("token");
-            String message = authService.verifyEmail(token);
-            return ResponseEntity.ok(new ApiResponse("success", message));
-        } catch (CustomException e) {
-            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
-                    .body(new ApiResponse("error", e.getMessage()));
-        } catch (Exception e) {
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                    .body(new ApiResponse("error", "Unexpected error: " + e.getMessage()));
-        }
+        String token = body.get("token");
+        String message = authService.verifyEmail(token);
+        return ResponseEntity.ok(new ApiResponse("success", message));
     }
 
 
     @GetMapping("/verify")
     public ResponseEntity<?> verifyEmail(@RequestParam("token") String token) {
-        try {
-            String message = authService.verifyEmail(token);
-            return ResponseEntity.ok(new ApiResponse("success", message));
-        } catch (CustomException e) {
-            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
-                    .body(new ApiResponse("error", e.getMessage()));
-        } catch (Exception e) {
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                    .body(new ApiResponse("error", "Unexpected error: " + e.getMessage()));
-        }
+        String message = authService.verifyEmail(token);
+        return ResponseEntity.ok(new ApiResponse("success", message));
     }
     @PostMapping("/logout")
     public ResponseEntity<ApiResponse> logout(
             @RequestParam String userId,
             @RequestHeader(value = "Authorization", required = false) String authHeader) {
-        try {
-            log.info("Logout requested for user: {}", userId);
+        log.info("Logout requested for user: {}", userId);
 
-            String message = authService.logout(userId);
-            return ResponseEntity.ok(new ApiResponse("success", message));
-        } catch (CustomException e) {
-            log.error("Custom exception during logout: {}", e.getMessage());
-            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
-                    .body(new ApiResponse("error", e.getMessage()));
-        } catch (Exception e) {
-            log.error("Unexpected error during logout: ", e);
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                    .body(new ApiResponse("error", "Unexpected error: " + e.getMessage()));
-        }
+        String message = authService.logout(userId);
+        return ResponseEntity.ok(new ApiResponse("success", message));
     }
 
     @PostMapping("/logout-token")
     public ResponseEntity<ApiResponse> logoutWithToken(
             @RequestHeader("Authorization") String authHeader) {
-        try {
-            String token = authHeader.replace("Bearer ", "");
-            String message = authService.logoutWithToken(token);
-            return ResponseEntity.ok(new ApiResponse("success", message));
-        } catch (CustomException e) {
-            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
-                    .body(new ApiResponse("error", e.getMessage()));
-        } catch (Exception e) {
-            return ResponseEntity.internalServerError()
-                    .body(new ApiResponse("error", "Unexpected error: " + e.getMessage()));
-        }
+        String token = authHeader.replaceFirst("^(Bearer|Token) ", "").trim();
+        String message = authService.logoutWithToken(token);
+        return ResponseEntity.ok(new ApiResponse("success", message));
     }
-}
\ No newline at end of file
+}
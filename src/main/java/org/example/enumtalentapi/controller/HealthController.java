@@ -1,13 +1,24 @@
 package org.example.enumtalentapi.controller;
 
+import lombok.RequiredArgsConstructor;
+import org.example.enumtalentapi.util.CircuitBreaker;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RestController;
 import java.util.Map;
 
 @RestController
+@RequiredArgsConstructor
 public class HealthController {
+
+    private final CircuitBreaker mongoCircuitBreaker;
+
+    // still 200 when degraded: profile reads are served from cache until the database is back
     @GetMapping("/.well-known/health")
     public Map<String,String> health() {
+        CircuitBreaker.State database = mongoCircuitBreaker.state();
+        if (database != CircuitBreaker.State.CLOSED) {
+            return Map.of("status", "degraded", "database", database.name().toLowerCase());
+        }
         return Map.of("status","ok");
     }
 }
@@ -0,0 +1,60 @@
+package org.example.enumtalentapi.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.example.enumtalentapi.dto.ApiResponse;
+import org.example.enumtalentapi.dto.LoginRequest;
+import org.example.enumtalentapi.dto.SignupRequest;
+import org.example.enumtalentapi.service.ReactiveAuthService;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+
+/**
+ * Same endpoints as {@link AuthController}, served without blocking in reactive mode.
+ */
+@RestController
+@RequestMapping("/api/auth")
+@RequiredArgsConstructor
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveAuthController {
+
+    private final ReactiveAuthService authService;
+
+    @PostMapping("/signup")
+    public Mono<ResponseEntity<ApiResponse>> signup(@RequestBody SignupRequest request) {
+        return respond(authService.signup(request));
+    }
+
+    @PostMapping("/login")
+    public Mono<ResponseEntity<ApiResponse>> login(@RequestBody LoginRequest request) {
+        return respond(authService.login(request));
+    }
+
+    @PostMapping("/verify-email")
+    public Mono<ResponseEntity<ApiResponse>> verifyEmail(@RequestBody Map<String, String> body) {
+        return respond(authService.verifyEmail(body.get("token")));
+    }
+
+    @GetMapping("/verify")
+    public Mono<ResponseEntity<ApiResponse>> verifyEmail(@RequestParam("token") String token) {
+        return respond(authService.verifyEmail(token));
+    }
+
+    @PostMapping("/logout")
+    public Mono<ResponseEntity<ApiResponse>> logout(@RequestParam String userId) {
+        return respond(authService.logout(userId));
+    }
+
+    @PostMapping("/logout-token")
+    public Mono<ResponseEntity<ApiResponse>> logoutWithToken(@RequestHeader("Authorization") String authHeader) {
+        return respond(authService.logoutWithToken(authHeader.replaceFirst("^(Bearer|Token) ", "").trim()));
+    }
+
+    static Mono<ResponseEntity<ApiResponse>> respond(Mono<String> result) {
+        // errors are mapped by GlobalExceptionHandler, as in servlet mode
+        return result.map(message -> ResponseEntity.ok(new ApiResponse("success", message)));
+    }
+}
@@ -0,0 +1,58 @@
+package org.example.enumtalentapi.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.example.enumtalentapi.dto.ApiResponse;
+import org.example.enumtalentapi.dto.GeoSearchRequest;
+import org.example.enumtalentapi.dto.NearbyTalent;
+import org.example.enumtalentapi.dto.SimilarTalent;
+import org.example.enumtalentapi.dto.TalentFilterRequest;
+import org.example.enumtalentapi.dto.TalentProfileRequest;
+import org.example.enumtalentapi.dto.TalentSummary;
+import org.example.enumtalentapi.service.ReactiveTalentProfileService;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * Same endpoints as {@link TalentProfileController}, served without blocking in reactive mode.
+ */
+@RestController
+@RequestMapping("/api/profile/talent")
+@RequiredArgsConstructor
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveTalentProfileController {
+
+    private final ReactiveTalentProfileService profileService;
+
+    @GetMapping("/me")
+    public Mono<ResponseEntity<?>> getMyProfile(@RequestParam String userId,
+                                                @RequestParam(defaultValue = "false") boolean includeText) {
+        return profileService.getMyProfile(userId, includeText)
+                .<ResponseEntity<?>>map(ResponseEntity::ok);
+    }
+
+    @GetMapping("/{userId}/similar")
+    public Mono<ResponseEntity<List<SimilarTalent>>> getSimilar(@PathVariable String userId,
+                                                                @RequestParam(defaultValue = "10") int limit) {
+        return profileService.similar(userId, limit).map(ResponseEntity::ok);
+    }
+
+    @GetMapping("/nearby")
+    public Mono<ResponseEntity<List<NearbyTalent>>> getNearby(@ModelAttribute GeoSearchRequest request) {
+        return profileService.nearby(request).map(ResponseEntity::ok);
+    }
+
+    @GetMapping("/filter")
+    public Mono<ResponseEntity<List<TalentSummary>>> getFiltered(@ModelAttribute TalentFilterRequest request) {
+        return profileService.filter(request).map(ResponseEntity::ok);
+    }
+
+    @PostMapping("/{userId}")
+    public Mono<ResponseEntity<ApiResponse>> createOrUpdateProfile(@PathVariable String userId,
+                                                                   @RequestBody TalentProfileRequest request) {
+        return ReactiveAuthController.respond(profileService.createOrUpdateProfile(userId, request));
+    }
+}
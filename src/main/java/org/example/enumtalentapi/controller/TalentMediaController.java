@@ -0,0 +1,69 @@
+package org.example.enumtalentapi.controller;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.example.enumtalentapi.dto.ApiResponse;
+import org.example.enumtalentapi.service.ProfileMediaService;
+import org.example.enumtalentapi.storage.BlobDownloadWriter;
+import org.example.enumtalentapi.storage.StoredBlob;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.util.function.Supplier;
+
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@RequestMapping("/api/profile/talent")
+@RequiredArgsConstructor
+public class TalentMediaController {
+
+    private final ProfileMediaService mediaService;
+    private final BlobDownloadWriter downloadWriter;
+
+    @PostMapping(value = "/{userId}/picture", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<ApiResponse> uploadPicture(@PathVariable String userId,
+                                                     @RequestParam("file") MultipartFile file) {
+        return ResponseEntity.ok(new ApiResponse("success", mediaService.uploadPicture(userId, file)));
+    }
+
+    @PostMapping(value = "/{userId}/resume", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<ApiResponse> uploadResume(@PathVariable String userId,
+                                                    @RequestParam("file") MultipartFile file) {
+        return ResponseEntity.ok(new ApiResponse("success", mediaService.uploadResume(userId, file)));
+    }
+
+    @GetMapping("/{userId}/picture")
+    public ResponseEntity<ApiResponse> downloadPicture(@PathVariable String userId,
+                                                       HttpServletRequest request,
+                                                       HttpServletResponse response) throws IOException {
+        return serve(() -> mediaService.find(userId, ProfileMediaService.PICTURE), request, response);
+    }
+
+    @GetMapping("/{userId}/picture/thumbnail")
+    public ResponseEntity<ApiResponse> downloadThumbnail(@PathVariable String userId,
+                                                         HttpServletRequest request,
+                                                         HttpServletResponse response) throws IOException {
+        return serve(() -> mediaService.findThumbnail(userId), request, response);
+    }
+
+    @GetMapping("/{userId}/resume")
+    public ResponseEntity<ApiResponse> downloadResume(@PathVariable String userId,
+                                                      HttpServletRequest request,
+                                                      HttpServletResponse response) throws IOException {
+        return serve(() -> mediaService.find(userId, ProfileMediaService.RESUME), request, response);
+    }
+
+    // a null entity tells MVC the response has already been written
+    private ResponseEntity<ApiResponse> serve(Supplier<StoredBlob> lookup,
+                                              HttpServletRequest request,
+                                              HttpServletResponse response) throws IOException {
+        StoredBlob blob = lookup.get();
+        downloadWriter.write(blob, request, response);
+        return null;
+    }
+}
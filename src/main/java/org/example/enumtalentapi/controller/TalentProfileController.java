@@ -2,31 +2,102 @@ package org.example.enumtalentapi.controller;
 
 import lombok.RequiredArgsConstructor;
 import org.example.enumtalentapi.dto.ApiResponse;
+import org.example.enumtalentapi.dto.GeoSearchRequest;
+import org.example.enumtalentapi.dto.NearbyTalent;
+import org.example.enumtalentapi.dto.ProfileRevisionSummary;
+import org.example.enumtalentapi.dto.ProfileRevisionView;
+import org.example.enumtalentapi.dto.ProfileViewStats;
+import org.example.enumtalentapi.dto.SimilarTalent;
+import org.example.enumtalentapi.dto.TalentFilterRequest;
 import org.example.enumtalentapi.dto.TalentProfileRequest;
 import org.example.enumtalentapi.dto.TalentProfileResponse;
-import org.example.enumtalentapi.exception.CustomException;
+import org.example.enumtalentapi.dto.TalentSummary;
+import org.example.enumtalentapi.entity.User;
+import org.example.enumtalentapi.exception.ErrorCode;
+import org.example.enumtalentapi.geo.TalentGeoSearch;
+import org.example.enumtalentapi.revision.ProfileRevisions;
+import org.example.enumtalentapi.salary.TalentFilter;
+import org.example.enumtalentapi.service.ProfileViewCounter;
 import org.example.enumtalentapi.service.TalentProfileService;
+import org.example.enumtalentapi.similarity.SimilarTalentIndex;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 @RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @RequestMapping("/api/profile/talent")
 @RequiredArgsConstructor
 public class TalentProfileController {
 
     private final TalentProfileService profileService;
+    private final ProfileViewCounter viewCounter;
+    private final SimilarTalentIndex similarTalentIndex;
+    private final TalentGeoSearch geoSearch;
+    private final TalentFilter talentFilter;
+    private final ProfileRevisions profileRevisions;
     @GetMapping("/me")
-    public ResponseEntity<?> getMyProfileRequestParam(@RequestParam String userId) {
-        try {
-            TalentProfileResponse profile = profileService.getMyProfile(userId);
-            return ResponseEntity.ok(profile);
-        } catch (CustomException e) {
-            return ResponseEntity.badRequest()
-                    .body(new ApiResponse("error", e.getMessage()));
-        } catch (Exception e) {
-            return ResponseEntity.internalServerError()
-                    .body(new ApiResponse("error", "Unexpected error: " + e.getMessage()));
+    public ResponseEntity<?> getMyProfileRequestParam(@RequestParam String userId,
+                                                      @RequestParam(defaultValue = "false") boolean includeText) {
+        TalentProfileResponse profile = includeText
+                ? profileService.getMyProfileWithText(userId)
+                : profileService.getMyProfile(userId);
+        // /me is permitAll and mostly read by the owner, so only a signed-in other user counts as a view
+        if (isOtherUser(userId)) {
+            viewCounter.record(userId);
         }
+        return ResponseEntity.ok(profile);
+    }
+
+    @GetMapping("/{userId}/views")
+    public ResponseEntity<ProfileViewStats> getViewStats(@PathVariable String userId,
+                                                         @RequestParam(defaultValue = "30") int days) {
+        return ResponseEntity.ok(viewCounter.stats(userId, days));
+    }
+
+    @GetMapping("/{userId}/similar")
+    public ResponseEntity<List<SimilarTalent>> getSimilar(@PathVariable String userId,
+                                                          @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(similarTalentIndex.similar(userId, limit));
+    }
+
+    @GetMapping("/{userId}/revisions")
+    public ResponseEntity<List<ProfileRevisionSummary>> getRevisions(@PathVariable String userId,
+                                                                     @RequestParam(defaultValue = "20") int limit) {
+        return ResponseEntity.ok(profileRevisions.list(userId, limit));
+    }
+
+    @GetMapping("/{userId}/revisions/{revision}")
+    public ResponseEntity<ProfileRevisionView> getRevision(@PathVariable String userId, @PathVariable long revision) {
+        return ResponseEntity.ok(profileRevisions.get(userId, revision)
+                .orElseThrow(ErrorCode.REVISION_NOT_FOUND::exception));
+    }
+
+    @PostMapping("/{userId}/revisions/{revision}/restore")
+    public ResponseEntity<ApiResponse> restoreRevision(@PathVariable String userId, @PathVariable long revision) {
+        return ResponseEntity.ok(new ApiResponse("success", profileService.restoreRevision(userId, revision)));
+    }
+
+    @GetMapping("/nearby")
+    public ResponseEntity<List<NearbyTalent>> getNearby(@ModelAttribute GeoSearchRequest request) {
+        return ResponseEntity.ok(geoSearch.search(request));
+    }
+
+    @GetMapping("/filter")
+    public ResponseEntity<List<TalentSummary>> getFiltered(@ModelAttribute TalentFilterRequest request) {
+        return ResponseEntity.ok(talentFilter.search(request));
+    }
+
+    // the owner looking at their own profile is not a view
+    private static boolean isOtherUser(String userId) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication != null
+                && authentication.getPrincipal() instanceof User user
+                && !userId.equals(user.getId());
     }
 
     @PostMapping("/{userId}")
@@ -34,14 +105,7 @@ public class TalentProfileController {
             @PathVariable String userId,
             @RequestBody TalentProfileRequest request
     ) {
-        try {
-            String message = profileService.createOrUpdateProfile(userId, request);
-            return ResponseEntity.ok(new ApiResponse("success", message));
-        } catch (CustomException e) {
-            return ResponseEntity.badRequest().body(new ApiResponse("error", e.getMessage()));
-        } catch (Exception e) {
-            return ResponseEntity.internalServerError()
-                    .body(new ApiResponse("error", "Unexpected error: " + e.getMessage()));
-        }
+        String message = profileService.createOrUpdateProfile(userId, request);
+        return ResponseEntity.ok(new ApiResponse("success", message));
     }
 }
@@ -0,0 +1,32 @@
+package org.example.enumtalentapi.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.example.enumtalentapi.dto.Suggestion;
+import org.example.enumtalentapi.typeahead.SkillDictionary;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+// answered from memory, so the same controller serves servlet and reactive mode
+@RestController
+@RequestMapping("/api/profile/suggestions")
+@RequiredArgsConstructor
+public class TypeaheadController {
+
+    private final SkillDictionary skillDictionary;
+
+    @GetMapping("/skills")
+    public List<Suggestion> suggestSkills(@RequestParam String prefix,
+                                          @RequestParam(defaultValue = "10") int limit) {
+        return skillDictionary.suggest(SkillDictionary.Kind.SKILLS, prefix, limit);
+    }
+
+    @GetMapping("/roles")
+    public List<Suggestion> suggestRoles(@RequestParam String prefix,
+                                         @RequestParam(defaultValue = "10") int limit) {
+        return skillDictionary.suggest(SkillDictionary.Kind.ROLES, prefix, limit);
+    }
+}
@@ -3,11 +3,13 @@ package org.example.enumtalentapi.controller;
 import lombok.RequiredArgsConstructor;
 import org.example.enumtalentapi.entity.User;
 import org.example.enumtalentapi.repository.UserRepository;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
 
 @RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @RequestMapping("/api/user")
 @RequiredArgsConstructor
 public class findAllUsers {
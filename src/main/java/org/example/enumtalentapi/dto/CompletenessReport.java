@@ -0,0 +1,22 @@
+package org.example.enumtalentapi.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.Map;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CompletenessReport {
+    private long profiles;
+    private long belowHalf;
+    // profiles per completeness band, "0-9" to "100"
+    private Map<String, Long> histogram;
+    // profiles missing each field, most often missing first
+    private Map<String, Long> missingFields;
+    // when the counts were last recomputed from every profile, null before the first rebuild
+    private Instant rebuiltAt;
+}
@@ -0,0 +1,36 @@
+package org.example.enumtalentapi.dto;
+
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * Query parameters of the talent geo search. The area is a place name
+ * ({@code near}), coordinates ({@code lat}, {@code lon}) or a bounding box;
+ * the first two are searched within {@code radiusKm}. A box whose
+ * {@code minLon} lies east of its {@code maxLon} crosses the antimeridian.
+ */
+@Data
+public class GeoSearchRequest {
+    private String near;
+    private Double lat;
+    private Double lon;
+    private double radiusKm = 50;
+
+    private Double minLat;
+    private Double minLon;
+    private Double maxLat;
+    private Double maxLon;
+
+    // "location" (where candidates are) or "preference" (where they want to work)
+    private String field = "location";
+    // candidates must list all of them
+    private List<String> skills;
+    private String experienceLevel;
+    private String workMode;
+    private int limit = 20;
+
+    public boolean hasBox() {
+        return minLat != null && minLon != null && maxLat != null && maxLon != null;
+    }
+}
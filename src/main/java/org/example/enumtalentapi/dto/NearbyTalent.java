@@ -0,0 +1,22 @@
+package org.example.enumtalentapi.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class NearbyTalent {
+    private String userId;
+    private String firstName;
+    private String lastName;
+    private String headline;
+    private String location;
+    private String locationPreference;
+    private List<String> skills;
+    // great-circle distance from the search center
+    private double distanceKm;
+}
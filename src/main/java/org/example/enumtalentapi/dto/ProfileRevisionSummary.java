@@ -0,0 +1,18 @@
+package org.example.enumtalentapi.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProfileRevisionSummary {
+    private long revision;
+    private Instant createdAt;
+    // compared with the previous revision; the first one lists every field it set
+    private List<String> changedFields;
+}
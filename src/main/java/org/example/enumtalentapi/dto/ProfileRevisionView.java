@@ -0,0 +1,17 @@
+package org.example.enumtalentapi.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProfileRevisionView {
+    private long revision;
+    private Instant createdAt;
+    // the editable fields as they were after this revision
+    private TalentProfileRequest profile;
+}
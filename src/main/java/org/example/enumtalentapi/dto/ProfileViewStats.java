@@ -0,0 +1,26 @@
+package org.example.enumtalentapi.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProfileViewStats {
+    private String userId;
+    private int days;
+    private long total;
+    // only days with views, oldest first
+    private List<DailyViews> daily;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class DailyViews {
+        private String day;
+        private long views;
+    }
+}
@@ -0,0 +1,21 @@
+package org.example.enumtalentapi.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SimilarTalent {
+    private String userId;
+    private String firstName;
+    private String lastName;
+    private String headline;
+    private List<String> skills;
+    private List<String> preferredRoles;
+    // Jaccard similarity of the normalized skills and preferred roles, 0 to 1
+    private double similarity;
+}
@@ -0,0 +1,15 @@
+package org.example.enumtalentapi.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class Suggestion {
+    // canonical spelling, the one profiles use most
+    private String value;
+    // profiles listing it, as of the last dictionary rebuild
+    private long count;
+}
@@ -0,0 +1,24 @@
+package org.example.enumtalentapi.dto;
+
+import lombok.Data;
+
+/**
+ * Query parameters of the talent range filter. Salary bounds are annual
+ * amounts in {@code currency}, required with them, and match candidates whose
+ * expected range overlaps them; graduation years are inclusive.
+ */
+@Data
+public class TalentFilterRequest {
+    private String currency;
+    private Long salaryFrom;
+    private Long salaryTo;
+    private Integer graduatedFrom;
+    private Integer graduatedTo;
+    private String experienceLevel;
+    private int page = 0;
+    private int limit = 20;
+
+    public boolean hasSalaryBounds() {
+        return salaryFrom != null || salaryTo != null;
+    }
+}
@@ -1,5 +1,6 @@
 package org.example.enumtalentapi.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.Data;
 import java.util.List;
 
@@ -41,4 +42,8 @@ public class TalentProfileResponse {
     private int completeness;
     private List<String> missingFields;
     private boolean profileVisible;
+
+    // served from cache while the profile is being reloaded
+    @JsonInclude(JsonInclude.Include.NON_DEFAULT)
+    private boolean stale;
 }
\ No newline at end of file
@@ -0,0 +1,22 @@
+package org.example.enumtalentapi.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TalentSummary {
+    private String userId;
+    private String firstName;
+    private String lastName;
+    private String headline;
+    private String experienceLevel;
+    private Integer graduationYear;
+    // as the candidate wrote it, and parsed into annual amounts
+    private String salaryExpectation;
+    private Long salaryMin;
+    private Long salaryMax;
+    private String salaryCurrency;
+}
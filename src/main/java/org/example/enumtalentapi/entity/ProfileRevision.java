@@ -0,0 +1,37 @@
+package org.example.enumtalentapi.entity;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * One saved version of a talent profile's editable fields. A checkpoint holds
+ * all of them; any other revision only the fields that changed since the
+ * previous one, deflated with its checkpoint as dictionary. Keyed by
+ * {@code userId:revision}, zero padded, so a user's revisions sort together
+ * and a run of them is a range scan on {@code _id}.
+ */
+@Getter
+@Setter
+@Document(collection = "profile_revisions")
+public class ProfileRevision {
+    @Id
+    private String id;
+
+    private String userId;
+    private long revision;
+    private boolean checkpoint;
+    private List<String> changedFields;
+    private byte[] payload;
+    @Indexed
+    private Instant createdAt;
+
+    public static String idOf(String userId, long revision) {
+        return userId + ":" + String.format("%012d", revision);
+    }
+}
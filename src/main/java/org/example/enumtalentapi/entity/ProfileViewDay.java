@@ -0,0 +1,26 @@
+package org.example.enumtalentapi.entity;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+/**
+ * Views of one profile on one UTC day. Keyed by {@code userId:yyyy-MM-dd} so a
+ * user's days sort together and a date range is a range scan on {@code _id}.
+ */
+@Getter
+@Setter
+@Document(collection = "profile_views")
+public class ProfileViewDay {
+    @Id
+    private String id;
+
+    private String userId;
+    private String day;
+    private long views;
+
+    public static String idOf(String userId, String day) {
+        return userId + ":" + day;
+    }
+}
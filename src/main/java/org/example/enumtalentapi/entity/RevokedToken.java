@@ -0,0 +1,29 @@
+package org.example.enumtalentapi.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.Instant;
+
+/**
+ * A logged-out auth token, kept until the token would have expired anyway.
+ * Only the hex SHA-256 of the token is stored, never the token itself.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "revoked_tokens")
+public class RevokedToken {
+    @Id
+    private String id;
+
+    // TTL index, MongoDB deletes the entry once it is past
+    @Indexed(expireAfter = "0s")
+    private Instant expiresAt;
+}
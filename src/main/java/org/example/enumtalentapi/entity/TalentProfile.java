@@ -3,6 +3,11 @@ package org.example.enumtalentapi.entity;
 import lombok.Getter;
 import lombok.Setter;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Transient;
+import org.springframework.data.mongodb.core.geo.GeoJsonPoint;
+import org.springframework.data.mongodb.core.index.GeoSpatialIndexType;
+import org.springframework.data.mongodb.core.index.GeoSpatialIndexed;
+import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 import java.time.LocalDateTime;
 import java.util.List;
@@ -13,6 +18,7 @@ import java.util.List;
 public class TalentProfile {
     @Id
     private String id;
+    @Indexed
     private String userId;
 
     private String firstName;
@@ -34,7 +40,10 @@ public class TalentProfile {
     private String fieldOfStudy;
     private Integer graduationYear;
 
+    // stored compressed in talent_profile_texts, see TalentProfileText
+    @Transient
     private String transcript;
+    @Transient
     private String statementOfPurpose;
     private String resumeUrl;
     private String portfolioUrl;
@@ -42,8 +51,18 @@ public class TalentProfile {
     private List<String> preferredRoles;
     private String workMode;
     private String salaryExpectation;
+    // parsed from salaryExpectation by salary.SalaryParser: annual amounts, ISO currency code
+    private Long salaryMin;
+    private Long salaryMax;
+    private String salaryCurrency;
     private String locationPreference;
 
+    // resolved from location and locationPreference by geo.Gazetteer, null when they name no known place
+    @GeoSpatialIndexed(type = GeoSpatialIndexType.GEO_2DSPHERE)
+    private GeoJsonPoint locationPoint;
+    @GeoSpatialIndexed(type = GeoSpatialIndexType.GEO_2DSPHERE)
+    private GeoJsonPoint preferredLocationPoint;
+
     private int completeness;
     private List<String> missingFields;
     private boolean profileVisible = true;
@@ -0,0 +1,26 @@
+package org.example.enumtalentapi.entity;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+
+/**
+ * Long-text fields of a {@link TalentProfile}, kept out of the hot profile document.
+ * Keyed by the owning userId so no extra index is needed. Values are compressed
+ * with {@link org.example.enumtalentapi.util.TextCompressor}.
+ */
+@Getter
+@Setter
+@Document(collection = "talent_profile_texts")
+public class TalentProfileText {
+    @Id
+    private String userId;
+
+    private byte[] transcript;
+    private byte[] statementOfPurpose;
+
+    private LocalDateTime updatedAt;
+}
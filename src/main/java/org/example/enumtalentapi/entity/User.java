@@ -4,6 +4,7 @@ import lombok.Getter;
 import lombok.Setter;
 import lombok.NoArgsConstructor;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import java.time.LocalDateTime;
@@ -19,6 +20,8 @@ public class User {
     private String email;
     private String password;
     private boolean verified;
+    // auth token of the current login, looked up on every authenticated request
+    @Indexed(unique = true, sparse = true)
     private String token;
     private LocalDateTime lastLogout;
     private LocalDateTime lastLogin;
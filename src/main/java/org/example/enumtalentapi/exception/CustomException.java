@@ -1,5 +1,20 @@
 package org.example.enumtalentapi.exception;
 
+import lombok.Getter;
+
+/**
+ * Thrown for expected failures such as bad credentials or a missing user. It
+ * records no stack trace and one instance per {@link ErrorCode} is reused, so
+ * a flood of failed logins costs no more than successful ones; obtain it with
+ * {@link ErrorCode#exception()}.
+ */
+@Getter
 public class CustomException extends RuntimeException {
-    public CustomException(String message){ super(message); }
+
+    private final ErrorCode code;
+
+    CustomException(ErrorCode code) {
+        super(code.getMessage(), null, false, false);
+        this.code = code;
+    }
 }
@@ -0,0 +1,64 @@
+package org.example.enumtalentapi.exception;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+
+/**
+ * Every failure the API reports on purpose. The message is what clients see
+ * and stays as it was before the catalog existed; the status is applied in
+ * {@link GlobalExceptionHandler}.
+ */
+@Getter
+public enum ErrorCode {
+
+    EMAIL_IN_USE("EMAIL_IN_USE_GUY", HttpStatus.CONFLICT),
+    INVALID_CREDENTIALS(HttpStatus.UNAUTHORIZED),
+    EMAIL_NOT_VERIFIED(HttpStatus.FORBIDDEN),
+    TOKEN_INVALID(HttpStatus.BAD_REQUEST),
+    TOKEN_ALREADY_USED(HttpStatus.CONFLICT),
+    TOKEN_EXPIRED(HttpStatus.GONE),
+    USER_NOT_FOUND(HttpStatus.NOT_FOUND),
+
+    TRANSCRIPT_TOO_LONG("Transcript too long, please shorten it thanks.", HttpStatus.BAD_REQUEST),
+    STATEMENT_OF_PURPOSE_TOO_LONG("Statement of Purpose too long, please shorten it thanks.", HttpStatus.BAD_REQUEST),
+    BIO_TOO_LONG("Bio too long, please shorten it thanks.", HttpStatus.BAD_REQUEST),
+
+    MEDIA_NOT_FOUND(HttpStatus.NOT_FOUND),
+    FILE_REQUIRED(HttpStatus.BAD_REQUEST),
+    UNSUPPORTED_MEDIA_TYPE(HttpStatus.UNSUPPORTED_MEDIA_TYPE),
+    FILE_TOO_LARGE(HttpStatus.PAYLOAD_TOO_LARGE),
+
+    LOCATION_REQUIRED("Give near, lat and lon, or a bounding box.", HttpStatus.BAD_REQUEST),
+    LOCATION_UNKNOWN(HttpStatus.BAD_REQUEST),
+    BOX_INVALID("Box latitudes must lie within -90 and 90, longitudes within -180 and 180, and the box must not be empty.", HttpStatus.BAD_REQUEST),
+    SALARY_CURRENCY_REQUIRED("Salary bounds need a currency.", HttpStatus.BAD_REQUEST),
+    REVISION_NOT_FOUND(HttpStatus.NOT_FOUND),
+    REBUILD_IN_PROGRESS(HttpStatus.CONFLICT),
+
+    OVERLOADED(HttpStatus.SERVICE_UNAVAILABLE),
+    DATABASE_UNAVAILABLE(HttpStatus.SERVICE_UNAVAILABLE);
+
+    private final String message;
+    private final HttpStatus status;
+    @Getter(AccessLevel.NONE)
+    private final CustomException exception;
+
+    ErrorCode(HttpStatus status) {
+        this(null, status);
+    }
+
+    ErrorCode(String message, HttpStatus status) {
+        this.message = message != null ? message : name();
+        this.status = status;
+        this.exception = new CustomException(this);
+    }
+
+    /**
+     * The shared, stackless exception for this code. Safe to throw from any
+     * thread since it carries no per-failure state.
+     */
+    public CustomException exception() {
+        return exception;
+    }
+}
@@ -1,15 +1,54 @@
 package org.example.enumtalentapi.exception;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
 import org.example.enumtalentapi.dto.ApiResponse;
-import org.springframework.http.HttpStatus;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.TransientDataAccessException;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.ErrorResponse;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.EnumMap;
+import java.util.Map;
+
+// serves both the servlet and the reactive controllers
+@Slf4j
 @RestControllerAdvice
 public class GlobalExceptionHandler {
 
+    private final Map<ErrorCode, Counter> errorCounters = new EnumMap<>(ErrorCode.class);
+
+    public GlobalExceptionHandler(MeterRegistry meterRegistry) {
+        for (ErrorCode code : ErrorCode.values()) {
+            errorCounters.put(code, meterRegistry.counter("enumtalent.errors", "code", code.name()));
+        }
+    }
+
     @ExceptionHandler(CustomException.class)
     public ResponseEntity<ApiResponse> handleCustom(CustomException ex){
-        return new ResponseEntity<>(new ApiResponse(ex.getMessage(), null), HttpStatus.BAD_REQUEST);
+        ErrorCode code = ex.getCode();
+        errorCounters.get(code).increment();
+        return ResponseEntity.status(code.getStatus()).body(new ApiResponse("error", code.getMessage()));
+    }
+
+    // the database is unreachable or timed out, which the client can retry
+    @ExceptionHandler({DataAccessResourceFailureException.class, TransientDataAccessException.class})
+    public ResponseEntity<ApiResponse> handleDatabaseUnavailable(Exception ex){
+        log.warn("Database unavailable: {}", ex.getMessage());
+        return handleCustom(ErrorCode.DATABASE_UNAVAILABLE.exception());
+    }
+
+    // framework errors (missing parameter, upload too large, ...) keep the status Spring assigned
+    @ExceptionHandler(Exception.class)
+    public ResponseEntity<ApiResponse> handleUnexpected(Exception ex){
+        if (ex instanceof ErrorResponse errorResponse) {
+            return ResponseEntity.status(errorResponse.getStatusCode())
+                    .body(new ApiResponse("error", errorResponse.getBody().getDetail()));
+        }
+        log.error("Unexpected error: ", ex);
+        return ResponseEntity.internalServerError()
+                .body(new ApiResponse("error", "Unexpected error: " + ex.getMessage()));
     }
 }
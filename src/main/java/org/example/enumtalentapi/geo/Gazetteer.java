@@ -0,0 +1,193 @@
+package org.example.enumtalentapi.geo;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.data.mongodb.core.geo.GeoJsonPoint;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * Offline lookup from free-text locations ("Lagos", "Yaba, Lagos, Nigeria",
+ * "Bangalore India") to coordinates, held in memory.
+ *
+ * <p>Names are matched after dropping case, accents and punctuation. Text is
+ * read as comma separated parts, most specific first: the first part that
+ * names a known place wins, and a later part naming a country picks among
+ * places of the same name; otherwise the most populous one is taken. Without
+ * commas, trailing words are tried as the country. Anything else ("Remote",
+ * a street address) is unresolved.
+ *
+ * <p>The bundled file has one place per line:
+ * {@code name, alternate names, country code, latitude, longitude, population},
+ * tab separated. A GeoNames cities file is recognized by its column count and
+ * read as is.
+ */
+@Slf4j
+@Component
+public class Gazetteer {
+
+    private static final Pattern MARKS = Pattern.compile("\\p{M}+");
+    private static final Pattern NOT_NAME = Pattern.compile("[^\\p{L}\\p{N},]+");
+    private static final int GEONAMES_COLUMNS = 15;
+
+    public record Place(String name, String countryCode, double latitude, double longitude, long population) {
+        public GeoJsonPoint point() {
+            return new GeoJsonPoint(longitude, latitude);
+        }
+    }
+
+    private final Map<String, List<Place>> byName = new HashMap<>();
+    private final Map<String, String> countries = new HashMap<>();
+    private final Counter unresolved;
+
+    public Gazetteer(@Value("${enumtalent.geo.gazetteer:classpath:gazetteer/cities.tsv}") Resource source,
+                     MeterRegistry meterRegistry) {
+        this.unresolved = Counter.builder("enumtalent.geo.unresolved").register(meterRegistry);
+        loadCountries();
+        int places = load(source);
+        byName.values().forEach(list -> list.sort(Comparator.comparingLong(Place::population).reversed()));
+        log.info("Gazetteer loaded {} places under {} names from {}", places, byName.size(), source.getDescription());
+    }
+
+    /** Coordinates for the text, or null when it names no known place. */
+    public GeoJsonPoint resolvePoint(String text) {
+        if (text == null || text.isBlank()) {
+            return null;
+        }
+        Place place = resolve(text);
+        if (place == null) {
+            unresolved.increment();
+            return null;
+        }
+        return place.point();
+    }
+
+    public Place resolve(String text) {
+        String[] parts = key(text).split(",");
+        for (int i = 0; i < parts.length; i++) {
+            String part = parts[i].trim();
+            if (part.isEmpty()) {
+                continue;
+            }
+            List<Place> candidates = byName.get(part);
+            if (candidates != null) {
+                return pick(candidates, countryIn(parts, i + 1));
+            }
+            if (parts.length == 1) {
+                return resolveWithTrailingCountry(part);
+            }
+        }
+        return null;
+    }
+
+    // "Lagos Nigeria", "Port Harcourt NG"
+    private Place resolveWithTrailingCountry(String words) {
+        for (int cut = words.lastIndexOf(' '); cut > 0; cut = words.lastIndexOf(' ', cut - 1)) {
+            String country = countries.get(words.substring(cut + 1));
+            List<Place> candidates = byName.get(words.substring(0, cut));
+            if (country != null && candidates != null) {
+                return pick(candidates, country);
+            }
+        }
+        return null;
+    }
+
+    private String countryIn(String[] parts, int from) {
+        for (int i = parts.length - 1; i >= from; i--) {
+            String country = countries.get(parts[i].trim());
+            if (country != null) {
+                return country;
+            }
+        }
+        return null;
+    }
+
+    private static Place pick(List<Place> candidates, String countryCode) {
+        if (countryCode != null) {
+            for (Place place : candidates) {
+                if (place.countryCode().equals(countryCode)) {
+                    return place;
+                }
+            }
+        }
+        return candidates.get(0);
+    }
+
+    private int load(Resource source) {
+        int places = 0;
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(source.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank() || line.startsWith("#")) {
+                    continue;
+                }
+                String[] columns = line.split("\t", -1);
+                if (columns.length >= GEONAMES_COLUMNS) {
+                    add(columns[1], columns[2] + "," + columns[3], columns[8], columns[4], columns[5], columns[14]);
+                } else {
+                    add(columns[0], columns[1], columns[2], columns[3], columns[4], columns[5]);
+                }
+                places++;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read gazetteer " + source.getDescription(), e);
+        }
+        return places;
+    }
+
+    private void add(String name, String alternateNames, String countryCode,
+                     String latitude, String longitude, String population) {
+        Place place = new Place(name, countryCode.toUpperCase(Locale.ROOT), Double.parseDouble(latitude),
+                Double.parseDouble(longitude), population.isEmpty() ? 0 : Long.parseLong(population));
+        List<String> names = new ArrayList<>();
+        names.add(name);
+        for (String alternate : alternateNames.split(",")) {
+            names.add(alternate);
+        }
+        names.stream()
+                .map(Gazetteer::key)
+                .filter(key -> !key.isEmpty() && !key.contains(","))
+                .distinct()
+                .forEach(key -> byName.computeIfAbsent(key, k -> new ArrayList<>()).add(place));
+    }
+
+    private void loadCountries() {
+        for (String code : Locale.getISOCountries()) {
+            Locale country = new Locale("", code);
+            countries.put(key(code), code);
+            countries.put(key(country.getISO3Country()), code);
+            countries.put(key(country.getDisplayCountry(Locale.ENGLISH)), code);
+        }
+        countries.put("usa", "US");
+        countries.put("united states of america", "US");
+        countries.put("uk", "GB");
+        countries.put("england", "GB");
+        countries.put("scotland", "GB");
+        countries.put("uae", "AE");
+    }
+
+    // lower case, no accents, punctuation and runs of spaces collapsed to one space, commas kept
+    static String key(String text) {
+        String folded = MARKS.matcher(Normalizer.normalize(text, Normalizer.Form.NFD)).replaceAll("");
+        return NOT_NAME.matcher(folded.toLowerCase(Locale.ROOT)).replaceAll(" ")
+                .replaceAll(" ?, ?", ",")
+                .trim();
+    }
+}
@@ -0,0 +1,249 @@
+package org.example.enumtalentapi.geo;
+
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.example.enumtalentapi.dto.GeoSearchRequest;
+import org.example.enumtalentapi.dto.NearbyTalent;
+import org.example.enumtalentapi.exception.ErrorCode;
+import org.example.enumtalentapi.typeahead.SkillDictionary;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.geo.Distance;
+import org.springframework.data.geo.Metrics;
+import org.springframework.data.geo.Point;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.geo.GeoJsonPoint;
+import org.springframework.data.mongodb.core.geo.GeoJsonPolygon;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.NearQuery;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * "Candidates within 50 km of Lagos": a {@code $geoNear} over the profiles'
+ * 2dsphere-indexed coordinates, nearest first, narrowed by the usual profile
+ * filters in the same stage. A bounding box is searched from its center with
+ * a {@code $geoWithin} filter, so results stay ordered by distance; see
+ * {@link #boxPolygons} for how it maps onto the sphere.
+ *
+ * <p>After startup profiles saved before coordinates existed are resolved,
+ * in the background.
+ */
+@Slf4j
+@Service
+public class TalentGeoSearch {
+
+    public static final String PROFILE_COLLECTION = "talent_profiles";
+    static final String LOCATION_POINT = "locationPoint";
+    static final String PREFERRED_LOCATION_POINT = "preferredLocationPoint";
+    private static final double MAX_RADIUS_KM = 2000;
+    private static final int MAX_LIMIT = 100;
+    private static final int BACKFILL_BATCH = 500;
+    private static final double BOX_EDGE_STEP = 1;
+    private static final double BOX_MAX_SLICE = 90;
+    private static final double MAX_BOX_LAT = 89.999;
+
+    private final MongoTemplate mongoTemplate;
+    private final Gazetteer gazetteer;
+    private final SkillDictionary skillDictionary;
+    private final boolean prepareOnStartup;
+
+    public TalentGeoSearch(MongoTemplate mongoTemplate,
+                           Gazetteer gazetteer,
+                           SkillDictionary skillDictionary,
+                           @Value("${enumtalent.geo.prepare-on-startup:true}") boolean prepareOnStartup) {
+        this.mongoTemplate = mongoTemplate;
+        this.gazetteer = gazetteer;
+        this.skillDictionary = skillDictionary;
+        this.prepareOnStartup = prepareOnStartup;
+    }
+
+    public List<NearbyTalent> search(GeoSearchRequest request) {
+        return mongoTemplate.aggregate(aggregation(request), PROFILE_COLLECTION, Document.class)
+                .getMappedResults().stream()
+                .map(TalentGeoSearch::toResult)
+                .toList();
+    }
+
+    /** The search as an aggregation, shared with the reactive service. */
+    public Aggregation aggregation(GeoSearchRequest request) {
+        String field = "preference".equalsIgnoreCase(request.getField()) ? PREFERRED_LOCATION_POINT : LOCATION_POINT;
+        Criteria filter = filters(request);
+        GeoJsonPoint center;
+        Double radiusKm = null;
+
+        if (request.hasBox()) {
+            double south = Math.min(request.getMinLat(), request.getMaxLat());
+            double north = Math.max(request.getMinLat(), request.getMaxLat());
+            double west = request.getMinLon();
+            double east = request.getMaxLon();
+            if (south < -90 || north > 90 || Math.abs(west) > 180 || Math.abs(east) > 180
+                    || south == north || west == east) {
+                throw ErrorCode.BOX_INVALID.exception();
+            }
+            double width = boxWidth(west, east);
+            center = new GeoJsonPoint(normalizeLon(west + width / 2), (south + north) / 2);
+            List<GeoJsonPolygon> polygons = boxPolygons(south, north, west, east);
+            if (polygons.size() == 1) {
+                filter = filter.and(field).within(polygons.get(0));
+            } else {
+                List<Criteria> pieces = new ArrayList<>();
+                for (GeoJsonPolygon polygon : polygons) {
+                    pieces.add(Criteria.where(field).within(polygon));
+                }
+                filter = filter.orOperator(pieces);
+            }
+        } else if (request.getLat() != null && request.getLon() != null) {
+            center = new GeoJsonPoint(request.getLon(), request.getLat());
+            radiusKm = request.getRadiusKm();
+        } else if (request.getNear() != null && !request.getNear().isBlank()) {
+            Gazetteer.Place place = gazetteer.resolve(request.getNear());
+            if (place == null) {
+                throw ErrorCode.LOCATION_UNKNOWN.exception();
+            }
+            center = place.point();
+            radiusKm = request.getRadiusKm();
+        } else {
+            throw ErrorCode.LOCATION_REQUIRED.exception();
+        }
+
+        // the metric makes $geoNear report kilometres, without it a box search would get radians
+        NearQuery near = NearQuery.near(center)
+                .spherical(true)
+                .in(Metrics.KILOMETERS)
+                .query(new Query(filter))
+                .limit(Math.max(1, Math.min(request.getLimit(), MAX_LIMIT)));
+        if (radiusKm != null) {
+            near.maxDistance(new Distance(Math.max(0, Math.min(radiusKm, MAX_RADIUS_KM)), Metrics.KILOMETERS));
+        }
+        return Aggregation.newAggregation(
+                Aggregation.geoNear(near, "distance").useIndex(field),
+                Aggregation.project("userId", "firstName", "lastName", "headline", "location",
+                        "locationPreference", "skills", "distance").andExclude("_id"));
+    }
+
+    /**
+     * The box as 2dsphere polygons. Polygon edges are great circles, so the
+     * south and north edges get a vertex every {@link #BOX_EDGE_STEP} degrees
+     * to follow their parallels, and the box is cut into slices at most
+     * {@link #BOX_MAX_SLICE} degrees wide, each well under a hemisphere. A west
+     * edge east of the east edge means the box crosses the antimeridian.
+     */
+    static List<GeoJsonPolygon> boxPolygons(double south, double north, double west, double east) {
+        double width = boxWidth(west, east);
+        int slices = (int) Math.ceil(width / BOX_MAX_SLICE);
+        double sliceWidth = width / slices;
+        int steps = (int) Math.ceil(sliceWidth / BOX_EDGE_STEP);
+        // the poles are single points, a parallel there would repeat one vertex
+        double bottom = Math.max(south, -MAX_BOX_LAT);
+        double top = Math.min(north, MAX_BOX_LAT);
+        List<GeoJsonPolygon> polygons = new ArrayList<>(slices);
+        for (int slice = 0; slice < slices; slice++) {
+            double from = west + slice * sliceWidth;
+            List<Point> ring = new ArrayList<>(2 * steps + 3);
+            for (int i = 0; i <= steps; i++) {
+                ring.add(new Point(normalizeLon(from + sliceWidth * i / steps), bottom));
+            }
+            for (int i = steps; i >= 0; i--) {
+                ring.add(new Point(normalizeLon(from + sliceWidth * i / steps), top));
+            }
+            ring.add(ring.get(0));
+            polygons.add(new GeoJsonPolygon(ring));
+        }
+        return polygons;
+    }
+
+    private static double boxWidth(double west, double east) {
+        return west < east ? east - west : east + 360 - west;
+    }
+
+    private static double normalizeLon(double lon) {
+        return lon > 180 ? lon - 360 : lon;
+    }
+
+    private Criteria filters(GeoSearchRequest request) {
+        Criteria filter = Criteria.where("profileVisible").is(true);
+        List<String> skills = skillDictionary.normalize(SkillDictionary.Kind.SKILLS, request.getSkills());
+        if (skills != null && !skills.isEmpty()) {
+            // profiles saved before skills were normalized may differ in case
+            List<Pattern> patterns = new ArrayList<>();
+            for (String skill : skills) {
+                patterns.add(exactIgnoringCase(skill));
+            }
+            filter = filter.and("skills").all(patterns);
+        }
+        if (request.getExperienceLevel() != null && !request.getExperienceLevel().isBlank()) {
+            filter = filter.and("experienceLevel").regex(exactIgnoringCase(request.getExperienceLevel().trim()));
+        }
+        if (request.getWorkMode() != null && !request.getWorkMode().isBlank()) {
+            filter = filter.and("workMode").regex(exactIgnoringCase(request.getWorkMode().trim()));
+        }
+        return filter;
+    }
+
+    private static Pattern exactIgnoringCase(String value) {
+        return Pattern.compile("^" + Pattern.quote(value) + "$", Pattern.CASE_INSENSITIVE);
+    }
+
+    public static NearbyTalent toResult(Document document) {
+        Number kilometres = document.get("distance", Number.class);
+        return new NearbyTalent(
+                document.getString("userId"),
+                document.getString("firstName"),
+                document.getString("lastName"),
+                document.getString("headline"),
+                document.getString("location"),
+                document.getString("locationPreference"),
+                document.getList("skills", String.class),
+                kilometres == null ? 0 : kilometres.doubleValue());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void prepare() {
+        if (!prepareOnStartup) {
+            return;
+        }
+        Thread thread = new Thread(() -> {
+            try {
+                backfill();
+            } catch (Exception e) {
+                log.warn("Geo search preparation skipped: {}", e.getMessage());
+            }
+        }, "geo-prepare");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    // both points are written, null included, so a resolved profile is not picked up again
+    private void backfill() {
+        Query pending = new Query(Criteria.where(LOCATION_POINT).exists(false));
+        pending.fields().include("location", "locationPreference");
+        pending.limit(BACKFILL_BATCH);
+        int resolved = 0;
+        while (true) {
+            List<Document> batch = mongoTemplate.find(pending, Document.class, PROFILE_COLLECTION);
+            if (batch.isEmpty()) {
+                break;
+            }
+            for (Document profile : batch) {
+                mongoTemplate.updateFirst(new Query(Criteria.where("_id").is(profile.get("_id"))),
+                        new Update()
+                                .set(LOCATION_POINT, gazetteer.resolvePoint(profile.getString("location")))
+                                .set(PREFERRED_LOCATION_POINT,
+                                        gazetteer.resolvePoint(profile.getString("locationPreference"))),
+                        PROFILE_COLLECTION);
+                resolved++;
+            }
+        }
+        if (resolved > 0) {
+            log.info("Resolved the locations of {} talent profiles", resolved);
+        }
+    }
+}
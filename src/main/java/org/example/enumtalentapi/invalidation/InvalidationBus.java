@@ -0,0 +1,334 @@
+package org.example.enumtalentapi.invalidation;
+
+import com.mongodb.CursorType;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.MongoCursor;
+import com.mongodb.client.model.Filters;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.CollectionOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * Carries cache invalidations between instances through a capped collection.
+ *
+ * <p>{@link #publish} only queues the key. Every flush interval the queued
+ * keys are de-duplicated and written as one document carrying this node's id
+ * and the next sequence number. Every node tails the collection and applies
+ * other nodes' keys to the local caches registered with {@link #subscribe}.
+ *
+ * <p>If a node's sequence skips a number, the batch was lost (a failed insert,
+ * or the capped collection wrapped while we were behind), and every subscribed
+ * cache is cleared. The same happens when the tailing cursor has to be
+ * reopened after an error. Callers still evict their own local caches
+ * directly; the bus only informs the other nodes.
+ *
+ * <p>Nothing is written until the listener has found or created the capped
+ * collection, since an insert into a missing collection would create an
+ * uncapped one that can never be tailed.
+ */
+@Slf4j
+@Component
+public class InvalidationBus {
+
+    static final String COLLECTION = "cache_invalidations";
+    private static final int MAX_KEYS_PER_EVENT = 1000;
+    private static final long RETRY_MILLIS = 2000;
+
+    private record Pending(String cache, String key) {
+    }
+
+    private record Subscription(Consumer<String> onKey, Runnable onClear) {
+    }
+
+    private final MongoTemplate mongoTemplate;
+    private final boolean enabled;
+    private final String nodeId;
+    private final Duration flushInterval;
+    private final long collectionBytes;
+
+    private final ConcurrentLinkedQueue<Pending> pending = new ConcurrentLinkedQueue<>();
+    private final Map<String, Subscription> subscriptions = new ConcurrentHashMap<>();
+    private final AtomicLong sequence = new AtomicLong();
+    // listener thread only
+    private final Map<String, Long> lastSeenSequence = new HashMap<>();
+
+    private final Counter published;
+    private final Counter received;
+    private final Counter resyncs;
+
+    private ScheduledExecutorService flusher;
+    private Thread listener;
+    private volatile boolean running;
+    // set by the listener once the capped collection exists; flushes wait for it
+    private volatile boolean collectionReady;
+    private boolean uncappedReported;
+    private volatile MongoCursor<Document> cursor;
+
+    public InvalidationBus(MongoTemplate mongoTemplate,
+                           @Value("${enumtalent.invalidation.enabled:true}") boolean enabled,
+                           @Value("${enumtalent.node-id:}") String nodeId,
+                           @Value("${enumtalent.invalidation.flush-interval:50ms}") Duration flushInterval,
+                           @Value("${enumtalent.invalidation.collection-bytes:16777216}") long collectionBytes,
+                           MeterRegistry meterRegistry) {
+        this.mongoTemplate = mongoTemplate;
+        this.enabled = enabled;
+        this.nodeId = nodeId.isBlank() ? UUID.randomUUID().toString().substring(0, 8) : nodeId;
+        this.flushInterval = flushInterval;
+        this.collectionBytes = collectionBytes;
+        this.published = Counter.builder("enumtalent.invalidation.published").register(meterRegistry);
+        this.received = Counter.builder("enumtalent.invalidation.received").register(meterRegistry);
+        this.resyncs = Counter.builder("enumtalent.invalidation.resyncs").register(meterRegistry);
+    }
+
+    /**
+     * @param onKey   drops one key from the local cache
+     * @param onClear drops everything, used when invalidations may have been missed
+     */
+    public void subscribe(String cache, Consumer<String> onKey, Runnable onClear) {
+        subscriptions.put(cache, new Subscription(onKey, onClear));
+    }
+
+    public void publish(String cache, String key) {
+        if (enabled) {
+            pending.add(new Pending(cache, key));
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        running = true;
+        long startedAt = System.currentTimeMillis();
+
+        flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "invalidation-flush");
+            thread.setDaemon(true);
+            return thread;
+        });
+        flusher.scheduleWithFixedDelay(this::flushWhenReady,
+                flushInterval.toMillis(), flushInterval.toMillis(), TimeUnit.MILLISECONDS);
+
+        // the collection is set up off the startup path, MongoDB may still be unreachable
+        listener = new Thread(() -> listen(new ObjectId(new Date(startedAt - 1000))), "invalidation-listener");
+        listener.setDaemon(true);
+        listener.start();
+        log.info("Invalidation bus started as node {}", nodeId);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        flusher.shutdown();
+        flushWhenReady();
+        MongoCursor<Document> current = cursor;
+        if (current != null) {
+            current.close();
+        }
+        listener.interrupt();
+    }
+
+    // false until the capped collection exists; the listener retries, another node may also have created it first
+    boolean ensureCollection() {
+        try {
+            if (!mongoTemplate.collectionExists(COLLECTION)) {
+                mongoTemplate.createCollection(COLLECTION, CollectionOptions.empty().capped().size(collectionBytes));
+                return true;
+            }
+            if (!isCapped()) {
+                if (!uncappedReported) {
+                    log.error("{} is not a capped collection and cannot be tailed, so cache invalidations are "
+                            + "neither sent nor received; drop it or convert it with convertToCapped", COLLECTION);
+                    uncappedReported = true;
+                }
+                return false;
+            }
+            return true;
+        } catch (RuntimeException e) {
+            log.debug("Could not create {}: {}", COLLECTION, e.getMessage());
+            return false;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private boolean isCapped() {
+        Document result = mongoTemplate.executeCommand(new Document("listCollections", 1)
+                .append("filter", new Document("name", COLLECTION)));
+        List<Document> found = (List<Document>) result.get("cursor", Document.class).get("firstBatch");
+        if (found.isEmpty()) {
+            return false;
+        }
+        Document options = found.get(0).get("options", Document.class);
+        return options != null && Boolean.TRUE.equals(options.getBoolean("capped"));
+    }
+
+    private void flushWhenReady() {
+        if (collectionReady) {
+            flush();
+        }
+    }
+
+    void flush() {
+        Map<String, Set<String>> batch = new HashMap<>();
+        int count = 0;
+        Pending next;
+        while ((next = pending.poll()) != null) {
+            if (batch.computeIfAbsent(next.cache(), cache -> new LinkedHashSet<>()).add(next.key())) {
+                count++;
+            }
+            if (count == MAX_KEYS_PER_EVENT) {
+                send(batch, count);
+                batch = new HashMap<>();
+                count = 0;
+            }
+        }
+        if (count > 0) {
+            send(batch, count);
+        }
+    }
+
+    private void send(Map<String, Set<String>> batch, int count) {
+        Map<String, List<String>> keys = new HashMap<>();
+        batch.forEach((cache, values) -> keys.put(cache, new ArrayList<>(values)));
+        if (insert(keys)) {
+            published.increment(count);
+        }
+    }
+
+    // the sequence number is taken even if the insert fails, so other nodes see the gap
+    private boolean insert(Map<String, List<String>> keys) {
+        Document event = new Document("node", nodeId)
+                .append("seq", sequence.getAndIncrement())
+                .append("at", Instant.now())
+                .append("keys", new Document(new HashMap<>(keys)));
+        try {
+            mongoTemplate.getCollection(COLLECTION).insertOne(event);
+            return true;
+        } catch (RuntimeException e) {
+            log.warn("Could not publish {} cache invalidations: {}", keys.size(), e.getMessage());
+            return false;
+        }
+    }
+
+    private void listen(ObjectId startAfter) {
+        ObjectId lastId = startAfter;
+        boolean failed = false;
+        boolean announced = false;
+        while (running) {
+            if (!collectionReady) {
+                collectionReady = ensureCollection();
+                if (!collectionReady) {
+                    sleepBeforeRetry();
+                    continue;
+                }
+            }
+            if (!announced) {
+                // written before tailing starts, so the cursor never opens on an empty collection
+                insert(Map.of());
+                announced = true;
+            }
+            MongoCollection<Document> collection = mongoTemplate.getCollection(COLLECTION);
+            try (MongoCursor<Document> tail = collection.find(Filters.gt("_id", lastId))
+                    .cursorType(CursorType.TailableAwait)
+                    .maxAwaitTime(1, TimeUnit.SECONDS)
+                    .noCursorTimeout(true)
+                    .iterator()) {
+                cursor = tail;
+                if (failed) {
+                    resync("tailing cursor was reopened after an error");
+                    failed = false;
+                }
+                while (running && tail.hasNext()) {
+                    Document event = tail.next();
+                    lastId = event.getObjectId("_id");
+                    apply(event);
+                }
+            } catch (RuntimeException e) {
+                if (!running) {
+                    return;
+                }
+                log.warn("Invalidation cursor failed, retrying in {} ms: {}", RETRY_MILLIS, e.getMessage());
+                failed = true;
+                // checked again before the next attempt, the collection may have been dropped
+                collectionReady = false;
+            }
+            // also reached when the collection is still empty or missing, which is not an error
+            sleepBeforeRetry();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    void apply(Document event) {
+        String origin = event.getString("node");
+        long seq = event.get("seq", Number.class).longValue();
+        Long previous = lastSeenSequence.put(origin, seq);
+        if (nodeId.equals(origin)) {
+            return;
+        }
+        // sequence 0 is a node (re)starting, which has nothing outstanding
+        if (previous != null && seq != 0 && seq != previous + 1) {
+            resync("node " + origin + " skipped from " + previous + " to " + seq);
+            return;
+        }
+
+        Document keys = event.get("keys", Document.class);
+        if (keys == null) {
+            return;
+        }
+        keys.forEach((cache, values) -> {
+            Subscription subscription = subscriptions.get(cache);
+            if (subscription != null) {
+                for (String key : (List<String>) values) {
+                    subscription.onKey().accept(key);
+                    received.increment();
+                }
+            }
+        });
+    }
+
+    private void resync(String reason) {
+        resyncs.increment();
+        log.warn("Invalidations may have been missed ({}), clearing local caches", reason);
+        subscriptions.values().forEach(subscription -> subscription.onClear().run());
+    }
+
+    private void sleepBeforeRetry() {
+        try {
+            Thread.sleep(RETRY_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            running = false;
+        }
+    }
+}
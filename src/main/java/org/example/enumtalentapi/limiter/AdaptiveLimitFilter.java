@@ -0,0 +1,56 @@
+package org.example.enumtalentapi.limiter;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.example.enumtalentapi.exception.ErrorCode;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Sheds API requests beyond the current limit of their route class with a
+ * 503 and {@code Retry-After}, before they reach security or MongoDB.
+ */
+@RequiredArgsConstructor
+public class AdaptiveLimitFilter extends OncePerRequestFilter {
+
+    static final String OVERLOADED_BODY =
+            "{\"status\":\"error\",\"message\":\"" + ErrorCode.OVERLOADED.getMessage() + "\"}";
+
+    private final RouteLimiters limiters;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain)
+            throws ServletException, IOException {
+
+        RouteClass route = RouteClass.of(request.getMethod(), request.getRequestURI());
+        if (route == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        AdaptiveLimiter limiter = limiters.get(route);
+        if (!limiter.tryAcquire()) {
+            limiters.rejected(route);
+            response.setStatus(ErrorCode.OVERLOADED.getStatus().value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, RouteLimiters.RETRY_AFTER_SECONDS);
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            response.getWriter().write(OVERLOADED_BODY);
+            return;
+        }
+
+        long start = System.nanoTime();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            limiter.release(System.nanoTime() - start);
+        }
+    }
+}
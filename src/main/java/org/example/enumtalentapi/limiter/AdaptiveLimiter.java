@@ -0,0 +1,114 @@
+package org.example.enumtalentapi.limiter;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Gradient-style concurrency limit. Latency is sampled in short windows and
+ * compared with what is tolerated, the lower of the latency target and twice
+ * the long-term average. While the window stays under that, the limit grows
+ * by roughly its square root; above it, the limit shrinks in proportion to
+ * the overshoot (never by more than half per window). Requests over the limit
+ * are rejected straight away instead of queueing behind slow ones.
+ */
+public class AdaptiveLimiter {
+
+    private static final double TOLERANCE = 2.0;
+    private static final double SMOOTHING = 0.2;
+    private static final double LONG_RTT_DECAY = 0.05;
+    private static final long WINDOW_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+    private static final int MIN_WINDOW_SAMPLES = 10;
+
+    private final long targetNanos;
+    private final int minLimit;
+    private final int maxLimit;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final ReentrantLock sampleLock = new ReentrantLock();
+
+    private volatile double limit;
+
+    // guarded by sampleLock
+    private long windowStart = System.nanoTime();
+    private long windowRttSum;
+    private int windowSamples;
+    private int windowMaxInFlight;
+    private double longRttNanos;
+
+    public AdaptiveLimiter(long targetNanos, int initialLimit, int minLimit, int maxLimit) {
+        this.targetNanos = targetNanos;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.limit = initialLimit;
+    }
+
+    /**
+     * @return false if the request should be shed; on true the caller must call
+     * {@link #release(long)} exactly once
+     */
+    public boolean tryAcquire() {
+        int current = inFlight.incrementAndGet();
+        if (current > (int) limit) {
+            inFlight.decrementAndGet();
+            return false;
+        }
+        return true;
+    }
+
+    public void release(long rttNanos) {
+        int current = inFlight.getAndDecrement();
+        // a sample arriving while another thread closes the window is simply dropped
+        if (!sampleLock.tryLock()) {
+            return;
+        }
+        try {
+            windowRttSum += rttNanos;
+            windowSamples++;
+            windowMaxInFlight = Math.max(windowMaxInFlight, current);
+
+            long now = System.nanoTime();
+            if (now - windowStart >= WINDOW_NANOS && windowSamples >= MIN_WINDOW_SAMPLES) {
+                adjust(windowRttSum / (double) windowSamples, windowMaxInFlight);
+                windowStart = now;
+                windowRttSum = 0;
+                windowSamples = 0;
+                windowMaxInFlight = 0;
+            }
+        } finally {
+            sampleLock.unlock();
+        }
+    }
+
+    private void adjust(double shortRtt, int maxInFlight) {
+        if (longRttNanos == 0) {
+            longRttNanos = shortRtt;
+        } else {
+            longRttNanos += (shortRtt - longRttNanos) * LONG_RTT_DECAY;
+        }
+        // after a long overload the average lags behind recovery, let it catch up
+        if (longRttNanos > 2 * shortRtt) {
+            longRttNanos = (longRttNanos + shortRtt) / 2;
+        }
+
+        double tolerated = Math.min(targetNanos, TOLERANCE * longRttNanos);
+        double gradient = Math.max(0.5, Math.min(1.0, tolerated / shortRtt));
+
+        double current = limit;
+        // not using half the limit means latency says nothing about the limit being too low
+        if (gradient == 1.0 && maxInFlight < current / 2) {
+            return;
+        }
+        double next = current * gradient + (gradient == 1.0 ? Math.sqrt(current) : 0);
+        next = current * (1 - SMOOTHING) + next * SMOOTHING;
+        limit = Math.max(minLimit, Math.min(maxLimit, next));
+    }
+
+    public int limit() {
+        return (int) limit;
+    }
+
+    public int inFlight() {
+        return inFlight.get();
+    }
+}
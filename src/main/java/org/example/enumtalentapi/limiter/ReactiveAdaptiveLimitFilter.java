@@ -0,0 +1,51 @@
+package org.example.enumtalentapi.limiter;
+
+import lombok.RequiredArgsConstructor;
+import org.example.enumtalentapi.exception.ErrorCode;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * {@link AdaptiveLimitFilter} for reactive mode. Latency is measured until the
+ * response completes rather than until the handler returns.
+ */
+@RequiredArgsConstructor
+public class ReactiveAdaptiveLimitFilter implements WebFilter {
+
+    private static final byte[] OVERLOADED_BODY =
+            AdaptiveLimitFilter.OVERLOADED_BODY.getBytes(StandardCharsets.UTF_8);
+
+    private final RouteLimiters limiters;
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        RouteClass route = RouteClass.of(exchange.getRequest().getMethod().name(),
+                exchange.getRequest().getPath().value());
+        if (route == null) {
+            return chain.filter(exchange);
+        }
+
+        AdaptiveLimiter limiter = limiters.get(route);
+        if (!limiter.tryAcquire()) {
+            limiters.rejected(route);
+            ServerHttpResponse response = exchange.getResponse();
+            response.setStatusCode(ErrorCode.OVERLOADED.getStatus());
+            response.getHeaders().set(HttpHeaders.RETRY_AFTER, RouteLimiters.RETRY_AFTER_SECONDS);
+            response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+            DataBuffer body = response.bufferFactory().wrap(OVERLOADED_BODY);
+            return response.writeWith(Mono.just(body));
+        }
+
+        long start = System.nanoTime();
+        return chain.filter(exchange)
+                .doFinally(signal -> limiter.release(System.nanoTime() - start));
+    }
+}
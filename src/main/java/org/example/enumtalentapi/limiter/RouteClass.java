@@ -0,0 +1,37 @@
+package org.example.enumtalentapi.limiter;
+
+/**
+ * Groups of endpoints that get their own concurrency limit, so slow profile
+ * writes cannot starve logins and the other way round.
+ */
+public enum RouteClass {
+
+    AUTH,
+    PROFILE_WRITE,
+    PROFILE_READ,
+    /** Picture and resume transfers, bound by payload size rather than the database. */
+    MEDIA;
+
+    /**
+     * @return the class for an API request, or null for paths that are never
+     * limited (health checks, actuator, typeahead served from memory, anything
+     * outside /api)
+     */
+    public static RouteClass of(String method, String path) {
+        if (!path.startsWith("/api/") || path.startsWith("/api/profile/suggestions/")) {
+            return null;
+        }
+        if (path.startsWith("/api/auth/")) {
+            return AUTH;
+        }
+        if (path.startsWith("/api/profile/talent/") && isMedia(path)) {
+            return MEDIA;
+        }
+        return "GET".equals(method) || "HEAD".equals(method) ? PROFILE_READ : PROFILE_WRITE;
+    }
+
+    // {userId}/picture, {userId}/picture/thumbnail and {userId}/resume
+    private static boolean isMedia(String path) {
+        return path.endsWith("/picture") || path.endsWith("/picture/thumbnail") || path.endsWith("/resume");
+    }
+}
@@ -0,0 +1,46 @@
+package org.example.enumtalentapi.limiter;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * One {@link AdaptiveLimiter} per {@link RouteClass}, with its limit, in-flight
+ * count and rejections published as {@code enumtalent.limiter.*} metrics.
+ */
+public class RouteLimiters {
+
+    public static final String RETRY_AFTER_SECONDS = "1";
+
+    private final Map<RouteClass, AdaptiveLimiter> limiters = new EnumMap<>(RouteClass.class);
+    private final Map<RouteClass, Counter> rejections = new EnumMap<>(RouteClass.class);
+
+    public RouteLimiters(Map<RouteClass, Duration> targets, int initialLimit, int minLimit, int maxLimit,
+                         MeterRegistry registry) {
+        for (RouteClass route : RouteClass.values()) {
+            AdaptiveLimiter limiter = new AdaptiveLimiter(
+                    targets.get(route).toNanos(), initialLimit, minLimit, maxLimit);
+            limiters.put(route, limiter);
+
+            String tag = route.name().toLowerCase().replace('_', '-');
+            Gauge.builder("enumtalent.limiter.limit", limiter, AdaptiveLimiter::limit)
+                    .tag("route", tag).register(registry);
+            Gauge.builder("enumtalent.limiter.inflight", limiter, AdaptiveLimiter::inFlight)
+                    .tag("route", tag).register(registry);
+            rejections.put(route, Counter.builder("enumtalent.limiter.rejected")
+                    .tag("route", tag).register(registry));
+        }
+    }
+
+    public AdaptiveLimiter get(RouteClass route) {
+        return limiters.get(route);
+    }
+
+    public void rejected(RouteClass route) {
+        rejections.get(route).increment();
+    }
+}
@@ -0,0 +1,68 @@
+package org.example.enumtalentapi.observability;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Collects {@link DbTimings} for each request. The totals go into the
+ * {@code dbTime} and {@code dbCalls} request attributes for the access log and
+ * into a {@code Server-Timing} header; a request that repeats the same command
+ * more than the configured number of times is logged as a likely N+1.
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 20)
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class DbTimingFilter extends OncePerRequestFilter {
+
+    static final String SERVER_TIMING = "Server-Timing";
+
+    private final int repeatedCommandWarn;
+
+    public DbTimingFilter(@Value("${enumtalent.mongo.repeated-command-warn:5}") int repeatedCommandWarn) {
+        this.repeatedCommandWarn = repeatedCommandWarn;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain)
+            throws ServletException, IOException {
+
+        DbTimings timings = DbTimings.begin();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            DbTimings.end();
+            request.setAttribute("dbTime", String.format(Locale.ROOT, "%.1f", timings.totalMillis()));
+            request.setAttribute("dbCalls", timings.calls());
+            // bodies written through DbTimingResponseAdvice already carry the header
+            if (!response.isCommitted() && timings.calls() > 0) {
+                response.setHeader(SERVER_TIMING, timings.serverTiming());
+            }
+            warnIfRepeated(request, timings);
+        }
+    }
+
+    private void warnIfRepeated(HttpServletRequest request, DbTimings timings) {
+        Map.Entry<String, Long> top = timings.mostRepeated();
+        if (repeatedCommandWarn > 0 && top != null && top.getValue() > repeatedCommandWarn) {
+            log.warn("{} {} ran {} {} times ({} Mongo calls, {} ms), likely N+1",
+                    request.getMethod(), request.getRequestURI(), top.getKey(), top.getValue(),
+                    timings.calls(), String.format(Locale.ROOT, "%.1f", timings.totalMillis()));
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package org.example.enumtalentapi.observability;
+
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mongo time spent by the current request, broken down by command and
+ * collection. The sync driver reports command events on the calling thread, so
+ * a thread-local is enough; anything outside a request is simply not counted.
+ */
+public final class DbTimings {
+
+    private static final ThreadLocal<DbTimings> CURRENT = new ThreadLocal<>();
+
+    private final Map<String, long[]> byCommand = new LinkedHashMap<>();
+    private long totalNanos;
+    private int calls;
+
+    private DbTimings() {
+    }
+
+    static DbTimings begin() {
+        DbTimings timings = new DbTimings();
+        CURRENT.set(timings);
+        return timings;
+    }
+
+    static void end() {
+        CURRENT.remove();
+    }
+
+    public static DbTimings current() {
+        return CURRENT.get();
+    }
+
+    void record(String command, long nanos) {
+        totalNanos += nanos;
+        calls++;
+        long[] entry = byCommand.computeIfAbsent(command, key -> new long[2]);
+        entry[0]++;
+        entry[1] += nanos;
+    }
+
+    public int calls() {
+        return calls;
+    }
+
+    public double totalMillis() {
+        return totalNanos / 1_000_000.0;
+    }
+
+    /**
+     * The command run most often in this request, as {@code command.collection},
+     * or null when nothing ran.
+     */
+    public Map.Entry<String, Long> mostRepeated() {
+        Map.Entry<String, Long> top = null;
+        for (Map.Entry<String, long[]> entry : byCommand.entrySet()) {
+            if (top == null || entry.getValue()[0] > top.getValue()) {
+                top = Map.entry(entry.getKey(), entry.getValue()[0]);
+            }
+        }
+        return top;
+    }
+
+    /**
+     * {@code db;dur=12.3;desc="4 calls", find.users;dur=2.1;desc="1 calls", ...}
+     */
+    public String serverTiming() {
+        StringBuilder header = new StringBuilder(64);
+        appendMetric(header, "db", totalNanos, calls);
+        byCommand.forEach((command, entry) -> appendMetric(header.append(", "), command, entry[1], entry[0]));
+        return header.toString();
+    }
+
+    private static void appendMetric(StringBuilder header, String name, long nanos, long count) {
+        header.append(name)
+                .append(";dur=").append(String.format(Locale.ROOT, "%.1f", nanos / (double) TimeUnit.MILLISECONDS.toNanos(1)))
+                .append(";desc=\"").append(count).append(" calls\"");
+    }
+}
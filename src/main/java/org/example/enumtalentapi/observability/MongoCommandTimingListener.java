@@ -0,0 +1,148 @@
+package org.example.enumtalentapi.observability;
+
+import com.mongodb.event.CommandFailedEvent;
+import com.mongodb.event.CommandListener;
+import com.mongodb.event.CommandStartedEvent;
+import com.mongodb.event.CommandSucceededEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.BsonArray;
+import org.bson.BsonDocument;
+import org.bson.BsonValue;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Times every Mongo command, adds it to the current request's {@link DbTimings}
+ * and logs commands slower than the threshold together with the shape of their
+ * filter, e.g. {@code {userId: ?}}. Values are never logged.
+ */
+@Slf4j
+public class MongoCommandTimingListener implements CommandListener {
+
+    private static final int MAX_SHAPE_LENGTH = 300;
+
+    private final long slowThresholdNanos;
+    private final Map<Integer, Started> inFlight = new ConcurrentHashMap<>();
+
+    // filter is a private copy, its shape is only rendered if the command turns out slow or failed
+    private record Started(String key, BsonDocument filter) {
+    }
+
+    public MongoCommandTimingListener(Duration slowThreshold) {
+        this.slowThresholdNanos = slowThreshold.toNanos();
+    }
+
+    @Override
+    public void commandStarted(CommandStartedEvent event) {
+        BsonDocument command = event.getCommand();
+        String collection = collection(command, event.getCommandName());
+        String key = collection == null ? event.getCommandName() : event.getCommandName() + "." + collection;
+        // the command document is only valid during this callback; cloning the driver's
+        // buffer-backed filter is a single byte copy
+        BsonValue filter = filter(command, event.getCommandName());
+        inFlight.put(event.getRequestId(),
+                new Started(key, filter != null && filter.isDocument() ? filter.asDocument().clone() : null));
+    }
+
+    @Override
+    public void commandSucceeded(CommandSucceededEvent event) {
+        finished(event.getRequestId(), event.getCommandName(), event.getElapsedTime(TimeUnit.NANOSECONDS), null);
+    }
+
+    @Override
+    public void commandFailed(CommandFailedEvent event) {
+        finished(event.getRequestId(), event.getCommandName(), event.getElapsedTime(TimeUnit.NANOSECONDS),
+                event.getThrowable());
+    }
+
+    private void finished(int requestId, String commandName, long nanos, Throwable failure) {
+        Started started = inFlight.remove(requestId);
+        String key = started == null ? commandName : started.key();
+
+        DbTimings timings = DbTimings.current();
+        if (timings != null) {
+            timings.record(key, nanos);
+        }
+
+        if (failure != null) {
+            log.warn("Mongo {} failed after {} ms, filter {}: {}", key,
+                    TimeUnit.NANOSECONDS.toMillis(nanos), shape(started), failure.getMessage());
+        } else if (slowThresholdNanos > 0 && nanos >= slowThresholdNanos) {
+            log.warn("Slow Mongo {} took {} ms, filter {}", key,
+                    TimeUnit.NANOSECONDS.toMillis(nanos), shape(started));
+        }
+    }
+
+    private static String collection(BsonDocument command, String commandName) {
+        String field = "getMore".equals(commandName) ? "collection" : commandName;
+        BsonValue value = command.get(field);
+        return value != null && value.isString() ? value.asString().getValue() : null;
+    }
+
+    private static String shape(Started started) {
+        return started == null ? "-" : shape(started.filter());
+    }
+
+    private static String shape(BsonValue filter) {
+        if (filter == null) {
+            return "-";
+        }
+        StringBuilder out = new StringBuilder();
+        appendShape(out, filter);
+        return out.length() > MAX_SHAPE_LENGTH ? out.substring(0, MAX_SHAPE_LENGTH) + "..." : out.toString();
+    }
+
+    private static BsonValue filter(BsonDocument command, String commandName) {
+        return switch (commandName) {
+            case "find", "distinct" -> command.get("filter");
+            case "count", "findAndModify" -> command.get("query");
+            case "update" -> first(command.get("updates"), "q");
+            case "delete" -> first(command.get("deletes"), "q");
+            case "aggregate" -> first(command.get("pipeline"), "$match");
+            default -> null;
+        };
+    }
+
+    private static BsonValue first(BsonValue array, String field) {
+        if (array == null || !array.isArray()) {
+            return null;
+        }
+        BsonArray values = array.asArray();
+        if (values.isEmpty() || !values.get(0).isDocument()) {
+            return null;
+        }
+        return values.get(0).asDocument().get(field);
+    }
+
+    private static void appendShape(StringBuilder out, BsonValue value) {
+        if (value.isDocument()) {
+            out.append('{');
+            boolean first = true;
+            for (Map.Entry<String, BsonValue> entry : value.asDocument().entrySet()) {
+                if (!first) out.append(", ");
+                first = false;
+                out.append(entry.getKey()).append(": ");
+                appendShape(out, entry.getValue());
+            }
+            out.append('}');
+        } else if (value.isArray()) {
+            BsonArray array = value.asArray();
+            // operator arrays like $and/$or keep their structure, value lists collapse to a count
+            if (!array.isEmpty() && array.get(0).isDocument()) {
+                out.append('[');
+                for (int i = 0; i < array.size(); i++) {
+                    if (i > 0) out.append(", ");
+                    appendShape(out, array.get(i));
+                }
+                out.append(']');
+            } else {
+                out.append("[").append(array.size()).append(" values]");
+            }
+        } else {
+            out.append('?');
+        }
+    }
+}
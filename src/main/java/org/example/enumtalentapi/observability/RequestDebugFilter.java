@@ -0,0 +1,76 @@
+package org.example.enumtalentapi.observability;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Turns on DEBUG output for a sampled fraction of requests, or for a request
+ * sending {@code X-Debug-Log} with the configured token. Flagged requests get
+ * {@code debug=sampled|header} in the MDC so their lines can be picked out.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class RequestDebugFilter extends OncePerRequestFilter {
+
+    static final String HEADER = "X-Debug-Log";
+    static final String MDC_KEY = "debug";
+
+    private final double sampleRate;
+    private final byte[] headerToken;
+
+    public RequestDebugFilter(@Value("${enumtalent.logging.debug-sample-rate:0}") double sampleRate,
+                              @Value("${enumtalent.logging.debug-header-token:}") String headerToken) {
+        this.sampleRate = sampleRate;
+        this.headerToken = headerToken.isBlank() ? null : headerToken.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain)
+            throws ServletException, IOException {
+
+        String reason = reason(request);
+        if (reason == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        RequestDebugTurboFilter.enable();
+        MDC.put(MDC_KEY, reason);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            MDC.remove(MDC_KEY);
+            RequestDebugTurboFilter.disable();
+        }
+    }
+
+    private String reason(HttpServletRequest request) {
+        if (headerToken != null) {
+            String header = request.getHeader(HEADER);
+            if (header != null && MessageDigest.isEqual(headerToken, header.getBytes(StandardCharsets.UTF_8))) {
+                return "header";
+            }
+        }
+        if (sampleRate > 0 && ThreadLocalRandom.current().nextDouble() < sampleRate) {
+            return "sampled";
+        }
+        return null;
+    }
+}
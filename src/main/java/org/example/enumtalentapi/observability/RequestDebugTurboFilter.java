@@ -0,0 +1,52 @@
+package org.example.enumtalentapi.observability;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.Marker;
+
+import java.util.Arrays;
+
+/**
+ * Accepts DEBUG events from the configured logger prefixes on threads that
+ * {@link RequestDebugFilter} has flagged, regardless of the logger's level.
+ * Runs on every logging call, so the unflagged path is one level comparison
+ * and one thread-local read.
+ */
+public class RequestDebugTurboFilter extends TurboFilter {
+
+    private static final ThreadLocal<Boolean> ENABLED = new ThreadLocal<>();
+
+    private String[] loggerPrefixes = new String[0];
+
+    static void enable() {
+        ENABLED.set(Boolean.TRUE);
+    }
+
+    static void disable() {
+        ENABLED.remove();
+    }
+
+    public void setLoggerPrefixes(String prefixes) {
+        this.loggerPrefixes = Arrays.stream(prefixes.split(","))
+                .map(String::trim)
+                .filter(prefix -> !prefix.isEmpty())
+                .toArray(String[]::new);
+    }
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level,
+                              String format, Object[] params, Throwable t) {
+        if (level != Level.DEBUG || ENABLED.get() == null) {
+            return FilterReply.NEUTRAL;
+        }
+        String name = logger.getName();
+        for (String prefix : loggerPrefixes) {
+            if (name.startsWith(prefix)) {
+                return FilterReply.ACCEPT;
+            }
+        }
+        return FilterReply.NEUTRAL;
+    }
+}
@@ -0,0 +1,105 @@
+package org.example.enumtalentapi.observability;
+
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * Watches the JFR {@code jdk.VirtualThreadPinned} event and reports pinning
+ * whose stack passes through our own code, typically a {@code synchronized}
+ * block or method that does I/O while holding the monitor. Only active with
+ * {@code spring.threads.virtual.enabled=true} on JDK 21+.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class VirtualThreadPinningMonitor {
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final String OWN_PACKAGE = "org.example.enumtalentapi.";
+    private static final int FRAMES_LOGGED = 8;
+
+    private final Duration threshold;
+    private final Map<String, LongAdder> pinnedSites = new ConcurrentHashMap<>();
+    private RecordingStream stream;
+
+    public VirtualThreadPinningMonitor(
+            @Value("${enumtalent.diagnostics.pinning-threshold:10ms}") Duration threshold) {
+        this.threshold = threshold;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (Runtime.version().feature() < 21) {
+            log.warn("Virtual threads requested on JDK {}, pinning monitor not started", Runtime.version());
+            return;
+        }
+
+        stream = new RecordingStream();
+        stream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        stream.onEvent(PINNED_EVENT, this::onPinned);
+        stream.startAsync();
+        log.info("Virtual thread pinning monitor started, threshold {}", threshold);
+    }
+
+    /** Pinning counts by the first frame in our code, for diagnostics endpoints and tests. */
+    public Map<String, Long> pinnedSites() {
+        return pinnedSites.entrySet().stream()
+                .collect(Collectors.toMap(Map.Entry::getKey, e -> e.getValue().sum()));
+    }
+
+    void onPinned(RecordedEvent event) {
+        RecordedStackTrace stackTrace = event.getStackTrace();
+        if (stackTrace == null) return;
+
+        List<RecordedFrame> frames = stackTrace.getFrames();
+        String site = frames.stream()
+                .filter(RecordedFrame::isJavaFrame)
+                .map(this::describe)
+                .filter(frame -> frame.startsWith(OWN_PACKAGE))
+                .findFirst()
+                .orElse(null);
+        if (site == null) return;
+
+        LongAdder count = pinnedSites.computeIfAbsent(site, s -> new LongAdder());
+        count.increment();
+
+        // first occurrence gets the stack, after that only every 100th to keep logs quiet
+        long seen = count.sum();
+        if (seen == 1 || seen % 100 == 0) {
+            String top = frames.stream()
+                    .limit(FRAMES_LOGGED)
+                    .map(this::describe)
+                    .collect(Collectors.joining("\n    at "));
+            log.warn("Virtual thread pinned for {} ms at {} ({} times)\n    at {}",
+                    event.getDuration().toMillis(), site, seen, top);
+        }
+    }
+
+    private String describe(RecordedFrame frame) {
+        return frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+                + ":" + frame.getLineNumber();
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (stream != null) {
+            stream.close();
+        }
+    }
+}
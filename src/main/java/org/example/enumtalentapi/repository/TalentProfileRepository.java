@@ -1,10 +1,17 @@
 package org.example.enumtalentapi.repository;
 
 import org.example.enumtalentapi.entity.TalentProfile;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.mongodb.repository.MongoRepository;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface TalentProfileRepository extends MongoRepository<TalentProfile, String> {
     Optional<TalentProfile> findByUserId(String userId);
+
+    // keyset paging for full scans: the first page, then the ones after the last id seen
+    List<TalentProfile> findAllBy(Pageable pageable);
+
+    List<TalentProfile> findByIdGreaterThan(String id, Pageable pageable);
 }
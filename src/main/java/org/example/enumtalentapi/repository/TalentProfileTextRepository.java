@@ -0,0 +1,7 @@
+package org.example.enumtalentapi.repository;
+
+import org.example.enumtalentapi.entity.TalentProfileText;
+import org.springframework.data.mongodb.repository.MongoRepository;
+
+public interface TalentProfileTextRepository extends MongoRepository<TalentProfileText, String> {
+}
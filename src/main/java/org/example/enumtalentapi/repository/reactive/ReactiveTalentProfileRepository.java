@@ -0,0 +1,9 @@
+package org.example.enumtalentapi.repository.reactive;
+
+import org.example.enumtalentapi.entity.TalentProfile;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+import reactor.core.publisher.Mono;
+
+public interface ReactiveTalentProfileRepository extends ReactiveMongoRepository<TalentProfile, String> {
+    Mono<TalentProfile> findByUserId(String userId);
+}
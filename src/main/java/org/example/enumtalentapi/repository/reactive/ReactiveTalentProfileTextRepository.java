@@ -0,0 +1,7 @@
+package org.example.enumtalentapi.repository.reactive;
+
+import org.example.enumtalentapi.entity.TalentProfileText;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+
+public interface ReactiveTalentProfileTextRepository extends ReactiveMongoRepository<TalentProfileText, String> {
+}
@@ -0,0 +1,10 @@
+package org.example.enumtalentapi.repository.reactive;
+
+import org.example.enumtalentapi.entity.User;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+import reactor.core.publisher.Mono;
+
+public interface ReactiveUserRepository extends ReactiveMongoRepository<User, String> {
+    Mono<User> findByEmail(String email);
+    Mono<User> findByToken(String token);
+}
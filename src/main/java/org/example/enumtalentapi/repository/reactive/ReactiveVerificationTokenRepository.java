@@ -0,0 +1,12 @@
+package org.example.enumtalentapi.repository.reactive;
+
+import org.example.enumtalentapi.entity.User;
+import org.example.enumtalentapi.entity.VerificationToken;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+import reactor.core.publisher.Mono;
+
+public interface ReactiveVerificationTokenRepository extends ReactiveMongoRepository<VerificationToken, String> {
+    Mono<VerificationToken> findByToken(String token);
+
+    Mono<Void> deleteByUser(User user);
+}
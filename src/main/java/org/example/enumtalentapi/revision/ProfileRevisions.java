@@ -0,0 +1,383 @@
+package org.example.enumtalentapi.revision;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.BsonBinaryReader;
+import org.bson.Document;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.DocumentCodec;
+import org.example.enumtalentapi.dto.ProfileRevisionSummary;
+import org.example.enumtalentapi.dto.ProfileRevisionView;
+import org.example.enumtalentapi.dto.TalentProfileRequest;
+import org.example.enumtalentapi.entity.ProfileRevision;
+import org.example.enumtalentapi.entity.TalentProfile;
+import org.example.enumtalentapi.util.TextCompressor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Service;
+
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Change history of talent profiles, kept small enough to record every save.
+ *
+ * <p>Every {@code interval}-th revision of a profile is a checkpoint holding
+ * all editable fields; the revisions in between hold only the fields that
+ * changed, deflated with their checkpoint's bytes as preset dictionary, so an
+ * edit to a long statement of purpose costs little more than the edit.
+ * Reading a revision is two range scans on {@code _id}: the checkpoint at or
+ * before it and the deltas after that checkpoint.
+ *
+ * <p>Saves only hand a copy of the fields to a background writer; when it
+ * falls behind, revisions are dropped and the next one records their changes
+ * too. Revisions beyond the newest {@code max-revisions} or older than
+ * {@code max-age} are pruned a whole checkpoint run at a time, so whatever is
+ * kept can still be read. The latest revision is always kept.
+ */
+@Slf4j
+@Service
+public class ProfileRevisions {
+
+    static final String COLLECTION = "profile_revisions";
+    private static final int MAX_LIST = 100;
+    private static final int WRITE_ATTEMPTS = 3;
+    private static final DocumentCodec CODEC = new DocumentCodec();
+
+    private final MongoTemplate mongoTemplate;
+    private final boolean enabled;
+    private final int checkpointInterval;
+    private final int maxRevisions;
+    private final Duration maxAge;
+    private final Duration pruneInterval;
+    private final int queueCapacity;
+
+    private final AtomicInteger queued = new AtomicInteger();
+    private final Counter dropped;
+    private final Counter failures;
+    private ScheduledExecutorService writer;
+
+    private record Chain(long checkpointRevision, byte[] dictionary, Document fields) {
+    }
+
+    public ProfileRevisions(MongoTemplate mongoTemplate,
+                            @Value("${enumtalent.revisions.enabled:true}") boolean enabled,
+                            @Value("${enumtalent.revisions.checkpoint-interval:10}") int checkpointInterval,
+                            @Value("${enumtalent.revisions.max-revisions:100}") int maxRevisions,
+                            @Value("${enumtalent.revisions.max-age:365d}") Duration maxAge,
+                            @Value("${enumtalent.revisions.prune-interval:24h}") Duration pruneInterval,
+                            @Value("${enumtalent.revisions.queue-capacity:10000}") int queueCapacity,
+                            MeterRegistry meterRegistry) {
+        this.mongoTemplate = mongoTemplate;
+        this.enabled = enabled;
+        this.checkpointInterval = Math.max(1, checkpointInterval);
+        this.maxRevisions = Math.max(1, maxRevisions);
+        this.maxAge = maxAge;
+        this.pruneInterval = pruneInterval;
+        this.queueCapacity = queueCapacity;
+        this.dropped = Counter.builder("enumtalent.revisions.dropped").register(meterRegistry);
+        this.failures = Counter.builder("enumtalent.revisions.write.failures").register(meterRegistry);
+        Gauge.builder("enumtalent.revisions.queued", queued, AtomicInteger::get).register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        writer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "profile-revisions");
+            thread.setDaemon(true);
+            return thread;
+        });
+        writer.scheduleWithFixedDelay(this::pruneExpired,
+                pruneInterval.toMillis(), pruneInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        if (writer != null) {
+            // queued revisions are written before shutting down
+            writer.shutdown();
+            writer.awaitTermination(5, TimeUnit.SECONDS);
+        }
+    }
+
+    /** Queues a revision of the profile as just saved. */
+    public void record(TalentProfile profile) {
+        if (!enabled || writer == null) {
+            return;
+        }
+        if (queued.incrementAndGet() > queueCapacity) {
+            queued.decrementAndGet();
+            dropped.increment();
+            return;
+        }
+        String userId = profile.getUserId();
+        Document fields = capture(profile);
+        Instant savedAt = Instant.now();
+        try {
+            writer.execute(() -> {
+                try {
+                    append(userId, fields, savedAt);
+                } catch (RuntimeException e) {
+                    failures.increment();
+                    log.warn("Could not record a revision of profile {}: {}", userId, e.getMessage());
+                } finally {
+                    queued.decrementAndGet();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            queued.decrementAndGet();
+            dropped.increment();
+        }
+    }
+
+    /** Revisions of the profile, newest first. */
+    public List<ProfileRevisionSummary> list(String userId, int limit) {
+        Query query = new Query(ofUser(userId))
+                .with(Sort.by(Sort.Direction.DESC, "_id"))
+                .limit(Math.max(1, Math.min(limit, MAX_LIST)));
+        query.fields().include("revision", "createdAt", "changedFields");
+        List<ProfileRevisionSummary> summaries = new ArrayList<>();
+        for (ProfileRevision revision : mongoTemplate.find(query, ProfileRevision.class, COLLECTION)) {
+            summaries.add(new ProfileRevisionSummary(revision.getRevision(), revision.getCreatedAt(),
+                    revision.getChangedFields()));
+        }
+        return summaries;
+    }
+
+    /** The profile's editable fields as of the revision, empty when it never existed or was pruned. */
+    public Optional<ProfileRevisionView> get(String userId, long revision) {
+        Chain chain = chain(userId, revision);
+        if (chain == null) {
+            return Optional.empty();
+        }
+        ProfileRevision stored = mongoTemplate.findById(ProfileRevision.idOf(userId, revision),
+                ProfileRevision.class, COLLECTION);
+        return Optional.of(new ProfileRevisionView(revision, stored == null ? null : stored.getCreatedAt(),
+                toRequest(chain.fields())));
+    }
+
+    void append(String userId, Document fields, Instant savedAt) {
+        for (int attempt = 0; attempt < WRITE_ATTEMPTS; attempt++) {
+            ProfileRevision latest = latest(userId);
+            Chain previous = latest == null ? null : chain(userId, latest.getRevision());
+
+            ProfileRevision revision = new ProfileRevision();
+            revision.setUserId(userId);
+            revision.setRevision(latest == null ? 1 : latest.getRevision() + 1);
+            revision.setId(ProfileRevision.idOf(userId, revision.getRevision()));
+            revision.setCreatedAt(savedAt);
+
+            Document changes = diff(previous == null ? new Document() : previous.fields(), fields);
+            if (latest != null && changes.isEmpty()) {
+                return;
+            }
+            revision.setChangedFields(new ArrayList<>(changes.keySet()));
+            // an unreadable chain starts a new one rather than stacking more deltas on it
+            boolean checkpoint = previous == null
+                    || revision.getRevision() - previous.checkpointRevision() >= checkpointInterval;
+            revision.setCheckpoint(checkpoint);
+            revision.setPayload(checkpoint
+                    ? TextCompressor.deflate(encode(fields))
+                    : TextCompressor.deflate(encode(changes), previous.dictionary()));
+            try {
+                mongoTemplate.insert(revision, COLLECTION);
+            } catch (DuplicateKeyException e) {
+                // another instance took this revision number
+                continue;
+            }
+            if (checkpoint) {
+                prune(userId, revision.getRevision());
+            }
+            return;
+        }
+        throw new IllegalStateException("revision number kept being taken");
+    }
+
+    private ProfileRevision latest(String userId) {
+        Query query = new Query(ofUser(userId)).with(Sort.by(Sort.Direction.DESC, "_id")).limit(1);
+        query.fields().include("revision");
+        return mongoTemplate.findOne(query, ProfileRevision.class, COLLECTION);
+    }
+
+    // the checkpoint at or before the revision and the deltas after it, applied in order
+    private Chain chain(String userId, long revision) {
+        String target = ProfileRevision.idOf(userId, revision);
+        Query checkpointQuery = new Query(Criteria.where("_id").gte(ProfileRevision.idOf(userId, 0)).lte(target)
+                .and("checkpoint").is(true))
+                .with(Sort.by(Sort.Direction.DESC, "_id"))
+                .limit(1);
+        ProfileRevision checkpoint = mongoTemplate.findOne(checkpointQuery, ProfileRevision.class, COLLECTION);
+        if (checkpoint == null) {
+            return null;
+        }
+        byte[] dictionary = TextCompressor.inflate(checkpoint.getPayload());
+        Document fields = decode(dictionary);
+        long applied = checkpoint.getRevision();
+        if (applied < revision) {
+            Query deltas = new Query(Criteria.where("_id").gt(checkpoint.getId()).lte(target))
+                    .with(Sort.by(Sort.Direction.ASC, "_id"));
+            for (ProfileRevision delta : mongoTemplate.find(deltas, ProfileRevision.class, COLLECTION)) {
+                fields.putAll(decode(TextCompressor.inflate(delta.getPayload(), dictionary)));
+                applied = delta.getRevision();
+            }
+        }
+        return applied == revision ? new Chain(checkpoint.getRevision(), dictionary, fields) : null;
+    }
+
+    // keeps the newest maxRevisions within maxAge, from the checkpoint they need on
+    void prune(String userId, long latestRevision) {
+        long keepFrom = Math.max(1, latestRevision - maxRevisions + 1);
+        Query recent = new Query(Criteria.where("_id")
+                .gte(ProfileRevision.idOf(userId, keepFrom))
+                .lte(ProfileRevision.idOf(userId, latestRevision))
+                .and("createdAt").gte(Instant.now().minus(maxAge)))
+                .with(Sort.by(Sort.Direction.ASC, "_id"))
+                .limit(1);
+        recent.fields().include("revision");
+        ProfileRevision firstKept = mongoTemplate.findOne(recent, ProfileRevision.class, COLLECTION);
+        keepFrom = firstKept == null ? latestRevision : firstKept.getRevision();
+
+        Query checkpointQuery = new Query(Criteria.where("_id")
+                .gte(ProfileRevision.idOf(userId, 0))
+                .lte(ProfileRevision.idOf(userId, keepFrom))
+                .and("checkpoint").is(true))
+                .with(Sort.by(Sort.Direction.DESC, "_id"))
+                .limit(1);
+        checkpointQuery.fields().include("_id");
+        ProfileRevision checkpoint = mongoTemplate.findOne(checkpointQuery, ProfileRevision.class, COLLECTION);
+        if (checkpoint != null) {
+            mongoTemplate.remove(new Query(Criteria.where("_id")
+                    .gte(ProfileRevision.idOf(userId, 0))
+                    .lt(checkpoint.getId())), COLLECTION);
+        }
+    }
+
+    // profiles that stopped changing still age out
+    private void pruneExpired() {
+        try {
+            List<String> userIds = mongoTemplate.findDistinct(
+                    new Query(Criteria.where("createdAt").lt(Instant.now().minus(maxAge))),
+                    "userId", COLLECTION, String.class);
+            for (String userId : userIds) {
+                ProfileRevision latest = latest(userId);
+                if (latest != null) {
+                    prune(userId, latest.getRevision());
+                }
+            }
+        } catch (RuntimeException e) {
+            log.warn("Could not prune profile revisions: {}", e.getMessage());
+        }
+    }
+
+    private static Criteria ofUser(String userId) {
+        return Criteria.where("_id").gte(ProfileRevision.idOf(userId, 0)).lte(ProfileRevision.idOf(userId, Long.MAX_VALUE));
+    }
+
+    // changed and cleared fields, cleared ones as null
+    static Document diff(Document before, Document after) {
+        Document changes = new Document();
+        for (Map.Entry<String, Object> field : after.entrySet()) {
+            if (!Objects.equals(before.get(field.getKey()), field.getValue())) {
+                changes.put(field.getKey(), field.getValue());
+            }
+        }
+        return changes;
+    }
+
+    static byte[] encode(Document fields) {
+        ByteBuffer buffer = new RawBsonDocument(fields, CODEC).getByteBuffer().asNIO();
+        byte[] bytes = new byte[buffer.remaining()];
+        buffer.get(bytes);
+        return bytes;
+    }
+
+    static Document decode(byte[] bytes) {
+        try (BsonBinaryReader reader = new BsonBinaryReader(ByteBuffer.wrap(bytes))) {
+            return CODEC.decode(reader, DecoderContext.builder().build());
+        }
+    }
+
+    // the fields a client edits; derived ones (completeness, parsed salary, coordinates) are recomputed on restore
+    static Document capture(TalentProfile profile) {
+        return new Document()
+                .append("firstName", profile.getFirstName())
+                .append("lastName", profile.getLastName())
+                .append("phone", profile.getPhone())
+                .append("location", profile.getLocation())
+                .append("profilePicture", profile.getProfilePicture())
+                .append("bio", profile.getBio())
+                .append("headline", profile.getHeadline())
+                .append("skills", copy(profile.getSkills()))
+                .append("experienceLevel", profile.getExperienceLevel())
+                .append("currentPosition", profile.getCurrentPosition())
+                .append("company", profile.getCompany())
+                .append("highestDegree", profile.getHighestDegree())
+                .append("institution", profile.getInstitution())
+                .append("fieldOfStudy", profile.getFieldOfStudy())
+                .append("graduationYear", profile.getGraduationYear())
+                .append("transcript", profile.getTranscript())
+                .append("statementOfPurpose", profile.getStatementOfPurpose())
+                .append("resumeUrl", profile.getResumeUrl())
+                .append("portfolioUrl", profile.getPortfolioUrl())
+                .append("preferredRoles", copy(profile.getPreferredRoles()))
+                .append("workMode", profile.getWorkMode())
+                .append("salaryExpectation", profile.getSalaryExpectation())
+                .append("locationPreference", profile.getLocationPreference());
+    }
+
+    static TalentProfileRequest toRequest(Document fields) {
+        TalentProfileRequest request = new TalentProfileRequest();
+        request.setFirstName(fields.getString("firstName"));
+        request.setLastName(fields.getString("lastName"));
+        request.setPhone(fields.getString("phone"));
+        request.setLocation(fields.getString("location"));
+        request.setProfilePicture(fields.getString("profilePicture"));
+        request.setBio(fields.getString("bio"));
+        request.setHeadline(fields.getString("headline"));
+        request.setSkills(fields.getList("skills", String.class));
+        request.setExperienceLevel(fields.getString("experienceLevel"));
+        request.setCurrentPosition(fields.getString("currentPosition"));
+        request.setCompany(fields.getString("company"));
+        request.setHighestDegree(fields.getString("highestDegree"));
+        request.setInstitution(fields.getString("institution"));
+        request.setFieldOfStudy(fields.getString("fieldOfStudy"));
+        request.setGraduationYear(fields.getInteger("graduationYear"));
+        request.setTranscript(fields.getString("transcript"));
+        request.setStatementOfPurpose(fields.getString("statementOfPurpose"));
+        request.setResumeUrl(fields.getString("resumeUrl"));
+        request.setPortfolioUrl(fields.getString("portfolioUrl"));
+        request.setPreferredRoles(fields.getList("preferredRoles", String.class));
+        request.setWorkMode(fields.getString("workMode"));
+        request.setSalaryExpectation(fields.getString("salaryExpectation"));
+        request.setLocationPreference(fields.getString("locationPreference"));
+        return request;
+    }
+
+    private static List<String> copy(List<String> values) {
+        return values == null ? null : new ArrayList<>(values);
+    }
+}
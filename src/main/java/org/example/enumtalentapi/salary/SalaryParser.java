@@ -0,0 +1,217 @@
+package org.example.enumtalentapi.salary;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Reads a free-text salary expectation ("₦400k - 600k monthly",
+ * "80,000-100,000 USD", "$45/hr", "5m+ naira", "up to €70k") into an annual
+ * range and an ISO currency code, so profiles can be filtered by salary.
+ *
+ * <p>Hourly, daily, weekly and monthly figures are annualized (2080 hours,
+ * 260 days, 52 weeks, 12 months). A single figure is both ends of the range;
+ * "+", "from", "at least" and the like leave the top open, "up to", "max"
+ * and the like leave the bottom open. The currency is null when the text
+ * names none. Text without any figure ("Negotiable") is not a salary.
+ */
+public final class SalaryParser {
+
+    public record Salary(Long min, Long max, String currency) {
+    }
+
+    private static final Map<String, String> CURRENCY_MARKS = new LinkedHashMap<>();
+    static {
+        // longer marks first, "us$" must win over "$"
+        CURRENCY_MARKS.put("us$", "USD");
+        CURRENCY_MARKS.put("c$", "CAD");
+        CURRENCY_MARKS.put("a$", "AUD");
+        CURRENCY_MARKS.put("gh₵", "GHS");
+        CURRENCY_MARKS.put("₦", "NGN");
+        CURRENCY_MARKS.put("$", "USD");
+        CURRENCY_MARKS.put("€", "EUR");
+        CURRENCY_MARKS.put("£", "GBP");
+        CURRENCY_MARKS.put("₹", "INR");
+        CURRENCY_MARKS.put("₵", "GHS");
+    }
+
+    private static final Pattern CURRENCY_WORD = Pattern.compile(
+            "\\b(ngn|usd|eur|gbp|cad|aud|ghs|kes|zar|inr|naira|dollars?|euros?|pounds?|cedis?|rand|shillings?|ksh|rupees?)\\b");
+
+    private static final Pattern AMOUNT = Pattern.compile(
+            "(\\d+(?:[.,]\\d+|[ \u00a0\u202f]\\d{3}(?!\\d))*)\\s*(k|mn|m|mil|million|b|bn|billion|thousand)?(?![a-z])(\\s*\\+)?");
+
+    private static final Pattern OPEN_TOP = Pattern.compile("\\b(from|at least|min|minimum|above|over|starting)\\b");
+    private static final Pattern OPEN_BOTTOM =
+            Pattern.compile("\\b(up to|upto|max|maximum|under|below|less than|not more than)\\b");
+
+    private static final Pattern HOURLY = Pattern.compile("hourly|\\b(hr|hour)s?\\b");
+    private static final Pattern DAILY = Pattern.compile("daily|\\bday\\b");
+    private static final Pattern WEEKLY = Pattern.compile("weekly|\\b(wk|week)\\b");
+    private static final Pattern MONTHLY = Pattern.compile("monthly|\\b(mo|month|pm|p\\.m\\.)\\b");
+
+    private SalaryParser() {
+    }
+
+    /** The parsed salary, or null when the text holds no figure or an absurd one. */
+    public static Salary parse(String text) {
+        if (text == null || text.isBlank()) {
+            return null;
+        }
+        try {
+            return parseFigures(text);
+        } catch (ArithmeticException e) {
+            return null;
+        }
+    }
+
+    private static Salary parseFigures(String text) {
+        String lower = text.toLowerCase(Locale.ROOT).replace('–', '-').replace('—', '-');
+
+        List<BigDecimal> amounts = new ArrayList<>();
+        List<BigDecimal> written = new ArrayList<>();
+        List<Boolean> scaled = new ArrayList<>();
+        boolean plus = false;
+        Matcher matcher = AMOUNT.matcher(lower);
+        while (matcher.find() && amounts.size() < 2) {
+            BigDecimal amount = number(matcher.group(1));
+            if (amount == null) {
+                continue;
+            }
+            String suffix = matcher.group(2);
+            amounts.add(suffix == null ? amount : amount.multiply(BigDecimal.valueOf(multiplier(suffix))));
+            written.add(amount);
+            scaled.add(suffix != null);
+            plus |= matcher.group(3) != null;
+        }
+        if (amounts.isEmpty()) {
+            return null;
+        }
+        // "5-7 million": the unit written once applies to both figures
+        if (amounts.size() == 2 && !scaled.get(0) && scaled.get(1)) {
+            BigDecimal unit = amounts.get(1).divide(written.get(1), MathContext.DECIMAL64);
+            BigDecimal first = amounts.get(0).multiply(unit);
+            if (first.compareTo(amounts.get(1)) <= 0) {
+                amounts.set(0, first);
+            }
+        }
+
+        long perYear = periodsPerYear(lower);
+        Long min;
+        Long max;
+        if (amounts.size() == 2) {
+            BigDecimal low = amounts.get(0).min(amounts.get(1));
+            BigDecimal high = amounts.get(0).max(amounts.get(1));
+            min = annual(low, perYear);
+            max = annual(high, perYear);
+        } else if (plus || OPEN_TOP.matcher(lower).find()) {
+            min = annual(amounts.get(0), perYear);
+            max = null;
+        } else if (OPEN_BOTTOM.matcher(lower).find()) {
+            min = null;
+            max = annual(amounts.get(0), perYear);
+        } else {
+            min = annual(amounts.get(0), perYear);
+            max = min;
+        }
+        return new Salary(min, max, currency(lower));
+    }
+
+    private static String currency(String lower) {
+        for (Map.Entry<String, String> mark : CURRENCY_MARKS.entrySet()) {
+            if (lower.contains(mark.getKey())) {
+                return mark.getValue();
+            }
+        }
+        Matcher word = CURRENCY_WORD.matcher(lower);
+        if (!word.find()) {
+            return null;
+        }
+        String found = word.group(1);
+        if (found.length() == 3 && !found.equals("ksh")) {
+            return found.toUpperCase(Locale.ROOT);
+        }
+        return switch (found.replaceAll("s$", "")) {
+            case "naira" -> "NGN";
+            case "dollar" -> "USD";
+            case "euro" -> "EUR";
+            case "pound" -> "GBP";
+            case "cedi" -> "GHS";
+            case "rand" -> "ZAR";
+            case "shilling", "ksh" -> "KES";
+            case "rupee" -> "INR";
+            default -> null;
+        };
+    }
+
+    private static long periodsPerYear(String lower) {
+        if (HOURLY.matcher(lower).find()) {
+            return 2080;
+        }
+        if (DAILY.matcher(lower).find()) {
+            return 260;
+        }
+        if (WEEKLY.matcher(lower).find()) {
+            return 52;
+        }
+        if (MONTHLY.matcher(lower).find()) {
+            return 12;
+        }
+        return 1;
+    }
+
+    private static long multiplier(String suffix) {
+        return switch (suffix) {
+            case "k", "thousand" -> 1_000L;
+            case "b", "bn", "billion" -> 1_000_000_000L;
+            default -> 1_000_000L;
+        };
+    }
+
+    /**
+     * "1,500,000" and "1.500.000" are thousands separators, "2.5" and "2,5"
+     * decimals: a separator followed by exactly three digits, in a number
+     * with more than one of them or no other kind, groups thousands. Spaces
+     * always group thousands.
+     */
+    static BigDecimal number(String written) {
+        String digits = written.replaceAll("[ \u00a0\u202f]", "");
+        boolean hasComma = digits.indexOf(',') >= 0;
+        boolean hasDot = digits.indexOf('.') >= 0;
+        String plain;
+        if (hasComma && hasDot) {
+            char decimal = digits.lastIndexOf(',') > digits.lastIndexOf('.') ? ',' : '.';
+            char grouping = decimal == ',' ? '.' : ',';
+            plain = digits.replace(String.valueOf(grouping), "").replace(decimal, '.');
+        } else if (hasComma || hasDot) {
+            char separator = hasComma ? ',' : '.';
+            String[] groups = digits.split(Pattern.quote(String.valueOf(separator)));
+            boolean thousands = groups.length > 2 || groups[1].length() == 3;
+            for (int i = 1; i < groups.length && thousands; i++) {
+                thousands = groups[i].length() == 3;
+            }
+            plain = thousands ? String.join("", groups) : groups[0] + "." + groups[1];
+            if (!thousands && groups.length > 2) {
+                return null;
+            }
+        } else {
+            plain = digits;
+        }
+        try {
+            return new BigDecimal(plain);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static Long annual(BigDecimal amount, long perYear) {
+        return amount.multiply(BigDecimal.valueOf(perYear)).setScale(0, RoundingMode.HALF_UP).longValueExact();
+    }
+}
@@ -0,0 +1,192 @@
+package org.example.enumtalentapi.salary;
+
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.example.enumtalentapi.dto.TalentFilterRequest;
+import org.example.enumtalentapi.dto.TalentSummary;
+import org.example.enumtalentapi.entity.TalentProfile;
+import org.example.enumtalentapi.exception.ErrorCode;
+import org.example.enumtalentapi.geo.TalentGeoSearch;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Range filtering of talent by parsed salary, graduation year and experience
+ * level, answered from compound indexes instead of a collection scan.
+ *
+ * <p>A salary search matches the profiles whose expected range overlaps the
+ * requested one, a missing end on either side being open: {@code salaryMin}
+ * not above the upper bound and {@code salaryMax} not below the lower one,
+ * written as {@code $not} so that nulls match too. It uses
+ * {@code (profileVisible, salaryCurrency, salaryMin, salaryMax,
+ * experienceLevel, graduationYear)}: equality first, then the salary range,
+ * which also gives the sort order, with the other end, level and year checked
+ * on the index keys before any document is fetched. Searches without a
+ * currency use {@code (profileVisible, graduationYear, experienceLevel)},
+ * newest graduates first.
+ *
+ * <p>After startup the indexes are created if missing and profiles saved
+ * before salaries were parsed are parsed, in the background.
+ */
+@Slf4j
+@Service
+public class TalentFilter {
+
+    static final String SALARY_INDEX = "salary_range_filter";
+    // the salaryMin-only index this one replaced
+    private static final String OLD_SALARY_INDEX = "salary_filter";
+    static final String GRADUATION_INDEX = "graduation_filter";
+    private static final int MAX_LIMIT = 100;
+    private static final int MAX_PAGE = 100;
+    private static final int BACKFILL_BATCH = 500;
+
+    private final MongoTemplate mongoTemplate;
+    private final boolean prepareOnStartup;
+
+    public TalentFilter(MongoTemplate mongoTemplate,
+                        @Value("${enumtalent.salary.prepare-on-startup:true}") boolean prepareOnStartup) {
+        this.mongoTemplate = mongoTemplate;
+        this.prepareOnStartup = prepareOnStartup;
+    }
+
+    public List<TalentSummary> search(TalentFilterRequest request) {
+        return mongoTemplate.find(query(request), Document.class, TalentGeoSearch.PROFILE_COLLECTION).stream()
+                .map(TalentFilter::toSummary)
+                .toList();
+    }
+
+    /** The search as a query, shared with the reactive service. */
+    public Query query(TalentFilterRequest request) {
+        Criteria criteria = Criteria.where("profileVisible").is(true);
+        boolean hasCurrency = request.getCurrency() != null && !request.getCurrency().isBlank();
+        if (request.hasSalaryBounds() && !hasCurrency) {
+            throw ErrorCode.SALARY_CURRENCY_REQUIRED.exception();
+        }
+        if (hasCurrency) {
+            // only parsed salaries have a currency, so this alone keeps the profiles without one out
+            criteria = criteria.and("salaryCurrency").is(request.getCurrency().trim().toUpperCase(Locale.ROOT));
+            if (request.getSalaryTo() != null) {
+                criteria = criteria.and("salaryMin").not().gt(request.getSalaryTo());
+            }
+            if (request.getSalaryFrom() != null) {
+                criteria = criteria.and("salaryMax").not().lt(request.getSalaryFrom());
+            }
+        }
+        if (request.getExperienceLevel() != null && !request.getExperienceLevel().isBlank()) {
+            // exact match, a case-insensitive regex could not seek the index
+            criteria = criteria.and("experienceLevel").is(request.getExperienceLevel().trim());
+        }
+        if (request.getGraduatedFrom() != null || request.getGraduatedTo() != null) {
+            Criteria graduation = criteria.and("graduationYear");
+            if (request.getGraduatedFrom() != null) {
+                graduation.gte(request.getGraduatedFrom());
+            }
+            if (request.getGraduatedTo() != null) {
+                graduation.lte(request.getGraduatedTo());
+            }
+        }
+
+        int limit = Math.max(1, Math.min(request.getLimit(), MAX_LIMIT));
+        int page = Math.max(0, Math.min(request.getPage(), MAX_PAGE));
+        Query query = new Query(criteria)
+                // sorted on the index's own keys, an extra tiebreaker would force an in-memory sort
+                .with(hasCurrency ? Sort.by("salaryMin") : Sort.by(Sort.Direction.DESC, "graduationYear"))
+                .skip((long) page * limit)
+                .limit(limit);
+        query.fields().include("userId", "firstName", "lastName", "headline", "experienceLevel", "graduationYear",
+                "salaryExpectation", "salaryMin", "salaryMax", "salaryCurrency").exclude("_id");
+        return query;
+    }
+
+    public static TalentSummary toSummary(Document document) {
+        Number min = document.get("salaryMin", Number.class);
+        Number max = document.get("salaryMax", Number.class);
+        return new TalentSummary(
+                document.getString("userId"),
+                document.getString("firstName"),
+                document.getString("lastName"),
+                document.getString("headline"),
+                document.getString("experienceLevel"),
+                document.getInteger("graduationYear"),
+                document.getString("salaryExpectation"),
+                min == null ? null : min.longValue(),
+                max == null ? null : max.longValue(),
+                document.getString("salaryCurrency"));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void prepare() {
+        if (!prepareOnStartup) {
+            return;
+        }
+        Thread thread = new Thread(() -> {
+            try {
+                ensureIndexes();
+                backfill();
+            } catch (Exception e) {
+                log.warn("Salary filter preparation skipped: {}", e.getMessage());
+            }
+        }, "salary-prepare");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    private void ensureIndexes() {
+        IndexOperations indexOps = mongoTemplate.indexOps(TalentProfile.class);
+        if (indexOps.getIndexInfo().stream().anyMatch(index -> OLD_SALARY_INDEX.equals(index.getName()))) {
+            indexOps.dropIndex(OLD_SALARY_INDEX);
+        }
+        indexOps.createIndex(new Index()
+                .on("profileVisible", Sort.Direction.ASC)
+                .on("salaryCurrency", Sort.Direction.ASC)
+                .on("salaryMin", Sort.Direction.ASC)
+                .on("salaryMax", Sort.Direction.ASC)
+                .on("experienceLevel", Sort.Direction.ASC)
+                .on("graduationYear", Sort.Direction.ASC)
+                .named(SALARY_INDEX));
+        indexOps.createIndex(new Index()
+                .on("profileVisible", Sort.Direction.ASC)
+                .on("graduationYear", Sort.Direction.DESC)
+                .on("experienceLevel", Sort.Direction.ASC)
+                .named(GRADUATION_INDEX));
+    }
+
+    // all three fields are written, null included, so an unparseable profile is not picked up again
+    private void backfill() {
+        Query pending = new Query(Criteria.where("salaryMin").exists(false));
+        pending.fields().include("salaryExpectation");
+        pending.limit(BACKFILL_BATCH);
+        int parsed = 0;
+        while (true) {
+            List<Document> batch = mongoTemplate.find(pending, Document.class, TalentGeoSearch.PROFILE_COLLECTION);
+            if (batch.isEmpty()) {
+                break;
+            }
+            for (Document profile : batch) {
+                SalaryParser.Salary salary = SalaryParser.parse(profile.getString("salaryExpectation"));
+                mongoTemplate.updateFirst(new Query(Criteria.where("_id").is(profile.get("_id"))),
+                        new Update()
+                                .set("salaryMin", salary == null ? null : salary.min())
+                                .set("salaryMax", salary == null ? null : salary.max())
+                                .set("salaryCurrency", salary == null ? null : salary.currency()),
+                        TalentGeoSearch.PROFILE_COLLECTION);
+                parsed++;
+            }
+        }
+        if (parsed > 0) {
+            log.info("Parsed the salary expectations of {} talent profiles", parsed);
+        }
+    }
+}
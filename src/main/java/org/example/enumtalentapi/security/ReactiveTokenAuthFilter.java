@@ -0,0 +1,47 @@
+package org.example.enumtalentapi.security;
+
+import lombok.RequiredArgsConstructor;
+import org.example.enumtalentapi.repository.reactive.ReactiveUserRepository;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+import java.util.Optional;
+
+/**
+ * Reactive version of {@link TokenAuthFilter}. Not a bean: WebFlux would also run every
+ * WebFilter bean on its own, so it is only created inside the security chain.
+ */
+@RequiredArgsConstructor
+public class ReactiveTokenAuthFilter implements WebFilter {
+
+    private final ReactiveUserRepository userRepository;
+    private final TokenRevocationList revocationList;
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        String authHeader = exchange.getRequest().getHeaders().getFirst(HttpHeaders.AUTHORIZATION);
+
+        if (authHeader == null || !authHeader.startsWith("Token ")) {
+            return chain.filter(exchange);
+        }
+
+        String token = authHeader.substring(6).trim();
+        if (revocationList.isRevoked(token)) {
+            return chain.filter(exchange);
+        }
+        // chain.filter completes empty, so the lookup result is wrapped before branching
+        return userRepository.findByToken(token)
+                .map(Optional::of)
+                .defaultIfEmpty(Optional.empty())
+                .flatMap(user -> user
+                        .map(u -> chain.filter(exchange)
+                                .contextWrite(ReactiveSecurityContextHolder.withAuthentication(
+                                        new UsernamePasswordAuthenticationToken(u, null, null))))
+                        .orElseGet(() -> chain.filter(exchange)));
+    }
+}
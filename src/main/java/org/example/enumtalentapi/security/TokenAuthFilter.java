@@ -21,6 +21,7 @@ import java.util.Optional;
 public class TokenAuthFilter extends OncePerRequestFilter {
 
     private final UserRepository userRepository;
+    private final TokenRevocationList revocationList;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request,
@@ -33,7 +34,10 @@ public class TokenAuthFilter extends OncePerRequestFilter {
         if (authHeader != null && authHeader.startsWith("Token ")) {
             String token = authHeader.substring(6).trim();
 
-            Optional<User> userOpt = userRepository.findByToken(token);
+            // a logged-out token authenticates nothing, and costs no user lookup
+            Optional<User> userOpt = revocationList.isRevoked(token)
+                    ? Optional.empty()
+                    : userRepository.findByToken(token);
             if (userOpt.isPresent()) {
                 User user = userOpt.get();
 
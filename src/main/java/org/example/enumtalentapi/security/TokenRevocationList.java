@@ -0,0 +1,223 @@
+package org.example.enumtalentapi.security;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.example.enumtalentapi.entity.RevokedToken;
+import org.example.enumtalentapi.invalidation.InvalidationBus;
+import org.example.enumtalentapi.repository.RevokedTokenRepository;
+import org.example.enumtalentapi.util.BloomFilter;
+import org.example.enumtalentapi.util.TimingWheel;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Auth tokens revoked by logout, checked on every authenticated request
+ * without a database call.
+ *
+ * <p>Revocations are stored in revoked_tokens, keyed by the SHA-256 of the
+ * token, and spread to the other nodes over the {@link InvalidationBus}. Each
+ * node keeps a Bloom filter in front of an exact set of digests: a token that
+ * was never revoked, the usual case, is answered from a few bit probes, and
+ * only Bloom hits consult the set. Entries leave the set through a
+ * {@link TimingWheel} once the token would have expired anyway; the Bloom
+ * filter, which cannot forget, is rebuilt from the set when half of its
+ * entries are gone or it outgrows its sizing.
+ *
+ * <p>The persisted list is loaded in the background and retried until it
+ * succeeds, so a node that starts while MongoDB is unreachable accepts
+ * tokens revoked before it started until the load completes
+ * ({@code enumtalent.revocation.loaded} reports 0 meanwhile).
+ */
+@Slf4j
+@Component
+public class TokenRevocationList {
+
+    static final String BUS_CACHE = "revoked-token";
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+    private static final long RETRY_MILLIS = 5000;
+
+    private final RevokedTokenRepository repository;
+    private final InvalidationBus invalidationBus;
+    private final Duration tokenTtl;
+    private final Duration tick;
+    private final long expectedEntries;
+    private final Set<String> revoked = ConcurrentHashMap.newKeySet();
+    private final TimingWheel<String> expiry;
+    // guards additions and Bloom rebuilds so no addition can miss the new filter
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Counter rejected;
+
+    private volatile BloomFilter bloom;
+    private volatile boolean loaded;
+    private long bloomEntries;
+    private long bloomCapacity;
+    private long expiredSinceRebuild;
+    private ScheduledExecutorService ticker;
+
+    public TokenRevocationList(RevokedTokenRepository repository,
+                               InvalidationBus invalidationBus,
+                               @Value("${enumtalent.revocation.token-ttl:30d}") Duration tokenTtl,
+                               @Value("${enumtalent.revocation.expected-entries:100000}") long expectedEntries,
+                               @Value("${enumtalent.revocation.tick:1m}") Duration tick,
+                               MeterRegistry meterRegistry) {
+        this.repository = repository;
+        this.invalidationBus = invalidationBus;
+        this.tokenTtl = tokenTtl;
+        this.tick = tick;
+        this.expectedEntries = expectedEntries;
+        this.bloom = new BloomFilter(expectedEntries, FALSE_POSITIVE_RATE);
+        this.bloomCapacity = expectedEntries;
+        this.expiry = new TimingWheel<>(tick.toMillis(), 3, System.currentTimeMillis());
+        this.rejected = Counter.builder("enumtalent.revocation.rejected").register(meterRegistry);
+        Gauge.builder("enumtalent.revocation.entries", revoked, Set::size).register(meterRegistry);
+        Gauge.builder("enumtalent.revocation.loaded", this, list -> list.loaded ? 1 : 0).register(meterRegistry);
+    }
+
+    @PostConstruct
+    void start() {
+        invalidationBus.subscribe(BUS_CACHE, this::onPeerRevocation, this::reload);
+        ticker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "token-revocation");
+            thread.setDaemon(true);
+            return thread;
+        });
+        ticker.execute(this::loadUntilDone);
+        ticker.scheduleWithFixedDelay(() -> expiry.advance(System.currentTimeMillis(), this::expire),
+                tick.toMillis(), tick.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void stop() {
+        if (ticker != null) {
+            ticker.shutdownNow();
+        }
+    }
+
+    /** Revokes the token on every node; fails if it could not be stored. */
+    public void revoke(String token) {
+        String digest = digest(token);
+        Instant expiresAt = Instant.now().plus(tokenTtl);
+        repository.save(new RevokedToken(digest, expiresAt));
+        add(digest, expiresAt.toEpochMilli());
+        invalidationBus.publish(BUS_CACHE, digest + "@" + expiresAt.toEpochMilli());
+    }
+
+    public boolean isRevoked(String token) {
+        byte[] hash = sha256(token);
+        ByteBuffer words = ByteBuffer.wrap(hash);
+        if (!bloom.mightContain(words.getLong(0), words.getLong(8))) {
+            return false;
+        }
+        boolean hit = revoked.contains(HexFormat.of().formatHex(hash));
+        if (hit) {
+            rejected.increment();
+        }
+        return hit;
+    }
+
+    private void onPeerRevocation(String key) {
+        int at = key.lastIndexOf('@');
+        add(key.substring(0, at), Long.parseLong(key.substring(at + 1)));
+    }
+
+    private void add(String digest, long expiresAtMillis) {
+        lock.lock();
+        try {
+            if (!revoked.add(digest)) {
+                return;
+            }
+            if (!expiry.schedule(digest, expiresAtMillis)) {
+                revoked.remove(digest);
+                return;
+            }
+            putBloom(bloom, digest);
+            if (++bloomEntries > bloomCapacity) {
+                rebuildBloom();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void expire(String digest) {
+        lock.lock();
+        try {
+            if (revoked.remove(digest) && ++expiredSinceRebuild > bloomEntries / 2) {
+                rebuildBloom();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // called with the lock held
+    private void rebuildBloom() {
+        bloomCapacity = Math.max(expectedEntries, revoked.size() * 2L);
+        BloomFilter fresh = new BloomFilter(bloomCapacity, FALSE_POSITIVE_RATE);
+        revoked.forEach(digest -> putBloom(fresh, digest));
+        bloom = fresh;
+        bloomEntries = revoked.size();
+        expiredSinceRebuild = 0;
+    }
+
+    private void loadUntilDone() {
+        while (!loaded && !Thread.currentThread().isInterrupted()) {
+            try {
+                reload();
+            } catch (RuntimeException e) {
+                log.warn("Could not load revoked tokens, retrying in {} ms: {}", RETRY_MILLIS, e.getMessage());
+                try {
+                    Thread.sleep(RETRY_MILLIS);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+    }
+
+    // entries already known are skipped by add(), so reloading only fills gaps
+    void reload() {
+        int count = 0;
+        for (RevokedToken token : repository.findByExpiresAtAfter(Instant.now())) {
+            add(token.getId(), token.getExpiresAt().toEpochMilli());
+            count++;
+        }
+        loaded = true;
+        log.info("Loaded {} revoked tokens", count);
+    }
+
+    private static void putBloom(BloomFilter filter, String digest) {
+        ByteBuffer words = ByteBuffer.wrap(HexFormat.of().parseHex(digest, 0, 32));
+        filter.put(words.getLong(0), words.getLong(8));
+    }
+
+    static String digest(String token) {
+        return HexFormat.of().formatHex(sha256(token));
+    }
+
+    private static byte[] sha256(String token) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
@@ -1,13 +1,17 @@
 package org.example.enumtalentapi.service;
 
 import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.enumtalentapi.audit.AuthEventType;
+import org.example.enumtalentapi.audit.AuthJournal;
 import org.example.enumtalentapi.dto.LoginRequest;
 import org.example.enumtalentapi.dto.SignupRequest;
 import org.example.enumtalentapi.entity.User;
 import org.example.enumtalentapi.entity.VerificationToken;
-import org.example.enumtalentapi.exception.CustomException;
+import org.example.enumtalentapi.exception.ErrorCode;
 import org.example.enumtalentapi.repository.UserRepository;
 import org.example.enumtalentapi.repository.VerificationTokenRepository;
+import org.example.enumtalentapi.security.TokenRevocationList;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
@@ -15,6 +19,7 @@ import java.time.LocalDateTime;
 import java.util.Optional;
 import java.util.UUID;
 
+@Slf4j
 @Service
 @AllArgsConstructor
 public class AuthServiceImpl implements AuthService {
@@ -22,6 +27,9 @@ public class AuthServiceImpl implements AuthService {
     private final UserRepository userRepo;
     private final VerificationTokenRepository tokenRepo;
     private final PasswordEncoder encoder;
+    private final TalentProfileService profileService;
+    private final AuthJournal journal;
+    private final TokenRevocationList revocationList;
 
     @Override
     public String signup(SignupRequest request) {
@@ -29,10 +37,12 @@ public class AuthServiceImpl implements AuthService {
         if (existingUser.isPresent()) {
             User user = existingUser.get();
             if (user.isVerified()) {
-                throw new CustomException("EMAIL_IN_USE_GUY");
+                journal.append(AuthEventType.SIGNUP_REJECTED, user.getId(), request.getEmail());
+                throw ErrorCode.EMAIL_IN_USE.exception();
             } else {
                 tokenRepo.deleteByUser(user);
                 VerificationToken newToken = createVerificationToken(user);
+                journal.append(AuthEventType.SIGNUP_RESENT, user.getId(), request.getEmail());
                 return "Signup successful. Verify using token=" + newToken.getToken();
             }
         }
@@ -45,6 +55,7 @@ public class AuthServiceImpl implements AuthService {
         userRepo.save(newUser);
 
         VerificationToken token = createVerificationToken(newUser);
+        journal.append(AuthEventType.SIGNUP, newUser.getId(), request.getEmail());
         return "Signup successful. Verify using token=" + token.getToken();
     }
 
@@ -59,39 +70,59 @@ public class AuthServiceImpl implements AuthService {
 
     @Override
     public String login(LoginRequest request) {
-        User user = userRepo.findByEmail(request.getEmail())
-                .orElseThrow(() -> new CustomException("INVALID_CREDENTIALS"));
+        Optional<User> found = userRepo.findByEmail(request.getEmail());
+        if (found.isEmpty()) {
+            journal.append(AuthEventType.LOGIN_FAILED_UNKNOWN_EMAIL, null, request.getEmail());
+            throw ErrorCode.INVALID_CREDENTIALS.exception();
+        }
+        User user = found.get();
 
-        if (!user.isVerified())
-            throw new CustomException("EMAIL_NOT_VERIFIED");
+        if (!user.isVerified()) {
+            journal.append(AuthEventType.LOGIN_FAILED_NOT_VERIFIED, user.getId(), request.getEmail());
+            throw ErrorCode.EMAIL_NOT_VERIFIED.exception();
+        }
 
         boolean matches = encoder.matches(request.getPassword(), user.getPassword());
-        if (!matches)
-            throw new CustomException("INVALID_CREDENTIALS");
+        if (!matches) {
+            journal.append(AuthEventType.LOGIN_FAILED_BAD_PASSWORD, user.getId(), request.getEmail());
+            throw ErrorCode.INVALID_CREDENTIALS.exception();
+        }
         user.setLastLogin(LocalDateTime.now());
+        // a new login replaces the previous token, which then authenticates nothing
+        user.setToken(UUID.randomUUID().toString());
         userRepo.save(user);
+        journal.append(AuthEventType.LOGIN, user.getId(), request.getEmail());
 
-        return "LOGIN_SUCCESS " +  "userId=" + user.getId();
+        return "LOGIN_SUCCESS " +  "userId=" + user.getId() + " token=" + user.getToken();
     }
 
     @Override
     public String verifyEmail(String tokenStr) {
         VerificationToken token = tokenRepo.findByToken(tokenStr);
-        if (token == null)
-            throw new CustomException("TOKEN_INVALID");
+        if (token == null) {
+            journal.append(AuthEventType.VERIFY_FAILED, null, null);
+            throw ErrorCode.TOKEN_INVALID.exception();
+        }
 
-        if (token.isUsed())
-            throw new CustomException("TOKEN_ALREADY_USED");
+        User user = token.getUser();
+        if (token.isUsed()) {
+            journal.append(AuthEventType.VERIFY_FAILED, user.getId(), user.getEmail());
+            throw ErrorCode.TOKEN_ALREADY_USED.exception();
+        }
 
-        if (token.getExpiresAt().isBefore(LocalDateTime.now()))
-            throw new CustomException("TOKEN_EXPIRED");
+        if (token.getExpiresAt().isBefore(LocalDateTime.now())) {
+            journal.append(AuthEventType.VERIFY_FAILED, user.getId(), user.getEmail());
+            throw ErrorCode.TOKEN_EXPIRED.exception();
+        }
 
-        User user = token.getUser();
         user.setVerified(true);
         token.setUsed(true);
 
         tokenRepo.save(token);
         userRepo.save(user);
+        // the profile response includes the verified flag
+        profileService.evictProfile(user.getId());
+        journal.append(AuthEventType.VERIFIED, user.getId(), user.getEmail());
 
         return "EMAIL_VERIFIED";
     }
@@ -99,18 +130,29 @@ public class AuthServiceImpl implements AuthService {
     @Override
     public String logout(String userId) {
         User user = userRepo.findById(userId)
-                .orElseThrow(() -> new CustomException("USER_NOT_FOUND"));
+                .orElseThrow(ErrorCode.USER_NOT_FOUND::exception);
 
+        // the caller is not authenticated here, so the session token is only revoked via logout-token
         user.setLastLogout(LocalDateTime.now());
         userRepo.save(user);
-        System.out.println("User " + user.getEmail() + " logged out successfully");
+        journal.append(AuthEventType.LOGOUT, user.getId(), user.getEmail());
+        log.info("User {} logged out", user.getId());
 
         return "LOGOUT_SUCCESSFUL";
     }
 
     @Override
     public String logoutWithToken(String token) {
-        System.out.println("Token-based logout requested");
+        log.debug("Token-based logout requested");
+        // only tokens that belong to someone are stored, junk cannot fill the revocation list
+        Optional<User> user = userRepo.findByToken(token);
+        user.ifPresent(u -> {
+            u.setLastLogout(LocalDateTime.now());
+            u.setToken(null);
+            userRepo.save(u);
+            revocationList.revoke(token);
+        });
+        journal.append(AuthEventType.TOKEN_LOGOUT, user.map(User::getId).orElse(null), null);
         return "LOGOUT_SUCCESSFUL";
     }
 }
\ No newline at end of file
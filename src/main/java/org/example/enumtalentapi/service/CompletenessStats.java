@@ -0,0 +1,360 @@
+package org.example.enumtalentapi.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.example.enumtalentapi.dto.CompletenessReport;
+import org.example.enumtalentapi.entity.TalentProfile;
+import org.example.enumtalentapi.exception.ErrorCode;
+import org.example.enumtalentapi.geo.TalentGeoSearch;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+/**
+ * Completeness distribution of all talent profiles, kept as a materialized
+ * view instead of aggregating every profile on each request: how many
+ * profiles fall in each 10% band and how often each field is missing.
+ *
+ * <p>Every profile save records the difference between the profile's old and
+ * new completeness in local adders. A flush adds them to the single
+ * profile_stats document with one {@code $inc} and reads the result back, so
+ * instances see each other's changes after their next flush. Reports combine
+ * that document with what is not flushed yet and cost the same however many
+ * profiles there are.
+ *
+ * <p>A rebuild streams every profile's completeness and replaces the
+ * document, at startup when there is none and then periodically. Saves that
+ * land while it streams, or that other instances have not flushed yet, may
+ * be counted twice until the next rebuild. A requested rebuild is refused
+ * while another one is queued or running, since each reads every profile.
+ */
+@Slf4j
+@Component
+public class CompletenessStats {
+
+    static final String COLLECTION = "profile_stats";
+    static final String ID = "completeness";
+    private static final int BANDS = 11;
+
+    /** What a profile counted as before a save; null for a profile that was not saved yet. */
+    public record Shape(int completeness, List<String> missingFields) {
+        public static Shape of(TalentProfile profile) {
+            if (profile.getId() == null) {
+                return null;
+            }
+            List<String> missing = profile.getMissingFields();
+            return new Shape(profile.getCompleteness(), missing == null ? List.of() : List.copyOf(missing));
+        }
+    }
+
+    private record Totals(long profiles, long[] bands, Map<String, Long> missing, Instant rebuiltAt) {
+        static final Totals EMPTY = new Totals(0, new long[BANDS], Map.of(), null);
+    }
+
+    private final MongoTemplate mongoTemplate;
+    private final boolean enabled;
+    private final Duration flushInterval;
+    private final Duration rebuildInterval;
+
+    private final LongAdder profilesDelta = new LongAdder();
+    private final LongAdder[] bandDeltas = new LongAdder[BANDS];
+    private final ConcurrentHashMap<String, LongAdder> missingDeltas = new ConcurrentHashMap<>();
+    // the stored document as of the last flush, and deltas taken for a write that has not finished
+    private volatile Totals persisted = Totals.EMPTY;
+    private volatile Totals inFlight = Totals.EMPTY;
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private final Counter flushFailures;
+    private final AtomicBoolean rebuildRequested = new AtomicBoolean();
+    private volatile boolean rebuilding;
+
+    private ScheduledExecutorService worker;
+
+    public CompletenessStats(MongoTemplate mongoTemplate,
+                             @Value("${enumtalent.completeness-stats.enabled:true}") boolean enabled,
+                             @Value("${enumtalent.completeness-stats.flush-interval:10s}") Duration flushInterval,
+                             @Value("${enumtalent.completeness-stats.rebuild-interval:24h}") Duration rebuildInterval,
+                             MeterRegistry meterRegistry) {
+        this.mongoTemplate = mongoTemplate;
+        this.enabled = enabled;
+        this.flushInterval = flushInterval;
+        this.rebuildInterval = rebuildInterval;
+        for (int i = 0; i < BANDS; i++) {
+            bandDeltas[i] = new LongAdder();
+        }
+        this.flushFailures = Counter.builder("enumtalent.completeness.flush.failures").register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        worker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "completeness-stats");
+            thread.setDaemon(true);
+            return thread;
+        });
+        worker.execute(() -> {
+            flush();
+            if (persisted.rebuiltAt() == null) {
+                rebuild();
+            }
+        });
+        worker.scheduleWithFixedDelay(this::flush,
+                flushInterval.toMillis(), flushInterval.toMillis(), TimeUnit.MILLISECONDS);
+        worker.scheduleWithFixedDelay(this::rebuild,
+                rebuildInterval.toMillis(), rebuildInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void stop() {
+        if (worker != null) {
+            worker.shutdownNow();
+            flush();
+        }
+    }
+
+    /** Counts a saved profile, given what it counted as before the save. */
+    public void record(Shape before, TalentProfile after) {
+        if (!enabled) {
+            return;
+        }
+        if (before == null) {
+            profilesDelta.increment();
+        } else {
+            bandDeltas[band(before.completeness())].decrement();
+            for (String field : before.missingFields()) {
+                missingDelta(field).decrement();
+            }
+        }
+        bandDeltas[band(after.getCompleteness())].increment();
+        if (after.getMissingFields() != null) {
+            for (String field : after.getMissingFields()) {
+                missingDelta(field).increment();
+            }
+        }
+    }
+
+    /** Starts a rebuild in the background; false when the view is disabled. */
+    public boolean requestRebuild() {
+        if (worker == null) {
+            return false;
+        }
+        if (rebuilding || !rebuildRequested.compareAndSet(false, true)) {
+            throw ErrorCode.REBUILD_IN_PROGRESS.exception();
+        }
+        worker.execute(() -> {
+            try {
+                rebuild();
+            } finally {
+                rebuildRequested.set(false);
+            }
+        });
+        return true;
+    }
+
+    public CompletenessReport report() {
+        Totals stored = persisted;
+        Totals writing = inFlight;
+
+        long profiles = stored.profiles() + writing.profiles() + profilesDelta.sum();
+        Map<String, Long> histogram = new LinkedHashMap<>();
+        long belowHalf = 0;
+        for (int i = 0; i < BANDS; i++) {
+            long count = stored.bands()[i] + writing.bands()[i] + bandDeltas[i].sum();
+            histogram.put(i == BANDS - 1 ? "100" : (i * 10) + "-" + (i * 10 + 9), count);
+            if (i < 5) {
+                belowHalf += count;
+            }
+        }
+        Map<String, Long> missing = new HashMap<>(stored.missing());
+        writing.missing().forEach((field, count) -> missing.merge(field, count, Long::sum));
+        missingDeltas.forEach((field, delta) -> missing.merge(field, delta.sum(), Long::sum));
+        Map<String, Long> mostMissing = new LinkedHashMap<>();
+        missing.entrySet().stream()
+                .filter(entry -> entry.getValue() > 0)
+                .sorted(Map.Entry.<String, Long>comparingByValue().reversed().thenComparing(Map.Entry.comparingByKey()))
+                .forEach(entry -> mostMissing.put(entry.getKey(), entry.getValue()));
+        return new CompletenessReport(profiles, belowHalf, histogram, mostMissing, stored.rebuiltAt());
+    }
+
+    void flush() {
+        flushLock.lock();
+        try {
+            Totals batch = drain();
+            if (batch == null) {
+                persisted = read();
+                return;
+            }
+            inFlight = batch;
+            try {
+                persisted = write(batch);
+            } catch (RuntimeException e) {
+                flushFailures.increment();
+                log.warn("Could not flush completeness stats, keeping them for the next flush: {}", e.getMessage());
+                restore(batch);
+            } finally {
+                inFlight = Totals.EMPTY;
+            }
+        } catch (RuntimeException e) {
+            log.warn("Could not read completeness stats: {}", e.getMessage());
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    // streams only completeness and missingFields; flushes are held off so the document is not written twice
+    void rebuild() {
+        flushLock.lock();
+        rebuilding = true;
+        try {
+            long started = System.nanoTime();
+            // local changes so far are already stored in the profiles the stream is about to count
+            drain();
+            long profiles = 0;
+            long[] bands = new long[BANDS];
+            Map<String, Long> missing = new HashMap<>();
+            Query query = new Query();
+            query.fields().include("completeness", "missingFields");
+            try (Stream<Document> stream = mongoTemplate.stream(query, Document.class,
+                    TalentGeoSearch.PROFILE_COLLECTION)) {
+                for (Document profile : (Iterable<Document>) stream::iterator) {
+                    profiles++;
+                    Number completeness = profile.get("completeness", Number.class);
+                    bands[band(completeness == null ? 0 : completeness.intValue())]++;
+                    List<String> fields = profile.getList("missingFields", String.class);
+                    if (fields != null) {
+                        for (String field : fields) {
+                            missing.merge(field, 1L, Long::sum);
+                        }
+                    }
+                }
+            }
+            Instant rebuiltAt = Instant.now();
+            Document replacement = new Document("_id", ID)
+                    .append("profiles", profiles)
+                    .append("bands", bandsDocument(bands))
+                    .append("missing", new Document(new LinkedHashMap<>(missing)))
+                    .append("rebuiltAt", Date.from(rebuiltAt));
+            mongoTemplate.save(replacement, COLLECTION);
+            persisted = new Totals(profiles, bands, missing, rebuiltAt);
+            log.info("Completeness stats rebuilt from {} profiles in {} ms",
+                    profiles, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+        } catch (RuntimeException e) {
+            log.warn("Could not rebuild completeness stats, keeping the previous ones: {}", e.getMessage());
+        } finally {
+            rebuilding = false;
+            flushLock.unlock();
+        }
+    }
+
+    private Totals drain() {
+        long profiles = profilesDelta.sumThenReset();
+        long[] bands = new long[BANDS];
+        boolean changed = profiles != 0;
+        for (int i = 0; i < BANDS; i++) {
+            bands[i] = bandDeltas[i].sumThenReset();
+            changed |= bands[i] != 0;
+        }
+        Map<String, Long> missing = new HashMap<>();
+        missingDeltas.forEach((field, delta) -> {
+            long count = delta.sumThenReset();
+            if (count != 0) {
+                missing.put(field, count);
+            }
+        });
+        changed |= !missing.isEmpty();
+        return changed ? new Totals(profiles, bands, missing, null) : null;
+    }
+
+    private void restore(Totals batch) {
+        profilesDelta.add(batch.profiles());
+        for (int i = 0; i < BANDS; i++) {
+            bandDeltas[i].add(batch.bands()[i]);
+        }
+        batch.missing().forEach((field, count) -> missingDelta(field).add(count));
+    }
+
+    private Totals write(Totals batch) {
+        Update update = new Update().inc("profiles", batch.profiles());
+        for (int i = 0; i < BANDS; i++) {
+            if (batch.bands()[i] != 0) {
+                update.inc("bands." + i, batch.bands()[i]);
+            }
+        }
+        batch.missing().forEach((field, count) -> update.inc("missing." + field, count));
+        Document stored = mongoTemplate.findAndModify(new Query(Criteria.where("_id").is(ID)), update,
+                FindAndModifyOptions.options().upsert(true).returnNew(true), Document.class, COLLECTION);
+        return toTotals(stored);
+    }
+
+    private Totals read() {
+        return toTotals(mongoTemplate.findById(ID, Document.class, COLLECTION));
+    }
+
+    private static Totals toTotals(Document stored) {
+        if (stored == null) {
+            return Totals.EMPTY;
+        }
+        long[] bands = new long[BANDS];
+        Document storedBands = stored.get("bands", Document.class);
+        if (storedBands != null) {
+            for (int i = 0; i < BANDS; i++) {
+                Number count = storedBands.get(String.valueOf(i), Number.class);
+                bands[i] = count == null ? 0 : count.longValue();
+            }
+        }
+        Map<String, Long> missing = new HashMap<>();
+        Document storedMissing = stored.get("missing", Document.class);
+        if (storedMissing != null) {
+            storedMissing.forEach((field, count) -> missing.put(field, ((Number) count).longValue()));
+        }
+        Number profiles = stored.get("profiles", Number.class);
+        Date rebuiltAt = stored.getDate("rebuiltAt");
+        return new Totals(profiles == null ? 0 : profiles.longValue(), bands, missing,
+                rebuiltAt == null ? null : rebuiltAt.toInstant());
+    }
+
+    // keyed by band number, so $inc on "bands.3" works whether or not the document exists yet
+    private static Document bandsDocument(long[] bands) {
+        Document document = new Document();
+        for (int i = 0; i < BANDS; i++) {
+            document.append(String.valueOf(i), bands[i]);
+        }
+        return document;
+    }
+
+    private LongAdder missingDelta(String field) {
+        LongAdder adder = missingDeltas.get(field);
+        return adder != null ? adder : missingDeltas.computeIfAbsent(field, f -> new LongAdder());
+    }
+
+    private static int band(int completeness) {
+        return Math.max(0, Math.min(completeness / 10, BANDS - 1));
+    }
+}
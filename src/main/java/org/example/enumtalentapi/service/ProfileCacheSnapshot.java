@@ -0,0 +1,280 @@
+package org.example.enumtalentapi.service;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.example.enumtalentapi.dto.TalentProfileResponse;
+import org.example.enumtalentapi.entity.User;
+import org.example.enumtalentapi.geo.TalentGeoSearch;
+import org.example.enumtalentapi.util.TextCompressor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.CRC32;
+
+/**
+ * Lets a restarted node serve profile reads from the first request instead of
+ * sending every one of them to MongoDB: the hottest {@link ProfileReadCache}
+ * entries are written to a local file every {@code interval} and on shutdown,
+ * and read back after startup.
+ *
+ * <p>A restored entry is only used if its profile has not been written since
+ * it was loaded, going by the profile's {@code updatedAt}, and its user still
+ * exists with the email and verification the response shows, since users
+ * carry no timestamp of their own. Those checks ask for nothing but the
+ * compared fields, two indexed queries per 500 entries, which is far cheaper
+ * than the reads they save. Snapshots older than {@code max-age} are ignored.
+ *
+ * <p>The file is a 32 byte header (magic, format, time written, entry count,
+ * body length, body CRC32) followed by one record per entry: key, time
+ * loaded, and the response as JSON through {@link TextCompressor}. It is
+ * written to a temporary file through a memory mapping and moved into place,
+ * so a crash leaves the previous snapshot; a torn or foreign file fails the
+ * CRC and is ignored.
+ */
+@Slf4j
+@Component
+public class ProfileCacheSnapshot {
+
+    private static final int MAGIC = 0x50435331;
+    private static final int FORMAT = 1;
+    private static final int HEADER_BYTES = 32;
+    private static final int VALIDATION_BATCH = 500;
+    // writes from other nodes are compared with this node's clock
+    private static final long CLOCK_SKEW_MILLIS = 2_000;
+    private static final ObjectMapper MAPPER = new ObjectMapper()
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+    private final ProfileReadCache cache;
+    private final MongoTemplate mongoTemplate;
+    private final boolean enabled;
+    private final Path file;
+    private final Duration interval;
+    private final int maxEntries;
+    private final Duration maxAge;
+
+    private ScheduledExecutorService writer;
+
+    record Entry(String key, long loadedAtMillis, TalentProfileResponse response) {
+    }
+
+    public ProfileCacheSnapshot(ProfileReadCache cache,
+                                MongoTemplate mongoTemplate,
+                                @Value("${enumtalent.profile.cache.snapshot.enabled:true}") boolean enabled,
+                                @Value("${enumtalent.profile.cache.snapshot.file:./data/cache/profile-cache.snapshot}") Path file,
+                                @Value("${enumtalent.profile.cache.snapshot.interval:1m}") Duration interval,
+                                @Value("${enumtalent.profile.cache.snapshot.max-entries:5000}") int maxEntries,
+                                @Value("${enumtalent.profile.cache.snapshot.max-age:1h}") Duration maxAge) {
+        this.cache = cache;
+        this.mongoTemplate = mongoTemplate;
+        this.enabled = enabled;
+        this.file = file;
+        this.interval = interval;
+        this.maxEntries = maxEntries;
+        this.maxAge = maxAge;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        writer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "profile-cache-snapshot");
+            thread.setDaemon(true);
+            return thread;
+        });
+        writer.execute(this::restore);
+        writer.scheduleWithFixedDelay(this::save, interval.toMillis(), interval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        if (writer != null) {
+            writer.shutdownNow();
+            writer.awaitTermination(5, TimeUnit.SECONDS);
+            save();
+        }
+    }
+
+    void save() {
+        try {
+            List<ProfileReadCache.Snapshot> hottest = cache.hottest(maxEntries);
+            write(file, hottest, System.currentTimeMillis());
+            log.debug("Wrote {} cached profiles to {}", hottest.size(), file);
+        } catch (IOException | RuntimeException e) {
+            log.warn("Could not write the profile cache snapshot: {}", e.toString());
+        }
+    }
+
+    void restore() {
+        try {
+            long started = System.nanoTime();
+            List<Entry> stored = read(file, System.currentTimeMillis() - maxAge.toMillis());
+            int restored = 0;
+            for (int from = 0; from < stored.size(); from += VALIDATION_BATCH) {
+                long generation = cache.generation();
+                List<ProfileReadCache.Snapshot> current =
+                        current(stored.subList(from, Math.min(from + VALIDATION_BATCH, stored.size())));
+                restored += cache.restore(current, generation);
+            }
+            if (!stored.isEmpty()) {
+                log.info("Restored {} of {} cached profiles from {} in {} ms", restored, stored.size(), file,
+                        TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+            }
+        } catch (RuntimeException e) {
+            log.warn("Could not restore the profile cache snapshot, starting cold: {}", e.toString());
+        }
+    }
+
+    // entries whose profile was not written after they were loaded (no profile at all is current too)
+    // and whose user still shows the same email and verification
+    private List<ProfileReadCache.Snapshot> current(List<Entry> batch) {
+        Set<String> userIds = new LinkedHashSet<>();
+        for (Entry entry : batch) {
+            userIds.add(userIdOf(entry.key()));
+        }
+        Query profiles = new Query(Criteria.where("userId").in(userIds));
+        profiles.fields().include("userId", "updatedAt").exclude("_id");
+        Map<String, Date> updatedAt = new HashMap<>();
+        for (Document profile : mongoTemplate.find(profiles, Document.class, TalentGeoSearch.PROFILE_COLLECTION)) {
+            updatedAt.put(profile.getString("userId"), profile.getDate("updatedAt"));
+        }
+        Query users = new Query(Criteria.where("id").in(userIds));
+        users.fields().include("email", "verified");
+        Map<String, User> usersById = new HashMap<>();
+        for (User user : mongoTemplate.find(users, User.class)) {
+            usersById.put(user.getId(), user);
+        }
+
+        List<ProfileReadCache.Snapshot> current = new ArrayList<>(batch.size());
+        for (Entry entry : batch) {
+            String userId = userIdOf(entry.key());
+            Date written = updatedAt.get(userId);
+            User user = usersById.get(userId);
+            if ((written == null || written.getTime() < entry.loadedAtMillis() - CLOCK_SKEW_MILLIS)
+                    && user != null
+                    && Objects.equals(user.getEmail(), entry.response().getEmail())
+                    && user.isVerified() == entry.response().isVerified()) {
+                current.add(new ProfileReadCache.Snapshot(entry.key(), entry.response(), entry.loadedAtMillis()));
+            }
+        }
+        return current;
+    }
+
+    private static String userIdOf(String key) {
+        return key.endsWith(TalentProfileService.TEXT_KEY_SUFFIX)
+                ? key.substring(0, key.length() - TalentProfileService.TEXT_KEY_SUFFIX.length())
+                : key;
+    }
+
+    static void write(Path file, List<ProfileReadCache.Snapshot> entries, long writtenAtMillis) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream body = new DataOutputStream(bytes);
+        for (ProfileReadCache.Snapshot entry : entries) {
+            byte[] key = entry.key().getBytes(StandardCharsets.UTF_8);
+            byte[] payload = TextCompressor.compress(MAPPER.writeValueAsString(entry.response()));
+            body.writeShort(key.length);
+            body.write(key);
+            body.writeLong(entry.loadedAtMillis());
+            body.writeInt(payload.length);
+            body.write(payload);
+        }
+        body.flush();
+        byte[] records = bytes.toByteArray();
+        CRC32 crc = new CRC32();
+        crc.update(records);
+
+        Files.createDirectories(file.toAbsolutePath().getParent());
+        Path temporary = file.resolveSibling(file.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_BYTES + records.length);
+            buffer.putInt(MAGIC)
+                    .putInt(FORMAT)
+                    .putLong(writtenAtMillis)
+                    .putInt(entries.size())
+                    .putInt(records.length)
+                    .putLong(crc.getValue())
+                    .put(records);
+            buffer.force();
+        }
+        Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /** Entries of a valid snapshot written after {@code notBeforeMillis}, else none. */
+    static List<Entry> read(Path file, long notBeforeMillis) {
+        if (!Files.isRegularFile(file)) {
+            return List.of();
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            if (channel.size() < HEADER_BYTES) {
+                return List.of();
+            }
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            int magic = buffer.getInt();
+            int format = buffer.getInt();
+            long writtenAt = buffer.getLong();
+            int count = buffer.getInt();
+            int length = buffer.getInt();
+            long checksum = buffer.getLong();
+            if (magic != MAGIC || format != FORMAT || length != channel.size() - HEADER_BYTES) {
+                log.warn("Ignoring profile cache snapshot {}: not a snapshot of this format", file);
+                return List.of();
+            }
+            if (writtenAt < notBeforeMillis) {
+                return List.of();
+            }
+            CRC32 crc = new CRC32();
+            crc.update(buffer.slice());
+            if (crc.getValue() != checksum) {
+                log.warn("Ignoring profile cache snapshot {}: checksum mismatch", file);
+                return List.of();
+            }
+
+            List<Entry> entries = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                byte[] key = new byte[Short.toUnsignedInt(buffer.getShort())];
+                buffer.get(key);
+                long loadedAt = buffer.getLong();
+                byte[] payload = new byte[buffer.getInt()];
+                buffer.get(payload);
+                entries.add(new Entry(new String(key, StandardCharsets.UTF_8), loadedAt,
+                        MAPPER.readValue(TextCompressor.decompress(payload), TalentProfileResponse.class)));
+            }
+            return entries;
+        } catch (IOException | RuntimeException e) {
+            log.warn("Ignoring unreadable profile cache snapshot {}: {}", file, e.toString());
+            return List.of();
+        }
+    }
+}
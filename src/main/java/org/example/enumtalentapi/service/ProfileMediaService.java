@@ -0,0 +1,223 @@
+package org.example.enumtalentapi.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.enumtalentapi.exception.ErrorCode;
+import org.example.enumtalentapi.storage.BlobStore;
+import org.example.enumtalentapi.storage.BlobTooLargeException;
+import org.example.enumtalentapi.storage.StoredBlob;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Uploads and looks up profile pictures and resumes. Files are streamed into the
+ * {@link BlobStore}; thumbnails are rendered once per picture on the media pool.
+ */
+@Slf4j
+@Service
+public class ProfileMediaService {
+
+    public static final String PICTURE = "picture";
+    public static final String PICTURE_THUMBNAIL = "picture-thumb";
+    public static final String RESUME = "resume";
+
+    private static final Set<String> PICTURE_TYPES = Set.of("image/jpeg", "image/png", "image/gif");
+    private static final Set<String> RESUME_TYPES = Set.of(
+            "application/pdf",
+            "application/msword",
+            "application/vnd.openxmlformats-officedocument.wordprocessingml.document");
+    private static final Pattern USER_ID = Pattern.compile("[A-Za-z0-9_-]{1,64}");
+    private static final int THUMBNAIL_SIZE = 160;
+    // a 5 MB upload can declare far more pixels than that, decoding is refused above this
+    private static final long MAX_PICTURE_PIXELS = 40_000_000L;
+
+    private final BlobStore blobStore;
+    private final TalentProfileService profileService;
+    private final AsyncTaskExecutor mediaTaskExecutor;
+    private final long maxPictureBytes;
+    private final long maxResumeBytes;
+
+    public ProfileMediaService(BlobStore blobStore,
+                               TalentProfileService profileService,
+                               @Qualifier("mediaTaskExecutor") AsyncTaskExecutor mediaTaskExecutor,
+                               @Value("${enumtalent.media.max-picture-bytes:5242880}") long maxPictureBytes,
+                               @Value("${enumtalent.media.max-resume-bytes:10485760}") long maxResumeBytes) {
+        this.blobStore = blobStore;
+        this.profileService = profileService;
+        this.mediaTaskExecutor = mediaTaskExecutor;
+        this.maxPictureBytes = maxPictureBytes;
+        this.maxResumeBytes = maxResumeBytes;
+    }
+
+    public String uploadPicture(String userId, MultipartFile file) {
+        StoredBlob blob = store(userId, PICTURE, file, PICTURE_TYPES, maxPictureBytes);
+        profileService.attachProfilePicture(userId, mediaUrl(userId, PICTURE));
+        mediaTaskExecutor.execute(() -> renderThumbnail(userId, blob));
+        return "PICTURE_UPLOADED";
+    }
+
+    public String uploadResume(String userId, MultipartFile file) {
+        store(userId, RESUME, file, RESUME_TYPES, maxResumeBytes);
+        profileService.attachResume(userId, mediaUrl(userId, RESUME));
+        return "RESUME_UPLOADED";
+    }
+
+    public StoredBlob find(String userId, String kind) {
+        return blobStore.stat(key(userId, kind))
+                .orElseThrow(ErrorCode.MEDIA_NOT_FOUND::exception);
+    }
+
+    /** The thumbnail when it has been rendered for the current picture, else the picture itself. */
+    public StoredBlob findThumbnail(String userId) {
+        StoredBlob picture = find(userId, PICTURE);
+        return blobStore.stat(key(userId, PICTURE_THUMBNAIL))
+                .filter(thumb -> picture.etag() != null && picture.etag().equals(
+                        blobStore.attributes(thumb.key()).get("sourceEtag")))
+                .orElse(picture);
+    }
+
+    private StoredBlob store(String userId, String kind, MultipartFile file, Set<String> allowedTypes, long maxBytes) {
+        if (file == null || file.isEmpty()) {
+            throw ErrorCode.FILE_REQUIRED.exception();
+        }
+        if (file.getContentType() == null || !allowedTypes.contains(file.getContentType())) {
+            throw ErrorCode.UNSUPPORTED_MEDIA_TYPE.exception();
+        }
+        if (file.getSize() > maxBytes) {
+            throw ErrorCode.FILE_TOO_LARGE.exception();
+        }
+        if (PICTURE.equals(kind)) {
+            requireWithinPixelLimit(file);
+        }
+        profileService.requireVerifiedUser(userId);
+
+        try (InputStream in = file.getInputStream()) {
+            return blobStore.put(key(userId, kind), in, file.getContentType(), maxBytes, Map.of());
+        } catch (BlobTooLargeException e) {
+            throw ErrorCode.FILE_TOO_LARGE.exception();
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not store " + kind + " for " + userId, e);
+        }
+    }
+
+    private void renderThumbnail(String userId, StoredBlob picture) {
+        String thumbKey = key(userId, PICTURE_THUMBNAIL);
+        if (picture.etag() == null
+                || Objects.equals(picture.etag(), blobStore.attributes(thumbKey).get("sourceEtag"))) {
+            return;
+        }
+
+        try (InputStream in = blobStore.open(picture.key(), 0)) {
+            BufferedImage source = decode(in);
+            if (source == null) {
+                log.warn("Picture of {} is not a readable image, no thumbnail", userId);
+                return;
+            }
+
+            double scale = Math.min(1.0, THUMBNAIL_SIZE / (double) Math.max(source.getWidth(), source.getHeight()));
+            int width = Math.max(1, (int) Math.round(source.getWidth() * scale));
+            int height = Math.max(1, (int) Math.round(source.getHeight() * scale));
+
+            BufferedImage thumb = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+            Graphics2D g = thumb.createGraphics();
+            try {
+                g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+                g.drawImage(source, 0, 0, width, height, null);
+            } finally {
+                g.dispose();
+            }
+
+            // thumbnails are a few KB, buffering them is fine
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            ImageIO.write(thumb, "jpg", out);
+            blobStore.put(thumbKey, new ByteArrayInputStream(out.toByteArray()), "image/jpeg",
+                    maxPictureBytes, Map.of("sourceEtag", picture.etag()));
+        } catch (Exception e) {
+            log.warn("Thumbnail for {} failed: {}", userId, e.getMessage());
+        }
+    }
+
+    /**
+     * Reads the dimensions from the header before decoding anything, and subsamples
+     * large pictures so the decoded raster stays close to the thumbnail size.
+     */
+    private BufferedImage decode(InputStream in) throws IOException {
+        try (ImageInputStream stream = ImageIO.createImageInputStream(in)) {
+            Iterator<ImageReader> readers = stream != null ? ImageIO.getImageReaders(stream) : null;
+            if (readers == null || !readers.hasNext()) {
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(stream, true, true);
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+                if (!withinPixelLimit(width, height)) {
+                    throw new IOException("picture is " + width + "x" + height + ", over the pixel limit");
+                }
+                ImageReadParam param = reader.getDefaultReadParam();
+                int step = Math.max(1, Math.max(width, height) / (THUMBNAIL_SIZE * 4));
+                param.setSourceSubsampling(step, step, 0, 0);
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    // only the header is read; pictures ImageIO cannot parse are left to the thumbnail step
+    private void requireWithinPixelLimit(MultipartFile file) {
+        try (InputStream in = file.getInputStream();
+             ImageInputStream stream = ImageIO.createImageInputStream(in)) {
+            Iterator<ImageReader> readers = stream != null ? ImageIO.getImageReaders(stream) : null;
+            if (readers == null || !readers.hasNext()) {
+                return;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(stream, true, true);
+                if (!withinPixelLimit(reader.getWidth(0), reader.getHeight(0))) {
+                    throw ErrorCode.FILE_TOO_LARGE.exception();
+                }
+            } finally {
+                reader.dispose();
+            }
+        } catch (IOException e) {
+            log.debug("Could not read picture header: {}", e.getMessage());
+        }
+    }
+
+    private static boolean withinPixelLimit(int width, int height) {
+        return (long) width * height <= MAX_PICTURE_PIXELS;
+    }
+
+    private String key(String userId, String kind) {
+        if (userId == null || !USER_ID.matcher(userId).matches()) {
+            throw ErrorCode.USER_NOT_FOUND.exception();
+        }
+        return userId + "/" + kind;
+    }
+
+    private String mediaUrl(String userId, String kind) {
+        return "/api/profile/talent/" + userId + "/" + kind;
+    }
+}
@@ -0,0 +1,179 @@
+package org.example.enumtalentapi.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.example.enumtalentapi.dto.TalentProfileResponse;
+import org.springframework.beans.BeanUtils;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Last known good profile responses. Entries younger than {@code fresh-for}
+ * are served as is; older ones, up to {@code max-stale}, are served as a copy
+ * flagged {@code stale} while a background load replaces them. While the
+ * database is unreachable that keeps profiles readable at the price of
+ * freshness. Writes on this node drop the user's entries.
+ */
+@Slf4j
+@Component
+public class ProfileReadCache {
+
+    private final Cache<String, Entry> entries;
+    private final AsyncTaskExecutor refreshExecutor;
+    private final long freshNanos;
+    // bumped by every invalidation, a load that overlapped one is not stored
+    private final AtomicLong invalidations = new AtomicLong();
+
+    private final Counter fresh;
+    private final Counter stale;
+    private final Counter miss;
+
+    private static final class Entry {
+        final TalentProfileResponse response;
+        final long loadedAt = System.nanoTime();
+        final long loadedAtMillis = System.currentTimeMillis();
+        final AtomicBoolean refreshing = new AtomicBoolean();
+        volatile TalentProfileResponse staleView;
+
+        Entry(TalentProfileResponse response) {
+            this.response = response;
+        }
+
+        TalentProfileResponse staleView() {
+            TalentProfileResponse view = staleView;
+            if (view == null) {
+                view = new TalentProfileResponse();
+                BeanUtils.copyProperties(response, view);
+                view.setStale(true);
+                staleView = view;
+            }
+            return view;
+        }
+    }
+
+    /** A cached response and the wall-clock time it was loaded, as written to snapshots. */
+    public record Snapshot(String key, TalentProfileResponse response, long loadedAtMillis) {
+    }
+
+    public ProfileReadCache(@Value("${enumtalent.profile.cache.fresh-for:30s}") Duration freshFor,
+                            @Value("${enumtalent.profile.cache.max-stale:10m}") Duration maxStale,
+                            @Value("${enumtalent.profile.cache.max-entries:10000}") long maxEntries,
+                            @Qualifier("profileRefreshExecutor") AsyncTaskExecutor refreshExecutor,
+                            MeterRegistry meterRegistry) {
+        this.freshNanos = freshFor.toNanos();
+        this.refreshExecutor = refreshExecutor;
+        this.entries = Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .expireAfterWrite(maxStale)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, entries, "profileRead");
+        this.fresh = counter(meterRegistry, "fresh");
+        this.stale = counter(meterRegistry, "stale");
+        this.miss = counter(meterRegistry, "miss");
+    }
+
+    private static Counter counter(MeterRegistry registry, String result) {
+        return Counter.builder("enumtalent.profile.reads").tag("result", result).register(registry);
+    }
+
+    public TalentProfileResponse get(String key, Supplier<TalentProfileResponse> loader) {
+        Entry entry = entries.getIfPresent(key);
+        if (entry == null) {
+            miss.increment();
+            return load(key, loader);
+        }
+        if (System.nanoTime() - entry.loadedAt < freshNanos) {
+            fresh.increment();
+            return entry.response;
+        }
+        stale.increment();
+        refresh(key, entry, loader);
+        return entry.staleView();
+    }
+
+    public void invalidate(String key) {
+        invalidations.incrementAndGet();
+        entries.invalidate(key);
+    }
+
+    public void clear() {
+        invalidations.incrementAndGet();
+        entries.invalidateAll();
+    }
+
+    /** Up to {@code limit} entries, the ones most likely to be read again first. */
+    public List<Snapshot> hottest(int limit) {
+        Map<String, Entry> hottest = entries.policy().eviction()
+                .map(eviction -> eviction.hottest(limit))
+                .orElseGet(entries::asMap);
+        List<Snapshot> snapshots = new ArrayList<>(hottest.size());
+        hottest.forEach((key, entry) -> snapshots.add(new Snapshot(key, entry.response, entry.loadedAtMillis)));
+        return snapshots;
+    }
+
+    /** Pass to {@link #restore}, taken before the restored entries were checked against the database. */
+    public long generation() {
+        return invalidations.get();
+    }
+
+    /**
+     * Adds entries checked to be current as fresh ones, unless anything was
+     * invalidated since {@code generation} or the key was loaded meanwhile.
+     */
+    public int restore(List<Snapshot> snapshots, long generation) {
+        int restored = 0;
+        for (Snapshot snapshot : snapshots) {
+            if (invalidations.get() != generation) {
+                break;
+            }
+            if (entries.asMap().putIfAbsent(snapshot.key(), new Entry(snapshot.response())) == null) {
+                restored++;
+            }
+        }
+        return restored;
+    }
+
+    private TalentProfileResponse load(String key, Supplier<TalentProfileResponse> loader) {
+        long generation = invalidations.get();
+        TalentProfileResponse response = loader.get();
+        if (invalidations.get() == generation) {
+            entries.put(key, new Entry(response));
+        }
+        return response;
+    }
+
+    private void refresh(String key, Entry entry, Supplier<TalentProfileResponse> loader) {
+        if (!entry.refreshing.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            refreshExecutor.execute(() -> {
+                try {
+                    load(key, loader);
+                } catch (RuntimeException e) {
+                    log.debug("Refresh of profile {} failed, still serving stale: {}", key, e.toString());
+                } finally {
+                    entry.refreshing.set(false);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            entry.refreshing.set(false);
+        }
+    }
+}
@@ -0,0 +1,218 @@
+package org.example.enumtalentapi.service;
+
+import com.mongodb.bulk.BulkWriteError;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.example.enumtalentapi.dto.ProfileViewStats;
+import org.example.enumtalentapi.entity.ProfileViewDay;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Counts profile views in memory and writes them to the profile_views daily
+ * buckets in one bulk {@code $inc} per flush, so views cost no database write.
+ *
+ * <p>Each profile and day gets a {@link LongAdder}; once the adder exists a
+ * view is a map lookup and a striped add, so a hot profile spreads its
+ * increments over cells instead of contending on one. A flush takes each
+ * adder's count with {@code sumThenReset}, and puts back the counts whose
+ * write failed. Adders are only dropped once their day is over and a flush found them empty,
+ * so no view can land in an adder that is no longer in the map.
+ */
+@Slf4j
+@Component
+public class ProfileViewCounter {
+
+    static final String COLLECTION = "profile_views";
+    private static final int MAX_DAYS = 365;
+
+    private final MongoTemplate mongoTemplate;
+    private final boolean enabled;
+    private final Duration flushInterval;
+    private final ConcurrentHashMap<ViewKey, LongAdder> pending = new ConcurrentHashMap<>();
+    // counts taken out of pending whose write has not finished, still reported by stats()
+    private volatile Map<ViewKey, Long> inFlight = Map.of();
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private final Counter flushed;
+    private final Counter flushFailures;
+
+    private ScheduledExecutorService flusher;
+
+    record ViewKey(String userId, long epochDay) {
+    }
+
+    public ProfileViewCounter(MongoTemplate mongoTemplate,
+                              @Value("${enumtalent.views.enabled:true}") boolean enabled,
+                              @Value("${enumtalent.views.flush-interval:10s}") Duration flushInterval,
+                              MeterRegistry meterRegistry) {
+        this.mongoTemplate = mongoTemplate;
+        this.enabled = enabled;
+        this.flushInterval = flushInterval;
+        this.flushed = Counter.builder("enumtalent.views.flushed").register(meterRegistry);
+        this.flushFailures = Counter.builder("enumtalent.views.flush.failures").register(meterRegistry);
+        Gauge.builder("enumtalent.views.pending.keys", pending, Map::size).register(meterRegistry);
+    }
+
+    @PostConstruct
+    void start() {
+        if (!enabled) {
+            return;
+        }
+        flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "profile-view-flush");
+            thread.setDaemon(true);
+            return thread;
+        });
+        flusher.scheduleWithFixedDelay(this::flush,
+                flushInterval.toMillis(), flushInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void stop() {
+        if (flusher != null) {
+            flusher.shutdown();
+            flush();
+        }
+    }
+
+    public void record(String userId) {
+        if (!enabled) {
+            return;
+        }
+        add(new ViewKey(userId, today()), 1);
+    }
+
+    private void add(ViewKey key, long views) {
+        LongAdder adder = pending.get(key);
+        if (adder == null) {
+            adder = pending.computeIfAbsent(key, k -> new LongAdder());
+        }
+        adder.add(views);
+    }
+
+    /** Persisted views of the last {@code days} days (today included) plus the ones not yet flushed. */
+    public ProfileViewStats stats(String userId, int days) {
+        int window = Math.max(1, Math.min(days, MAX_DAYS));
+        long today = today();
+        long firstDay = today - window + 1;
+
+        Map<String, Long> daily = new TreeMap<>();
+        Query query = new Query(Criteria.where("_id")
+                .gte(ProfileViewDay.idOf(userId, LocalDate.ofEpochDay(firstDay).toString()))
+                .lte(ProfileViewDay.idOf(userId, LocalDate.ofEpochDay(today).toString())));
+        for (ProfileViewDay bucket : mongoTemplate.find(query, ProfileViewDay.class, COLLECTION)) {
+            daily.merge(bucket.getDay(), bucket.getViews(), Long::sum);
+        }
+
+        Map<ViewKey, Long> writing = inFlight;
+        for (long day = firstDay; day <= today; day++) {
+            ViewKey key = new ViewKey(userId, day);
+            LongAdder adder = pending.get(key);
+            long unsaved = (adder == null ? 0 : adder.sum()) + writing.getOrDefault(key, 0L);
+            if (unsaved > 0) {
+                daily.merge(LocalDate.ofEpochDay(day).toString(), unsaved, Long::sum);
+            }
+        }
+
+        List<ProfileViewStats.DailyViews> buckets = new ArrayList<>();
+        long total = 0;
+        for (Map.Entry<String, Long> entry : daily.entrySet()) {
+            buckets.add(new ProfileViewStats.DailyViews(entry.getKey(), entry.getValue()));
+            total += entry.getValue();
+        }
+        return new ProfileViewStats(userId, window, total, buckets);
+    }
+
+    void flush() {
+        // the scheduled flush and the one on shutdown must not interleave
+        flushLock.lock();
+        try {
+            Map<ViewKey, Long> batch = drain();
+            if (batch.isEmpty()) {
+                return;
+            }
+            inFlight = batch;
+            List<ViewKey> order = new ArrayList<>(batch.keySet());
+            try {
+                write(order, batch);
+                flushed.increment(batch.size());
+            } catch (BulkOperationException e) {
+                // the unordered bulk applied every upsert except the failed ones, so only those go back
+                flushFailures.increment();
+                log.warn("Could not flush views of {} of {} profiles, keeping them for the next flush: {}",
+                        e.getErrors().size(), batch.size(), e.getMessage());
+                for (BulkWriteError error : e.getErrors()) {
+                    ViewKey key = order.get(error.getIndex());
+                    add(key, batch.get(key));
+                }
+                flushed.increment(batch.size() - e.getErrors().size());
+            } catch (RuntimeException e) {
+                flushFailures.increment();
+                log.warn("Could not flush views of {} profiles, keeping them for the next flush: {}",
+                        batch.size(), e.getMessage());
+                batch.forEach(this::add);
+            } finally {
+                inFlight = Map.of();
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    private Map<ViewKey, Long> drain() {
+        Map<ViewKey, Long> batch = new HashMap<>();
+        long today = today();
+        pending.forEach((key, adder) -> {
+            long views = adder.sumThenReset();
+            if (views > 0) {
+                batch.put(key, views);
+            } else if (key.epochDay() < today) {
+                pending.remove(key, adder);
+            }
+        });
+        return batch;
+    }
+
+    // upserts go in the order of keys, so a bulk error's index names its key
+    private void write(List<ViewKey> keys, Map<ViewKey, Long> batch) {
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, COLLECTION);
+        for (ViewKey key : keys) {
+            String day = LocalDate.ofEpochDay(key.epochDay()).toString();
+            bulk.upsert(new Query(Criteria.where("_id").is(ProfileViewDay.idOf(key.userId(), day))),
+                    new Update()
+                            .inc("views", batch.get(key))
+                            .setOnInsert("userId", key.userId())
+                            .setOnInsert("day", day));
+        }
+        bulk.execute();
+    }
+
+    // UTC day, without allocating on the view path
+    private static long today() {
+        return Math.floorDiv(System.currentTimeMillis(), TimeUnit.DAYS.toMillis(1));
+    }
+}
@@ -0,0 +1,192 @@
+package org.example.enumtalentapi.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.enumtalentapi.audit.AuthEventType;
+import org.example.enumtalentapi.audit.AuthJournal;
+import org.example.enumtalentapi.dto.LoginRequest;
+import org.example.enumtalentapi.dto.SignupRequest;
+import org.example.enumtalentapi.entity.User;
+import org.example.enumtalentapi.entity.VerificationToken;
+import org.example.enumtalentapi.exception.ErrorCode;
+import org.example.enumtalentapi.repository.reactive.ReactiveUserRepository;
+import org.example.enumtalentapi.repository.reactive.ReactiveVerificationTokenRepository;
+import org.example.enumtalentapi.security.TokenRevocationList;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Non-blocking counterpart of {@link AuthServiceImpl} used in reactive mode.
+ * Password hashing runs on the bounded password-hash scheduler.
+ */
+@Slf4j
+@Service
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveAuthService {
+
+    private final ReactiveUserRepository userRepo;
+    private final ReactiveVerificationTokenRepository tokenRepo;
+    private final PasswordEncoder encoder;
+    private final Scheduler passwordHashScheduler;
+    private final AuthJournal journal;
+    private final TokenRevocationList revocationList;
+    private final TalentProfileService profileService;
+
+    public ReactiveAuthService(ReactiveUserRepository userRepo,
+                               ReactiveVerificationTokenRepository tokenRepo,
+                               PasswordEncoder encoder,
+                               @Qualifier("passwordHashScheduler") Scheduler passwordHashScheduler,
+                               AuthJournal journal,
+                               TokenRevocationList revocationList,
+                               TalentProfileService profileService) {
+        this.userRepo = userRepo;
+        this.tokenRepo = tokenRepo;
+        this.encoder = encoder;
+        this.passwordHashScheduler = passwordHashScheduler;
+        this.journal = journal;
+        this.revocationList = revocationList;
+        this.profileService = profileService;
+    }
+
+    public Mono<String> signup(SignupRequest request) {
+        return userRepo.findByEmail(request.getEmail())
+                .flatMap(user -> {
+                    if (user.isVerified()) {
+                        journal.append(AuthEventType.SIGNUP_REJECTED, user.getId(), request.getEmail());
+                        return Mono.<VerificationToken>error(ErrorCode.EMAIL_IN_USE.exception());
+                    }
+                    return tokenRepo.deleteByUser(user).then(createVerificationToken(user))
+                            .doOnNext(token -> journal.append(
+                                    AuthEventType.SIGNUP_RESENT, user.getId(), request.getEmail()));
+                })
+                .switchIfEmpty(Mono.defer(() -> encode(request.getPassword())
+                        .flatMap(hash -> {
+                            User newUser = new User();
+                            newUser.setEmail(request.getEmail());
+                            newUser.setPassword(hash);
+                            newUser.setVerified(false);
+                            newUser.setCreatedAt(LocalDateTime.now());
+                            return userRepo.save(newUser);
+                        })
+                        .flatMap(this::createVerificationToken)
+                        .doOnNext(token -> journal.append(
+                                AuthEventType.SIGNUP, token.getUser().getId(), request.getEmail()))))
+                .map(token -> "Signup successful. Verify using token=" + token.getToken());
+    }
+
+    private Mono<VerificationToken> createVerificationToken(User user) {
+        VerificationToken token = new VerificationToken();
+        token.setToken(UUID.randomUUID().toString());
+        token.setUser(user);
+        token.setUsed(false);
+        token.setExpiresAt(LocalDateTime.now().plusHours(24));
+        return tokenRepo.save(token);
+    }
+
+    public Mono<String> login(LoginRequest request) {
+        return userRepo.findByEmail(request.getEmail())
+                .switchIfEmpty(Mono.defer(() -> {
+                    journal.append(AuthEventType.LOGIN_FAILED_UNKNOWN_EMAIL, null, request.getEmail());
+                    return Mono.error(ErrorCode.INVALID_CREDENTIALS.exception());
+                }))
+                .flatMap(user -> {
+                    if (!user.isVerified()) {
+                        journal.append(AuthEventType.LOGIN_FAILED_NOT_VERIFIED, user.getId(), request.getEmail());
+                        return Mono.error(ErrorCode.EMAIL_NOT_VERIFIED.exception());
+                    }
+                    return matches(request.getPassword(), user.getPassword())
+                            .flatMap(matches -> {
+                                if (!matches) {
+                                    journal.append(AuthEventType.LOGIN_FAILED_BAD_PASSWORD,
+                                            user.getId(), request.getEmail());
+                                    return Mono.error(ErrorCode.INVALID_CREDENTIALS.exception());
+                                }
+                                user.setLastLogin(LocalDateTime.now());
+                                // a new login replaces the previous token, which then authenticates nothing
+                                user.setToken(UUID.randomUUID().toString());
+                                return userRepo.save(user);
+                            });
+                })
+                .doOnNext(user -> journal.append(AuthEventType.LOGIN, user.getId(), request.getEmail()))
+                .map(user -> "LOGIN_SUCCESS " + "userId=" + user.getId() + " token=" + user.getToken());
+    }
+
+    public Mono<String> verifyEmail(String tokenStr) {
+        return tokenRepo.findByToken(tokenStr)
+                .switchIfEmpty(Mono.defer(() -> {
+                    journal.append(AuthEventType.VERIFY_FAILED, null, null);
+                    return Mono.error(ErrorCode.TOKEN_INVALID.exception());
+                }))
+                .flatMap(token -> {
+                    User user = token.getUser();
+                    if (token.isUsed()) {
+                        journal.append(AuthEventType.VERIFY_FAILED, user.getId(), user.getEmail());
+                        return Mono.error(ErrorCode.TOKEN_ALREADY_USED.exception());
+                    }
+                    if (token.getExpiresAt().isBefore(LocalDateTime.now())) {
+                        journal.append(AuthEventType.VERIFY_FAILED, user.getId(), user.getEmail());
+                        return Mono.error(ErrorCode.TOKEN_EXPIRED.exception());
+                    }
+
+                    user.setVerified(true);
+                    token.setUsed(true);
+                    return tokenRepo.save(token).then(userRepo.save(user));
+                })
+                // the profile response includes the verified flag
+                .doOnNext(user -> profileService.evictProfile(user.getId()))
+                .doOnNext(user -> journal.append(AuthEventType.VERIFIED, user.getId(), user.getEmail()))
+                .thenReturn("EMAIL_VERIFIED");
+    }
+
+    public Mono<String> logout(String userId) {
+        return userRepo.findById(userId)
+                .switchIfEmpty(Mono.error(ErrorCode.USER_NOT_FOUND.exception()))
+                .flatMap(user -> {
+                    // the caller is not authenticated here, so the session token is only revoked via logout-token
+                    user.setLastLogout(LocalDateTime.now());
+                    return userRepo.save(user);
+                })
+                .doOnNext(user -> {
+                    journal.append(AuthEventType.LOGOUT, user.getId(), user.getEmail());
+                    log.info("User {} logged out", user.getId());
+                })
+                .thenReturn("LOGOUT_SUCCESSFUL");
+    }
+
+    public Mono<String> logoutWithToken(String token) {
+        log.debug("Token-based logout requested");
+        // only tokens that belong to someone are stored, junk cannot fill the revocation list
+        return userRepo.findByToken(token)
+                .flatMap(user -> {
+                    user.setLastLogout(LocalDateTime.now());
+                    user.setToken(null);
+                    return userRepo.save(user);
+                })
+                .flatMap(user -> revoke(token).thenReturn(user.getId()))
+                .map(Optional::of)
+                .defaultIfEmpty(Optional.empty())
+                .doOnNext(userId -> journal.append(AuthEventType.TOKEN_LOGOUT, userId.orElse(null), null))
+                .thenReturn("LOGOUT_SUCCESSFUL");
+    }
+
+    // the revocation store is blocking
+    private Mono<Void> revoke(String token) {
+        return Mono.<Void>fromRunnable(() -> revocationList.revoke(token)).subscribeOn(Schedulers.boundedElastic());
+    }
+
+    private Mono<String> encode(String raw) {
+        return Mono.fromCallable(() -> encoder.encode(raw)).subscribeOn(passwordHashScheduler);
+    }
+
+    private Mono<Boolean> matches(String raw, String hash) {
+        return Mono.fromCallable(() -> encoder.matches(raw, hash)).subscribeOn(passwordHashScheduler);
+    }
+}
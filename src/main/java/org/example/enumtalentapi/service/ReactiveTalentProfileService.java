@@ -0,0 +1,145 @@
+package org.example.enumtalentapi.service;
+
+import lombok.RequiredArgsConstructor;
+import org.bson.Document;
+import org.example.enumtalentapi.dto.GeoSearchRequest;
+import org.example.enumtalentapi.dto.NearbyTalent;
+import org.example.enumtalentapi.dto.SimilarTalent;
+import org.example.enumtalentapi.dto.TalentFilterRequest;
+import org.example.enumtalentapi.dto.TalentProfileRequest;
+import org.example.enumtalentapi.dto.TalentProfileResponse;
+import org.example.enumtalentapi.dto.TalentSummary;
+import org.example.enumtalentapi.entity.TalentProfile;
+import org.example.enumtalentapi.entity.User;
+import org.example.enumtalentapi.exception.ErrorCode;
+import org.example.enumtalentapi.geo.Gazetteer;
+import org.example.enumtalentapi.geo.TalentGeoSearch;
+import org.example.enumtalentapi.repository.reactive.ReactiveTalentProfileRepository;
+import org.example.enumtalentapi.repository.reactive.ReactiveTalentProfileTextRepository;
+import org.example.enumtalentapi.repository.reactive.ReactiveUserRepository;
+import org.example.enumtalentapi.revision.ProfileRevisions;
+import org.example.enumtalentapi.salary.TalentFilter;
+import org.example.enumtalentapi.similarity.SimilarTalentIndex;
+import org.example.enumtalentapi.typeahead.SkillDictionary;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * Non-blocking counterpart of {@link TalentProfileService} used in reactive mode.
+ * Shares validation, completeness and mapping with the servlet service.
+ */
+@Service
+@RequiredArgsConstructor
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveTalentProfileService {
+
+    private final ReactiveTalentProfileRepository profileRepository;
+    private final ReactiveTalentProfileTextRepository textRepository;
+    private final ReactiveUserRepository userRepository;
+    private final SimilarTalentIndex similarTalentIndex;
+    private final SkillDictionary skillDictionary;
+    private final Gazetteer gazetteer;
+    private final TalentGeoSearch geoSearch;
+    private final TalentFilter talentFilter;
+    private final CompletenessStats completenessStats;
+    private final ProfileRevisions profileRevisions;
+    private final ReactiveMongoTemplate mongoTemplate;
+    private final TalentProfileService profileService;
+
+    public Mono<String> createOrUpdateProfile(String userId, TalentProfileRequest request) {
+        return requireVerifiedUser(userId)
+                .then(Mono.fromRunnable(() -> TalentProfileService.validateRequest(request)))
+                .then(profileRepository.findByUserId(userId)
+                        .defaultIfEmpty(newProfile(userId)))
+                .flatMap(profile -> {
+                    CompletenessStats.Shape before = CompletenessStats.Shape.of(profile);
+                    TalentProfileService.updateProfileFields(profile, request);
+                    TalentProfileService.normalizeSkills(profile, skillDictionary);
+                    TalentProfileService.resolveLocations(profile, gazetteer);
+                    TalentProfileService.parseSalary(profile);
+                    TalentProfileService.calculateCompleteness(profile);
+                    TalentProfileService.touch(profile);
+                    return profileRepository.save(profile)
+                            .doOnNext(saved -> completenessStats.record(before, profile))
+                            .flatMap(saved -> saveText(profile).thenReturn(profile));
+                })
+                .doOnNext(profile -> profileService.evictProfile(userId))
+                .doOnNext(similarTalentIndex::update)
+                .doOnNext(profileRevisions::record)
+                .map(profile -> "Talent profile updated successfully (" + profile.getCompleteness() + "% complete)");
+    }
+
+    public Mono<TalentProfileResponse> getMyProfile(String userId, boolean includeText) {
+        return userRepository.findById(userId)
+                .switchIfEmpty(Mono.error(ErrorCode.USER_NOT_FOUND.exception()))
+                .flatMap(user -> {
+                    TalentProfileResponse response = new TalentProfileResponse();
+                    response.setEmail(user.getEmail());
+                    response.setVerified(user.isVerified());
+
+                    return profileRepository.findByUserId(userId)
+                            .flatMap(profile -> includeText ? loadText(profile) : Mono.just(profile))
+                            .map(profile -> {
+                                TalentProfileService.mapProfileToResponse(profile, response);
+                                return response;
+                            })
+                            .switchIfEmpty(Mono.fromSupplier(() -> {
+                                TalentProfileService.markNotStarted(response);
+                                return response;
+                            }));
+                });
+    }
+
+    public Mono<List<SimilarTalent>> similar(String userId, int limit) {
+        // answered from memory, nothing blocks
+        return Mono.fromSupplier(() -> similarTalentIndex.similar(userId, limit));
+    }
+
+    public Mono<List<NearbyTalent>> nearby(GeoSearchRequest request) {
+        return Mono.defer(() -> mongoTemplate.aggregate(geoSearch.aggregation(request),
+                        TalentGeoSearch.PROFILE_COLLECTION, Document.class)
+                .map(TalentGeoSearch::toResult)
+                .collectList());
+    }
+
+    public Mono<List<TalentSummary>> filter(TalentFilterRequest request) {
+        return Mono.defer(() -> mongoTemplate.find(talentFilter.query(request), Document.class,
+                        TalentGeoSearch.PROFILE_COLLECTION)
+                .map(TalentFilter::toSummary)
+                .collectList());
+    }
+
+    private Mono<User> requireVerifiedUser(String userId) {
+        return userRepository.findById(userId)
+                .switchIfEmpty(Mono.error(ErrorCode.USER_NOT_FOUND.exception()))
+                .flatMap(user -> user.isVerified()
+                        ? Mono.just(user)
+                        : Mono.error(ErrorCode.EMAIL_NOT_VERIFIED.exception()));
+    }
+
+    private Mono<Void> saveText(TalentProfile profile) {
+        if (profile.getTranscript() == null && profile.getStatementOfPurpose() == null) {
+            return textRepository.deleteById(profile.getUserId());
+        }
+        return textRepository.save(TalentProfileTextService.toText(profile)).then();
+    }
+
+    private Mono<TalentProfile> loadText(TalentProfile profile) {
+        return textRepository.findById(profile.getUserId())
+                .map(text -> {
+                    TalentProfileTextService.applyText(profile, text);
+                    return profile;
+                })
+                .defaultIfEmpty(profile);
+    }
+
+    private TalentProfile newProfile(String userId) {
+        TalentProfile profile = new TalentProfile();
+        profile.setUserId(userId);
+        return profile;
+    }
+}
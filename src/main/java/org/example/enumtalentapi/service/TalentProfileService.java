@@ -1,15 +1,25 @@
 package org.example.enumtalentapi.service;
 
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import org.example.enumtalentapi.dto.TalentProfileRequest;
 import org.example.enumtalentapi.dto.TalentProfileResponse;
 import org.example.enumtalentapi.entity.TalentProfile;
 import org.example.enumtalentapi.entity.User;
-import org.example.enumtalentapi.exception.CustomException;
+import org.example.enumtalentapi.exception.ErrorCode;
+import org.example.enumtalentapi.geo.Gazetteer;
+import org.example.enumtalentapi.invalidation.InvalidationBus;
 import org.example.enumtalentapi.repository.TalentProfileRepository;
 import org.example.enumtalentapi.repository.UserRepository;
+import org.example.enumtalentapi.revision.ProfileRevisions;
+import org.example.enumtalentapi.salary.SalaryParser;
+import org.example.enumtalentapi.similarity.SimilarTalentIndex;
+import org.example.enumtalentapi.typeahead.SkillDictionary;
+import org.example.enumtalentapi.util.CircuitBreaker;
+import org.example.enumtalentapi.util.SingleFlight;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
@@ -18,50 +28,129 @@ import java.util.Optional;
 @RequiredArgsConstructor
 public class TalentProfileService {
 
+    static final String TEXT_KEY_SUFFIX = ":text";
+    private static final String PROFILE_CACHE = "profile";
+
     private final TalentProfileRepository profileRepository;
     private final UserRepository userRepository;
+    private final TalentProfileTextService textService;
+    private final SingleFlight<String, TalentProfileResponse> profileLoads;
+    private final ProfileReadCache profileCache;
+    private final CircuitBreaker mongoCircuitBreaker;
+    private final InvalidationBus invalidationBus;
+    private final SimilarTalentIndex similarTalentIndex;
+    private final SkillDictionary skillDictionary;
+    private final Gazetteer gazetteer;
+    private final CompletenessStats completenessStats;
+    private final ProfileRevisions profileRevisions;
+
+    @PostConstruct
+    void subscribeToInvalidations() {
+        invalidationBus.subscribe(PROFILE_CACHE, this::evictLocally, profileCache::clear);
+    }
 
     public String createOrUpdateProfile(String userId, TalentProfileRequest request) {
 
+        requireVerifiedUser(userId);
+
+        TalentProfile profile = findOrCreateProfile(userId);
+        CompletenessStats.Shape before = CompletenessStats.Shape.of(profile);
+
+        validateRequest(request);
+
+        updateProfileFields(profile, request);
+        normalizeSkills(profile, skillDictionary);
+        resolveLocations(profile, gazetteer);
+        parseSalary(profile);
+
+        calculateCompleteness(profile);
+        touch(profile);
+
+        profileRepository.save(profile);
+        completenessStats.record(before, profile);
+        textService.save(profile);
+        evictProfile(userId);
+        similarTalentIndex.update(profile);
+        profileRevisions.record(profile);
+
+        return "Talent profile updated successfully (" + profile.getCompleteness() + "% complete)";
+    }
+
+    /** Saves the profile as it was at the revision, which records a new revision. */
+    public String restoreRevision(String userId, long revision) {
+        TalentProfileRequest request = profileRevisions.get(userId, revision)
+                .orElseThrow(ErrorCode.REVISION_NOT_FOUND::exception)
+                .getProfile();
+        return createOrUpdateProfile(userId, request);
+    }
+
+    static void validateRequest(TalentProfileRequest request) {
+        if (request.getTranscript() != null && request.getTranscript().length() > 1000) {
+            throw ErrorCode.TRANSCRIPT_TOO_LONG.exception();
+        }
+        if (request.getStatementOfPurpose() != null && request.getStatementOfPurpose().length() > 2000) {
+            throw ErrorCode.STATEMENT_OF_PURPOSE_TOO_LONG.exception();
+        }
+        if (request.getBio() != null && request.getBio().length() > 500) {
+            throw ErrorCode.BIO_TOO_LONG.exception();
+        }
+    }
+
+    public User requireVerifiedUser(String userId) {
         User user = userRepository.findById(userId)
-                .orElseThrow(() -> new CustomException("USER_NOT_FOUND"));
+                .orElseThrow(ErrorCode.USER_NOT_FOUND::exception);
 
         if (!user.isVerified()) {
-            throw new CustomException("EMAIL_NOT_VERIFIED");
+            throw ErrorCode.EMAIL_NOT_VERIFIED.exception();
         }
+        return user;
+    }
+
+    public void attachProfilePicture(String userId, String url) {
+        TalentProfile profile = findOrCreateProfile(userId);
+        profile.setProfilePicture(url);
+        saveWithCompleteness(profile);
+        evictProfile(userId);
+    }
+
+    public void attachResume(String userId, String url) {
+        TalentProfile profile = findOrCreateProfile(userId);
+        profile.setResumeUrl(url);
+        saveWithCompleteness(profile);
+        evictProfile(userId);
+    }
 
-        TalentProfile profile = profileRepository.findByUserId(userId)
+    private TalentProfile findOrCreateProfile(String userId) {
+        return profileRepository.findByUserId(userId)
                 .orElseGet(() -> {
                     TalentProfile newProfile = new TalentProfile();
                     newProfile.setUserId(userId);
                     return newProfile;
                 });
+    }
 
-        if (request.getTranscript() != null && request.getTranscript().length() > 1000) {
-            throw new CustomException("Transcript too long, please shorten it thanks.");
-        }
-        if (request.getStatementOfPurpose() != null && request.getStatementOfPurpose().length() > 2000) {
-            throw new CustomException("Statement of Purpose too long, please shorten it thanks.");
-        }
-        if (request.getBio() != null && request.getBio().length() > 500) {
-            throw new CustomException("Bio too long, please shorten it thanks.");
+    // completeness counts the long-text fields, so they have to be loaded first
+    private void saveWithCompleteness(TalentProfile profile) {
+        CompletenessStats.Shape before = CompletenessStats.Shape.of(profile);
+        if (profile.getId() != null) {
+            textService.load(profile);
         }
-
-        updateProfileFields(profile, request);
-
         calculateCompleteness(profile);
-
+        touch(profile);
         profileRepository.save(profile);
-
-        return "Talent profile updated successfully (" + profile.getCompleteness() + "% complete)";
+        completenessStats.record(before, profile);
+        profileRevisions.record(profile);
     }
 
-    private void updateProfileFields(TalentProfile profile, TalentProfileRequest request) {
+    static void updateProfileFields(TalentProfile profile, TalentProfileRequest request) {
         profile.setFirstName(request.getFirstName());
         profile.setLastName(request.getLastName());
         profile.setPhone(request.getPhone());
         profile.setLocation(request.getLocation());
-        profile.setProfilePicture(request.getProfilePicture());
+        // uploaded media keeps its link unless the client sends a new one
+        if (request.getProfilePicture() != null) {
+            profile.setProfilePicture(request.getProfilePicture());
+        }
 
         profile.setBio(request.getBio());
         profile.setHeadline(request.getHeadline());
@@ -77,7 +166,9 @@ public class TalentProfileService {
 
         profile.setTranscript(request.getTranscript());
         profile.setStatementOfPurpose(request.getStatementOfPurpose());
-        profile.setResumeUrl(request.getResumeUrl());
+        if (request.getResumeUrl() != null) {
+            profile.setResumeUrl(request.getResumeUrl());
+        }
         profile.setPortfolioUrl(request.getPortfolioUrl());
 
         profile.setPreferredRoles(request.getPreferredRoles());
@@ -86,7 +177,35 @@ public class TalentProfileService {
         profile.setLocationPreference(request.getLocationPreference());
     }
 
-    private void calculateCompleteness(TalentProfile profile) {
+    // free-text skills and roles are stored in their canonical spelling, without blanks or duplicates
+    static void normalizeSkills(TalentProfile profile, SkillDictionary skillDictionary) {
+        profile.setSkills(skillDictionary.normalize(SkillDictionary.Kind.SKILLS, profile.getSkills()));
+        profile.setPreferredRoles(skillDictionary.normalize(SkillDictionary.Kind.ROLES, profile.getPreferredRoles()));
+    }
+
+    static void resolveLocations(TalentProfile profile, Gazetteer gazetteer) {
+        profile.setLocationPoint(gazetteer.resolvePoint(profile.getLocation()));
+        profile.setPreferredLocationPoint(gazetteer.resolvePoint(profile.getLocationPreference()));
+    }
+
+    // unparseable expectations clear the numeric fields, so the profile drops out of salary filters
+    static void parseSalary(TalentProfile profile) {
+        SalaryParser.Salary salary = SalaryParser.parse(profile.getSalaryExpectation());
+        profile.setSalaryMin(salary == null ? null : salary.min());
+        profile.setSalaryMax(salary == null ? null : salary.max());
+        profile.setSalaryCurrency(salary == null ? null : salary.currency());
+    }
+
+    // cache snapshots are checked against updatedAt, every write has to set it
+    static void touch(TalentProfile profile) {
+        LocalDateTime now = LocalDateTime.now();
+        if (profile.getCreatedAt() == null) {
+            profile.setCreatedAt(now);
+        }
+        profile.setUpdatedAt(now);
+    }
+
+    static void calculateCompleteness(TalentProfile profile) {
         List<String> missing = new ArrayList<>();
         int totalFields = 10;
         int completedFields = 0;
@@ -126,13 +245,46 @@ public class TalentProfileService {
         profile.setMissingFields(missing);
     }
 
-    private boolean isNotEmpty(String field) {
+    private static boolean isNotEmpty(String field) {
         return field != null && !field.trim().isEmpty();
     }
 
     public TalentProfileResponse getMyProfile(String userId) {
+        return getMyProfile(userId, false);
+    }
+
+    /**
+     * Same as {@link #getMyProfile(String)} but also loads transcript and
+     * statement of purpose from the side collection.
+     */
+    public TalentProfileResponse getMyProfileWithText(String userId) {
+        return getMyProfile(userId, true);
+    }
+
+    // the returned response may be shared with concurrent callers, treat it as read-only
+    private TalentProfileResponse getMyProfile(String userId, boolean includeText) {
+        String key = includeText ? userId + TEXT_KEY_SUFFIX : userId;
+        return profileCache.get(key, () -> profileLoads.load(key,
+                () -> mongoCircuitBreaker.call(() -> loadProfile(userId, includeText))));
+    }
+
+    /**
+     * Drops cached reads of the user's profile here and on the other nodes;
+     * call after anything that changes what {@link #getMyProfile(String)} returns.
+     */
+    public void evictProfile(String userId) {
+        evictLocally(userId);
+        invalidationBus.publish(PROFILE_CACHE, userId);
+    }
+
+    private void evictLocally(String userId) {
+        profileCache.invalidate(userId);
+        profileCache.invalidate(userId + TEXT_KEY_SUFFIX);
+    }
+
+    private TalentProfileResponse loadProfile(String userId, boolean includeText) {
         User user = userRepository.findById(userId)
-                .orElseThrow(() -> new CustomException("USER_NOT_FOUND"));
+                .orElseThrow(ErrorCode.USER_NOT_FOUND::exception);
 
         // Always return user email, even if profile doesn't exist
         TalentProfileResponse response = new TalentProfileResponse();
@@ -144,18 +296,25 @@ public class TalentProfileService {
 
         if (profileOpt.isPresent()) {
             TalentProfile profile = profileOpt.get();
+            if (includeText) {
+                textService.load(profile);
+            }
             mapProfileToResponse(profile, response);
         } else {
-            response.setCompleteness(0);
-            response.setMissingFields(List.of("firstName", "lastName", "bio", "headline", "skills",
-                    "experienceLevel", "location", "transcript", "statementOfPurpose"));
-            response.setMessage("Profile not started. Complete your profile to get started!");
+            markNotStarted(response);
         }
 
         return response;
     }
 
-    private void mapProfileToResponse(TalentProfile profile, TalentProfileResponse response) {
+    static void markNotStarted(TalentProfileResponse response) {
+        response.setCompleteness(0);
+        response.setMissingFields(List.of("firstName", "lastName", "bio", "headline", "skills",
+                "experienceLevel", "location", "transcript", "statementOfPurpose"));
+        response.setMessage("Profile not started. Complete your profile to get started!");
+    }
+
+    static void mapProfileToResponse(TalentProfile profile, TalentProfileResponse response) {
         response.setFirstName(profile.getFirstName());
         response.setLastName(profile.getLastName());
         response.setPhone(profile.getPhone());
@@ -0,0 +1,127 @@
+package org.example.enumtalentapi.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.example.enumtalentapi.entity.TalentProfile;
+import org.example.enumtalentapi.entity.TalentProfileText;
+import org.example.enumtalentapi.repository.TalentProfileTextRepository;
+import org.example.enumtalentapi.util.TextCompressor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * Reads and writes the long-text fields (transcript, statement of purpose)
+ * that live in the talent_profile_texts side collection.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TalentProfileTextService {
+
+    static final String PROFILE_COLLECTION = "talent_profiles";
+    private static final int MIGRATION_BATCH = 500;
+
+    private final TalentProfileTextRepository textRepository;
+    private final MongoTemplate mongoTemplate;
+
+    @Value("${enumtalent.profile-text.migrate-on-startup:true}")
+    private boolean migrateOnStartup;
+
+    public void save(TalentProfile profile) {
+        if (profile.getTranscript() == null && profile.getStatementOfPurpose() == null) {
+            textRepository.deleteById(profile.getUserId());
+            return;
+        }
+
+        textRepository.save(toText(profile));
+    }
+
+    /**
+     * Fills the transient text fields of the given profile. Only called when
+     * a caller explicitly asks for the long text.
+     */
+    public void load(TalentProfile profile) {
+        Optional<TalentProfileText> text = textRepository.findById(profile.getUserId());
+        text.ifPresent(t -> applyText(profile, t));
+    }
+
+    static TalentProfileText toText(TalentProfile profile) {
+        TalentProfileText text = new TalentProfileText();
+        text.setUserId(profile.getUserId());
+        text.setTranscript(TextCompressor.compress(profile.getTranscript()));
+        text.setStatementOfPurpose(TextCompressor.compress(profile.getStatementOfPurpose()));
+        text.setUpdatedAt(LocalDateTime.now());
+        return text;
+    }
+
+    static void applyText(TalentProfile profile, TalentProfileText text) {
+        profile.setTranscript(TextCompressor.decompress(text.getTranscript()));
+        profile.setStatementOfPurpose(TextCompressor.decompress(text.getStatementOfPurpose()));
+    }
+
+    /**
+     * Moves text still stored inline on old profile documents into the side
+     * collection. Runs once per start and is a no-op when nothing is left.
+     * The inline fields are only removed once the side document is saved;
+     * documents without a userId have nowhere to move their text to and are
+     * left as they are.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void migrateInlineText() {
+        if (!migrateOnStartup) return;
+
+        Criteria hasInlineText = new Criteria().orOperator(
+                Criteria.where("transcript").exists(true),
+                Criteria.where("statementOfPurpose").exists(true));
+        Query inline = new Query(new Criteria().andOperator(hasInlineText, Criteria.where("userId").ne(null)));
+        inline.fields().include("userId", "transcript", "statementOfPurpose");
+        inline.limit(MIGRATION_BATCH);
+
+        try {
+            long orphaned = mongoTemplate.count(
+                    new Query(new Criteria().andOperator(hasInlineText, Criteria.where("userId").is(null))),
+                    PROFILE_COLLECTION);
+            if (orphaned > 0) {
+                log.warn("{} talent profiles without a userId keep their inline text", orphaned);
+            }
+
+            int moved = 0;
+            while (true) {
+                var batch = mongoTemplate.find(inline, Document.class, PROFILE_COLLECTION);
+                if (batch.isEmpty()) break;
+
+                for (Document doc : batch) {
+                    TalentProfile profile = new TalentProfile();
+                    profile.setUserId(doc.getString("userId"));
+                    profile.setTranscript(doc.getString("transcript"));
+                    profile.setStatementOfPurpose(doc.getString("statementOfPurpose"));
+                    // inline nulls carry no text, and saving them would delete an existing side document
+                    if (profile.getTranscript() != null || profile.getStatementOfPurpose() != null) {
+                        save(profile);
+                    }
+
+                    mongoTemplate.updateFirst(
+                            new Query(Criteria.where("_id").is(doc.get("_id"))),
+                            new Update().unset("transcript").unset("statementOfPurpose"),
+                            PROFILE_COLLECTION);
+                    moved++;
+                }
+            }
+            if (moved > 0) {
+                log.info("Moved inline text of {} talent profiles to talent_profile_texts", moved);
+            }
+        } catch (Exception e) {
+            log.warn("Inline profile text migration skipped: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package org.example.enumtalentapi.similarity;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * MinHash signatures and their LSH band keys. Two sets agree on any one
+ * signature position with probability equal to their Jaccard similarity, so
+ * with {@code bands} bands of {@code rows} positions a pair at similarity s
+ * shares at least one band key with probability {@code 1 - (1 - s^rows)^bands}.
+ * Seeds are fixed, signatures from different runs and nodes are comparable.
+ */
+final class MinHasher {
+
+    private static final long SEED = 0x5EED_5EED_5EED_5EEDL;
+
+    private final int bands;
+    private final int rows;
+    private final long[] seeds;
+
+    MinHasher(int bands, int rows) {
+        this.bands = bands;
+        this.rows = rows;
+        this.seeds = new SplittableRandom(SEED).longs(bands * rows).toArray();
+    }
+
+    int[] signature(Iterable<String> features) {
+        int[] signature = new int[seeds.length];
+        Arrays.fill(signature, Integer.MAX_VALUE);
+        for (String feature : features) {
+            long base = hash(feature);
+            for (int i = 0; i < seeds.length; i++) {
+                int value = (int) (mix(base ^ seeds[i]) >>> 33);
+                if (value < signature[i]) {
+                    signature[i] = value;
+                }
+            }
+        }
+        return signature;
+    }
+
+    /** One key per band; the band index is mixed in so equal rows in different bands do not collide. */
+    long[] bandKeys(int[] signature) {
+        long[] keys = new long[bands];
+        for (int band = 0; band < bands; band++) {
+            long key = band;
+            for (int row = 0; row < rows; row++) {
+                key = mix(key * 31 + signature[band * rows + row]);
+            }
+            keys[band] = key;
+        }
+        return keys;
+    }
+
+    // FNV-1a over the chars, finished with a mix so similar strings spread
+    private static long hash(String value) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            hash ^= value.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        return mix(hash);
+    }
+
+    // SplitMix64 finalizer
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+}
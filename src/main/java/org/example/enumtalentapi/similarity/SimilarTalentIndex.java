@@ -0,0 +1,377 @@
+package org.example.enumtalentapi.similarity;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.example.enumtalentapi.dto.SimilarTalent;
+import org.example.enumtalentapi.entity.TalentProfile;
+import org.example.enumtalentapi.invalidation.InvalidationBus;
+import org.example.enumtalentapi.repository.TalentProfileRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * "More like this" over talent profiles, answered from memory.
+ *
+ * <p>Each visible profile is reduced to its normalized skills and preferred
+ * roles, summarized by a {@link MinHasher} signature and filed under one LSH
+ * bucket per band. A query only looks at the profiles sharing a bucket with
+ * the source, ranks them by exact Jaccard similarity of the feature sets and
+ * keeps the top N, so its cost follows the number of look-alikes rather than
+ * the size of the collection. Pairs below roughly
+ * {@code (1/bands)^(1/rows)} similarity are mostly not found, by design.
+ *
+ * <p>Profile writes update the index in place and tell the other nodes over
+ * the {@link InvalidationBus}, which reload that one profile. The full index
+ * is built in the background after startup and retried until it succeeds;
+ * until then only profiles written since startup are found
+ * ({@code enumtalent.similarity.loaded} reports 0 meanwhile).
+ */
+@Slf4j
+@Component
+public class SimilarTalentIndex {
+
+    static final String BUS_CACHE = "similar-talent";
+    private static final int LOAD_PAGE = 1000;
+    private static final long RETRY_MILLIS = 5000;
+    private static final int MAX_LIMIT = 100;
+
+    private record Entry(String userId, Set<String> features, long[] bandKeys, TalentProfile card) {
+    }
+
+    private final TalentProfileRepository profileRepository;
+    private final InvalidationBus invalidationBus;
+    private final boolean enabled;
+    private final int maxCandidates;
+    private final MinHasher hasher;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final Map<Long, Bucket> buckets = new ConcurrentHashMap<>();
+    // serializes writers, keeps a profile's entry and its bucket memberships changing together
+    private final ReentrantLock writeLock = new ReentrantLock();
+
+    private volatile boolean loaded;
+    private ScheduledExecutorService loader;
+
+    public SimilarTalentIndex(TalentProfileRepository profileRepository,
+                              InvalidationBus invalidationBus,
+                              @Value("${enumtalent.similarity.enabled:true}") boolean enabled,
+                              @Value("${enumtalent.similarity.bands:32}") int bands,
+                              @Value("${enumtalent.similarity.rows:4}") int rows,
+                              @Value("${enumtalent.similarity.max-candidates:2000}") int maxCandidates,
+                              MeterRegistry meterRegistry) {
+        this.profileRepository = profileRepository;
+        this.invalidationBus = invalidationBus;
+        this.enabled = enabled;
+        this.maxCandidates = maxCandidates;
+        this.hasher = new MinHasher(bands, rows);
+        Gauge.builder("enumtalent.similarity.profiles", entries, Map::size).register(meterRegistry);
+        Gauge.builder("enumtalent.similarity.buckets", buckets, Map::size).register(meterRegistry);
+        Gauge.builder("enumtalent.similarity.loaded", this, index -> index.loaded ? 1 : 0).register(meterRegistry);
+    }
+
+    @PostConstruct
+    void subscribe() {
+        if (!enabled) {
+            return;
+        }
+        loader = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "similar-talent-index");
+            thread.setDaemon(true);
+            return thread;
+        });
+        invalidationBus.subscribe(BUS_CACHE,
+                userId -> loader.execute(() -> reindex(userId)),
+                () -> loader.execute(this::loadUntilDone));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void build() {
+        if (enabled) {
+            loader.execute(this::loadUntilDone);
+        }
+    }
+
+    @PreDestroy
+    void stop() {
+        if (loader != null) {
+            loader.shutdownNow();
+        }
+    }
+
+    /** Call after a profile was saved; also updates the other nodes. */
+    public void update(TalentProfile profile) {
+        if (!enabled) {
+            return;
+        }
+        index(profile);
+        invalidationBus.publish(BUS_CACHE, profile.getUserId());
+    }
+
+    /**
+     * Up to {@code limit} visible profiles most similar to the user's, best
+     * first. Empty when the user has no indexed profile.
+     */
+    public List<SimilarTalent> similar(String userId, int limit) {
+        Entry source = entries.get(userId);
+        if (source == null) {
+            return List.of();
+        }
+        int wanted = Math.max(1, Math.min(limit, MAX_LIMIT));
+
+        Set<String> candidates = new HashSet<>();
+        for (long key : source.bandKeys()) {
+            Bucket bucket = buckets.get(key);
+            if (bucket != null) {
+                bucket.collect(candidates, maxCandidates);
+            }
+        }
+        candidates.remove(userId);
+
+        Comparator<SimilarTalent> worstFirst = Comparator.comparingDouble(SimilarTalent::getSimilarity)
+                .thenComparing(SimilarTalent::getUserId, Comparator.reverseOrder());
+        PriorityQueue<SimilarTalent> top = new PriorityQueue<>(worstFirst);
+        for (String candidateId : candidates) {
+            Entry candidate = entries.get(candidateId);
+            if (candidate == null) {
+                continue;
+            }
+            double similarity = jaccard(source.features(), candidate.features());
+            if (similarity == 0) {
+                continue;
+            }
+            top.add(toResult(candidate, similarity));
+            if (top.size() > wanted) {
+                top.poll();
+            }
+        }
+
+        List<SimilarTalent> results = new ArrayList<>(top);
+        results.sort(worstFirst.reversed());
+        return results;
+    }
+
+    private void index(TalentProfile profile) {
+        Set<String> features = features(profile);
+        writeLock.lock();
+        try {
+            Entry previous = features.isEmpty() || !profile.isProfileVisible()
+                    ? entries.remove(profile.getUserId())
+                    : entries.put(profile.getUserId(), newEntry(profile, features));
+            Entry current = entries.get(profile.getUserId());
+            if (previous != null) {
+                for (long key : previous.bandKeys()) {
+                    buckets.computeIfPresent(key, (k, bucket) -> bucket.remove(previous.userId()) ? bucket : null);
+                }
+            }
+            if (current != null) {
+                for (long key : current.bandKeys()) {
+                    buckets.computeIfAbsent(key, k -> new Bucket()).add(current.userId());
+                }
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Members of one LSH bucket. Most buckets hold one or two profiles, so
+     * they start as a plain array; one that outgrows {@link #SMALL} switches
+     * to a concurrent set, where adds and removals stay constant time however
+     * many profiles look alike. Writers hold the write lock. An add to the
+     * array fills the next slot and publishes the array before the size, so a
+     * reader that reads the size first gets an array at least that long; a
+     * removal copies. Once the set is published the array is left untouched.
+     */
+    private static final class Bucket {
+        private static final int SMALL = 16;
+
+        private volatile String[] members = new String[1];
+        private volatile int size;
+        private volatile Set<String> large;
+
+        void add(String userId) {
+            if (large != null) {
+                large.add(userId);
+                return;
+            }
+            if (size == SMALL) {
+                Set<String> grown = ConcurrentHashMap.newKeySet();
+                grown.addAll(Arrays.asList(members).subList(0, size));
+                grown.add(userId);
+                large = grown;
+                return;
+            }
+            String[] current = members;
+            if (size == current.length) {
+                current = Arrays.copyOf(current, current.length * 2);
+            }
+            current[size] = userId;
+            members = current;
+            size++;
+        }
+
+        /** Returns false once the bucket is empty. */
+        boolean remove(String userId) {
+            if (large != null) {
+                large.remove(userId);
+                return !large.isEmpty();
+            }
+            String[] current = members;
+            String[] kept = new String[current.length];
+            int count = 0;
+            for (int i = 0; i < size; i++) {
+                if (!current[i].equals(userId)) {
+                    kept[count++] = current[i];
+                }
+            }
+            members = kept;
+            size = count;
+            return count > 0;
+        }
+
+        void collect(Set<String> candidates, int max) {
+            Set<String> set = large;
+            if (set != null) {
+                for (String member : set) {
+                    if (candidates.size() >= max) {
+                        return;
+                    }
+                    candidates.add(member);
+                }
+                return;
+            }
+            int count = size;
+            String[] current = members;
+            for (int i = 0; i < count && candidates.size() < max; i++) {
+                // a concurrent removal can leave the tail empty
+                if (current[i] != null) {
+                    candidates.add(current[i]);
+                }
+            }
+        }
+    }
+
+    private Entry newEntry(TalentProfile profile, Set<String> features) {
+        // only what a result shows is kept, not the whole document
+        TalentProfile card = new TalentProfile();
+        card.setUserId(profile.getUserId());
+        card.setFirstName(profile.getFirstName());
+        card.setLastName(profile.getLastName());
+        card.setHeadline(profile.getHeadline());
+        card.setSkills(profile.getSkills() == null ? null : List.copyOf(profile.getSkills()));
+        card.setPreferredRoles(profile.getPreferredRoles() == null ? null : List.copyOf(profile.getPreferredRoles()));
+        return new Entry(profile.getUserId(), features, hasher.bandKeys(hasher.signature(features)), card);
+    }
+
+    private void reindex(String userId) {
+        try {
+            profileRepository.findByUserId(userId).ifPresentOrElse(this::index, () -> remove(userId));
+        } catch (RuntimeException e) {
+            log.warn("Could not reindex similar talent for {}: {}", userId, e.getMessage());
+        }
+    }
+
+    private void remove(String userId) {
+        TalentProfile gone = new TalentProfile();
+        gone.setUserId(userId);
+        index(gone);
+    }
+
+    private void loadUntilDone() {
+        loaded = false;
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                load();
+                return;
+            } catch (RuntimeException e) {
+                log.warn("Could not build the similar talent index, retrying in {} ms: {}", RETRY_MILLIS, e.getMessage());
+                try {
+                    Thread.sleep(RETRY_MILLIS);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+    }
+
+    // profiles written meanwhile are indexed by update() too, indexing twice is harmless
+    private void load() {
+        long started = System.nanoTime();
+        int count = 0;
+        // pages follow _id rather than skip, so a page costs the same however deep the scan is
+        PageRequest page = PageRequest.of(0, LOAD_PAGE, Sort.by("id"));
+        List<TalentProfile> profiles = profileRepository.findAllBy(page);
+        while (!profiles.isEmpty()) {
+            profiles.forEach(this::index);
+            count += profiles.size();
+            if (profiles.size() < LOAD_PAGE) {
+                break;
+            }
+            profiles = profileRepository.findByIdGreaterThan(profiles.get(profiles.size() - 1).getId(), page);
+        }
+        loaded = true;
+        log.info("Similar talent index built from {} profiles in {} ms", count,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+    }
+
+    static Set<String> features(TalentProfile profile) {
+        Set<String> features = new HashSet<>();
+        addFeatures(features, "skill:", profile.getSkills());
+        addFeatures(features, "role:", profile.getPreferredRoles());
+        return features;
+    }
+
+    private static void addFeatures(Set<String> features, String prefix, List<String> values) {
+        if (values == null) {
+            return;
+        }
+        for (String value : values) {
+            if (value == null) {
+                continue;
+            }
+            String normalized = value.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+            if (!normalized.isEmpty()) {
+                features.add(prefix + normalized);
+            }
+        }
+    }
+
+    static double jaccard(Set<String> a, Set<String> b) {
+        Set<String> smaller = a.size() <= b.size() ? a : b;
+        Set<String> larger = smaller == a ? b : a;
+        int shared = 0;
+        for (String feature : smaller) {
+            if (larger.contains(feature)) {
+                shared++;
+            }
+        }
+        return (double) shared / (a.size() + b.size() - shared);
+    }
+
+    private static SimilarTalent toResult(Entry entry, double similarity) {
+        TalentProfile card = entry.card();
+        return new SimilarTalent(card.getUserId(), card.getFirstName(), card.getLastName(), card.getHeadline(),
+                card.getSkills(), card.getPreferredRoles(), similarity);
+    }
+}
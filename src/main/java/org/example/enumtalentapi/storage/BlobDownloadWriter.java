@@ -0,0 +1,156 @@
+package org.example.enumtalentapi.storage;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Writes a stored blob to the HTTP response with ETag, conditional GET and
+ * single-range support. Local files go out through Tomcat sendfile when the
+ * connector supports it and {@link FileChannel#transferTo} otherwise; other
+ * stores are streamed through a fixed buffer.
+ */
+@Component
+@RequiredArgsConstructor
+public class BlobDownloadWriter {
+
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    // below this sendfile setup costs more than it saves
+    private static final long SENDFILE_MIN_BYTES = 48 * 1024;
+
+    private final BlobStore blobStore;
+
+    public void write(StoredBlob blob, HttpServletRequest request, HttpServletResponse response) throws IOException {
+        response.setHeader(HttpHeaders.ETAG, blob.etag());
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "private, max-age=0, must-revalidate");
+        response.setDateHeader(HttpHeaders.LAST_MODIFIED, blob.lastModified().toEpochMilli());
+
+        String ifNoneMatch = request.getHeader(HttpHeaders.IF_NONE_MATCH);
+        if (ifNoneMatch != null && etagMatches(ifNoneMatch, blob.etag())) {
+            response.setStatus(HttpStatus.NOT_MODIFIED.value());
+            return;
+        }
+
+        long size = blob.size();
+        long start = 0;
+        long length = size;
+
+        Optional<HttpRange> range = requestedRange(request, blob);
+        if (range.isPresent()) {
+            if (size == 0 || !isSatisfiable(range.get(), size)) {
+                response.setStatus(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE.value());
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + size);
+                return;
+            }
+            start = range.get().getRangeStart(size);
+            long end = range.get().getRangeEnd(size);
+            length = end - start + 1;
+            response.setStatus(HttpStatus.PARTIAL_CONTENT.value());
+            response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + size);
+        } else {
+            response.setStatus(HttpStatus.OK.value());
+        }
+
+        response.setContentType(blob.contentType());
+        response.setContentLengthLong(length);
+        if ("HEAD".equals(request.getMethod()) || length == 0) {
+            return;
+        }
+
+        Optional<Path> local = blobStore.localPath(blob.key());
+        if (local.isPresent()) {
+            if (length >= SENDFILE_MIN_BYTES && Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+                request.setAttribute(SENDFILE_FILENAME, local.get().toString());
+                request.setAttribute(SENDFILE_START, start);
+                request.setAttribute(SENDFILE_END, start + length);
+                return;
+            }
+            transfer(local.get(), start, length, response.getOutputStream());
+        } else {
+            try (InputStream in = blobStore.open(blob.key(), start)) {
+                copy(in, response.getOutputStream(), length);
+            }
+        }
+    }
+
+    private void transfer(Path file, long start, long length, OutputStream out) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            WritableByteChannel target = Channels.newChannel(out);
+            long position = start;
+            long remaining = length;
+            while (remaining > 0) {
+                long sent = channel.transferTo(position, remaining, target);
+                if (sent <= 0) break;
+                position += sent;
+                remaining -= sent;
+            }
+        }
+    }
+
+    private void copy(InputStream in, OutputStream out, long length) throws IOException {
+        byte[] buffer = new byte[16 * 1024];
+        long remaining = length;
+        while (remaining > 0) {
+            int n = in.read(buffer, 0, (int) Math.min(buffer.length, remaining));
+            if (n < 0) break;
+            out.write(buffer, 0, n);
+            remaining -= n;
+        }
+    }
+
+    /** Only a single range is honoured; multi-range requests get the full body. */
+    private Optional<HttpRange> requestedRange(HttpServletRequest request, StoredBlob blob) {
+        String header = request.getHeader(HttpHeaders.RANGE);
+        if (header == null) return Optional.empty();
+
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (ifRange != null && !ifRange.equals(blob.etag())) {
+            return Optional.empty();
+        }
+
+        try {
+            List<HttpRange> ranges = HttpRange.parseRanges(header);
+            return ranges.size() == 1 ? Optional.of(ranges.get(0)) : Optional.empty();
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+
+    private boolean isSatisfiable(HttpRange range, long size) {
+        try {
+            return range.getRangeStart(size) < size;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    private boolean etagMatches(String header, String etag) {
+        if (etag == null) return false;
+        for (String candidate : header.split(",")) {
+            String value = candidate.trim();
+            if (value.startsWith("W/")) value = value.substring(2);
+            if (value.equals("*") || value.equals(etag)) return true;
+        }
+        return false;
+    }
+}
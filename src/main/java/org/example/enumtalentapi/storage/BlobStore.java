@@ -0,0 +1,40 @@
+package org.example.enumtalentapi.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Storage for uploaded profile media. Implementations must stream content in
+ * both directions; callers never hand over or receive a whole file as a byte array.
+ */
+public interface BlobStore {
+
+    /**
+     * Stores the stream under the key, replacing any previous blob.
+     *
+     * @param maxBytes upload is rejected with {@link BlobTooLargeException} past this size
+     */
+    StoredBlob put(String key, InputStream content, String contentType, long maxBytes,
+                   Map<String, String> attributes) throws IOException;
+
+    Optional<StoredBlob> stat(String key);
+
+    /** Custom attributes stored with the blob, e.g. the source etag of a thumbnail. */
+    Map<String, String> attributes(String key);
+
+    /** Opens the blob positioned at {@code offset}. */
+    InputStream open(String key, long offset) throws IOException;
+
+    /**
+     * Path of the blob on the local filesystem when the store keeps one, which
+     * lets downloads use {@code FileChannel.transferTo} or the container's sendfile.
+     */
+    default Optional<Path> localPath(String key) {
+        return Optional.empty();
+    }
+
+    void delete(String key);
+}
@@ -0,0 +1,9 @@
+package org.example.enumtalentapi.storage;
+
+import java.io.IOException;
+
+public class BlobTooLargeException extends IOException {
+    public BlobTooLargeException(long maxBytes) {
+        super("Upload exceeds " + maxBytes + " bytes");
+    }
+}
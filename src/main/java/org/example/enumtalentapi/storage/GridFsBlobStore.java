@@ -0,0 +1,100 @@
+package org.example.enumtalentapi.storage;
+
+import com.mongodb.client.gridfs.model.GridFSFile;
+import lombok.RequiredArgsConstructor;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.data.mongodb.gridfs.GridFsResource;
+import org.springframework.data.mongodb.gridfs.GridFsTemplate;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * {@link BlobStore} on Mongo GridFS, enabled with {@code enumtalent.blob.store=gridfs}.
+ * Content is chunked by the driver, so neither upload nor download holds a whole file.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "enumtalent.blob.store", havingValue = "gridfs")
+public class GridFsBlobStore implements BlobStore {
+
+    private static final String FILES_COLLECTION = "fs.files";
+
+    private final GridFsTemplate gridFsTemplate;
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public StoredBlob put(String key, InputStream content, String contentType, long maxBytes,
+                          Map<String, String> attributes) throws IOException {
+        HashingInputStream in = new HashingInputStream(content, maxBytes);
+        Document metadata = new Document(attributes);
+        ObjectId id = gridFsTemplate.store(in, key, contentType, metadata);
+
+        // the hash is only known once the stream is drained, so it is patched in afterwards;
+        // until then latest() skips this revision and readers keep seeing the previous one
+        mongoTemplate.updateFirst(new Query(Criteria.where("_id").is(id)),
+                new Update().set("metadata.etag", in.etag()), FILES_COLLECTION);
+
+        // drop older revisions only after the new one is complete
+        gridFsTemplate.delete(new Query(Criteria.where("filename").is(key).and("_id").ne(id)));
+        return stat(key).orElseThrow();
+    }
+
+    @Override
+    public Optional<StoredBlob> stat(String key) {
+        return latest(key).map(file -> {
+            Document metadata = file.getMetadata() != null ? file.getMetadata() : new Document();
+            return new StoredBlob(
+                    key,
+                    file.getLength(),
+                    metadata.getString("_contentType") != null
+                            ? metadata.getString("_contentType") : "application/octet-stream",
+                    metadata.getString("etag"),
+                    file.getUploadDate().toInstant());
+        });
+    }
+
+    @Override
+    public Map<String, String> attributes(String key) {
+        Map<String, String> attributes = new HashMap<>();
+        latest(key).map(GridFSFile::getMetadata).ifPresent(metadata -> metadata.forEach((k, v) -> {
+            if (!k.startsWith("_") && !"etag".equals(k) && v != null) {
+                attributes.put(k, v.toString());
+            }
+        }));
+        return attributes;
+    }
+
+    @Override
+    public InputStream open(String key, long offset) throws IOException {
+        GridFSFile file = latest(key).orElseThrow(() -> new IOException("No blob " + key));
+        GridFsResource resource = gridFsTemplate.getResource(file);
+        InputStream in = resource.getInputStream();
+        // GridFS download streams skip whole chunks without fetching them
+        in.skipNBytes(offset);
+        return in;
+    }
+
+    @Override
+    public void delete(String key) {
+        gridFsTemplate.delete(new Query(Criteria.where("filename").is(key)));
+    }
+
+    private Optional<GridFSFile> latest(String key) {
+        Query query = new Query(Criteria.where("filename").is(key).and("metadata.etag").exists(true))
+                .with(Sort.by("uploadDate").descending())
+                .limit(1);
+        return Optional.ofNullable(gridFsTemplate.findOne(query));
+    }
+}
@@ -0,0 +1,64 @@
+package org.example.enumtalentapi.storage;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * Hashes and counts bytes as they pass through, failing once the limit is crossed.
+ */
+class HashingInputStream extends FilterInputStream {
+
+    private final MessageDigest digest;
+    private final long maxBytes;
+    private long count;
+
+    HashingInputStream(InputStream in, long maxBytes) {
+        super(in);
+        this.maxBytes = maxBytes;
+        try {
+            this.digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Override
+    public int read() throws IOException {
+        int b = super.read();
+        if (b >= 0) {
+            digest.update((byte) b);
+            count(1);
+        }
+        return b;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        int n = super.read(b, off, len);
+        if (n > 0) {
+            digest.update(b, off, n);
+            count(n);
+        }
+        return n;
+    }
+
+    private void count(int n) throws IOException {
+        count += n;
+        if (count > maxBytes) {
+            throw new BlobTooLargeException(maxBytes);
+        }
+    }
+
+    long count() {
+        return count;
+    }
+
+    /** Quoted strong etag built from the first 128 bits of the hash. */
+    String etag() {
+        return "\"" + HexFormat.of().formatHex(digest.digest(), 0, 16) + "\"";
+    }
+}
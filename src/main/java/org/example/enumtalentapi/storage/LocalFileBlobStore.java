@@ -0,0 +1,198 @@
+package org.example.enumtalentapi.storage;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+
+/**
+ * Default {@link BlobStore}: one file per blob version under a root directory plus a
+ * small properties sidecar with content type, etag, attributes and the name of the
+ * current version's file. Replacing the sidecar switches bytes and metadata together;
+ * blobs stored before versions existed keep their bytes at the key itself.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "enumtalent.blob.store", havingValue = "local", matchIfMissing = true)
+public class LocalFileBlobStore implements BlobStore {
+
+    private static final String META_SUFFIX = ".meta";
+    private static final String ATTR_PREFIX = "attr.";
+    private static final String FILE_PROPERTY = "file";
+
+    private final Path root;
+
+    public LocalFileBlobStore(@Value("${enumtalent.blob.local.root:./data/blobs}") String root) throws IOException {
+        this.root = Paths.get(root).toAbsolutePath().normalize();
+        Files.createDirectories(this.root);
+        log.info("Local blob store at {}", this.root);
+    }
+
+    @Override
+    public StoredBlob put(String key, InputStream content, String contentType, long maxBytes,
+                          Map<String, String> attributes) throws IOException {
+        Path target = resolve(key);
+        Files.createDirectories(target.getParent());
+        Path tmp = Files.createTempFile(target.getParent(), ".upload", ".tmp");
+
+        try {
+            HashingInputStream in = new HashingInputStream(content, maxBytes);
+            Files.copy(in, tmp, StandardCopyOption.REPLACE_EXISTING);
+
+            // the new version goes next to the current one, the sidecar then points readers at it
+            String etag = in.etag();
+            String version = target.getFileName() + "." + etag.replace("\"", "");
+            Files.move(tmp, target.resolveSibling(version),
+                    StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            Path previous = dataPath(target, readMeta(target));
+
+            Properties meta = new Properties();
+            meta.setProperty("contentType", contentType);
+            meta.setProperty("etag", etag);
+            meta.setProperty("size", Long.toString(in.count()));
+            meta.setProperty(FILE_PROPERTY, version);
+            attributes.forEach((k, v) -> meta.setProperty(ATTR_PREFIX + k, v));
+            writeMeta(target, meta);
+
+            if (!previous.getFileName().toString().equals(version)) {
+                Files.deleteIfExists(previous);
+            }
+            return stat(key).orElseThrow();
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+    }
+
+    @Override
+    public Optional<StoredBlob> stat(String key) {
+        Path file = resolve(key);
+
+        try {
+            Properties meta = readMeta(file);
+            Path data = dataPath(file, meta);
+            if (meta.getProperty("etag") == null || !Files.isRegularFile(data)) {
+                return Optional.empty();
+            }
+            return Optional.of(new StoredBlob(
+                    key,
+                    Files.size(data),
+                    meta.getProperty("contentType", "application/octet-stream"),
+                    meta.getProperty("etag"),
+                    Files.getLastModifiedTime(data).toInstant()));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public Map<String, String> attributes(String key) {
+        Path file = resolve(key);
+
+        try {
+            Map<String, String> attributes = new HashMap<>();
+            readMeta(file).forEach((k, v) -> {
+                String name = k.toString();
+                if (name.startsWith(ATTR_PREFIX)) {
+                    attributes.put(name.substring(ATTR_PREFIX.length()), v.toString());
+                }
+            });
+            return attributes;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public InputStream open(String key, long offset) throws IOException {
+        FileChannel channel = FileChannel.open(current(key), StandardOpenOption.READ);
+        channel.position(offset);
+        return Channels.newInputStream(channel);
+    }
+
+    @Override
+    public Optional<Path> localPath(String key) {
+        try {
+            Path file = current(key);
+            return Files.isRegularFile(file) ? Optional.of(file) : Optional.empty();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void delete(String key) {
+        Path file = resolve(key);
+        try {
+            Path data = dataPath(file, readMeta(file));
+            // the sidecar goes first so the blob stops being visible before its bytes do
+            Files.deleteIfExists(metaPath(file));
+            Files.deleteIfExists(data);
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("Could not delete blob {}: {}", key, e.getMessage());
+        }
+    }
+
+    private Path resolve(String key) {
+        Path path = root.resolve(key).normalize();
+        if (!path.startsWith(root)) {
+            throw new IllegalArgumentException("Invalid blob key: " + key);
+        }
+        return path;
+    }
+
+    private Path current(String key) throws IOException {
+        Path file = resolve(key);
+        return dataPath(file, readMeta(file));
+    }
+
+    private Path dataPath(Path file, Properties meta) {
+        String version = meta.getProperty(FILE_PROPERTY);
+        return version == null ? file : file.resolveSibling(version);
+    }
+
+    private Path metaPath(Path file) {
+        return file.resolveSibling(file.getFileName() + META_SUFFIX);
+    }
+
+    private void writeMeta(Path file, Properties meta) throws IOException {
+        Path tmp = Files.createTempFile(file.getParent(), ".meta", ".tmp");
+        try {
+            try (Writer writer = Files.newBufferedWriter(tmp, StandardCharsets.UTF_8)) {
+                meta.store(writer, null);
+            }
+            Files.move(tmp, metaPath(file), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+    }
+
+    private Properties readMeta(Path file) throws IOException {
+        Properties meta = new Properties();
+        Path metaFile = metaPath(file);
+        if (Files.exists(metaFile)) {
+            try (Reader reader = Files.newBufferedReader(metaFile, StandardCharsets.UTF_8)) {
+                meta.load(reader);
+            }
+        }
+        return meta;
+    }
+}
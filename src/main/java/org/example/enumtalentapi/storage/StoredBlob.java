@@ -0,0 +1,10 @@
+package org.example.enumtalentapi.storage;
+
+import java.time.Instant;
+
+/**
+ * Metadata of a blob held by a {@link BlobStore}. The etag is a content hash
+ * computed while the upload is streamed in, so it never needs the bytes in memory.
+ */
+public record StoredBlob(String key, long size, String contentType, String etag, Instant lastModified) {
+}
@@ -0,0 +1,208 @@
+package org.example.enumtalentapi.typeahead;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Immutable prefix trie over weighted terms, flattened into arrays.
+ *
+ * <p>Children of a node sit next to each other, sorted by their character, so
+ * a step down the trie is a binary search in a small range. Every node keeps
+ * the ids of its {@code topK} heaviest terms, which makes a completion a walk
+ * down the prefix and a copy, whatever the number of terms below. Terms are
+ * reachable from the start of their key and from the start of every later
+ * word in it, so "eng" completes "Backend Engineer" too.
+ */
+final class PrefixIndex {
+
+    static final PrefixIndex EMPTY = build(Map.of(), 1);
+
+    /** A term as it is indexed: its normalized key, how it is shown and its weight. */
+    record Term(String key, String display, long weight) {
+    }
+
+    private final Term[] terms;
+    // node 0 is the root; children of node n are childStart[n] until childStart[n] + childCount[n]
+    private final char[] labels;
+    private final int[] childStart;
+    private final int[] childCount;
+    // term whose whole key ends at the node, or -1
+    private final int[] exact;
+    // node n's best terms are topTerms[topStart[n]] until topTerms[topStart[n + 1]]
+    private final int[] topStart;
+    private final int[] topTerms;
+
+    private PrefixIndex(Term[] terms, char[] labels, int[] childStart, int[] childCount,
+                        int[] exact, int[] topStart, int[] topTerms) {
+        this.terms = terms;
+        this.labels = labels;
+        this.childStart = childStart;
+        this.childCount = childCount;
+        this.exact = exact;
+        this.topStart = topStart;
+        this.topTerms = topTerms;
+    }
+
+    int size() {
+        return terms.length;
+    }
+
+    /** Up to {@code limit} terms completing the normalized prefix, heaviest first. */
+    List<Term> complete(String prefixKey, int limit) {
+        int node = find(prefixKey);
+        if (node < 0) {
+            return List.of();
+        }
+        int from = topStart[node];
+        int to = Math.min(topStart[node + 1], from + limit);
+        List<Term> completions = new ArrayList<>(to - from);
+        for (int i = from; i < to; i++) {
+            completions.add(terms[topTerms[i]]);
+        }
+        return completions;
+    }
+
+    /** The term with exactly this normalized key, or null. */
+    Term exact(String key) {
+        int node = find(key);
+        return node < 0 || exact[node] < 0 ? null : terms[exact[node]];
+    }
+
+    private int find(String key) {
+        int node = 0;
+        for (int i = 0; i < key.length() && node >= 0; i++) {
+            node = child(node, key.charAt(i));
+        }
+        return node;
+    }
+
+    private int child(int node, char label) {
+        int low = childStart[node];
+        int high = low + childCount[node] - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            char at = labels[mid];
+            if (at < label) {
+                low = mid + 1;
+            } else if (at > label) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -1;
+    }
+
+    private static final class Node {
+        final TreeMap<Character, Node> children = new TreeMap<>();
+        int exact = -1;
+        int[] top = new int[0];
+    }
+
+    /** Builds the index from terms keyed by their normalized key. */
+    static PrefixIndex build(Map<String, Term> byKey, int topK) {
+        Term[] terms = byKey.values().stream()
+                .sorted((a, b) -> a.weight() != b.weight()
+                        ? Long.compare(b.weight(), a.weight())
+                        : a.key().compareTo(b.key()))
+                .toArray(Term[]::new);
+
+        Node root = new Node();
+        for (int id = 0; id < terms.length; id++) {
+            String key = terms[id].key();
+            for (int start = 0; start < key.length(); start++) {
+                if (start == 0 || key.charAt(start - 1) == ' ') {
+                    insert(root, key, start, id);
+                }
+            }
+        }
+        collectTop(root, topK);
+
+        // breadth first, so that the children of each node get consecutive numbers
+        List<Node> order = new ArrayList<>();
+        List<Character> labelOrder = new ArrayList<>();
+        ArrayDeque<Node> queue = new ArrayDeque<>();
+        order.add(root);
+        labelOrder.add('\0');
+        queue.add(root);
+        List<int[]> childRanges = new ArrayList<>();
+        while (!queue.isEmpty()) {
+            Node node = queue.poll();
+            childRanges.add(new int[]{order.size(), node.children.size()});
+            for (Map.Entry<Character, Node> child : node.children.entrySet()) {
+                order.add(child.getValue());
+                labelOrder.add(child.getKey());
+                queue.add(child.getValue());
+            }
+        }
+
+        int nodes = order.size();
+        char[] labels = new char[nodes];
+        int[] childStart = new int[nodes];
+        int[] childCount = new int[nodes];
+        int[] exact = new int[nodes];
+        int[] topStart = new int[nodes + 1];
+        int topTotal = 0;
+        for (int n = 0; n < nodes; n++) {
+            Node node = order.get(n);
+            labels[n] = labelOrder.get(n);
+            childStart[n] = childRanges.get(n)[0];
+            childCount[n] = childRanges.get(n)[1];
+            exact[n] = node.exact;
+            topStart[n] = topTotal;
+            topTotal += node.top.length;
+        }
+        topStart[nodes] = topTotal;
+        int[] topTerms = new int[topTotal];
+        for (int n = 0; n < nodes; n++) {
+            int[] top = order.get(n).top;
+            System.arraycopy(top, 0, topTerms, topStart[n], top.length);
+        }
+        return new PrefixIndex(terms, labels, childStart, childCount, exact, topStart, topTerms);
+    }
+
+    private static void insert(Node root, String key, int start, int id) {
+        Node node = root;
+        for (int i = start; i < key.length(); i++) {
+            node = node.children.computeIfAbsent(key.charAt(i), c -> new Node());
+        }
+        if (start == 0) {
+            node.exact = id;
+        }
+        // ids arrive in increasing order, the list stays sorted
+        node.top = mergeTop(node.top, new int[]{id}, Integer.MAX_VALUE);
+    }
+
+    // ids are ordered by weight, so the best terms are simply the smallest ids
+    private static void collectTop(Node node, int topK) {
+        int[] top = Arrays.copyOf(node.top, Math.min(node.top.length, topK));
+        for (Node child : node.children.values()) {
+            collectTop(child, topK);
+            top = mergeTop(top, child.top, topK);
+        }
+        node.top = top;
+    }
+
+    private static int[] mergeTop(int[] a, int[] b, int limit) {
+        int[] merged = new int[Math.min(limit, a.length + b.length)];
+        int i = 0;
+        int j = 0;
+        int size = 0;
+        while (size < merged.length && (i < a.length || j < b.length)) {
+            int next;
+            if (j == b.length || (i < a.length && a[i] <= b[j])) {
+                next = a[i++];
+            } else {
+                next = b[j++];
+            }
+            if (size == 0 || merged[size - 1] != next) {
+                merged[size++] = next;
+            }
+        }
+        return size == merged.length ? merged : Arrays.copyOf(merged, size);
+    }
+}
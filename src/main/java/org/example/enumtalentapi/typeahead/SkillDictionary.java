@@ -0,0 +1,213 @@
+package org.example.enumtalentapi.typeahead;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.example.enumtalentapi.dto.Suggestion;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationOptions;
+import org.springframework.stereotype.Component;
+
+import java.text.Normalizer;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * The skills and preferred roles profiles use, for typeahead and for
+ * normalizing what clients send.
+ *
+ * <p>Values are matched on a key that ignores case, Unicode presentation
+ * differences and extra whitespace, so "Java", "java " and "JAVA" are one
+ * term. Each term is shown in the spelling most profiles use. A background
+ * rebuild counts the stored values with one aggregation per field, builds a
+ * {@link PrefixIndex} for each and swaps them in together; requests only ever
+ * read the current immutable snapshot. Until the first rebuild, and whenever
+ * one fails, the previous snapshot keeps serving.
+ *
+ * <p>Spellings that differ by more than that, like "JAVA8" and "Java", stay
+ * separate terms.
+ */
+@Slf4j
+@Component
+public class SkillDictionary {
+
+    public enum Kind {
+        SKILLS("skills"),
+        ROLES("preferredRoles");
+
+        private final String field;
+
+        Kind(String field) {
+            this.field = field;
+        }
+    }
+
+    static final int MAX_LENGTH = 100;
+    private static final int TOP_K = 20;
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final String PROFILE_COLLECTION = "talent_profiles";
+
+    private record Snapshot(PrefixIndex skills, PrefixIndex roles) {
+        PrefixIndex of(Kind kind) {
+            return kind == Kind.SKILLS ? skills : roles;
+        }
+    }
+
+    private final MongoTemplate mongoTemplate;
+    private final boolean enabled;
+    private final Duration refreshInterval;
+
+    private volatile Snapshot snapshot = new Snapshot(PrefixIndex.EMPTY, PrefixIndex.EMPTY);
+    private ScheduledExecutorService rebuilder;
+
+    public SkillDictionary(MongoTemplate mongoTemplate,
+                           @Value("${enumtalent.typeahead.enabled:true}") boolean enabled,
+                           @Value("${enumtalent.typeahead.refresh-interval:10m}") Duration refreshInterval,
+                           MeterRegistry meterRegistry) {
+        this.mongoTemplate = mongoTemplate;
+        this.enabled = enabled;
+        this.refreshInterval = refreshInterval;
+        for (Kind kind : Kind.values()) {
+            Gauge.builder("enumtalent.typeahead.terms", this, dictionary -> dictionary.snapshot.of(kind).size())
+                    .tag("kind", kind.name().toLowerCase(Locale.ROOT))
+                    .register(meterRegistry);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        rebuilder = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "skill-dictionary");
+            thread.setDaemon(true);
+            return thread;
+        });
+        rebuilder.scheduleWithFixedDelay(this::rebuild, 0, refreshInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void stop() {
+        if (rebuilder != null) {
+            rebuilder.shutdownNow();
+        }
+    }
+
+    /** Up to {@code limit} terms starting with the prefix, or with a word starting with it, most used first. */
+    public List<Suggestion> suggest(Kind kind, String prefix, int limit) {
+        String key = key(clean(prefix));
+        if (key.isEmpty()) {
+            return List.of();
+        }
+        List<Suggestion> suggestions = new ArrayList<>();
+        for (PrefixIndex.Term term : snapshot.of(kind).complete(key, Math.max(1, Math.min(limit, TOP_K)))) {
+            suggestions.add(new Suggestion(term.display(), term.weight()));
+        }
+        return suggestions;
+    }
+
+    /**
+     * Cleans client input: trims and collapses whitespace, drops blanks and
+     * duplicates, and replaces known terms by their canonical spelling.
+     */
+    public List<String> normalize(Kind kind, List<String> values) {
+        if (values == null) {
+            return null;
+        }
+        PrefixIndex index = snapshot.of(kind);
+        Set<String> seen = new HashSet<>();
+        List<String> normalized = new ArrayList<>(values.size());
+        for (String value : values) {
+            String cleaned = clean(value);
+            String key = key(cleaned);
+            if (key.isEmpty() || !seen.add(key)) {
+                continue;
+            }
+            PrefixIndex.Term known = index.exact(key);
+            normalized.add(known != null ? known.display() : cleaned);
+        }
+        return normalized;
+    }
+
+    void rebuild() {
+        try {
+            long started = System.nanoTime();
+            Snapshot fresh = new Snapshot(build(Kind.SKILLS), build(Kind.ROLES));
+            snapshot = fresh;
+            log.info("Skill dictionary rebuilt with {} skills and {} roles in {} ms",
+                    fresh.skills().size(), fresh.roles().size(),
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+        } catch (RuntimeException e) {
+            log.warn("Could not rebuild the skill dictionary, keeping the previous one: {}", e.getMessage());
+        }
+    }
+
+    // only the distinct values and their counts leave the database
+    private PrefixIndex build(Kind kind) {
+        Aggregation aggregation = Aggregation.newAggregation(
+                Aggregation.unwind(kind.field),
+                Aggregation.group(kind.field).count().as("count"))
+                .withOptions(AggregationOptions.builder().allowDiskUse(true).build());
+        Map<String, Map<String, Long>> spellings = new HashMap<>();
+        for (Document row : mongoTemplate.aggregate(aggregation, PROFILE_COLLECTION, Document.class)) {
+            if (!(row.get("_id") instanceof String value)) {
+                continue;
+            }
+            String cleaned = clean(value);
+            String key = key(cleaned);
+            if (!key.isEmpty()) {
+                spellings.computeIfAbsent(key, k -> new HashMap<>())
+                        .merge(cleaned, ((Number) row.get("count")).longValue(), Long::sum);
+            }
+        }
+        return PrefixIndex.build(terms(spellings), TOP_K);
+    }
+
+    static Map<String, PrefixIndex.Term> terms(Map<String, Map<String, Long>> spellings) {
+        Map<String, PrefixIndex.Term> terms = new HashMap<>();
+        spellings.forEach((key, counts) -> {
+            String display = null;
+            long best = -1;
+            long total = 0;
+            for (Map.Entry<String, Long> spelling : counts.entrySet()) {
+                total += spelling.getValue();
+                if (spelling.getValue() > best
+                        || (spelling.getValue() == best && spelling.getKey().compareTo(display) < 0)) {
+                    best = spelling.getValue();
+                    display = spelling.getKey();
+                }
+            }
+            terms.put(key, new PrefixIndex.Term(key, display, total));
+        });
+        return terms;
+    }
+
+    static String clean(String value) {
+        if (value == null) {
+            return "";
+        }
+        String cleaned = WHITESPACE.matcher(Normalizer.normalize(value, Normalizer.Form.NFKC)).replaceAll(" ").trim();
+        return cleaned.length() > MAX_LENGTH ? cleaned.substring(0, MAX_LENGTH).trim() : cleaned;
+    }
+
+    static String key(String cleaned) {
+        return cleaned.toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,102 @@
+package org.example.enumtalentapi.util;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.example.enumtalentapi.exception.ErrorCode;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Opens after a run of consecutive failures and then fails calls immediately
+ * with {@link ErrorCode#DATABASE_UNAVAILABLE} instead of letting them queue on
+ * an unhealthy dependency. After the open period a single trial call is let
+ * through; its outcome closes or reopens the breaker.
+ *
+ * <p>Only exceptions matching the failure predicate count against the dependency.
+ * Anything else, a validation error or a bug in the caller, means the dependency
+ * answered, so it counts as a success. Exposed as {@code enumtalent.circuit.state} (0 closed, 1 half
+ * open, 2 open) and {@code enumtalent.circuit.rejected}.
+ */
+@Slf4j
+public class CircuitBreaker {
+
+    public enum State { CLOSED, HALF_OPEN, OPEN }
+
+    private final String name;
+    private final int failureThreshold;
+    private final long openNanos;
+    private final Predicate<RuntimeException> isFailure;
+    private final AtomicReference<State> state = new AtomicReference<>(State.CLOSED);
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+    private final Counter rejected;
+
+    private volatile long openedAt;
+
+    public CircuitBreaker(String name, int failureThreshold, Duration openDuration,
+                          Predicate<RuntimeException> isFailure, MeterRegistry registry) {
+        this.name = name;
+        this.failureThreshold = failureThreshold;
+        this.openNanos = openDuration.toNanos();
+        this.isFailure = isFailure;
+        Gauge.builder("enumtalent.circuit.state", state, s -> s.get().ordinal())
+                .tag("name", name).register(registry);
+        this.rejected = Counter.builder("enumtalent.circuit.rejected")
+                .tag("name", name).register(registry);
+    }
+
+    public <T> T call(Supplier<T> action) {
+        if (!allowRequest()) {
+            rejected.increment();
+            throw ErrorCode.DATABASE_UNAVAILABLE.exception();
+        }
+        try {
+            T result = action.get();
+            onSuccess();
+            return result;
+        } catch (RuntimeException e) {
+            if (isFailure.test(e)) {
+                onFailure();
+            } else {
+                onSuccess();
+            }
+            throw e;
+        }
+    }
+
+    public State state() {
+        return state.get();
+    }
+
+    private boolean allowRequest() {
+        State current = state.get();
+        if (current == State.CLOSED) {
+            return true;
+        }
+        // exactly one caller wins the switch to half open and becomes the trial
+        return current == State.OPEN
+                && System.nanoTime() - openedAt >= openNanos
+                && state.compareAndSet(State.OPEN, State.HALF_OPEN);
+    }
+
+    private void onSuccess() {
+        consecutiveFailures.set(0);
+        if (state.getAndSet(State.CLOSED) != State.CLOSED) {
+            log.info("Circuit {} closed", name);
+        }
+    }
+
+    private void onFailure() {
+        int failures = consecutiveFailures.incrementAndGet();
+        if (state.compareAndSet(State.HALF_OPEN, State.OPEN)
+                || (failures >= failureThreshold && state.compareAndSet(State.CLOSED, State.OPEN))) {
+            openedAt = System.nanoTime();
+            log.warn("Circuit {} opened after {} consecutive failures", name, failures);
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package org.example.enumtalentapi.util;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Coalesces concurrent loads of the same key: the first caller (the leader)
+ * runs the loader, callers arriving while it runs wait for and share its
+ * result or exception. Nothing is kept once the load completes, so this is
+ * not a cache. A follower that waits longer than the timeout gives up on the
+ * leader and loads for itself.
+ *
+ * <p>All callers receive the same instance, which therefore must not be
+ * modified after loading.
+ *
+ * <p>Counted as {@code enumtalent.singleflight} tagged with the name and
+ * {@code role=leader|follower|timeout}; followers minus timeouts are the loads
+ * saved.
+ */
+public class SingleFlight<K, V> {
+
+    private final ConcurrentHashMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final long timeoutNanos;
+    private final Counter leaders;
+    private final Counter followers;
+    private final Counter timeouts;
+
+    public SingleFlight(String name, Duration followerTimeout, MeterRegistry registry) {
+        this.timeoutNanos = followerTimeout.toNanos();
+        this.leaders = counter(registry, name, "leader");
+        this.followers = counter(registry, name, "follower");
+        this.timeouts = counter(registry, name, "timeout");
+    }
+
+    private static Counter counter(MeterRegistry registry, String name, String role) {
+        return Counter.builder("enumtalent.singleflight")
+                .tag("name", name)
+                .tag("role", role)
+                .register(registry);
+    }
+
+    public V load(K key, Supplier<V> loader) {
+        CompletableFuture<V> mine = new CompletableFuture<>();
+        CompletableFuture<V> leader = inFlight.putIfAbsent(key, mine);
+        if (leader == null) {
+            leaders.increment();
+            return lead(key, mine, loader);
+        }
+
+        followers.increment();
+        try {
+            return leader.get(timeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            timeouts.increment();
+            return loader.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) throw runtime;
+            if (e.getCause() instanceof Error error) throw error;
+            throw new IllegalStateException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for " + key, e);
+        }
+    }
+
+    private V lead(K key, CompletableFuture<V> mine, Supplier<V> loader) {
+        try {
+            V value = loader.get();
+            mine.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package org.example.enumtalentapi.util;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Compresses long text fields before they are written to Mongo.
+ * The first byte of the payload says how the rest is encoded, so short values
+ * that would not shrink are stored as plain UTF-8.
+ */
+public final class TextCompressor {
+
+    private static final byte RAW = 0;
+    private static final byte DEFLATE = 1;
+
+    // below this size deflate headers eat most of the gain
+    private static final int MIN_COMPRESS_BYTES = 128;
+
+    private TextCompressor() {
+    }
+
+    public static byte[] compress(String text) {
+        if (text == null) return null;
+
+        byte[] raw = text.getBytes(StandardCharsets.UTF_8);
+        if (raw.length >= MIN_COMPRESS_BYTES) {
+            byte[] deflated = deflate(raw);
+            if (deflated.length < raw.length) {
+                return prefix(DEFLATE, deflated);
+            }
+        }
+        return prefix(RAW, raw);
+    }
+
+    public static String decompress(byte[] payload) {
+        if (payload == null || payload.length == 0) return null;
+
+        byte[] body = Arrays.copyOfRange(payload, 1, payload.length);
+        return switch (payload[0]) {
+            case RAW -> new String(body, StandardCharsets.UTF_8);
+            case DEFLATE -> new String(inflate(body), StandardCharsets.UTF_8);
+            default -> throw new IllegalStateException("Unknown text encoding " + payload[0]);
+        };
+    }
+
+    public static byte[] deflate(byte[] input) {
+        return deflate(input, null);
+    }
+
+    /**
+     * Deflates with a preset dictionary: text that also occurs in the
+     * dictionary costs a back-reference. The same dictionary is needed to
+     * inflate.
+     */
+    public static byte[] deflate(byte[] input, byte[] dictionary) {
+        Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION);
+        try {
+            if (dictionary != null) {
+                deflater.setDictionary(dictionary);
+            }
+            deflater.setInput(input);
+            deflater.finish();
+            ByteArrayOutputStream out = new ByteArrayOutputStream(input.length / 2 + 16);
+            byte[] buffer = new byte[1024];
+            while (!deflater.finished()) {
+                int n = deflater.deflate(buffer);
+                out.write(buffer, 0, n);
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    public static byte[] inflate(byte[] input) {
+        return inflate(input, null);
+    }
+
+    public static byte[] inflate(byte[] input, byte[] dictionary) {
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(input);
+            ByteArrayOutputStream out = new ByteArrayOutputStream(input.length * 3);
+            byte[] buffer = new byte[1024];
+            while (!inflater.finished()) {
+                int n = inflater.inflate(buffer);
+                if (n == 0 && inflater.needsDictionary() && dictionary != null) {
+                    inflater.setDictionary(dictionary);
+                    continue;
+                }
+                if (n == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new IllegalStateException("Truncated compressed text");
+                }
+                out.write(buffer, 0, n);
+            }
+            return out.toByteArray();
+        } catch (DataFormatException e) {
+            throw new IllegalStateException("Corrupt compressed text", e);
+        } finally {
+            inflater.end();
+        }
+    }
+
+    private static byte[] prefix(byte marker, byte[] body) {
+        byte[] out = new byte[body.length + 1];
+        out[0] = marker;
+        System.arraycopy(body, 0, out, 1, body.length);
+        return out;
+    }
+}
@@ -0,0 +1,127 @@
+package org.example.enumtalentapi.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * Hierarchical timing wheel for expiring a large number of items at roughly
+ * their deadline. Each level has 64 slots; level 0 slots are one tick wide and
+ * every level above covers 64 times the span of the one below. Scheduling and
+ * expiring an item is O(1) apart from the few times it cascades down a level,
+ * whatever the number of pending items. Deadlines past the top level are
+ * parked in its farthest slot and re-placed when that slot comes round.
+ *
+ * <p>Items expire on the first {@link #advance} at or after their deadline,
+ * rounded up to the next tick.
+ */
+public class TimingWheel<T> {
+
+    private static final int SLOT_BITS = 6;
+    private static final int SLOTS = 1 << SLOT_BITS;
+
+    private record Timer<T>(T item, long tick) {
+    }
+
+    private final long tickMillis;
+    private final int levels;
+    private final List<List<Timer<T>>> slots;
+    private final ReentrantLock lock = new ReentrantLock();
+    private long currentTick;
+    private int size;
+
+    public TimingWheel(long tickMillis, int levels, long nowMillis) {
+        this.tickMillis = tickMillis;
+        this.levels = levels;
+        this.slots = new ArrayList<>(levels * SLOTS);
+        for (int i = 0; i < levels * SLOTS; i++) {
+            slots.add(new ArrayList<>());
+        }
+        this.currentTick = Math.floorDiv(nowMillis, tickMillis);
+    }
+
+    /** Returns false, without scheduling, when the deadline has already passed. */
+    public boolean schedule(T item, long deadlineMillis) {
+        long tick = Math.floorDiv(deadlineMillis + tickMillis - 1, tickMillis);
+        lock.lock();
+        try {
+            if (tick <= currentTick) {
+                return false;
+            }
+            place(new Timer<>(item, tick));
+            size++;
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** Moves the wheel to {@code nowMillis} and hands every item that came due to {@code expired}. */
+    public void advance(long nowMillis, Consumer<T> expired) {
+        long target = Math.floorDiv(nowMillis, tickMillis);
+        List<T> due = new ArrayList<>();
+        lock.lock();
+        try {
+            while (currentTick < target) {
+                currentTick++;
+                for (int level = levels - 1; level > 0; level--) {
+                    if ((currentTick & ((1L << (SLOT_BITS * level)) - 1)) == 0) {
+                        List<Timer<T>> slot = slot(level, currentTick);
+                        List<Timer<T>> cascading = new ArrayList<>(slot);
+                        slot.clear();
+                        for (Timer<T> timer : cascading) {
+                            if (timer.tick() <= currentTick) {
+                                due.add(timer.item());
+                                size--;
+                            } else {
+                                place(timer);
+                            }
+                        }
+                    }
+                }
+                List<Timer<T>> slot = slot(0, currentTick);
+                List<Timer<T>> current = new ArrayList<>(slot);
+                slot.clear();
+                for (Timer<T> timer : current) {
+                    // with a single level, parked deadlines come round here before they are due
+                    if (timer.tick() <= currentTick) {
+                        due.add(timer.item());
+                        size--;
+                    } else {
+                        place(timer);
+                    }
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+        due.forEach(expired);
+    }
+
+    public int size() {
+        lock.lock();
+        try {
+            return size;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // level l holds timers due in [64^l, 64^(l+1)) ticks, in the slot their deadline falls in
+    private void place(Timer<T> timer) {
+        long delta = timer.tick() - currentTick;
+        for (int level = 0; level < levels; level++) {
+            if (delta < 1L << (SLOT_BITS * (level + 1))) {
+                slot(level, timer.tick()).add(timer);
+                return;
+            }
+        }
+        long farthest = currentTick + (1L << (SLOT_BITS * levels)) - 1;
+        slot(levels - 1, farthest).add(timer);
+    }
+
+    private List<Timer<T>> slot(int level, long tick) {
+        return slots.get(level * SLOTS + (int) ((tick >>> (SLOT_BITS * level)) & (SLOTS - 1)));
+    }
+}
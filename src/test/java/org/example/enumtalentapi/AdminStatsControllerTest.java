@@ -0,0 +1,79 @@
+package org.example.enumtalentapi;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.enumtalentapi.controller.AdminStatsController;
+import org.example.enumtalentapi.dto.CompletenessReport;
+import org.example.enumtalentapi.exception.ErrorCode;
+import org.example.enumtalentapi.exception.GlobalExceptionHandler;
+import org.example.enumtalentapi.service.CompletenessStats;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@ExtendWith(MockitoExtension.class)
+class AdminStatsControllerTest {
+
+    @Mock
+    private CompletenessStats completenessStats;
+
+    @InjectMocks
+    private AdminStatsController adminStatsController;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.standaloneSetup(adminStatsController)
+                .setControllerAdvice(new GlobalExceptionHandler(new SimpleMeterRegistry()))
+                .build();
+    }
+
+    @Test
+    void getCompleteness_ReturnsReport() throws Exception {
+        Map<String, Long> histogram = new LinkedHashMap<>();
+        histogram.put("0-9", 12L);
+        histogram.put("40-49", 30L);
+        histogram.put("100", 58L);
+        Map<String, Long> missing = new LinkedHashMap<>();
+        missing.put("transcript", 70L);
+        missing.put("resumeUrl", 41L);
+        when(completenessStats.report()).thenReturn(new CompletenessReport(100, 42, histogram, missing, null));
+
+        mockMvc.perform(get("/api/admin/stats/completeness"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.profiles").value(100))
+                .andExpect(jsonPath("$.belowHalf").value(42))
+                .andExpect(jsonPath("$.histogram.100").value(58))
+                .andExpect(jsonPath("$.missingFields.transcript").value(70));
+    }
+
+    @Test
+    void rebuildCompleteness_Accepted() throws Exception {
+        when(completenessStats.requestRebuild()).thenReturn(true);
+
+        mockMvc.perform(post("/api/admin/stats/completeness/rebuild"))
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.status").value("success"));
+    }
+
+    @Test
+    void rebuildCompleteness_ConflictWhileOneIsRunning() throws Exception {
+        when(completenessStats.requestRebuild()).thenThrow(ErrorCode.REBUILD_IN_PROGRESS.exception());
+
+        mockMvc.perform(post("/api/admin/stats/completeness/rebuild"))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.message").value("REBUILD_IN_PROGRESS"));
+    }
+}
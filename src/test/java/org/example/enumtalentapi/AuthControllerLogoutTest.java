@@ -1,7 +1,9 @@
 package org.example.enumtalentapi;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.example.enumtalentapi.controller.AuthController;
-import org.example.enumtalentapi.exception.CustomException;
+import org.example.enumtalentapi.exception.ErrorCode;
+import org.example.enumtalentapi.exception.GlobalExceptionHandler;
 import org.example.enumtalentapi.service.AuthServiceImpl;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -29,7 +31,9 @@ class AuthControllerLogoutTest {
 
     @BeforeEach
     void setUp() {
-        mockMvc = MockMvcBuilders.standaloneSetup(authController).build();
+        mockMvc = MockMvcBuilders.standaloneSetup(authController)
+                .setControllerAdvice(new GlobalExceptionHandler(new SimpleMeterRegistry()))
+                .build();
     }
 
     @Test
@@ -50,11 +54,11 @@ class AuthControllerLogoutTest {
     void logout_UserNotFound() throws Exception {
         String userId = "non-existent-user";
         when(authService.logout(userId))
-                .thenThrow(new CustomException("USER_NOT_FOUND"));
+                .thenThrow(ErrorCode.USER_NOT_FOUND.exception());
 
         mockMvc.perform(post("/api/auth/logout")
                         .param("userId", userId))
-                .andExpect(status().isBadRequest())
+                .andExpect(status().isNotFound())
                 .andExpect(jsonPath("$.status").value("error"))
                 .andExpect(jsonPath("$.message").value("USER_NOT_FOUND"));
 
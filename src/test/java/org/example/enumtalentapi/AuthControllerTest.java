@@ -1,10 +1,12 @@
 package org.example.enumtalentapi;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.example.enumtalentapi.controller.AuthController;
 import org.example.enumtalentapi.dto.LoginRequest;
 import org.example.enumtalentapi.dto.SignupRequest;
-import org.example.enumtalentapi.exception.CustomException;
+import org.example.enumtalentapi.exception.ErrorCode;
+import org.example.enumtalentapi.exception.GlobalExceptionHandler;
 import org.example.enumtalentapi.service.AuthServiceImpl;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -38,7 +40,9 @@ class AuthControllerTest {
 
     @BeforeEach
     void setUp() {
-        mockMvc = MockMvcBuilders.standaloneSetup(authController).build();
+        mockMvc = MockMvcBuilders.standaloneSetup(authController)
+                .setControllerAdvice(new GlobalExceptionHandler(new SimpleMeterRegistry()))
+                .build();
         objectMapper = new ObjectMapper();
     }
 
@@ -66,13 +70,13 @@ class AuthControllerTest {
         request.setPassword("password123");
 
         when(authService.signup(any(SignupRequest.class)))
-                .thenThrow(new CustomException("EMAIL_IN_USE"));
+                .thenThrow(ErrorCode.EMAIL_IN_USE.exception());
         mockMvc.perform(post("/api/auth/signup")
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(request)))
-                .andExpect(status().isBadRequest())
+                .andExpect(status().isConflict())
                 .andExpect(jsonPath("$.status").value("error"))
-                .andExpect(jsonPath("$.message").value("EMAIL_IN_USE"));
+                .andExpect(jsonPath("$.message").value("EMAIL_IN_USE_GUY"));
 
         verify(authService, times(1)).signup(any(SignupRequest.class));
     }
@@ -120,11 +124,11 @@ class AuthControllerTest {
         request.setPassword("wrongpassword");
 
         when(authService.login(any(LoginRequest.class)))
-                .thenThrow(new CustomException("INVALID_CREDENTIALS"));
+                .thenThrow(ErrorCode.INVALID_CREDENTIALS.exception());
         mockMvc.perform(post("/api/auth/login")
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(request)))
-                .andExpect(status().isBadRequest())
+                .andExpect(status().isUnauthorized())
                 .andExpect(jsonPath("$.status").value("error"))
                 .andExpect(jsonPath("$.message").value("INVALID_CREDENTIALS"));
 
@@ -164,7 +168,7 @@ class AuthControllerTest {
     void verifyEmail_InvalidToken() throws Exception {
         String token = "invalid-token";
         when(authService.verifyEmail(token))
-                .thenThrow(new CustomException("TOKEN_INVALID"));
+                .thenThrow(ErrorCode.TOKEN_INVALID.exception());
         mockMvc.perform(get("/api/auth/verify")
                         .param("token", token))
                 .andExpect(status().isBadRequest())
@@ -178,13 +182,22 @@ class AuthControllerTest {
     void verifyEmail_ExpiredToken() throws Exception {
         String token = "expired-token";
         when(authService.verifyEmail(token))
-                .thenThrow(new CustomException("TOKEN_EXPIRED"));
+                .thenThrow(ErrorCode.TOKEN_EXPIRED.exception());
         mockMvc.perform(get("/api/auth/verify")
                         .param("token", token))
-                .andExpect(status().isBadRequest())
+                .andExpect(status().isGone())
                 .andExpect(jsonPath("$.status").value("error"))
                 .andExpect(jsonPath("$.message").value("TOKEN_EXPIRED"));
 
         verify(authService, times(1)).verifyEmail(token);
     }
-}
\ No newline at end of file
+
+    @Test
+    void verifyEmail_MissingToken() throws Exception {
+        mockMvc.perform(get("/api/auth/verify"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.status").value("error"));
+
+        verifyNoInteractions(authService);
+    }
+}
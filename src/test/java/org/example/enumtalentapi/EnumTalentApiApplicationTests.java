@@ -1,11 +1,26 @@
 package org.example.enumtalentapi;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.example.enumtalentapi.controller.TalentProfileController;
+import org.example.enumtalentapi.dto.GeoSearchRequest;
+import org.example.enumtalentapi.dto.NearbyTalent;
+import org.example.enumtalentapi.dto.ProfileRevisionSummary;
+import org.example.enumtalentapi.dto.ProfileViewStats;
+import org.example.enumtalentapi.dto.SimilarTalent;
+import org.example.enumtalentapi.dto.TalentFilterRequest;
 import org.example.enumtalentapi.dto.TalentProfileRequest;
 import org.example.enumtalentapi.dto.TalentProfileResponse;
-import org.example.enumtalentapi.exception.CustomException;
+import org.example.enumtalentapi.dto.TalentSummary;
+import org.example.enumtalentapi.entity.User;
+import org.example.enumtalentapi.exception.ErrorCode;
+import org.example.enumtalentapi.exception.GlobalExceptionHandler;
+import org.example.enumtalentapi.geo.TalentGeoSearch;
+import org.example.enumtalentapi.revision.ProfileRevisions;
+import org.example.enumtalentapi.salary.TalentFilter;
+import org.example.enumtalentapi.service.ProfileViewCounter;
 import org.example.enumtalentapi.service.TalentProfileService;
+import org.example.enumtalentapi.similarity.SimilarTalentIndex;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -13,9 +28,14 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.MediaType;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
+import java.time.Instant;
+import java.util.List;
+
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
@@ -30,6 +50,21 @@ class TalentProfileControllerTest {
 	@Mock
 	private TalentProfileService profileService;
 
+	@Mock
+	private ProfileViewCounter viewCounter;
+
+	@Mock
+	private SimilarTalentIndex similarTalentIndex;
+
+	@Mock
+	private TalentGeoSearch geoSearch;
+
+	@Mock
+	private TalentFilter talentFilter;
+
+	@Mock
+	private ProfileRevisions profileRevisions;
+
 	@InjectMocks
 	private TalentProfileController profileController;
 
@@ -38,7 +73,9 @@ class TalentProfileControllerTest {
 
 	@BeforeEach
 	void setUp() {
-		mockMvc = MockMvcBuilders.standaloneSetup(profileController).build();
+		mockMvc = MockMvcBuilders.standaloneSetup(profileController)
+				.setControllerAdvice(new GlobalExceptionHandler(new SimpleMeterRegistry()))
+				.build();
 		objectMapper = new ObjectMapper();
 		userId = "68fb32738623940fa372fb2e";
 	}
@@ -62,22 +99,62 @@ class TalentProfileControllerTest {
 				.andExpect(jsonPath("$.message").value("Profile loaded successfully"));
 
 		verify(profileService, times(1)).getMyProfile(userId);
+		verify(viewCounter, never()).record(userId);
+	}
+
+	@Test
+	void getMyProfile_OtherUserRecordsView() throws Exception {
+		User viewer = new User();
+		viewer.setId("68fb32738623940fa372fb2f");
+		SecurityContextHolder.getContext().setAuthentication(
+				new UsernamePasswordAuthenticationToken(viewer, null, null));
+		when(profileService.getMyProfile(userId)).thenReturn(new TalentProfileResponse());
+
+		try {
+			mockMvc.perform(get("/api/profile/talent/me")
+							.param("userId", userId))
+					.andExpect(status().isOk());
+		} finally {
+			SecurityContextHolder.clearContext();
+		}
+
+		verify(viewCounter, times(1)).record(userId);
+	}
+
+	@Test
+	void getMyProfile_OwnerRecordsNoView() throws Exception {
+		User owner = new User();
+		owner.setId(userId);
+		SecurityContextHolder.getContext().setAuthentication(
+				new UsernamePasswordAuthenticationToken(owner, null, null));
+		when(profileService.getMyProfile(userId)).thenReturn(new TalentProfileResponse());
+
+		try {
+			mockMvc.perform(get("/api/profile/talent/me")
+							.param("userId", userId))
+					.andExpect(status().isOk());
+		} finally {
+			SecurityContextHolder.clearContext();
+		}
+
+		verify(viewCounter, never()).record(userId);
 	}
 
 	@Test
 	void getMyProfile_UserNotFound() throws Exception {
 		// Given
 		when(profileService.getMyProfile(userId))
-				.thenThrow(new CustomException("USER_NOT_FOUND"));
+				.thenThrow(ErrorCode.USER_NOT_FOUND.exception());
 
 		// When & Then
 		mockMvc.perform(get("/api/profile/talent/me")
 						.param("userId", userId))
-				.andExpect(status().isBadRequest())
+				.andExpect(status().isNotFound())
 				.andExpect(jsonPath("$.status").value("error"))
 				.andExpect(jsonPath("$.message").value("USER_NOT_FOUND"));
 
 		verify(profileService, times(1)).getMyProfile(userId);
+		verify(viewCounter, never()).record(userId);
 	}
 
 	@Test
@@ -94,6 +171,148 @@ class TalentProfileControllerTest {
 		verify(profileService, times(1)).getMyProfile(userId);
 	}
 
+	@Test
+	void getMyProfile_WithText() throws Exception {
+		TalentProfileResponse response = new TalentProfileResponse();
+		response.setEmail("test@example.com");
+		response.setTranscript("A: Algorithms");
+
+		when(profileService.getMyProfileWithText(userId)).thenReturn(response);
+
+		mockMvc.perform(get("/api/profile/talent/me")
+						.param("userId", userId)
+						.param("includeText", "true"))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.transcript").value("A: Algorithms"));
+
+		verify(profileService, times(1)).getMyProfileWithText(userId);
+		verify(profileService, never()).getMyProfile(userId);
+	}
+
+	@Test
+	void getViewStats_Success() throws Exception {
+		ProfileViewStats stats = new ProfileViewStats(userId, 7, 12,
+				List.of(new ProfileViewStats.DailyViews("2026-10-18", 5),
+						new ProfileViewStats.DailyViews("2026-10-19", 7)));
+
+		when(viewCounter.stats(userId, 7)).thenReturn(stats);
+
+		mockMvc.perform(get("/api/profile/talent/{userId}/views", userId)
+						.param("days", "7"))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.total").value(12))
+				.andExpect(jsonPath("$.daily[1].day").value("2026-10-19"))
+				.andExpect(jsonPath("$.daily[1].views").value(7));
+
+		verify(viewCounter, times(1)).stats(userId, 7);
+	}
+
+	@Test
+	void getSimilar_Success() throws Exception {
+		SimilarTalent match = new SimilarTalent("68fb32738623940fa372fb2f", "Jane", "Roe", "Backend engineer",
+				List.of("Java", "MongoDB"), List.of("Backend Engineer"), 0.75);
+
+		when(similarTalentIndex.similar(userId, 5)).thenReturn(List.of(match));
+
+		mockMvc.perform(get("/api/profile/talent/{userId}/similar", userId)
+						.param("limit", "5"))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$[0].userId").value("68fb32738623940fa372fb2f"))
+				.andExpect(jsonPath("$[0].similarity").value(0.75));
+
+		verify(similarTalentIndex, times(1)).similar(userId, 5);
+		verify(viewCounter, never()).record(any());
+	}
+
+	@Test
+	void getNearby_BindsSearchParameters() throws Exception {
+		NearbyTalent match = new NearbyTalent(userId, "John", "Doe", "Backend engineer", "Ikeja, Lagos",
+				null, List.of("Java", "Go"), 17.4);
+
+		when(geoSearch.search(argThat(request -> "Lagos".equals(request.getNear())
+				&& request.getRadiusKm() == 25
+				&& List.of("Java", "Go").equals(request.getSkills())
+				&& "location".equals(request.getField())
+				&& request.getLimit() == 20)))
+				.thenReturn(List.of(match));
+
+		mockMvc.perform(get("/api/profile/talent/nearby")
+						.param("near", "Lagos")
+						.param("radiusKm", "25")
+						.param("skills", "Java", "Go"))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$[0].userId").value(userId))
+				.andExpect(jsonPath("$[0].distanceKm").value(17.4));
+	}
+
+	@Test
+	void getNearby_UnknownLocation() throws Exception {
+		when(geoSearch.search(any(GeoSearchRequest.class))).thenThrow(ErrorCode.LOCATION_UNKNOWN.exception());
+
+		mockMvc.perform(get("/api/profile/talent/nearby").param("near", "Atlantis"))
+				.andExpect(status().isBadRequest());
+	}
+
+	@Test
+	void getFiltered_BindsRanges() throws Exception {
+		TalentSummary match = new TalentSummary(userId, "John", "Doe", "Backend engineer", "Mid", 2021,
+				"₦400k - 600k monthly", 4_800_000L, 7_200_000L, "NGN");
+
+		when(talentFilter.search(argThat(request -> "NGN".equals(request.getCurrency())
+				&& request.getSalaryFrom() == 4_000_000L
+				&& request.getSalaryTo() == null
+				&& request.getGraduatedFrom() == 2020
+				&& "Mid".equals(request.getExperienceLevel()))))
+				.thenReturn(List.of(match));
+
+		mockMvc.perform(get("/api/profile/talent/filter")
+						.param("currency", "NGN")
+						.param("salaryFrom", "4000000")
+						.param("graduatedFrom", "2020")
+						.param("experienceLevel", "Mid"))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$[0].userId").value(userId))
+				.andExpect(jsonPath("$[0].salaryMin").value(4_800_000));
+	}
+
+	@Test
+	void getFiltered_SalaryWithoutCurrency() throws Exception {
+		when(talentFilter.search(any(TalentFilterRequest.class)))
+				.thenThrow(ErrorCode.SALARY_CURRENCY_REQUIRED.exception());
+
+		mockMvc.perform(get("/api/profile/talent/filter").param("salaryFrom", "50000"))
+				.andExpect(status().isBadRequest());
+	}
+
+	@Test
+	void getRevisions_NewestFirst() throws Exception {
+		when(profileRevisions.list(userId, 20)).thenReturn(List.of(
+				new ProfileRevisionSummary(2, Instant.parse("2026-03-02T10:00:00Z"), List.of("headline")),
+				new ProfileRevisionSummary(1, Instant.parse("2026-03-01T10:00:00Z"), List.of("firstName", "headline"))));
+
+		mockMvc.perform(get("/api/profile/talent/" + userId + "/revisions"))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$[0].revision").value(2))
+				.andExpect(jsonPath("$[0].changedFields[0]").value("headline"));
+	}
+
+	@Test
+	void restoreRevision_Success() throws Exception {
+		when(profileService.restoreRevision(userId, 3L)).thenReturn("Talent profile updated successfully (60% complete)");
+
+		mockMvc.perform(post("/api/profile/talent/" + userId + "/revisions/3/restore"))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.status").value("success"));
+	}
+
+	@Test
+	void restoreRevision_Pruned() throws Exception {
+		when(profileService.restoreRevision(userId, 1L)).thenThrow(ErrorCode.REVISION_NOT_FOUND.exception());
+
+		mockMvc.perform(post("/api/profile/talent/" + userId + "/revisions/1/restore"))
+				.andExpect(status().isNotFound());
+	}
+
 	@Test
 	void createOrUpdateProfile_Success() throws Exception {
 		TalentProfileRequest request = new TalentProfileRequest();
@@ -123,12 +342,12 @@ class TalentProfileControllerTest {
 		request.setLastName("Doe");
 
 		when(profileService.createOrUpdateProfile(eq(userId), any(TalentProfileRequest.class)))
-				.thenThrow(new CustomException("USER_NOT_FOUND"));
+				.thenThrow(ErrorCode.USER_NOT_FOUND.exception());
 
 		mockMvc.perform(post("/api/profile/talent/{userId}", userId)
 						.contentType(MediaType.APPLICATION_JSON)
 						.content(objectMapper.writeValueAsString(request)))
-				.andExpect(status().isBadRequest())
+				.andExpect(status().isNotFound())
 				.andExpect(jsonPath("$.status").value("error"))
 				.andExpect(jsonPath("$.message").value("USER_NOT_FOUND"));
 
@@ -143,12 +362,12 @@ class TalentProfileControllerTest {
 		request.setLastName("Doe");
 
 		when(profileService.createOrUpdateProfile(eq(userId), any(TalentProfileRequest.class)))
-				.thenThrow(new CustomException("EMAIL_NOT_VERIFIED"));
+				.thenThrow(ErrorCode.EMAIL_NOT_VERIFIED.exception());
 
 		mockMvc.perform(post("/api/profile/talent/{userId}", userId)
 						.contentType(MediaType.APPLICATION_JSON)
 						.content(objectMapper.writeValueAsString(request)))
-				.andExpect(status().isBadRequest())
+				.andExpect(status().isForbidden())
 				.andExpect(jsonPath("$.status").value("error"))
 				.andExpect(jsonPath("$.message").value("EMAIL_NOT_VERIFIED"));
 
@@ -161,7 +380,7 @@ class TalentProfileControllerTest {
 		request.setTranscript("a".repeat(1001));
 
 		when(profileService.createOrUpdateProfile(eq(userId), any(TalentProfileRequest.class)))
-				.thenThrow(new CustomException("Transcript too long, please shorten it thanks."));
+				.thenThrow(ErrorCode.TRANSCRIPT_TOO_LONG.exception());
 
 		mockMvc.perform(post("/api/profile/talent/{userId}", userId)
 						.contentType(MediaType.APPLICATION_JSON)
@@ -1,24 +1,31 @@
 package org.example.enumtalentapi;
 
 import org.example.enumtalentapi.controller.HealthController;
+import org.example.enumtalentapi.util.CircuitBreaker;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
+import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
+import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @ExtendWith(MockitoExtension.class)
 class HealthControllerTest {
 
+    @Mock
+    private CircuitBreaker mongoCircuitBreaker;
+
     @InjectMocks
     private HealthController healthController;
 
     @Test
     void health_ReturnsOkStatus() throws Exception {
+        when(mongoCircuitBreaker.state()).thenReturn(CircuitBreaker.State.CLOSED);
         MockMvc mockMvc = MockMvcBuilders.standaloneSetup(healthController).build();
 
         mockMvc.perform(get("/.well-known/health"))
@@ -28,6 +35,7 @@ class HealthControllerTest {
 
     @Test
     void health_ReturnsCorrectJsonStructure() throws Exception {
+        when(mongoCircuitBreaker.state()).thenReturn(CircuitBreaker.State.CLOSED);
 
         MockMvc mockMvc = MockMvcBuilders.standaloneSetup(healthController).build();
         mockMvc.perform(get("/.well-known/health"))
@@ -36,4 +44,15 @@ class HealthControllerTest {
                 .andExpect(jsonPath("$.status").isString())
                 .andExpect(jsonPath("$.status").value("ok"));
     }
-}
\ No newline at end of file
+
+    @Test
+    void health_ReportsDegradedWhenDatabaseCircuitOpen() throws Exception {
+        when(mongoCircuitBreaker.state()).thenReturn(CircuitBreaker.State.OPEN);
+
+        MockMvc mockMvc = MockMvcBuilders.standaloneSetup(healthController).build();
+        mockMvc.perform(get("/.well-known/health"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("degraded"))
+                .andExpect(jsonPath("$.database").value("open"));
+    }
+}
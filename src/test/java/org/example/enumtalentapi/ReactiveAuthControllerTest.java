@@ -0,0 +1,93 @@
+package org.example.enumtalentapi;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.enumtalentapi.controller.ReactiveAuthController;
+import org.example.enumtalentapi.dto.LoginRequest;
+import org.example.enumtalentapi.exception.ErrorCode;
+import org.example.enumtalentapi.exception.GlobalExceptionHandler;
+import org.example.enumtalentapi.service.ReactiveAuthService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReactiveAuthControllerTest {
+
+    private WebTestClient client;
+
+    @Mock
+    private ReactiveAuthService authService;
+
+    @InjectMocks
+    private ReactiveAuthController authController;
+
+    @BeforeEach
+    void setUp() {
+        client = WebTestClient.bindToController(authController)
+                .controllerAdvice(new GlobalExceptionHandler(new SimpleMeterRegistry()))
+                .build();
+    }
+
+    @Test
+    void login_Success() {
+        when(authService.login(any(LoginRequest.class)))
+                .thenReturn(Mono.just("LOGIN_SUCCESS userId=123"));
+
+        client.post().uri("/api/auth/login")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(Map.of("email", "test@example.com", "password", "password123"))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.status").isEqualTo("success")
+                .jsonPath("$.message").isEqualTo("LOGIN_SUCCESS userId=123");
+    }
+
+    @Test
+    void login_InvalidCredentials() {
+        when(authService.login(any(LoginRequest.class)))
+                .thenReturn(Mono.error(ErrorCode.INVALID_CREDENTIALS.exception()));
+
+        client.post().uri("/api/auth/login")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(Map.of("email", "test@example.com", "password", "wrong"))
+                .exchange()
+                .expectStatus().isUnauthorized()
+                .expectBody()
+                .jsonPath("$.status").isEqualTo("error")
+                .jsonPath("$.message").isEqualTo("INVALID_CREDENTIALS");
+    }
+
+    @Test
+    void verifyEmail_Get_Success() {
+        when(authService.verifyEmail("valid-token")).thenReturn(Mono.just("EMAIL_VERIFIED"));
+
+        client.get().uri("/api/auth/verify?token=valid-token")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.message").isEqualTo("EMAIL_VERIFIED");
+    }
+
+    @Test
+    void logout_InternalServerError() {
+        when(authService.logout("123")).thenReturn(Mono.error(new RuntimeException("Database error")));
+
+        client.post().uri("/api/auth/logout?userId=123")
+                .exchange()
+                .expectStatus().is5xxServerError()
+                .expectBody()
+                .jsonPath("$.message").isEqualTo("Unexpected error: Database error");
+    }
+}
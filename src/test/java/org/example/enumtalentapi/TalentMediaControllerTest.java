@@ -0,0 +1,131 @@
+package org.example.enumtalentapi;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.enumtalentapi.controller.TalentMediaController;
+import org.example.enumtalentapi.exception.ErrorCode;
+import org.example.enumtalentapi.exception.GlobalExceptionHandler;
+import org.example.enumtalentapi.service.ProfileMediaService;
+import org.example.enumtalentapi.storage.BlobDownloadWriter;
+import org.example.enumtalentapi.storage.LocalFileBlobStore;
+import org.example.enumtalentapi.storage.StoredBlob;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Map;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@ExtendWith(MockitoExtension.class)
+class TalentMediaControllerTest {
+
+    private MockMvc mockMvc;
+
+    @Mock
+    private ProfileMediaService mediaService;
+
+    @TempDir
+    Path blobRoot;
+
+    private StoredBlob resume;
+    private final String userId = "68fb32738623940fa372fb2e";
+
+    @BeforeEach
+    void setUp() throws Exception {
+        LocalFileBlobStore blobStore = new LocalFileBlobStore(blobRoot.toString());
+        resume = blobStore.put(userId + "/resume",
+                new ByteArrayInputStream("0123456789".getBytes(StandardCharsets.UTF_8)),
+                "application/pdf", 1024, Map.of());
+
+        TalentMediaController controller = new TalentMediaController(mediaService, new BlobDownloadWriter(blobStore));
+        mockMvc = MockMvcBuilders.standaloneSetup(controller)
+                .setControllerAdvice(new GlobalExceptionHandler(new SimpleMeterRegistry()))
+                .build();
+    }
+
+    @Test
+    void uploadResume_Success() throws Exception {
+        MockMultipartFile file = new MockMultipartFile("file", "cv.pdf", "application/pdf", new byte[]{1, 2, 3});
+        when(mediaService.uploadResume(eq(userId), any())).thenReturn("RESUME_UPLOADED");
+
+        mockMvc.perform(multipart("/api/profile/talent/{userId}/resume", userId).file(file))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("success"))
+                .andExpect(jsonPath("$.message").value("RESUME_UPLOADED"));
+    }
+
+    @Test
+    void uploadPicture_UnsupportedType() throws Exception {
+        MockMultipartFile file = new MockMultipartFile("file", "a.txt", "text/plain", new byte[]{1});
+        when(mediaService.uploadPicture(eq(userId), any()))
+                .thenThrow(ErrorCode.UNSUPPORTED_MEDIA_TYPE.exception());
+
+        mockMvc.perform(multipart("/api/profile/talent/{userId}/picture", userId).file(file))
+                .andExpect(status().isUnsupportedMediaType())
+                .andExpect(jsonPath("$.message").value("UNSUPPORTED_MEDIA_TYPE"));
+    }
+
+    @Test
+    void downloadResume_Full() throws Exception {
+        when(mediaService.find(userId, ProfileMediaService.RESUME)).thenReturn(resume);
+
+        mockMvc.perform(get("/api/profile/talent/{userId}/resume", userId))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", resume.etag()))
+                .andExpect(header().string("Accept-Ranges", "bytes"))
+                .andExpect(content().string("0123456789"));
+    }
+
+    @Test
+    void downloadResume_Range() throws Exception {
+        when(mediaService.find(userId, ProfileMediaService.RESUME)).thenReturn(resume);
+
+        mockMvc.perform(get("/api/profile/talent/{userId}/resume", userId)
+                        .header("Range", "bytes=2-5"))
+                .andExpect(status().isPartialContent())
+                .andExpect(header().string("Content-Range", "bytes 2-5/10"))
+                .andExpect(content().string("2345"));
+    }
+
+    @Test
+    void downloadResume_RangeNotSatisfiable() throws Exception {
+        when(mediaService.find(userId, ProfileMediaService.RESUME)).thenReturn(resume);
+
+        mockMvc.perform(get("/api/profile/talent/{userId}/resume", userId)
+                        .header("Range", "bytes=50-60"))
+                .andExpect(status().isRequestedRangeNotSatisfiable())
+                .andExpect(header().string("Content-Range", "bytes */10"));
+    }
+
+    @Test
+    void downloadResume_NotModified() throws Exception {
+        when(mediaService.find(userId, ProfileMediaService.RESUME)).thenReturn(resume);
+
+        mockMvc.perform(get("/api/profile/talent/{userId}/resume", userId)
+                        .header("If-None-Match", resume.etag()))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    void downloadResume_NotFound() throws Exception {
+        when(mediaService.find(userId, ProfileMediaService.RESUME))
+                .thenThrow(ErrorCode.MEDIA_NOT_FOUND.exception());
+
+        mockMvc.perform(get("/api/profile/talent/{userId}/resume", userId))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.message").value("MEDIA_NOT_FOUND"));
+    }
+}
@@ -0,0 +1,61 @@
+package org.example.enumtalentapi;
+
+import org.example.enumtalentapi.controller.TypeaheadController;
+import org.example.enumtalentapi.dto.Suggestion;
+import org.example.enumtalentapi.typeahead.SkillDictionary;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.List;
+
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@ExtendWith(MockitoExtension.class)
+class TypeaheadControllerTest {
+
+    @Mock
+    private SkillDictionary skillDictionary;
+
+    @InjectMocks
+    private TypeaheadController typeaheadController;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.standaloneSetup(typeaheadController).build();
+    }
+
+    @Test
+    void suggestSkills_ReturnsCompletions() throws Exception {
+        when(skillDictionary.suggest(SkillDictionary.Kind.SKILLS, "ja", 5))
+                .thenReturn(List.of(new Suggestion("Java", 841), new Suggestion("JavaScript", 660)));
+
+        mockMvc.perform(get("/api/profile/suggestions/skills")
+                        .param("prefix", "ja")
+                        .param("limit", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].value").value("Java"))
+                .andExpect(jsonPath("$[0].count").value(841))
+                .andExpect(jsonPath("$[1].value").value("JavaScript"));
+    }
+
+    @Test
+    void suggestRoles_DefaultsToTenResults() throws Exception {
+        when(skillDictionary.suggest(SkillDictionary.Kind.ROLES, "eng", 10)).thenReturn(List.of());
+
+        mockMvc.perform(get("/api/profile/suggestions/roles").param("prefix", "eng"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$").isEmpty());
+
+        verify(skillDictionary, times(1)).suggest(SkillDictionary.Kind.ROLES, "eng", 10);
+    }
+}
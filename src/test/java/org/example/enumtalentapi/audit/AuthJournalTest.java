@@ -0,0 +1,170 @@
+package org.example.enumtalentapi.audit;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AuthJournalTest {
+
+    private static final byte[] KEY = "test-key".getBytes(StandardCharsets.UTF_8);
+
+    @TempDir
+    Path directory;
+
+    private AuthJournal journal;
+
+    @AfterEach
+    void tearDown() {
+        if (journal != null) {
+            journal.close();
+        }
+    }
+
+    @Test
+    void append_RollsFullSegments() throws IOException {
+        journal = journal(2, Duration.ofDays(90), "test-key");
+
+        for (int i = 0; i < 5; i++) {
+            journal.append(AuthEventType.LOGIN, "user" + i, "user" + i + "@example.com");
+        }
+
+        assertEquals(3, JournalSegment.list(directory).size());
+        List<AuthEvent> events = scanAll();
+        assertEquals(List.of("user0", "user1", "user2", "user3", "user4"),
+                events.stream().map(AuthEvent::userId).toList());
+        assertEquals(AuthEvent.emailHash(KEY, "USER3@example.com "), events.get(3).emailHash());
+    }
+
+    @Test
+    void open_ContinuesTheLastSegment() throws IOException {
+        journal = journal(4, Duration.ofDays(90), "test-key");
+        journal.append(AuthEventType.SIGNUP, "a", null);
+        journal.close();
+
+        journal = journal(4, Duration.ofDays(90), "test-key");
+        journal.append(AuthEventType.VERIFIED, "a", null);
+
+        assertEquals(1, JournalSegment.list(directory).size());
+        assertEquals(List.of(AuthEventType.SIGNUP, AuthEventType.VERIFIED),
+                scanAll().stream().map(AuthEvent::type).toList());
+    }
+
+    @Test
+    void append_WithoutKeyLeavesEmailOut() throws IOException {
+        journal = journal(4, Duration.ofDays(90), "");
+
+        journal.append(AuthEventType.LOGIN_FAILED_UNKNOWN_EMAIL, null, "someone@example.com");
+
+        assertEquals(0, scanAll().get(0).emailHash());
+    }
+
+    @Test
+    void deleteExpiredSegments_DropsOldSegmentsButNeverTheNewest() throws IOException {
+        long old = System.currentTimeMillis() - TimeUnit.DAYS.toMillis(10);
+        writeSegment(0, old, old + 1);
+        writeSegment(1, old + 2);
+        journal = journal(4, Duration.ofDays(1), "test-key");
+
+        journal.deleteExpiredSegments();
+
+        List<Path> left = JournalSegment.list(directory);
+        assertEquals(1, left.size());
+        assertEquals(1, JournalSegment.sequenceOf(left.get(0)));
+    }
+
+    @Test
+    void deleteExpiredSegments_KeepsSegmentsWithRecentRecords() throws IOException {
+        long now = System.currentTimeMillis();
+        writeSegment(0, now - TimeUnit.DAYS.toMillis(10), now);
+        writeSegment(1, now + 1);
+        journal = journal(4, Duration.ofDays(1), "test-key");
+
+        journal.deleteExpiredSegments();
+
+        assertEquals(2, JournalSegment.list(directory).size());
+    }
+
+    @Test
+    void scan_ReturnsHalfOpenRangeAcrossSegments() throws IOException {
+        writeSegment(0, 100, 200, 300);
+        writeSegment(1, 400, 500, 600);
+        writeSegment(2, 700);
+
+        List<Long> timestamps = new ArrayList<>();
+        new AuthJournalReader(directory).scan(200, 600, event -> true,
+                event -> timestamps.add(event.timestamp()));
+
+        assertEquals(List.of(200L, 300L, 400L, 500L), timestamps);
+    }
+
+    @Test
+    void scan_AppliesFilterAndStopsWhenVisitorSaysSo() throws IOException {
+        writeSegment(0, 100, 200, 300, 400);
+
+        List<Long> timestamps = new ArrayList<>();
+        new AuthJournalReader(directory).scan(0, Long.MAX_VALUE, event -> event.timestamp() != 200,
+                event -> timestamps.add(event.timestamp()) && timestamps.size() < 2);
+
+        assertEquals(List.of(100L, 300L), timestamps);
+    }
+
+    @Test
+    void scan_SkipsRecordsFailingTheirChecksum() throws IOException {
+        JournalSegment segment = writeSegment(0, 100, 200);
+        byte[] torn = new AuthEvent(150, AuthEventType.LOGIN, "torn", 0).encode();
+        torn[20] ^= 1;
+        segment.write(1, torn);
+
+        List<String> users = new ArrayList<>();
+        new AuthJournalReader(directory).scan(0, Long.MAX_VALUE, event -> true,
+                event -> users.add(event.userId()));
+
+        assertEquals(List.of("u100"), users);
+    }
+
+    @Test
+    void emailHash_DependsOnTheKey() {
+        long hash = AuthEvent.emailHash(KEY, "someone@example.com");
+
+        assertEquals(hash, AuthEvent.emailHash(KEY, " Someone@Example.com"));
+        assertNotEquals(hash, AuthEvent.emailHash("other-key".getBytes(StandardCharsets.UTF_8), "someone@example.com"));
+        assertEquals(0, AuthEvent.emailHash(new byte[0], "someone@example.com"));
+        assertEquals(0, AuthEvent.emailHash(KEY, null));
+    }
+
+    private AuthJournal journal(int recordsPerSegment, Duration retention, String emailKey) throws IOException {
+        AuthJournal opened = new AuthJournal(true, directory.toString(),
+                DataSize.ofBytes((long) recordsPerSegment * AuthEvent.RECORD_BYTES), retention,
+                Duration.ofHours(1), emailKey, new SimpleMeterRegistry());
+        opened.open();
+        return opened;
+    }
+
+    private JournalSegment writeSegment(long sequence, long... timestamps) throws IOException {
+        JournalSegment segment = JournalSegment.openForWrite(directory, sequence,
+                (long) Math.max(timestamps.length, 4) * AuthEvent.RECORD_BYTES);
+        for (int slot = 0; slot < timestamps.length; slot++) {
+            segment.write(slot, new AuthEvent(timestamps[slot], AuthEventType.LOGIN,
+                    "u" + timestamps[slot], 0).encode());
+        }
+        return segment;
+    }
+
+    private List<AuthEvent> scanAll() throws IOException {
+        List<AuthEvent> events = new ArrayList<>();
+        new AuthJournalReader(directory).scan(0, Long.MAX_VALUE, event -> true, events::add);
+        return events;
+    }
+}
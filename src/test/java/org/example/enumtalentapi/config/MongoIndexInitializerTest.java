@@ -0,0 +1,57 @@
+package org.example.enumtalentapi.config;
+
+import org.bson.Document;
+import org.example.enumtalentapi.entity.ProfileRevision;
+import org.example.enumtalentapi.entity.RevokedToken;
+import org.example.enumtalentapi.entity.TalentProfile;
+import org.example.enumtalentapi.entity.User;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.MongoCustomConversions;
+import org.springframework.data.mongodb.core.convert.NoOpDbRefResolver;
+import org.springframework.data.mongodb.core.index.IndexDefinition;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class MongoIndexInitializerTest {
+
+    @Test
+    void ensureIndexes_CreatesTheAnnotatedIndexes() {
+        MongoTemplate mongoTemplate = mock(MongoTemplate.class);
+        MongoMappingContext mappingContext = new MongoMappingContext();
+        mappingContext.setSimpleTypeHolder(new MongoCustomConversions(List.of()).getSimpleTypeHolder());
+        when(mongoTemplate.getConverter())
+                .thenReturn(new MappingMongoConverter(NoOpDbRefResolver.INSTANCE, mappingContext));
+        Map<Class<?>, IndexOperations> indexOps = new HashMap<>();
+        for (Class<?> type : MongoIndexInitializer.INDEXED_TYPES) {
+            IndexOperations ops = mock(IndexOperations.class);
+            indexOps.put(type, ops);
+            when(mongoTemplate.indexOps(type)).thenReturn(ops);
+        }
+
+        new MongoIndexInitializer(mongoTemplate).ensureIndexes();
+
+        assertEquals(List.of(new Document("token", 1)), keys(indexOps.get(User.class)));
+        assertEquals(List.of(new Document("expiresAt", 1)), keys(indexOps.get(RevokedToken.class)));
+        List<Document> profileKeys = keys(indexOps.get(TalentProfile.class));
+        assertTrue(profileKeys.contains(new Document("userId", 1)));
+        assertTrue(profileKeys.contains(new Document("locationPoint", "2dsphere")));
+        assertTrue(profileKeys.contains(new Document("preferredLocationPoint", "2dsphere")));
+        assertEquals(List.of(new Document("createdAt", 1)), keys(indexOps.get(ProfileRevision.class)));
+    }
+
+    private static List<Document> keys(IndexOperations indexOps) {
+        ArgumentCaptor<IndexDefinition> created = ArgumentCaptor.forClass(IndexDefinition.class);
+        verify(indexOps, atLeastOnce()).createIndex(created.capture());
+        return created.getAllValues().stream().map(IndexDefinition::getIndexKeys).toList();
+    }
+}
@@ -0,0 +1,37 @@
+package org.example.enumtalentapi.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReactiveMongoAutoConfigurationFilterTest {
+
+    private static final String[] CANDIDATES = {
+            "org.springframework.boot.autoconfigure.mongo.MongoAutoConfiguration",
+            "org.springframework.boot.autoconfigure.mongo.MongoReactiveAutoConfiguration",
+            null,
+            "org.springframework.boot.autoconfigure.data.mongo.MongoReactiveDataAutoConfiguration",
+            "org.springframework.boot.autoconfigure.data.mongo.MongoReactiveRepositoriesAutoConfiguration"};
+
+    @Test
+    void match_ServletModeLeavesOutReactiveMongo() {
+        assertArrayEquals(new boolean[]{true, false, true, false, false}, filter(null).match(CANDIDATES, null));
+        assertArrayEquals(new boolean[]{true, false, true, false, false}, filter("servlet").match(CANDIDATES, null));
+    }
+
+    @Test
+    void match_ReactiveModeKeepsEverything() {
+        assertArrayEquals(new boolean[]{true, true, true, true, true}, filter("reactive").match(CANDIDATES, null));
+    }
+
+    private static ReactiveMongoAutoConfigurationFilter filter(String webApplicationType) {
+        MockEnvironment environment = new MockEnvironment();
+        if (webApplicationType != null) {
+            environment.setProperty("spring.main.web-application-type", webApplicationType);
+        }
+        ReactiveMongoAutoConfigurationFilter filter = new ReactiveMongoAutoConfigurationFilter();
+        filter.setEnvironment(environment);
+        return filter;
+    }
+}
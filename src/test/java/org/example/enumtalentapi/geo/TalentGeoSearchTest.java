@@ -0,0 +1,108 @@
+package org.example.enumtalentapi.geo;
+
+import org.bson.Document;
+import org.example.enumtalentapi.dto.GeoSearchRequest;
+import org.example.enumtalentapi.exception.CustomException;
+import org.example.enumtalentapi.exception.ErrorCode;
+import org.example.enumtalentapi.typeahead.SkillDictionary;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.geo.Point;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.geo.GeoJsonPoint;
+import org.springframework.data.mongodb.core.geo.GeoJsonPolygon;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+class TalentGeoSearchTest {
+
+    private final TalentGeoSearch geoSearch = new TalentGeoSearch(mock(MongoTemplate.class),
+            mock(Gazetteer.class), mock(SkillDictionary.class), false);
+
+    @Test
+    void boxPolygons_SmallBoxIsOnePolygonAlongItsParallels() {
+        List<GeoJsonPolygon> polygons = TalentGeoSearch.boxPolygons(6, 7, 3, 5);
+
+        assertEquals(1, polygons.size());
+        List<Point> ring = polygons.get(0).getPoints();
+        assertEquals(ring.get(0), ring.get(ring.size() - 1));
+        // two vertices on each parallel per degree of longitude, plus the closing one
+        assertEquals(7, ring.size());
+        assertTrue(ring.stream().allMatch(point -> point.getY() == 6 || point.getY() == 7));
+        assertTrue(ring.stream().allMatch(point -> point.getX() >= 3 && point.getX() <= 5));
+    }
+
+    @Test
+    void boxPolygons_AntimeridianBoxWrapsAround() {
+        List<GeoJsonPolygon> polygons = TalentGeoSearch.boxPolygons(-20, -10, 170, -170);
+
+        assertEquals(1, polygons.size());
+        List<Point> ring = polygons.get(0).getPoints();
+        assertTrue(ring.stream().allMatch(point -> point.getX() >= 170 || point.getX() <= -170));
+        assertTrue(ring.stream().anyMatch(point -> point.getX() == -170));
+        assertTrue(ring.stream().anyMatch(point -> point.getX() == 180));
+    }
+
+    @Test
+    void boxPolygons_WideBoxIsSlicedBelowAHemisphere() {
+        List<GeoJsonPolygon> polygons = TalentGeoSearch.boxPolygons(-90, 90, -180, 180);
+
+        assertEquals(4, polygons.size());
+        for (GeoJsonPolygon polygon : polygons) {
+            List<Point> ring = polygon.getPoints();
+            double west = ring.get(0).getX();
+            double east = ring.get(ring.size() / 2 - 1).getX();
+            assertEquals(90, east - west, 1e-9);
+            assertTrue(ring.stream().allMatch(point -> Math.abs(point.getY()) < 90));
+        }
+    }
+
+    @Test
+    void aggregation_AntimeridianBoxCentersAcrossIt() {
+        GeoSearchRequest request = box(-20, -10, 170, -170);
+
+        Document geoNear = geoNear(geoSearch.aggregation(request));
+
+        GeoJsonPoint near = geoNear.get("near", GeoJsonPoint.class);
+        assertEquals(180.0, near.getX(), 1e-9);
+        assertEquals(-15.0, near.getY(), 1e-9);
+    }
+
+    @Test
+    void aggregation_WideBoxMatchesAnySlice() {
+        Document geoNear = geoNear(geoSearch.aggregation(box(-60, 60, -170, 170)));
+
+        Document query = geoNear.get("query", Document.class);
+        assertEquals(4, query.getList("$or", Document.class).size());
+        assertFalse(query.containsKey("locationPoint"));
+    }
+
+    @Test
+    void aggregation_RejectsInvalidBoxes() {
+        assertBoxInvalid(box(-95, 10, 0, 10));
+        assertBoxInvalid(box(0, 10, 0, 190));
+        assertBoxInvalid(box(10, 10, 0, 10));
+        assertBoxInvalid(box(0, 10, 5, 5));
+    }
+
+    private void assertBoxInvalid(GeoSearchRequest request) {
+        CustomException thrown = assertThrows(CustomException.class, () -> geoSearch.aggregation(request));
+        assertEquals(ErrorCode.BOX_INVALID, thrown.getCode());
+    }
+
+    private static Document geoNear(Aggregation aggregation) {
+        return aggregation.toPipeline(Aggregation.DEFAULT_CONTEXT).get(0).get("$geoNear", Document.class);
+    }
+
+    private static GeoSearchRequest box(double minLat, double maxLat, double minLon, double maxLon) {
+        GeoSearchRequest request = new GeoSearchRequest();
+        request.setMinLat(minLat);
+        request.setMaxLat(maxLat);
+        request.setMinLon(minLon);
+        request.setMaxLon(maxLon);
+        return request;
+    }
+}
@@ -0,0 +1,201 @@
+package org.example.enumtalentapi.invalidation;
+
+import com.mongodb.MongoException;
+import com.mongodb.client.MongoCollection;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.mongodb.core.CollectionOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class InvalidationBusTest {
+
+    private MongoTemplate mongoTemplate;
+    private MongoCollection<Document> collection;
+    private InvalidationBus bus;
+    private final List<String> evicted = new ArrayList<>();
+    private final AtomicInteger clears = new AtomicInteger();
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        mongoTemplate = mock(MongoTemplate.class);
+        collection = mock(MongoCollection.class);
+        when(mongoTemplate.getCollection(InvalidationBus.COLLECTION)).thenReturn(collection);
+        bus = bus(mongoTemplate, true);
+        bus.subscribe("profile", evicted::add, clears::incrementAndGet);
+    }
+
+    @Test
+    void flush_OneDeduplicatedEventPerFlush() {
+        bus.publish("profile", "u1");
+        bus.publish("profile", "u2");
+        bus.publish("profile", "u1");
+        bus.publish("revoked-token", "t1");
+
+        bus.flush();
+
+        Document event = inserted().get(0);
+        assertEquals("node-a", event.getString("node"));
+        assertEquals(0L, event.getLong("seq"));
+        Document keys = event.get("keys", Document.class);
+        assertEquals(List.of("u1", "u2"), keys.get("profile"));
+        assertEquals(List.of("t1"), keys.get("revoked-token"));
+    }
+
+    @Test
+    void flush_NothingQueuedNothingWritten() {
+        bus.flush();
+
+        verify(collection, never()).insertOne(any());
+    }
+
+    @Test
+    void flush_LargeBatchesSplitWithConsecutiveSequences() {
+        for (int i = 0; i < 2500; i++) {
+            bus.publish("profile", "u" + i);
+        }
+
+        bus.flush();
+
+        List<Document> events = inserted();
+        assertEquals(3, events.size());
+        assertEquals(List.of(0L, 1L, 2L), events.stream().map(e -> e.getLong("seq")).toList());
+        int total = events.stream()
+                .mapToInt(e -> e.get("keys", Document.class).getList("profile", String.class).size())
+                .sum();
+        assertEquals(2500, total);
+    }
+
+    @Test
+    void flush_FailedInsertStillUsesItsSequence() {
+        when(collection.insertOne(any())).thenThrow(new MongoException("down")).thenReturn(null);
+
+        bus.publish("profile", "u1");
+        bus.flush();
+        bus.publish("profile", "u2");
+        bus.flush();
+
+        List<Document> attempts = inserted();
+        assertEquals(2, attempts.size());
+        assertEquals(1L, attempts.get(1).getLong("seq"));
+    }
+
+    @Test
+    void publish_DisabledBusQueuesNothing() {
+        MongoTemplate mongoTemplate = mock(MongoTemplate.class);
+        InvalidationBus disabled = bus(mongoTemplate, false);
+
+        disabled.publish("profile", "u1");
+        disabled.flush();
+
+        verifyNoInteractions(mongoTemplate);
+    }
+
+    @Test
+    void apply_PeerKeysReachSubscribers() {
+        bus.apply(event("node-b", 0, Map.of("profile", List.of("u1", "u2"), "unknown", List.of("x"))));
+
+        assertEquals(List.of("u1", "u2"), evicted);
+        assertEquals(0, clears.get());
+    }
+
+    @Test
+    void apply_OwnEventsIgnored() {
+        bus.apply(event("node-a", 0, Map.of("profile", List.of("u1"))));
+
+        assertTrue(evicted.isEmpty());
+    }
+
+    @Test
+    void apply_SequenceGapClearsCaches() {
+        bus.apply(event("node-b", 4, Map.of("profile", List.of("u1"))));
+        bus.apply(event("node-b", 5, Map.of("profile", List.of("u2"))));
+        bus.apply(event("node-b", 7, Map.of("profile", List.of("u3"))));
+
+        assertEquals(List.of("u1", "u2"), evicted);
+        assertEquals(1, clears.get());
+    }
+
+    @Test
+    void apply_RestartedPeerIsNotAGap() {
+        bus.apply(event("node-b", 12, Map.of("profile", List.of("u1"))));
+        bus.apply(event("node-b", 0, Map.of()));
+        bus.apply(event("node-b", 1, Map.of("profile", List.of("u2"))));
+
+        assertEquals(List.of("u1", "u2"), evicted);
+        assertEquals(0, clears.get());
+    }
+
+    @Test
+    void ensureCollection_CreatesItCapped() {
+        when(mongoTemplate.collectionExists(InvalidationBus.COLLECTION)).thenReturn(false);
+
+        assertTrue(bus.ensureCollection());
+
+        ArgumentCaptor<CollectionOptions> options = ArgumentCaptor.forClass(CollectionOptions.class);
+        verify(mongoTemplate).createCollection(eq(InvalidationBus.COLLECTION), options.capture());
+        assertTrue(options.getValue().getCapped().orElse(false));
+    }
+
+    @Test
+    void ensureCollection_ExistingCollectionMustBeCapped() {
+        when(mongoTemplate.collectionExists(InvalidationBus.COLLECTION)).thenReturn(true);
+        when(mongoTemplate.executeCommand(any(Document.class)))
+                .thenReturn(listed(new Document()))
+                .thenReturn(listed(new Document("capped", true).append("size", 1 << 20)));
+
+        assertFalse(bus.ensureCollection());
+        assertTrue(bus.ensureCollection());
+        verify(mongoTemplate, never()).createCollection(anyString(), any(CollectionOptions.class));
+    }
+
+    @Test
+    void start_NothingIsWrittenBeforeTheCollectionIsReady() throws InterruptedException {
+        when(mongoTemplate.collectionExists(InvalidationBus.COLLECTION)).thenThrow(new MongoException("down"));
+        bus.start();
+        try {
+            bus.publish("profile", "u1");
+            Thread.sleep(300);
+
+            verify(collection, never()).insertOne(any());
+        } finally {
+            bus.stop();
+        }
+        verify(collection, never()).insertOne(any());
+    }
+
+    private List<Document> inserted() {
+        ArgumentCaptor<Document> captor = ArgumentCaptor.forClass(Document.class);
+        verify(collection, atLeastOnce()).insertOne(captor.capture());
+        return captor.getAllValues();
+    }
+
+    private static Document listed(Document options) {
+        Document collection = new Document("name", InvalidationBus.COLLECTION).append("options", options);
+        return new Document("cursor", new Document("firstBatch", List.of(collection)));
+    }
+
+    private static Document event(String node, long seq, Map<String, List<String>> keys) {
+        return new Document("node", node).append("seq", seq).append("keys", new Document(Map.copyOf(keys)));
+    }
+
+    private static InvalidationBus bus(MongoTemplate mongoTemplate, boolean enabled) {
+        return new InvalidationBus(mongoTemplate, enabled, "node-a", Duration.ofMillis(50),
+                1 << 20, new SimpleMeterRegistry());
+    }
+}
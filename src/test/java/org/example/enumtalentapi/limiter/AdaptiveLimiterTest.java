@@ -0,0 +1,88 @@
+package org.example.enumtalentapi.limiter;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AdaptiveLimiterTest {
+
+    private static final long MS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    @Test
+    void tryAcquire_RejectsOverLimit() {
+        AdaptiveLimiter limiter = new AdaptiveLimiter(100 * MS, 3, 1, 10);
+
+        assertTrue(limiter.tryAcquire());
+        assertTrue(limiter.tryAcquire());
+        assertTrue(limiter.tryAcquire());
+        assertFalse(limiter.tryAcquire());
+        assertEquals(3, limiter.inFlight());
+
+        limiter.release(MS);
+        assertTrue(limiter.tryAcquire());
+    }
+
+    @Test
+    void limit_ShrinksWhenLatencyExceedsTarget() throws InterruptedException {
+        AdaptiveLimiter limiter = new AdaptiveLimiter(10 * MS, 50, 4, 200);
+
+        for (int window = 0; window < 5; window++) {
+            runWindow(limiter, 1, 100 * MS);
+        }
+
+        assertTrue(limiter.limit() < 50, "limit: " + limiter.limit());
+        assertTrue(limiter.limit() >= 4);
+    }
+
+    @Test
+    void limit_NeverBelowMinimum() throws InterruptedException {
+        AdaptiveLimiter limiter = new AdaptiveLimiter(10 * MS, 40, 35, 200);
+
+        for (int window = 0; window < 5; window++) {
+            runWindow(limiter, 1, 1000 * MS);
+        }
+
+        assertEquals(35, limiter.limit());
+    }
+
+    @Test
+    void limit_GrowsWhenBusyAndFast() throws InterruptedException {
+        AdaptiveLimiter limiter = new AdaptiveLimiter(100 * MS, 10, 4, 200);
+
+        for (int window = 0; window < 5; window++) {
+            runWindow(limiter, limiter.limit(), MS);
+        }
+
+        assertTrue(limiter.limit() > 10, "limit: " + limiter.limit());
+    }
+
+    @Test
+    void limit_UnchangedWhenMostlyIdle() throws InterruptedException {
+        AdaptiveLimiter limiter = new AdaptiveLimiter(100 * MS, 10, 4, 200);
+
+        for (int window = 0; window < 5; window++) {
+            runWindow(limiter, 1, MS);
+        }
+
+        assertEquals(10, limiter.limit());
+    }
+
+    // one sampling window of at least 10 releases, holding `concurrency` requests at a time
+    private static void runWindow(AdaptiveLimiter limiter, int concurrency, long rttNanos)
+            throws InterruptedException {
+        Thread.sleep(110);
+        int released = 0;
+        while (released < 10) {
+            int acquired = 0;
+            while (acquired < concurrency && limiter.tryAcquire()) {
+                acquired++;
+            }
+            for (int i = 0; i < acquired; i++) {
+                limiter.release(rttNanos);
+            }
+            released += acquired;
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package org.example.enumtalentapi.limiter;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RouteClassTest {
+
+    @Test
+    void of_MediaHasItsOwnClass() {
+        assertEquals(RouteClass.MEDIA, RouteClass.of("GET", "/api/profile/talent/u1/picture"));
+        assertEquals(RouteClass.MEDIA, RouteClass.of("GET", "/api/profile/talent/u1/picture/thumbnail"));
+        assertEquals(RouteClass.MEDIA, RouteClass.of("GET", "/api/profile/talent/u1/resume"));
+        assertEquals(RouteClass.MEDIA, RouteClass.of("POST", "/api/profile/talent/u1/resume"));
+    }
+
+    @Test
+    void of_ProfileAndAuthRoutes() {
+        assertEquals(RouteClass.PROFILE_READ, RouteClass.of("GET", "/api/profile/talent/u1"));
+        assertEquals(RouteClass.PROFILE_WRITE, RouteClass.of("POST", "/api/profile/talent"));
+        assertEquals(RouteClass.AUTH, RouteClass.of("POST", "/api/auth/login"));
+    }
+
+    @Test
+    void of_UnlimitedPaths() {
+        assertNull(RouteClass.of("GET", "/api/profile/suggestions/skills"));
+        assertNull(RouteClass.of("GET", "/actuator/prometheus"));
+        assertNull(RouteClass.of("GET", "/.well-known/health"));
+    }
+}
@@ -0,0 +1,167 @@
+package org.example.enumtalentapi.loadtest;
+
+import org.springframework.data.domain.Example;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.repository.query.FluentQuery;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Blocking {@link MongoRepository} over an {@link InMemoryStore}. Every call
+ * pays the configured {@link SimulatedLatency}. Query-by-example is not supported.
+ */
+public abstract class InMemoryMongoRepository<T> implements MongoRepository<T, String> {
+
+    protected final InMemoryStore<T> store;
+    protected final SimulatedLatency latency;
+
+    protected InMemoryMongoRepository(InMemoryStore<T> store, SimulatedLatency latency) {
+        this.store = store;
+        this.latency = latency;
+    }
+
+    @Override
+    public <S extends T> S save(S entity) {
+        latency.pause();
+        return store.save(entity);
+    }
+
+    @Override
+    public <S extends T> List<S> saveAll(Iterable<S> entities) {
+        latency.pause();
+        List<S> saved = new ArrayList<>();
+        entities.forEach(e -> saved.add(store.save(e)));
+        return saved;
+    }
+
+    @Override
+    public <S extends T> S insert(S entity) {
+        return save(entity);
+    }
+
+    @Override
+    public <S extends T> List<S> insert(Iterable<S> entities) {
+        return saveAll(entities);
+    }
+
+    @Override
+    public Optional<T> findById(String id) {
+        latency.pause();
+        return store.findById(id);
+    }
+
+    @Override
+    public boolean existsById(String id) {
+        return findById(id).isPresent();
+    }
+
+    @Override
+    public List<T> findAll() {
+        latency.pause();
+        return store.findAll();
+    }
+
+    @Override
+    public List<T> findAll(Sort sort) {
+        return findAll();
+    }
+
+    @Override
+    public Page<T> findAll(Pageable pageable) {
+        List<T> all = findAll();
+        if (pageable.isUnpaged()) return new PageImpl<>(all);
+        int from = (int) Math.min(pageable.getOffset(), all.size());
+        int to = Math.min(from + pageable.getPageSize(), all.size());
+        return new PageImpl<>(all.subList(from, to), pageable, all.size());
+    }
+
+    @Override
+    public List<T> findAllById(Iterable<String> ids) {
+        latency.pause();
+        List<T> found = new ArrayList<>();
+        ids.forEach(id -> store.findById(id).ifPresent(found::add));
+        return found;
+    }
+
+    @Override
+    public long count() {
+        latency.pause();
+        return store.count();
+    }
+
+    @Override
+    public void deleteById(String id) {
+        latency.pause();
+        store.deleteById(id);
+    }
+
+    @Override
+    public void delete(T entity) {
+        latency.pause();
+        store.delete(entity);
+    }
+
+    @Override
+    public void deleteAllById(Iterable<? extends String> ids) {
+        latency.pause();
+        ids.forEach(store::deleteById);
+    }
+
+    @Override
+    public void deleteAll(Iterable<? extends T> entities) {
+        latency.pause();
+        entities.forEach(store::delete);
+    }
+
+    @Override
+    public void deleteAll() {
+        latency.pause();
+        store.deleteAll();
+    }
+
+    @Override
+    public <S extends T> Optional<S> findOne(Example<S> example) {
+        throw unsupported();
+    }
+
+    @Override
+    public <S extends T> List<S> findAll(Example<S> example) {
+        throw unsupported();
+    }
+
+    @Override
+    public <S extends T> List<S> findAll(Example<S> example, Sort sort) {
+        throw unsupported();
+    }
+
+    @Override
+    public <S extends T> Page<S> findAll(Example<S> example, Pageable pageable) {
+        throw unsupported();
+    }
+
+    @Override
+    public <S extends T> long count(Example<S> example) {
+        throw unsupported();
+    }
+
+    @Override
+    public <S extends T> boolean exists(Example<S> example) {
+        throw unsupported();
+    }
+
+    @Override
+    public <S extends T, R> R findBy(Example<S> example, Function<FluentQuery.FetchableFluentQuery<S>, R> queryFunction) {
+        throw unsupported();
+    }
+
+    private UnsupportedOperationException unsupported() {
+        return new UnsupportedOperationException("Query by example is not supported by the in-memory repositories");
+    }
+}
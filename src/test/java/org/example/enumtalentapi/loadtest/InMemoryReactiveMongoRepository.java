@@ -0,0 +1,185 @@
+package org.example.enumtalentapi.loadtest;
+
+import org.reactivestreams.Publisher;
+import org.springframework.data.domain.Example;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+import org.springframework.data.repository.query.FluentQuery;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.function.Function;
+
+/**
+ * Reactive {@link ReactiveMongoRepository} over an {@link InMemoryStore}. The
+ * simulated latency is a timer, so no thread is held while "waiting on the database".
+ */
+public abstract class InMemoryReactiveMongoRepository<T> implements ReactiveMongoRepository<T, String> {
+
+    protected final InMemoryStore<T> store;
+    protected final SimulatedLatency latency;
+
+    protected InMemoryReactiveMongoRepository(InMemoryStore<T> store, SimulatedLatency latency) {
+        this.store = store;
+        this.latency = latency;
+    }
+
+    protected <R> Mono<R> delayed(Callable<R> operation) {
+        return Mono.delay(latency.next()).then(Mono.fromCallable(operation));
+    }
+
+    protected Mono<T> delayedOptional(Callable<Optional<T>> operation) {
+        return delayed(operation).flatMap(Mono::justOrEmpty);
+    }
+
+    protected Mono<Void> delayedRun(Runnable operation) {
+        return Mono.delay(latency.next()).then(Mono.fromRunnable(operation));
+    }
+
+    @Override
+    public <S extends T> Mono<S> save(S entity) {
+        return delayed(() -> store.save(entity));
+    }
+
+    @Override
+    public <S extends T> Flux<S> saveAll(Iterable<S> entities) {
+        return Flux.fromIterable(entities).concatMap(this::save);
+    }
+
+    @Override
+    public <S extends T> Flux<S> saveAll(Publisher<S> entities) {
+        return Flux.from(entities).concatMap(this::save);
+    }
+
+    @Override
+    public <S extends T> Mono<S> insert(S entity) {
+        return save(entity);
+    }
+
+    @Override
+    public <S extends T> Flux<S> insert(Iterable<S> entities) {
+        return saveAll(entities);
+    }
+
+    @Override
+    public <S extends T> Flux<S> insert(Publisher<S> entities) {
+        return saveAll(entities);
+    }
+
+    @Override
+    public Mono<T> findById(String id) {
+        return delayedOptional(() -> store.findById(id));
+    }
+
+    @Override
+    public Mono<T> findById(Publisher<String> id) {
+        return Mono.from(id).flatMap(this::findById);
+    }
+
+    @Override
+    public Mono<Boolean> existsById(String id) {
+        return delayed(() -> store.findById(id).isPresent());
+    }
+
+    @Override
+    public Mono<Boolean> existsById(Publisher<String> id) {
+        return Mono.from(id).flatMap(this::existsById);
+    }
+
+    @Override
+    public Flux<T> findAll() {
+        return delayed(store::findAll).flatMapMany(Flux::fromIterable);
+    }
+
+    @Override
+    public Flux<T> findAll(Sort sort) {
+        return findAll();
+    }
+
+    @Override
+    public Flux<T> findAllById(Iterable<String> ids) {
+        return Flux.fromIterable(ids).concatMap(this::findById);
+    }
+
+    @Override
+    public Flux<T> findAllById(Publisher<String> ids) {
+        return Flux.from(ids).concatMap(this::findById);
+    }
+
+    @Override
+    public Mono<Long> count() {
+        return delayed(store::count);
+    }
+
+    @Override
+    public Mono<Void> deleteById(String id) {
+        return delayedRun(() -> store.deleteById(id));
+    }
+
+    @Override
+    public Mono<Void> deleteById(Publisher<String> id) {
+        return Mono.from(id).flatMap(this::deleteById);
+    }
+
+    @Override
+    public Mono<Void> delete(T entity) {
+        return delayedRun(() -> store.delete(entity));
+    }
+
+    @Override
+    public Mono<Void> deleteAllById(Iterable<? extends String> ids) {
+        return delayedRun(() -> ids.forEach(store::deleteById));
+    }
+
+    @Override
+    public Mono<Void> deleteAll(Iterable<? extends T> entities) {
+        return delayedRun(() -> entities.forEach(store::delete));
+    }
+
+    @Override
+    public Mono<Void> deleteAll(Publisher<? extends T> entities) {
+        return Flux.from(entities).concatMap(this::delete).then();
+    }
+
+    @Override
+    public Mono<Void> deleteAll() {
+        return delayedRun(store::deleteAll);
+    }
+
+    @Override
+    public <S extends T> Mono<S> findOne(Example<S> example) {
+        return Mono.error(unsupported());
+    }
+
+    @Override
+    public <S extends T> Flux<S> findAll(Example<S> example) {
+        return Flux.error(unsupported());
+    }
+
+    @Override
+    public <S extends T> Flux<S> findAll(Example<S> example, Sort sort) {
+        return Flux.error(unsupported());
+    }
+
+    @Override
+    public <S extends T> Mono<Long> count(Example<S> example) {
+        return Mono.error(unsupported());
+    }
+
+    @Override
+    public <S extends T> Mono<Boolean> exists(Example<S> example) {
+        return Mono.error(unsupported());
+    }
+
+    @Override
+    public <S extends T, R, P extends Publisher<R>> P findBy(Example<S> example,
+                                                             Function<FluentQuery.ReactiveFluentQuery<S>, P> queryFunction) {
+        throw unsupported();
+    }
+
+    private UnsupportedOperationException unsupported() {
+        return new UnsupportedOperationException("Query by example is not supported by the in-memory repositories");
+    }
+}
@@ -0,0 +1,261 @@
+package org.example.enumtalentapi.loadtest;
+
+import org.example.enumtalentapi.entity.RevokedToken;
+import org.example.enumtalentapi.entity.TalentProfile;
+import org.example.enumtalentapi.entity.TalentProfileText;
+import org.example.enumtalentapi.entity.User;
+import org.example.enumtalentapi.entity.VerificationToken;
+import org.example.enumtalentapi.repository.RevokedTokenRepository;
+import org.example.enumtalentapi.repository.TalentProfileRepository;
+import org.example.enumtalentapi.repository.TalentProfileTextRepository;
+import org.example.enumtalentapi.repository.UserRepository;
+import org.example.enumtalentapi.repository.VerificationTokenRepository;
+import org.example.enumtalentapi.repository.reactive.ReactiveTalentProfileRepository;
+import org.example.enumtalentapi.repository.reactive.ReactiveTalentProfileTextRepository;
+import org.example.enumtalentapi.repository.reactive.ReactiveUserRepository;
+import org.example.enumtalentapi.repository.reactive.ReactiveVerificationTokenRepository;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Pageable;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Replaces the Mongo repositories with in-memory stand-ins for the loadtest
+ * profile. Blocking and reactive repositories share the same stores, so either
+ * serving mode can be driven. Mongo repository scanning is switched off in
+ * application-loadtest.properties. Test sources only, run the server with
+ * {@code ./mvnw spring-boot:test-run -Dspring-boot.run.profiles=loadtest}.
+ */
+@Configuration
+@Profile("loadtest")
+public class InMemoryRepositoryConfig {
+
+    @Bean
+    public InMemoryStore<User> userStore() {
+        return new InMemoryStore<>(User::getId, User::setId)
+                .index("email", User::getEmail)
+                .index("token", User::getToken);
+    }
+
+    @Bean
+    public InMemoryStore<VerificationToken> verificationTokenStore() {
+        return new InMemoryStore<>(VerificationToken::getId, VerificationToken::setId)
+                .index("token", VerificationToken::getToken);
+    }
+
+    @Bean
+    public InMemoryStore<TalentProfile> talentProfileStore() {
+        return new InMemoryStore<>(TalentProfile::getId, TalentProfile::setId)
+                .index("userId", TalentProfile::getUserId);
+    }
+
+    @Bean
+    public InMemoryStore<TalentProfileText> talentProfileTextStore() {
+        return new InMemoryStore<>(TalentProfileText::getUserId, TalentProfileText::setUserId);
+    }
+
+    @Bean
+    public InMemoryStore<RevokedToken> revokedTokenStore() {
+        return new InMemoryStore<>(RevokedToken::getId, RevokedToken::setId);
+    }
+
+    @Bean
+    public UserRepository userRepository(InMemoryStore<User> store, SimulatedLatency latency) {
+        return new InMemoryUserRepository(store, latency);
+    }
+
+    @Bean
+    public VerificationTokenRepository verificationTokenRepository(InMemoryStore<VerificationToken> store,
+                                                                   SimulatedLatency latency) {
+        return new InMemoryVerificationTokenRepository(store, latency);
+    }
+
+    @Bean
+    public TalentProfileRepository talentProfileRepository(InMemoryStore<TalentProfile> store,
+                                                           SimulatedLatency latency) {
+        return new InMemoryTalentProfileRepository(store, latency);
+    }
+
+    @Bean
+    public TalentProfileTextRepository talentProfileTextRepository(InMemoryStore<TalentProfileText> store,
+                                                                   SimulatedLatency latency) {
+        return new InMemoryTalentProfileTextRepository(store, latency);
+    }
+
+    @Bean
+    public RevokedTokenRepository revokedTokenRepository(InMemoryStore<RevokedToken> store,
+                                                         SimulatedLatency latency) {
+        return new InMemoryRevokedTokenRepository(store, latency);
+    }
+
+    @Bean
+    public ReactiveUserRepository reactiveUserRepository(InMemoryStore<User> store, SimulatedLatency latency) {
+        return new InMemoryReactiveUserRepository(store, latency);
+    }
+
+    @Bean
+    public ReactiveVerificationTokenRepository reactiveVerificationTokenRepository(
+            InMemoryStore<VerificationToken> store, SimulatedLatency latency) {
+        return new InMemoryReactiveVerificationTokenRepository(store, latency);
+    }
+
+    @Bean
+    public ReactiveTalentProfileRepository reactiveTalentProfileRepository(InMemoryStore<TalentProfile> store,
+                                                                           SimulatedLatency latency) {
+        return new InMemoryReactiveTalentProfileRepository(store, latency);
+    }
+
+    @Bean
+    public ReactiveTalentProfileTextRepository reactiveTalentProfileTextRepository(
+            InMemoryStore<TalentProfileText> store, SimulatedLatency latency) {
+        return new InMemoryReactiveTalentProfileTextRepository(store, latency);
+    }
+
+    static class InMemoryUserRepository extends InMemoryMongoRepository<User> implements UserRepository {
+        InMemoryUserRepository(InMemoryStore<User> store, SimulatedLatency latency) {
+            super(store, latency);
+        }
+
+        @Override
+        public Optional<User> findByEmail(String email) {
+            latency.pause();
+            return store.findBy("email", email);
+        }
+
+        @Override
+        public Optional<User> findByToken(String token) {
+            latency.pause();
+            return store.findBy("token", token);
+        }
+    }
+
+    static class InMemoryVerificationTokenRepository extends InMemoryMongoRepository<VerificationToken>
+            implements VerificationTokenRepository {
+        InMemoryVerificationTokenRepository(InMemoryStore<VerificationToken> store, SimulatedLatency latency) {
+            super(store, latency);
+        }
+
+        @Override
+        public VerificationToken findByToken(String token) {
+            latency.pause();
+            return store.findBy("token", token).orElse(null);
+        }
+
+        @Override
+        public void deleteByUser(User user) {
+            latency.pause();
+            store.findAll(t -> t.getUser() != null && Objects.equals(t.getUser().getId(), user.getId()))
+                    .forEach(store::delete);
+        }
+    }
+
+    static class InMemoryTalentProfileRepository extends InMemoryMongoRepository<TalentProfile>
+            implements TalentProfileRepository {
+        InMemoryTalentProfileRepository(InMemoryStore<TalentProfile> store, SimulatedLatency latency) {
+            super(store, latency);
+        }
+
+        @Override
+        public Optional<TalentProfile> findByUserId(String userId) {
+            latency.pause();
+            return store.findBy("userId", userId);
+        }
+
+        @Override
+        public List<TalentProfile> findAllBy(Pageable pageable) {
+            return findByIdGreaterThan("", pageable);
+        }
+
+        @Override
+        public List<TalentProfile> findByIdGreaterThan(String id, Pageable pageable) {
+            latency.pause();
+            return store.findAll().stream()
+                    .filter(t -> store.idOf(t).compareTo(id) > 0)
+                    .sorted(Comparator.comparing(store::idOf))
+                    .limit(pageable.getPageSize())
+                    .toList();
+        }
+    }
+
+    static class InMemoryTalentProfileTextRepository extends InMemoryMongoRepository<TalentProfileText>
+            implements TalentProfileTextRepository {
+        InMemoryTalentProfileTextRepository(InMemoryStore<TalentProfileText> store, SimulatedLatency latency) {
+            super(store, latency);
+        }
+    }
+
+    static class InMemoryRevokedTokenRepository extends InMemoryMongoRepository<RevokedToken>
+            implements RevokedTokenRepository {
+        InMemoryRevokedTokenRepository(InMemoryStore<RevokedToken> store, SimulatedLatency latency) {
+            super(store, latency);
+        }
+
+        @Override
+        public List<RevokedToken> findByExpiresAtAfter(Instant now) {
+            latency.pause();
+            return store.findAll(t -> t.getExpiresAt().isAfter(now));
+        }
+    }
+
+    static class InMemoryReactiveUserRepository extends InMemoryReactiveMongoRepository<User>
+            implements ReactiveUserRepository {
+        InMemoryReactiveUserRepository(InMemoryStore<User> store, SimulatedLatency latency) {
+            super(store, latency);
+        }
+
+        @Override
+        public Mono<User> findByEmail(String email) {
+            return delayedOptional(() -> store.findBy("email", email));
+        }
+
+        @Override
+        public Mono<User> findByToken(String token) {
+            return delayedOptional(() -> store.findBy("token", token));
+        }
+    }
+
+    static class InMemoryReactiveVerificationTokenRepository extends InMemoryReactiveMongoRepository<VerificationToken>
+            implements ReactiveVerificationTokenRepository {
+        InMemoryReactiveVerificationTokenRepository(InMemoryStore<VerificationToken> store, SimulatedLatency latency) {
+            super(store, latency);
+        }
+
+        @Override
+        public Mono<VerificationToken> findByToken(String token) {
+            return delayedOptional(() -> store.findBy("token", token));
+        }
+
+        @Override
+        public Mono<Void> deleteByUser(User user) {
+            return delayedRun(() -> store.findAll(t -> t.getUser() != null
+                            && Objects.equals(t.getUser().getId(), user.getId()))
+                    .forEach(store::delete));
+        }
+    }
+
+    static class InMemoryReactiveTalentProfileRepository extends InMemoryReactiveMongoRepository<TalentProfile>
+            implements ReactiveTalentProfileRepository {
+        InMemoryReactiveTalentProfileRepository(InMemoryStore<TalentProfile> store, SimulatedLatency latency) {
+            super(store, latency);
+        }
+
+        @Override
+        public Mono<TalentProfile> findByUserId(String userId) {
+            return delayedOptional(() -> store.findBy("userId", userId));
+        }
+    }
+
+    static class InMemoryReactiveTalentProfileTextRepository extends InMemoryReactiveMongoRepository<TalentProfileText>
+            implements ReactiveTalentProfileTextRepository {
+        InMemoryReactiveTalentProfileTextRepository(InMemoryStore<TalentProfileText> store, SimulatedLatency latency) {
+            super(store, latency);
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package org.example.enumtalentapi.loadtest;
+
+import org.bson.types.ObjectId;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Document map shared by the blocking and reactive in-memory repositories,
+ * with optional unique lookups for the fields the repositories query by.
+ */
+public class InMemoryStore<T> {
+
+    private final Map<String, T> rows = new ConcurrentHashMap<>();
+    private final Function<T, String> idGetter;
+    private final BiConsumer<T, String> idSetter;
+    private final Map<String, Function<T, Object>> indexedFields = new ConcurrentHashMap<>();
+    private final Map<String, Map<Object, String>> indexes = new ConcurrentHashMap<>();
+
+    public InMemoryStore(Function<T, String> idGetter, BiConsumer<T, String> idSetter) {
+        this.idGetter = idGetter;
+        this.idSetter = idSetter;
+    }
+
+    public InMemoryStore<T> index(String name, Function<T, Object> field) {
+        indexedFields.put(name, field);
+        indexes.put(name, new ConcurrentHashMap<>());
+        return this;
+    }
+
+    public <S extends T> S save(S entity) {
+        String id = idGetter.apply(entity);
+        if (id == null) {
+            id = new ObjectId().toHexString();
+            idSetter.accept(entity, id);
+        }
+        T previous = rows.put(id, entity);
+
+        String savedId = id;
+        indexedFields.forEach((name, field) -> {
+            Map<Object, String> index = indexes.get(name);
+            if (previous != null) {
+                Object oldKey = field.apply(previous);
+                if (oldKey != null) index.remove(oldKey, savedId);
+            }
+            Object key = field.apply(entity);
+            if (key != null) index.put(key, savedId);
+        });
+        return entity;
+    }
+
+    public Optional<T> findById(String id) {
+        return id == null ? Optional.empty() : Optional.ofNullable(rows.get(id));
+    }
+
+    public Optional<T> findBy(String index, Object value) {
+        if (value == null) return Optional.empty();
+        String id = indexes.get(index).get(value);
+        return id == null ? Optional.empty() : findById(id);
+    }
+
+    public List<T> findAll() {
+        return new ArrayList<>(rows.values());
+    }
+
+    public List<T> findAll(Predicate<T> filter) {
+        return rows.values().stream().filter(filter).toList();
+    }
+
+    public long count() {
+        return rows.size();
+    }
+
+    public void deleteById(String id) {
+        if (id == null) return;
+        T removed = rows.remove(id);
+        if (removed == null) return;
+        indexedFields.forEach((name, field) -> {
+            Object key = field.apply(removed);
+            if (key != null) indexes.get(name).remove(key, id);
+        });
+    }
+
+    public void delete(T entity) {
+        deleteById(idGetter.apply(entity));
+    }
+
+    public void deleteAll() {
+        rows.clear();
+        indexes.values().forEach(Map::clear);
+    }
+
+    public String idOf(T entity) {
+        return idGetter.apply(entity);
+    }
+}
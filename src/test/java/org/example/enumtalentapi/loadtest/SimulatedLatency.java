@@ -0,0 +1,42 @@
+package org.example.enumtalentapi.loadtest;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Latency added to every in-memory repository call so the stand-ins behave
+ * like a database that is some network hops away.
+ */
+@Component
+@Profile("loadtest")
+public class SimulatedLatency {
+
+    private final long baseNanos;
+    private final long jitterNanos;
+
+    public SimulatedLatency(@Value("${enumtalent.loadtest.db-latency:5ms}") Duration base,
+                            @Value("${enumtalent.loadtest.db-latency-jitter:0ms}") Duration jitter) {
+        this.baseNanos = base.toNanos();
+        this.jitterNanos = jitter.toNanos();
+    }
+
+    public Duration next() {
+        long jitter = jitterNanos > 0 ? ThreadLocalRandom.current().nextLong(-jitterNanos, jitterNanos + 1) : 0;
+        return Duration.ofNanos(Math.max(0, baseNanos + jitter));
+    }
+
+    /** Blocks the calling thread, as a blocking driver call would. */
+    public void pause() {
+        Duration delay = next();
+        if (delay.isZero()) return;
+        try {
+            Thread.sleep(delay.toMillis(), (int) (delay.toNanos() % 1_000_000));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,213 @@
+package org.example.enumtalentapi.revision;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.bson.Document;
+import org.example.enumtalentapi.dto.TalentProfileRequest;
+import org.example.enumtalentapi.entity.ProfileRevision;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class ProfileRevisionsTest {
+
+    private static final String USER = "u1";
+
+    // revisions by _id, queried the way MongoDB would answer the range scans
+    private final TreeMap<String, ProfileRevision> stored = new TreeMap<>();
+    private final MongoTemplate mongoTemplate = mongoTemplate();
+
+    @Test
+    void diff_KeepsChangedAndClearedFields() {
+        Document before = new Document("firstName", "Ada").append("bio", "old").append("skills", List.of("java"));
+        Document after = new Document("firstName", "Ada").append("bio", null).append("skills", List.of("go"));
+
+        assertEquals(new Document("bio", null).append("skills", List.of("go")), ProfileRevisions.diff(before, after));
+    }
+
+    @Test
+    void encode_DecodesBackToTheSameFields() {
+        Document fields = new Document("firstName", "Ada").append("graduationYear", 2020)
+                .append("skills", List.of("java", "go")).append("bio", null);
+
+        assertEquals(fields, ProfileRevisions.decode(ProfileRevisions.encode(fields)));
+    }
+
+    @Test
+    void get_ReconstructsRevisionsAcrossCheckpoints() {
+        ProfileRevisions revisions = revisions(3, 100);
+        for (int i = 1; i <= 5; i++) {
+            revisions.append(USER, fields("headline " + i, i % 2 == 0 ? "bio" : null), Instant.now());
+        }
+
+        assertEquals(List.of(1L, 4L), checkpoints());
+        for (int i = 1; i <= 5; i++) {
+            TalentProfileRequest profile = revisions.get(USER, i).orElseThrow().getProfile();
+            assertEquals("headline " + i, profile.getHeadline());
+            assertEquals(i % 2 == 0 ? "bio" : null, profile.getBio());
+        }
+        assertEquals(List.of("headline", "bio"), stored.get(ProfileRevision.idOf(USER, 5)).getChangedFields());
+        assertTrue(revisions.get(USER, 6).isEmpty());
+    }
+
+    @Test
+    void append_UnchangedProfileRecordsNothing() {
+        ProfileRevisions revisions = revisions(3, 100);
+
+        revisions.append(USER, fields("Engineer", "bio"), Instant.now());
+        revisions.append(USER, fields("Engineer", "bio"), Instant.now());
+
+        assertEquals(1, stored.size());
+        assertTrue(stored.firstEntry().getValue().isCheckpoint());
+    }
+
+    @Test
+    void append_RetriesWithTheNextNumberWhenAnotherInstanceTookIt() {
+        ProfileRevisions revisions = revisions(3, 100);
+        revisions.append(USER, fields("first", null), Instant.now());
+        AtomicBoolean raced = new AtomicBoolean();
+        when(mongoTemplate.insert(any(ProfileRevision.class), eq(ProfileRevisions.COLLECTION))).thenAnswer(call -> {
+            ProfileRevision revision = call.getArgument(0);
+            if (raced.compareAndSet(false, true)) {
+                revisions.append(USER, fields("theirs", null), Instant.now());
+                throw new DuplicateKeyException(revision.getId());
+            }
+            return insert(revision);
+        });
+
+        revisions.append(USER, fields("ours", null), Instant.now());
+
+        assertEquals(3, stored.size());
+        assertEquals("theirs", revisions.get(USER, 2).orElseThrow().getProfile().getHeadline());
+        assertEquals("ours", revisions.get(USER, 3).orElseThrow().getProfile().getHeadline());
+    }
+
+    @Test
+    void prune_KeepsTheWholeRunBeforeKeepFromReadable() {
+        ProfileRevisions revisions = revisions(3, 3);
+        for (int i = 1; i <= 7; i++) {
+            revisions.append(USER, fields("headline " + i, null), Instant.now());
+        }
+
+        // the newest three start at 5, which is read through the checkpoint at 4
+        assertEquals(ProfileRevision.idOf(USER, 4), stored.firstKey());
+        assertTrue(revisions.get(USER, 3).isEmpty());
+        for (int i = 4; i <= 7; i++) {
+            assertEquals("headline " + i, revisions.get(USER, i).orElseThrow().getProfile().getHeadline());
+        }
+    }
+
+    @Test
+    void prune_AgedOutRevisionsGoUpToTheirNewestCheckpoint() {
+        ProfileRevisions revisions = revisions(3, 100);
+        Instant old = Instant.now().minus(Duration.ofDays(400));
+        for (int i = 1; i <= 5; i++) {
+            revisions.append(USER, fields("headline " + i, null), old);
+        }
+        revisions.append(USER, fields("headline 6", null), Instant.now());
+
+        revisions.prune(USER, 6);
+
+        assertEquals(ProfileRevision.idOf(USER, 4), stored.firstKey());
+        assertEquals("headline 5", revisions.get(USER, 5).orElseThrow().getProfile().getHeadline());
+        assertEquals("headline 6", revisions.get(USER, 6).orElseThrow().getProfile().getHeadline());
+    }
+
+    private ProfileRevisions revisions(int checkpointInterval, int maxRevisions) {
+        return new ProfileRevisions(mongoTemplate, true, checkpointInterval, maxRevisions, Duration.ofDays(365),
+                Duration.ofHours(24), 100, new SimpleMeterRegistry());
+    }
+
+    private List<Long> checkpoints() {
+        return stored.values().stream()
+                .filter(ProfileRevision::isCheckpoint)
+                .map(ProfileRevision::getRevision)
+                .toList();
+    }
+
+    private static Document fields(String headline, String bio) {
+        return new Document("firstName", "Ada").append("headline", headline).append("bio", bio)
+                .append("skills", List.of("java"));
+    }
+
+    private MongoTemplate mongoTemplate() {
+        MongoTemplate mongoTemplate = mock(MongoTemplate.class);
+        String collection = ProfileRevisions.COLLECTION;
+        when(mongoTemplate.insert(any(ProfileRevision.class), eq(collection)))
+                .thenAnswer(call -> insert(call.getArgument(0)));
+        when(mongoTemplate.find(any(Query.class), eq(ProfileRevision.class), eq(collection)))
+                .thenAnswer(call -> matching(call.getArgument(0)));
+        when(mongoTemplate.findOne(any(Query.class), eq(ProfileRevision.class), eq(collection)))
+                .thenAnswer(call -> matching(call.getArgument(0)).stream().findFirst().orElse(null));
+        when(mongoTemplate.findById(anyString(), eq(ProfileRevision.class), eq(collection)))
+                .thenAnswer(call -> stored.get((String) call.getArgument(0)));
+        when(mongoTemplate.remove(any(Query.class), eq(collection))).thenAnswer(call -> {
+            matching(call.getArgument(0)).forEach(revision -> stored.remove(revision.getId()));
+            return null;
+        });
+        return mongoTemplate;
+    }
+
+    private ProfileRevision insert(ProfileRevision revision) {
+        if (stored.putIfAbsent(revision.getId(), revision) != null) {
+            throw new DuplicateKeyException(revision.getId());
+        }
+        return revision;
+    }
+
+    private List<ProfileRevision> matching(Query query) {
+        List<ProfileRevision> found = new ArrayList<>();
+        for (ProfileRevision revision : stored.values()) {
+            if (query.getQueryObject().entrySet().stream().allMatch(condition -> matches(revision, condition))) {
+                found.add(revision);
+            }
+        }
+        if (Integer.valueOf(-1).equals(query.getSortObject().get("_id"))) {
+            found.sort(Comparator.comparing(ProfileRevision::getId).reversed());
+        }
+        return query.isLimited() ? found.subList(0, Math.min(query.getLimit(), found.size())) : found;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static boolean matches(ProfileRevision revision, Map.Entry<String, Object> condition) {
+        Object value = switch (condition.getKey()) {
+            case "_id" -> revision.getId();
+            case "checkpoint" -> revision.isCheckpoint();
+            case "createdAt" -> revision.getCreatedAt();
+            default -> throw new IllegalArgumentException(condition.getKey());
+        };
+        if (!(condition.getValue() instanceof Document operators)) {
+            return Objects.equals(value, condition.getValue());
+        }
+        for (Map.Entry<String, Object> operator : operators.entrySet()) {
+            int compared = ((Comparable) value).compareTo(operator.getValue());
+            boolean holds = switch (operator.getKey()) {
+                case "$gt" -> compared > 0;
+                case "$gte" -> compared >= 0;
+                case "$lt" -> compared < 0;
+                case "$lte" -> compared <= 0;
+                default -> throw new IllegalArgumentException(operator.getKey());
+            };
+            if (!holds) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
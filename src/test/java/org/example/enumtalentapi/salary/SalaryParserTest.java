@@ -0,0 +1,80 @@
+package org.example.enumtalentapi.salary;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SalaryParserTest {
+
+    @Test
+    void parse_RangeWithSymbolAndPeriod() {
+        assertEquals(new SalaryParser.Salary(4_800_000L, 7_200_000L, "NGN"),
+                SalaryParser.parse("₦400k - 600k monthly"));
+    }
+
+    @Test
+    void parse_RangeWithCurrencyCode() {
+        assertEquals(new SalaryParser.Salary(80_000L, 100_000L, "USD"),
+                SalaryParser.parse("80,000-100,000 USD"));
+    }
+
+    @Test
+    void parse_HourlyIsAnnualized() {
+        assertEquals(new SalaryParser.Salary(93_600L, 93_600L, "USD"), SalaryParser.parse("$45/hr"));
+    }
+
+    @Test
+    void parse_PlusLeavesTheTopOpen() {
+        assertEquals(new SalaryParser.Salary(5_000_000L, null, "NGN"), SalaryParser.parse("5m+ naira"));
+        assertEquals(new SalaryParser.Salary(60_000L, null, "GBP"), SalaryParser.parse("at least £60k"));
+    }
+
+    @Test
+    void parse_UpToLeavesTheBottomOpen() {
+        assertEquals(new SalaryParser.Salary(null, 70_000L, "EUR"), SalaryParser.parse("up to €70k"));
+    }
+
+    @Test
+    void parse_UnitWrittenOnceAppliesToBoth() {
+        assertEquals(new SalaryParser.Salary(5_000_000L, 7_000_000L, "NGN"),
+                SalaryParser.parse("5-7 million naira"));
+    }
+
+    @Test
+    void parse_LongerMarksWin() {
+        assertEquals("USD", SalaryParser.parse("US$ 50k").currency());
+        assertEquals("CAD", SalaryParser.parse("C$ 50k").currency());
+        assertEquals("GHS", SalaryParser.parse("GH₵ 5000 monthly").currency());
+    }
+
+    @Test
+    void parse_NoCurrencyIsNull() {
+        assertEquals(new SalaryParser.Salary(900_000L, 900_000L, null), SalaryParser.parse("900000"));
+    }
+
+    @Test
+    void parse_NoFigureIsNotASalary() {
+        assertNull(SalaryParser.parse("Negotiable"));
+        assertNull(SalaryParser.parse("   "));
+        assertNull(SalaryParser.parse(null));
+    }
+
+    @Test
+    void parse_AbsurdFigureIsNotASalary() {
+        assertNull(SalaryParser.parse("99999999999999999999 billion"));
+    }
+
+    @Test
+    void number_SeparatorsGroupThousandsOrMarkDecimals() {
+        assertEquals(new BigDecimal("1500000"), SalaryParser.number("1,500,000"));
+        assertEquals(new BigDecimal("1500000"), SalaryParser.number("1.500.000"));
+        assertEquals(new BigDecimal("2.5"), SalaryParser.number("2.5"));
+        assertEquals(new BigDecimal("2.5"), SalaryParser.number("2,5"));
+        assertEquals(new BigDecimal("1234.56"), SalaryParser.number("1,234.56"));
+        assertEquals(new BigDecimal("1234.56"), SalaryParser.number("1.234,56"));
+        assertEquals(new BigDecimal("250000"), SalaryParser.number("250 000"));
+        assertNull(SalaryParser.number("1,5,0"));
+    }
+}
@@ -0,0 +1,71 @@
+package org.example.enumtalentapi.salary;
+
+import org.bson.Document;
+import org.example.enumtalentapi.dto.TalentFilterRequest;
+import org.example.enumtalentapi.exception.CustomException;
+import org.example.enumtalentapi.exception.ErrorCode;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+class TalentFilterTest {
+
+    private final TalentFilter filter = new TalentFilter(mock(MongoTemplate.class), false);
+
+    @Test
+    void query_SalaryBoundsMatchOverlappingRanges() {
+        TalentFilterRequest request = request("ngn", 4_000_000L, 6_000_000L);
+
+        Document query = filter.query(request).getQueryObject();
+
+        assertEquals("NGN", query.getString("salaryCurrency"));
+        assertEquals(new Document("$not", new Document("$gt", 6_000_000L)), query.get("salaryMin"));
+        assertEquals(new Document("$not", new Document("$lt", 4_000_000L)), query.get("salaryMax"));
+    }
+
+    @Test
+    void query_OneBoundLeavesTheOtherEndOpen() {
+        Document from = filter.query(request("USD", 50_000L, null)).getQueryObject();
+        Document to = filter.query(request("USD", null, 90_000L)).getQueryObject();
+
+        assertFalse(from.containsKey("salaryMin"));
+        assertEquals(new Document("$not", new Document("$lt", 50_000L)), from.get("salaryMax"));
+        assertEquals(new Document("$not", new Document("$gt", 90_000L)), to.get("salaryMin"));
+        assertFalse(to.containsKey("salaryMax"));
+    }
+
+    @Test
+    void query_CurrencyAloneKeepsOpenEndedSalaries() {
+        Document query = filter.query(request("EUR", null, null)).getQueryObject();
+
+        assertEquals("EUR", query.getString("salaryCurrency"));
+        assertFalse(query.containsKey("salaryMin"));
+        assertFalse(query.containsKey("salaryMax"));
+    }
+
+    @Test
+    void query_SortsBySalaryOrGraduation() {
+        assertEquals(new Document("salaryMin", 1),
+                filter.query(request("EUR", null, null)).getSortObject());
+        assertEquals(new Document("graduationYear", -1),
+                filter.query(request(null, null, null)).getSortObject());
+    }
+
+    @Test
+    void query_BoundsWithoutCurrencyAreRejected() {
+        CustomException thrown = assertThrows(CustomException.class,
+                () -> filter.query(request(" ", 50_000L, null)));
+
+        assertEquals(ErrorCode.SALARY_CURRENCY_REQUIRED, thrown.getCode());
+    }
+
+    private static TalentFilterRequest request(String currency, Long from, Long to) {
+        TalentFilterRequest request = new TalentFilterRequest();
+        request.setCurrency(currency);
+        request.setSalaryFrom(from);
+        request.setSalaryTo(to);
+        return request;
+    }
+}
@@ -0,0 +1,120 @@
+package org.example.enumtalentapi.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.enumtalentapi.entity.RevokedToken;
+import org.example.enumtalentapi.invalidation.InvalidationBus;
+import org.example.enumtalentapi.repository.RevokedTokenRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.*;
+
+class TokenRevocationListTest {
+
+    private RevokedTokenRepository repository;
+    private InvalidationBus invalidationBus;
+    private TokenRevocationList revocationList;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(RevokedTokenRepository.class);
+        invalidationBus = mock(InvalidationBus.class);
+        when(repository.findByExpiresAtAfter(any())).thenReturn(List.of());
+        revocationList = list(Duration.ofDays(30), 1000, Duration.ofMinutes(1));
+    }
+
+    @AfterEach
+    void tearDown() {
+        revocationList.stop();
+    }
+
+    @Test
+    void revoke_TokenRejected() {
+        revocationList.revoke("token-1");
+
+        assertTrue(revocationList.isRevoked("token-1"));
+        assertFalse(revocationList.isRevoked("token-2"));
+        String digest = TokenRevocationList.digest("token-1");
+        verify(repository).save(argThat(token -> token.getId().equals(digest)));
+        verify(invalidationBus).publish(eq(TokenRevocationList.BUS_CACHE), startsWith(digest + "@"));
+    }
+
+    @Test
+    void revoke_StoresOnlyTheDigest() {
+        revocationList.revoke("secret-token");
+
+        verify(repository).save(argThat(token ->
+                token.getId().length() == 64 && !token.getId().contains("secret-token")));
+    }
+
+    @Test
+    void peerRevocation_TokenRejected() {
+        revocationList.start();
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Consumer<String>> onKey = ArgumentCaptor.forClass(Consumer.class);
+        verify(invalidationBus).subscribe(eq(TokenRevocationList.BUS_CACHE), onKey.capture(), any());
+
+        long expiresAt = Instant.now().plus(Duration.ofHours(1)).toEpochMilli();
+        onKey.getValue().accept(TokenRevocationList.digest("peer-token") + "@" + expiresAt);
+
+        assertTrue(revocationList.isRevoked("peer-token"));
+        verify(repository, never()).save(any());
+    }
+
+    @Test
+    void reload_LoadsPersistedRevocations() {
+        when(repository.findByExpiresAtAfter(any())).thenReturn(List.of(
+                new RevokedToken(TokenRevocationList.digest("stored-token"), Instant.now().plusSeconds(3600))));
+
+        revocationList.reload();
+
+        assertTrue(revocationList.isRevoked("stored-token"));
+        assertFalse(revocationList.isRevoked("other-token"));
+    }
+
+    @Test
+    void revoke_ManyPastSizingAllRejected() {
+        revocationList = list(Duration.ofDays(30), 10, Duration.ofMinutes(1));
+
+        for (int i = 0; i < 500; i++) {
+            revocationList.revoke("token-" + i);
+        }
+
+        for (int i = 0; i < 500; i++) {
+            assertTrue(revocationList.isRevoked("token-" + i));
+        }
+        assertFalse(revocationList.isRevoked("token-500"));
+    }
+
+    @Test
+    void expiredRevocation_Forgotten() throws InterruptedException {
+        revocationList = list(Duration.ofMillis(100), 1000, Duration.ofMillis(10));
+        revocationList.start();
+
+        revocationList.revoke("short-lived");
+        assertTrue(revocationList.isRevoked("short-lived"));
+
+        long deadline = System.currentTimeMillis() + 5000;
+        while (revocationList.isRevoked("short-lived") && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertFalse(revocationList.isRevoked("short-lived"));
+    }
+
+    private TokenRevocationList list(Duration tokenTtl, long expectedEntries, Duration tick) {
+        return new TokenRevocationList(repository, invalidationBus,
+                tokenTtl, expectedEntries, tick, new SimpleMeterRegistry());
+    }
+}
@@ -0,0 +1,162 @@
+package org.example.enumtalentapi.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.bson.Document;
+import org.example.enumtalentapi.dto.CompletenessReport;
+import org.example.enumtalentapi.entity.TalentProfile;
+import org.example.enumtalentapi.exception.CustomException;
+import org.example.enumtalentapi.exception.ErrorCode;
+import org.example.enumtalentapi.geo.TalentGeoSearch;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.time.Duration;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class CompletenessStatsTest {
+
+    private final MongoTemplate mongoTemplate = mock(MongoTemplate.class);
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final CompletenessStats stats = new CompletenessStats(mongoTemplate, true,
+            Duration.ofHours(1), Duration.ofHours(1), registry);
+
+    @AfterEach
+    void tearDown() {
+        stats.stop();
+    }
+
+    @Test
+    void record_MovesTheProfileFromItsOldBandAndMissingFields() {
+        stats.record(null, profile(30, "transcript", "resumeUrl"));
+        TalentProfile saved = profile(30, "transcript", "resumeUrl");
+        saved.setId("p1");
+        CompletenessStats.Shape before = CompletenessStats.Shape.of(saved);
+
+        stats.record(before, profile(85, "resumeUrl"));
+
+        CompletenessReport report = stats.report();
+        assertEquals(1, report.getProfiles());
+        assertEquals(0, report.getBelowHalf());
+        assertEquals(0, report.getHistogram().get("30-39"));
+        assertEquals(1, report.getHistogram().get("80-89"));
+        assertEquals(Map.of("resumeUrl", 1L), report.getMissingFields());
+    }
+
+    @Test
+    void flush_WritesTheDeltasAsOneIncrement() {
+        stats.record(null, profile(100));
+        stats.record(null, profile(45, "bio"));
+        ArgumentCaptor<Update> update = ArgumentCaptor.forClass(Update.class);
+        when(mongoTemplate.findAndModify(any(Query.class), update.capture(), any(FindAndModifyOptions.class),
+                eq(Document.class), eq(CompletenessStats.COLLECTION)))
+                .thenReturn(stored(7, Map.of("4", 3L, "10", 4L), Map.of("bio", 3L)));
+
+        stats.flush();
+
+        assertEquals(new Document("profiles", 2L).append("bands.10", 1L).append("bands.4", 1L)
+                .append("missing.bio", 1L), update.getValue().getUpdateObject().get("$inc", Document.class));
+        CompletenessReport report = stats.report();
+        assertEquals(7, report.getProfiles());
+        assertEquals(3, report.getBelowHalf());
+        assertEquals(Map.of("bio", 3L), report.getMissingFields());
+    }
+
+    @Test
+    void flush_FailedWriteKeepsItsBatchForTheNextFlush() {
+        stats.record(null, profile(45, "bio"));
+        when(mongoTemplate.findAndModify(any(Query.class), any(Update.class), any(FindAndModifyOptions.class),
+                eq(Document.class), eq(CompletenessStats.COLLECTION)))
+                .thenThrow(new DataAccessResourceFailureException("down"))
+                .thenReturn(stored(1, Map.of("4", 1L), Map.of("bio", 1L)));
+
+        stats.flush();
+
+        assertEquals(1, registry.counter("enumtalent.completeness.flush.failures").count());
+        assertEquals(1, stats.report().getProfiles());
+        assertEquals(Map.of("bio", 1L), stats.report().getMissingFields());
+
+        ArgumentCaptor<Update> retried = ArgumentCaptor.forClass(Update.class);
+        stats.flush();
+
+        verify(mongoTemplate, times(2)).findAndModify(any(Query.class), retried.capture(),
+                any(FindAndModifyOptions.class), eq(Document.class), eq(CompletenessStats.COLLECTION));
+        assertEquals(retried.getAllValues().get(0).getUpdateObject(), retried.getAllValues().get(1).getUpdateObject());
+        assertEquals(1, stats.report().getProfiles());
+    }
+
+    @Test
+    void rebuild_ReplacesTheViewWithTheStreamedProfiles() {
+        stats.record(null, profile(10, "bio"));
+        when(mongoTemplate.stream(any(Query.class), eq(Document.class), eq(TalentGeoSearch.PROFILE_COLLECTION)))
+                .thenReturn(Stream.of(
+                        new Document("completeness", 95).append("missingFields", List.of()),
+                        new Document("completeness", 20).append("missingFields", List.of("bio", "phone")),
+                        new Document("missingFields", List.of("bio"))));
+
+        stats.rebuild();
+
+        verify(mongoTemplate).save(any(Document.class), eq(CompletenessStats.COLLECTION));
+        CompletenessReport report = stats.report();
+        assertEquals(3, report.getProfiles());
+        assertEquals(2, report.getBelowHalf());
+        assertEquals(1, report.getHistogram().get("90-99"));
+        assertEquals(Map.of("bio", 2L, "phone", 1L), report.getMissingFields());
+        assertNotNull(report.getRebuiltAt());
+    }
+
+    @Test
+    void requestRebuild_RefusedWhileOneIsQueued() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        // the startup flush holds the worker, so the requested rebuild stays queued
+        when(mongoTemplate.findById(CompletenessStats.ID, Document.class, CompletenessStats.COLLECTION))
+                .thenAnswer(call -> {
+                    release.await();
+                    return stored(0, Map.of(), Map.of()).append("rebuiltAt", new Date());
+                });
+        when(mongoTemplate.stream(any(Query.class), eq(Document.class), eq(TalentGeoSearch.PROFILE_COLLECTION)))
+                .thenAnswer(call -> Stream.empty());
+        stats.start();
+
+        assertTrue(stats.requestRebuild());
+        CustomException thrown = assertThrows(CustomException.class, stats::requestRebuild);
+        assertEquals(ErrorCode.REBUILD_IN_PROGRESS, thrown.getCode());
+
+        release.countDown();
+        verify(mongoTemplate, timeout(5000)).save(any(Document.class), eq(CompletenessStats.COLLECTION));
+    }
+
+    @Test
+    void requestRebuild_FalseWhenDisabled() {
+        assertFalse(new CompletenessStats(mongoTemplate, false, Duration.ofHours(1), Duration.ofHours(1), registry)
+                .requestRebuild());
+    }
+
+    private static TalentProfile profile(int completeness, String... missing) {
+        TalentProfile profile = new TalentProfile();
+        profile.setCompleteness(completeness);
+        profile.setMissingFields(List.of(missing));
+        return profile;
+    }
+
+    private static Document stored(long profiles, Map<String, Long> bands, Map<String, Long> missing) {
+        return new Document("_id", CompletenessStats.ID)
+                .append("profiles", profiles)
+                .append("bands", new Document(Map.copyOf(bands)))
+                .append("missing", new Document(Map.copyOf(missing)));
+    }
+}
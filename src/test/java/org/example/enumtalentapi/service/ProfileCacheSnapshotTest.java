@@ -0,0 +1,164 @@
+package org.example.enumtalentapi.service;
+
+import org.bson.Document;
+import org.example.enumtalentapi.dto.TalentProfileResponse;
+import org.example.enumtalentapi.entity.User;
+import org.example.enumtalentapi.geo.TalentGeoSearch;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class ProfileCacheSnapshotTest {
+
+    private static final long NOW = System.currentTimeMillis();
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void write_ReadsBackEveryEntry() throws IOException {
+        Path file = directory.resolve("profiles.snapshot");
+        ProfileCacheSnapshot.write(file, List.of(
+                new ProfileReadCache.Snapshot("u1", response("a@example.com", true, "Ada"), NOW - 1000),
+                new ProfileReadCache.Snapshot("u2:text", response("b@example.com", false, "Bo"), NOW - 500)), NOW);
+
+        List<ProfileCacheSnapshot.Entry> entries = ProfileCacheSnapshot.read(file, NOW - 60_000);
+
+        assertEquals(2, entries.size());
+        assertEquals("u1", entries.get(0).key());
+        assertEquals(NOW - 1000, entries.get(0).loadedAtMillis());
+        assertEquals("Ada", entries.get(0).response().getFirstName());
+        assertTrue(entries.get(0).response().isVerified());
+        assertEquals("u2:text", entries.get(1).key());
+        assertEquals("b@example.com", entries.get(1).response().getEmail());
+        assertFalse(Files.exists(directory.resolve("profiles.snapshot.tmp")));
+    }
+
+    @Test
+    void read_IgnoresSnapshotsOlderThanTheCutoff() throws IOException {
+        Path file = directory.resolve("profiles.snapshot");
+        ProfileCacheSnapshot.write(file, List.of(
+                new ProfileReadCache.Snapshot("u1", response("a@example.com", true, "Ada"), NOW)), NOW - 10_000);
+
+        assertTrue(ProfileCacheSnapshot.read(file, NOW - 5_000).isEmpty());
+    }
+
+    @Test
+    void read_IgnoresTornFiles() throws IOException {
+        Path file = written();
+        try (RandomAccessFile raf = new RandomAccessFile(file.toFile(), "rw")) {
+            raf.setLength(raf.length() - 3);
+        }
+
+        assertTrue(ProfileCacheSnapshot.read(file, 0).isEmpty());
+    }
+
+    @Test
+    void read_IgnoresCorruptedBodies() throws IOException {
+        Path file = written();
+        try (RandomAccessFile raf = new RandomAccessFile(file.toFile(), "rw")) {
+            raf.seek(raf.length() - 1);
+            int last = raf.read();
+            raf.seek(raf.length() - 1);
+            raf.write(last ^ 0xFF);
+        }
+
+        assertTrue(ProfileCacheSnapshot.read(file, 0).isEmpty());
+    }
+
+    @Test
+    void read_IgnoresForeignAndMissingFiles() throws IOException {
+        Path foreign = directory.resolve("foreign.snapshot");
+        Files.write(foreign, new byte[64]);
+
+        assertTrue(ProfileCacheSnapshot.read(foreign, 0).isEmpty());
+        assertTrue(ProfileCacheSnapshot.read(directory.resolve("missing.snapshot"), 0).isEmpty());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void restore_KeepsOnlyEntriesTheDatabaseStillAgreesWith() throws IOException {
+        Path file = directory.resolve("profiles.snapshot");
+        long loaded = NOW - 60_000;
+        ProfileCacheSnapshot.write(file, List.of(
+                new ProfileReadCache.Snapshot("current", response("c@example.com", true, "C"), loaded),
+                new ProfileReadCache.Snapshot("current:text", response("c@example.com", true, "C"), loaded),
+                new ProfileReadCache.Snapshot("profile-written", response("p@example.com", true, "P"), loaded),
+                new ProfileReadCache.Snapshot("email-changed", response("old@example.com", true, "E"), loaded),
+                new ProfileReadCache.Snapshot("verified-since", response("v@example.com", false, "V"), loaded),
+                new ProfileReadCache.Snapshot("user-gone", response("g@example.com", true, "G"), loaded),
+                new ProfileReadCache.Snapshot("no-profile", response("n@example.com", true, "N"), loaded)), NOW);
+
+        MongoTemplate mongoTemplate = mock(MongoTemplate.class);
+        when(mongoTemplate.find(any(Query.class), eq(Document.class), eq(TalentGeoSearch.PROFILE_COLLECTION)))
+                .thenReturn(List.of(
+                        profile("current", loaded - 60_000),
+                        profile("profile-written", loaded + 10_000),
+                        profile("email-changed", loaded - 60_000),
+                        profile("verified-since", loaded - 60_000),
+                        profile("user-gone", loaded - 60_000)));
+        when(mongoTemplate.find(any(Query.class), eq(User.class))).thenReturn(List.of(
+                user("current", "c@example.com", true),
+                user("profile-written", "p@example.com", true),
+                user("email-changed", "new@example.com", true),
+                user("verified-since", "v@example.com", true),
+                user("no-profile", "n@example.com", true)));
+        ProfileReadCache cache = mock(ProfileReadCache.class);
+        when(cache.generation()).thenReturn(7L);
+        ArgumentCaptor<List<ProfileReadCache.Snapshot>> restored = ArgumentCaptor.forClass(List.class);
+        when(cache.restore(restored.capture(), anyLong())).thenReturn(0);
+
+        new ProfileCacheSnapshot(cache, mongoTemplate, true, file, Duration.ofMinutes(1), 100, Duration.ofHours(1))
+                .restore();
+
+        List<String> keys = new ArrayList<>();
+        restored.getAllValues().forEach(batch -> batch.forEach(snapshot -> keys.add(snapshot.key())));
+        assertEquals(List.of("current", "current:text", "no-profile"), keys);
+        verify(cache).restore(any(), eq(7L));
+    }
+
+    private Path written() throws IOException {
+        Path file = directory.resolve("profiles.snapshot");
+        ProfileCacheSnapshot.write(file, List.of(
+                new ProfileReadCache.Snapshot("u1", response("a@example.com", true, "Ada"), NOW)), NOW);
+        assertEquals(1, ProfileCacheSnapshot.read(file, 0).size());
+        return file;
+    }
+
+    private static TalentProfileResponse response(String email, boolean verified, String firstName) {
+        TalentProfileResponse response = new TalentProfileResponse();
+        response.setEmail(email);
+        response.setVerified(verified);
+        response.setFirstName(firstName);
+        return response;
+    }
+
+    private static Document profile(String userId, long updatedAt) {
+        return new Document("userId", userId).append("updatedAt", new Date(updatedAt));
+    }
+
+    private static User user(String id, String email, boolean verified) {
+        User user = new User();
+        user.setId(id);
+        user.setEmail(email);
+        user.setVerified(verified);
+        return user;
+    }
+}
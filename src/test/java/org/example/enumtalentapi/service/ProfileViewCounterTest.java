@@ -0,0 +1,100 @@
+package org.example.enumtalentapi.service;
+
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.ServerAddress;
+import com.mongodb.bulk.BulkWriteError;
+import com.mongodb.bulk.BulkWriteResult;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.bson.BsonDocument;
+import org.example.enumtalentapi.entity.ProfileViewDay;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class ProfileViewCounterTest {
+
+    private BulkOperations bulk;
+    private ProfileViewCounter counter;
+    private final List<String> upserted = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        MongoTemplate mongoTemplate = mock(MongoTemplate.class);
+        bulk = mock(BulkOperations.class);
+        when(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, ProfileViewCounter.COLLECTION)).thenReturn(bulk);
+        when(bulk.upsert(any(Query.class), any(Update.class))).thenAnswer(invocation -> {
+            Query query = invocation.getArgument(0);
+            upserted.add(query.getQueryObject().getString("_id"));
+            return bulk;
+        });
+        when(mongoTemplate.find(any(Query.class), eq(ProfileViewDay.class), eq(ProfileViewCounter.COLLECTION)))
+                .thenReturn(List.of());
+        counter = new ProfileViewCounter(mongoTemplate, true, Duration.ofHours(1), new SimpleMeterRegistry());
+    }
+
+    @Test
+    void flush_WrittenViewsLeavePending() {
+        counter.record("u1");
+        counter.record("u1");
+
+        counter.flush();
+
+        verify(bulk).execute();
+        assertEquals(0, counter.stats("u1", 1).getTotal());
+    }
+
+    @Test
+    void flush_BulkErrorKeepsOnlyTheFailedWrites() {
+        counter.record("u1");
+        counter.record("u2");
+        counter.record("u2");
+        when(bulk.execute()).thenAnswer(invocation -> {
+            int failed = indexOf("u2");
+            throw new BulkOperationException("partial", new MongoBulkWriteException(
+                    BulkWriteResult.unacknowledged(),
+                    List.of(new BulkWriteError(11000, "duplicate key", new BsonDocument(), failed)),
+                    null, new ServerAddress(), Set.of()));
+        });
+
+        counter.flush();
+
+        assertEquals(0, counter.stats("u1", 1).getTotal());
+        assertEquals(2, counter.stats("u2", 1).getTotal());
+    }
+
+    @Test
+    void flush_OtherFailureKeepsEveryWrite() {
+        counter.record("u1");
+        counter.record("u2");
+        when(bulk.execute()).thenThrow(new DataAccessResourceFailureException("down"));
+
+        counter.flush();
+
+        assertEquals(1, counter.stats("u1", 1).getTotal());
+        assertEquals(1, counter.stats("u2", 1).getTotal());
+    }
+
+    private int indexOf(String userId) {
+        for (int i = 0; i < upserted.size(); i++) {
+            if (upserted.get(i).startsWith(userId + ":")) {
+                return i;
+            }
+        }
+        throw new AssertionError("no upsert for " + userId);
+    }
+}
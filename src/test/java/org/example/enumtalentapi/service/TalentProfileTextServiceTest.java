@@ -0,0 +1,88 @@
+package org.example.enumtalentapi.service;
+
+import org.bson.Document;
+import org.example.enumtalentapi.entity.TalentProfileText;
+import org.example.enumtalentapi.repository.TalentProfileTextRepository;
+import org.example.enumtalentapi.util.TextCompressor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class TalentProfileTextServiceTest {
+
+    private final TalentProfileTextRepository textRepository = mock(TalentProfileTextRepository.class);
+    private final MongoTemplate mongoTemplate = mock(MongoTemplate.class);
+    private final TalentProfileTextService service = new TalentProfileTextService(textRepository, mongoTemplate);
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(service, "migrateOnStartup", true);
+    }
+
+    @Test
+    void migrateInlineText_SavesThenUnsets() {
+        when(mongoTemplate.find(any(Query.class), eq(Document.class), eq(TalentProfileTextService.PROFILE_COLLECTION)))
+                .thenReturn(List.of(new Document("_id", "p1").append("userId", "u1").append("transcript", "A+")))
+                .thenReturn(List.of());
+
+        service.migrateInlineText();
+
+        ArgumentCaptor<TalentProfileText> saved = ArgumentCaptor.forClass(TalentProfileText.class);
+        var order = inOrder(textRepository, mongoTemplate);
+        order.verify(textRepository).save(saved.capture());
+        order.verify(mongoTemplate).updateFirst(any(Query.class), any(Update.class),
+                eq(TalentProfileTextService.PROFILE_COLLECTION));
+        assertEquals("u1", saved.getValue().getUserId());
+        assertEquals("A+", TextCompressor.decompress(saved.getValue().getTranscript()));
+    }
+
+    @Test
+    void migrateInlineText_FailedSaveKeepsTheInlineText() {
+        when(mongoTemplate.find(any(Query.class), eq(Document.class), eq(TalentProfileTextService.PROFILE_COLLECTION)))
+                .thenReturn(List.of(new Document("_id", "p1").append("userId", "u1").append("transcript", "A+")));
+        when(textRepository.save(any())).thenThrow(new DataAccessResourceFailureException("down"));
+
+        service.migrateInlineText();
+
+        verify(mongoTemplate, never()).updateFirst(any(Query.class), any(Update.class), anyString());
+    }
+
+    @Test
+    void migrateInlineText_SkipsProfilesWithoutUserId() {
+        when(mongoTemplate.find(any(Query.class), eq(Document.class), eq(TalentProfileTextService.PROFILE_COLLECTION)))
+                .thenReturn(List.of());
+
+        service.migrateInlineText();
+
+        ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate).find(query.capture(), eq(Document.class), eq(TalentProfileTextService.PROFILE_COLLECTION));
+        assertTrue(query.getValue().getQueryObject().toJson().contains("\"userId\": {\"$ne\": null}"));
+        verify(mongoTemplate).count(any(Query.class), eq(TalentProfileTextService.PROFILE_COLLECTION));
+    }
+
+    @Test
+    void migrateInlineText_NullInlineFieldsLeaveTheSideDocumentAlone() {
+        when(mongoTemplate.find(any(Query.class), eq(Document.class), eq(TalentProfileTextService.PROFILE_COLLECTION)))
+                .thenReturn(List.of(new Document("_id", "p1").append("userId", "u1").append("transcript", null)))
+                .thenReturn(List.of());
+
+        service.migrateInlineText();
+
+        verifyNoInteractions(textRepository);
+        verify(mongoTemplate).updateFirst(any(Query.class), any(Update.class),
+                eq(TalentProfileTextService.PROFILE_COLLECTION));
+    }
+}
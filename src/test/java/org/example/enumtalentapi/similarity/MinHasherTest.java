@@ -0,0 +1,65 @@
+package org.example.enumtalentapi.similarity;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MinHasherTest {
+
+    @Test
+    void signature_SameAcrossInstancesAndOrder() {
+        int[] first = new MinHasher(8, 4).signature(List.of("skill:java", "skill:go", "role:backend"));
+        int[] second = new MinHasher(8, 4).signature(List.of("role:backend", "skill:go", "skill:java"));
+
+        assertArrayEquals(first, second);
+        assertEquals(32, first.length);
+    }
+
+    @Test
+    void signature_AgreementEstimatesJaccard() {
+        MinHasher hasher = new MinHasher(64, 4);
+        // 60 shared features out of 100 distinct
+        Set<String> a = features(0, 80);
+        Set<String> b = features(20, 100);
+
+        int[] sa = hasher.signature(a);
+        int[] sb = hasher.signature(b);
+        long agreeing = IntStream.range(0, sa.length).filter(i -> sa[i] == sb[i]).count();
+
+        assertEquals(0.6, (double) agreeing / sa.length, 0.1);
+    }
+
+    @Test
+    void bandKeys_OnePerBandAndEqualForEqualSets() {
+        MinHasher hasher = new MinHasher(16, 2);
+        Set<String> features = features(0, 10);
+
+        long[] keys = hasher.bandKeys(hasher.signature(features));
+
+        assertEquals(16, keys.length);
+        assertArrayEquals(keys, hasher.bandKeys(hasher.signature(new HashSet<>(features))));
+        assertEquals(16, Arrays.stream(keys).distinct().count());
+    }
+
+    @Test
+    void bandKeys_DisjointSetsShareNone() {
+        MinHasher hasher = new MinHasher(32, 4);
+
+        Set<Long> a = Arrays.stream(hasher.bandKeys(hasher.signature(features(0, 20)))).boxed().collect(Collectors.toSet());
+        Set<Long> b = Arrays.stream(hasher.bandKeys(hasher.signature(features(100, 120)))).boxed().collect(Collectors.toSet());
+
+        a.retainAll(b);
+        assertTrue(a.isEmpty());
+    }
+
+    private static Set<String> features(int from, int to) {
+        return IntStream.range(from, to).mapToObj(i -> "skill:s" + i).collect(Collectors.toSet());
+    }
+}
@@ -0,0 +1,139 @@
+package org.example.enumtalentapi.similarity;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.enumtalentapi.dto.SimilarTalent;
+import org.example.enumtalentapi.entity.TalentProfile;
+import org.example.enumtalentapi.invalidation.InvalidationBus;
+import org.example.enumtalentapi.repository.TalentProfileRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class SimilarTalentIndexTest {
+
+    private TalentProfileRepository repository;
+    private SimpleMeterRegistry meterRegistry;
+    private SimilarTalentIndex index;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(TalentProfileRepository.class);
+        meterRegistry = new SimpleMeterRegistry();
+        index = new SimilarTalentIndex(repository, mock(InvalidationBus.class), true, 32, 4, 2000, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        index.stop();
+    }
+
+    @Test
+    void similar_RanksByJaccardAndLeavesOutTheSource() {
+        index.update(profile("a", List.of("Java", "Spring", "MongoDB"), List.of("Backend")));
+        index.update(profile("b", List.of("java", " spring ", "mongodb"), List.of("backend")));
+        index.update(profile("c", List.of("Java", "Spring", "MongoDB", "Kafka"), List.of("Backend")));
+        index.update(profile("d", List.of("Photoshop"), List.of("Designer")));
+
+        List<SimilarTalent> results = index.similar("a", 10);
+
+        assertEquals(List.of("b", "c"), results.stream().map(SimilarTalent::getUserId).toList());
+        assertEquals(1.0, results.get(0).getSimilarity());
+        assertEquals(0.8, results.get(1).getSimilarity(), 1e-9);
+    }
+
+    @Test
+    void similar_UnknownUserIsEmpty() {
+        assertTrue(index.similar("nobody", 10).isEmpty());
+    }
+
+    @Test
+    void update_HiddenOrEmptyProfileLeavesTheIndex() {
+        index.update(profile("a", List.of("Java"), List.of()));
+        index.update(profile("b", List.of("Java"), List.of()));
+        TalentProfile hidden = profile("b", List.of("Java"), List.of());
+        hidden.setProfileVisible(false);
+
+        index.update(hidden);
+
+        assertTrue(index.similar("a", 10).isEmpty());
+        assertTrue(index.similar("b", 10).isEmpty());
+    }
+
+    @Test
+    void update_ChangedProfileMovesBuckets() {
+        index.update(profile("a", List.of("Java", "Spring"), List.of()));
+        index.update(profile("b", List.of("Java", "Spring"), List.of()));
+
+        index.update(profile("b", List.of("Rust", "Tokio"), List.of()));
+
+        assertTrue(index.similar("a", 10).isEmpty());
+    }
+
+    @Test
+    void update_LargeBucketStaysConsistent() {
+        // every profile lands in the same buckets
+        for (int i = 0; i < 5_000; i++) {
+            index.update(profile("u" + i, List.of("Java"), List.of("Backend")));
+        }
+        for (int i = 0; i < 5_000; i += 2) {
+            index.update(profile("u" + i, List.of("Cobol"), List.of()));
+        }
+
+        List<SimilarTalent> results = index.similar("u1", 100);
+
+        assertEquals(100, results.size());
+        assertTrue(results.stream().allMatch(result -> Integer.parseInt(result.getUserId().substring(1)) % 2 == 1));
+        assertTrue(results.stream().noneMatch(result -> result.getUserId().equals("u1")));
+    }
+
+    @Test
+    void build_PagesThroughProfilesById() throws InterruptedException {
+        List<TalentProfile> first = profiles(0, 1000);
+        when(repository.findAllBy(any(Pageable.class))).thenReturn(first);
+        when(repository.findByIdGreaterThan(eq("id0999"), any(Pageable.class))).thenReturn(profiles(1000, 1001));
+
+        index.subscribe();
+        index.build();
+        waitUntilLoaded();
+
+        assertEquals(1001, meterRegistry.get("enumtalent.similarity.profiles").gauge().value());
+        verify(repository).findByIdGreaterThan(eq("id0999"), any(Pageable.class));
+        verify(repository, never()).findByIdGreaterThan(eq("id1000"), any(Pageable.class));
+    }
+
+    private void waitUntilLoaded() throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (meterRegistry.get("enumtalent.similarity.loaded").gauge().value() != 1) {
+            assertTrue(System.currentTimeMillis() < deadline, "index never loaded");
+            Thread.sleep(10);
+        }
+    }
+
+    private static List<TalentProfile> profiles(int from, int to) {
+        List<TalentProfile> profiles = new ArrayList<>();
+        IntStream.range(from, to).forEach(i -> {
+            TalentProfile profile = profile("u" + i, List.of("Skill" + i % 7), List.of());
+            profile.setId(String.format("id%04d", i));
+            profiles.add(profile);
+        });
+        return profiles;
+    }
+
+    private static TalentProfile profile(String userId, List<String> skills, List<String> roles) {
+        TalentProfile profile = new TalentProfile();
+        profile.setUserId(userId);
+        profile.setSkills(skills);
+        profile.setPreferredRoles(roles);
+        return profile;
+    }
+}
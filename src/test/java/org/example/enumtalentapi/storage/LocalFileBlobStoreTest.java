@@ -0,0 +1,99 @@
+package org.example.enumtalentapi.storage;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LocalFileBlobStoreTest {
+
+    @TempDir
+    Path root;
+
+    @Test
+    void put_ReplacingSwitchesBytesAndMetadataTogether() throws IOException {
+        LocalFileBlobStore store = new LocalFileBlobStore(root.toString());
+        StoredBlob first = put(store, "u1/picture", "first", "image/png");
+
+        StoredBlob second = put(store, "u1/picture", "second version", "image/jpeg");
+
+        assertNotEquals(first.etag(), second.etag());
+        StoredBlob stat = store.stat("u1/picture").orElseThrow();
+        assertEquals(second.etag(), stat.etag());
+        assertEquals("image/jpeg", stat.contentType());
+        assertEquals("second version".length(), stat.size());
+        assertEquals("second version", read(store, "u1/picture", 0));
+        assertEquals("version", read(store, "u1/picture", 7));
+        assertEquals("second version", Files.readString(store.localPath("u1/picture").orElseThrow()));
+        // the sidecar and the current version only
+        assertEquals(2, files().size());
+    }
+
+    @Test
+    void put_SameContentKeepsItsVersionFile() throws IOException {
+        LocalFileBlobStore store = new LocalFileBlobStore(root.toString());
+        put(store, "u1/resume", "same", "application/pdf");
+
+        put(store, "u1/resume", "same", "application/pdf");
+
+        assertEquals("same", read(store, "u1/resume", 0));
+        assertEquals(2, files().size());
+    }
+
+    @Test
+    void stat_ReadsBlobsStoredAtTheKeyItself() throws IOException {
+        Path file = Files.createDirectories(root.resolve("u1")).resolve("picture");
+        Files.writeString(file, "legacy");
+        Files.writeString(file.resolveSibling("picture.meta"), "contentType=image/png\netag=\"abc\"\nattr.sourceEtag=x\n");
+        LocalFileBlobStore store = new LocalFileBlobStore(root.toString());
+
+        assertEquals("\"abc\"", store.stat("u1/picture").orElseThrow().etag());
+        assertEquals("legacy", read(store, "u1/picture", 0));
+        assertEquals(Map.of("sourceEtag", "x"), store.attributes("u1/picture"));
+
+        put(store, "u1/picture", "new", "image/png");
+
+        assertFalse(Files.exists(file));
+        assertEquals("new", read(store, "u1/picture", 0));
+    }
+
+    @Test
+    void delete_RemovesTheSidecarAndTheBytes() throws IOException {
+        LocalFileBlobStore store = new LocalFileBlobStore(root.toString());
+        put(store, "u1/picture", "bytes", "image/png");
+
+        store.delete("u1/picture");
+
+        assertTrue(store.stat("u1/picture").isEmpty());
+        assertTrue(store.localPath("u1/picture").isEmpty());
+        assertTrue(files().isEmpty());
+    }
+
+    private static StoredBlob put(LocalFileBlobStore store, String key, String content, String contentType)
+            throws IOException {
+        return store.put(key, new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)), contentType,
+                1024, Map.of());
+    }
+
+    private static String read(LocalFileBlobStore store, String key, long offset) throws IOException {
+        try (InputStream in = store.open(key, offset)) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    private List<Path> files() throws IOException {
+        try (Stream<Path> files = Files.walk(root)) {
+            return files.filter(Files::isRegularFile).toList();
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package org.example.enumtalentapi.typeahead;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PrefixIndexTest {
+
+    @Test
+    void complete_HeaviestFirstThenByKey() {
+        PrefixIndex index = index(Map.of("java", 5L, "javascript", 9L, "jakarta ee", 5L, "go", 20L), 10);
+
+        assertEquals(List.of("javascript", "jakarta ee", "java"), keys(index.complete("ja", 10)));
+        assertEquals(List.of("javascript", "java"), keys(index.complete("jav", 10)));
+        assertEquals(List.of("javascript"), keys(index.complete("javas", 10)));
+    }
+
+    @Test
+    void complete_MatchesTheStartOfLaterWords() {
+        PrefixIndex index = index(Map.of("backend engineer", 3L, "engineering manager", 2L, "reengineering", 7L), 10);
+
+        assertEquals(List.of("backend engineer", "engineering manager"), keys(index.complete("eng", 10)));
+        assertEquals(List.of("engineering manager"), keys(index.complete("man", 10)));
+    }
+
+    @Test
+    void complete_TermReachableTwiceIsListedOnce() {
+        PrefixIndex index = index(Map.of("data data", 1L), 10);
+
+        assertEquals(List.of("data data"), keys(index.complete("dat", 10)));
+    }
+
+    @Test
+    void complete_KeepsOnlyTopKPerNodeAndHonoursLimit() {
+        Map<String, Long> weights = new HashMap<>();
+        for (int i = 0; i < 50; i++) {
+            weights.put("skill " + i, (long) i);
+        }
+        PrefixIndex index = index(weights, 5);
+
+        assertEquals(List.of("skill 49", "skill 48", "skill 47", "skill 46", "skill 45"),
+                keys(index.complete("s", 100)));
+        assertEquals(List.of("skill 49", "skill 48"), keys(index.complete("skill", 2)));
+        assertEquals(List.of("skill 19", "skill 18", "skill 17", "skill 16", "skill 15"),
+                keys(index.complete("1", 100)));
+    }
+
+    @Test
+    void complete_UnknownPrefixIsEmpty() {
+        PrefixIndex index = index(Map.of("java", 1L), 10);
+
+        assertTrue(index.complete("x", 10).isEmpty());
+        assertTrue(index.complete("javax", 10).isEmpty());
+        assertTrue(PrefixIndex.EMPTY.complete("j", 10).isEmpty());
+    }
+
+    @Test
+    void complete_EmptyPrefixGivesTheOverallTop() {
+        PrefixIndex index = index(Map.of("java", 1L, "go", 3L, "rust", 2L), 10);
+
+        assertEquals(List.of("go", "rust", "java"), keys(index.complete("", 10)));
+    }
+
+    @Test
+    void exact_OnlyWholeKeysFromTheStart() {
+        PrefixIndex index = index(Map.of("spring boot", 4L, "java", 1L), 10);
+
+        assertEquals("spring boot", index.exact("spring boot").key());
+        assertNull(index.exact("spring"));
+        assertNull(index.exact("boot"));
+        assertNull(index.exact("kotlin"));
+        assertEquals(2, index.size());
+    }
+
+    @Test
+    void terms_ShowsTheMostCommonSpellingAndSumsTheWeights() {
+        Map<String, PrefixIndex.Term> terms = SkillDictionary.terms(Map.of(
+                "mongodb", Map.of("MongoDB", 7L, "mongodb", 2L, "Mongodb", 7L)));
+
+        PrefixIndex.Term term = terms.get("mongodb");
+        assertEquals("MongoDB", term.display());
+        assertEquals(16, term.weight());
+    }
+
+    private static PrefixIndex index(Map<String, Long> weights, int topK) {
+        Map<String, PrefixIndex.Term> terms = new HashMap<>();
+        weights.forEach((key, weight) -> terms.put(key, new PrefixIndex.Term(key, key, weight)));
+        return PrefixIndex.build(terms, topK);
+    }
+
+    private static List<String> keys(List<PrefixIndex.Term> terms) {
+        return terms.stream().map(PrefixIndex.Term::key).toList();
+    }
+}
@@ -0,0 +1,158 @@
+package org.example.enumtalentapi.util;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SingleFlightTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final ExecutorService pool = Executors.newFixedThreadPool(8);
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdownNow();
+    }
+
+    @Test
+    void load_ConcurrentCallersShareOneLoad() throws Exception {
+        SingleFlight<String, String> flight = new SingleFlight<>("test", Duration.ofSeconds(5), registry);
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+
+        Future<String> leader = pool.submit(() -> flight.load("k", () -> {
+            loads.incrementAndGet();
+            await(release);
+            return "value";
+        }));
+        waitForLeader(loads);
+
+        List<Future<String>> followers = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            followers.add(pool.submit(() -> flight.load("k", () -> {
+                loads.incrementAndGet();
+                return "own";
+            })));
+        }
+        waitForCount("follower", 5);
+        release.countDown();
+
+        assertEquals("value", leader.get(5, TimeUnit.SECONDS));
+        for (Future<String> follower : followers) {
+            assertEquals("value", follower.get(5, TimeUnit.SECONDS));
+        }
+        assertEquals(1, loads.get());
+        assertEquals(1.0, count("leader"));
+    }
+
+    @Test
+    void load_FollowersGetTheLeadersException() throws Exception {
+        SingleFlight<String, String> flight = new SingleFlight<>("test", Duration.ofSeconds(5), registry);
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+
+        Future<String> leader = pool.submit(() -> flight.load("k", () -> {
+            loads.incrementAndGet();
+            await(release);
+            throw new IllegalArgumentException("boom");
+        }));
+        waitForLeader(loads);
+        Future<String> follower = pool.submit(() -> flight.load("k", () -> "own"));
+        waitForCount("follower", 1);
+        release.countDown();
+
+        Exception leaderError = assertThrows(Exception.class, () -> leader.get(5, TimeUnit.SECONDS));
+        Exception followerError = assertThrows(Exception.class, () -> follower.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(IllegalArgumentException.class, leaderError.getCause());
+        assertInstanceOf(IllegalArgumentException.class, followerError.getCause());
+    }
+
+    @Test
+    void load_FollowerLoadsItselfAfterTimeout() throws Exception {
+        SingleFlight<String, String> flight = new SingleFlight<>("test", Duration.ofMillis(50), registry);
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+
+        Future<String> leader = pool.submit(() -> flight.load("k", () -> {
+            loads.incrementAndGet();
+            await(release);
+            return "leader";
+        }));
+        waitForLeader(loads);
+
+        assertEquals("own", flight.load("k", () -> "own"));
+        assertEquals(1.0, count("timeout"));
+
+        release.countDown();
+        assertEquals("leader", leader.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void load_NothingKeptAfterCompletion() {
+        SingleFlight<String, String> flight = new SingleFlight<>("test", Duration.ofSeconds(5), registry);
+        AtomicInteger loads = new AtomicInteger();
+
+        assertEquals("1", flight.load("k", () -> String.valueOf(loads.incrementAndGet())));
+        assertEquals("2", flight.load("k", () -> String.valueOf(loads.incrementAndGet())));
+        assertEquals(2.0, count("leader"));
+        assertEquals(0.0, count("follower"));
+    }
+
+    @Test
+    void load_DifferentKeysDoNotWait() throws Exception {
+        SingleFlight<String, String> flight = new SingleFlight<>("test", Duration.ofSeconds(5), registry);
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+
+        Future<String> slow = pool.submit(() -> flight.load("a", () -> {
+            loads.incrementAndGet();
+            await(release);
+            return "a";
+        }));
+        waitForLeader(loads);
+
+        assertEquals("b", flight.load("b", () -> "b"));
+        release.countDown();
+        assertEquals("a", slow.get(5, TimeUnit.SECONDS));
+    }
+
+    private double count(String role) {
+        return registry.get("enumtalent.singleflight").tag("role", role).counter().count();
+    }
+
+    private void waitForCount(String role, int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (count(role) < expected && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        // followers are counted just before they start waiting
+        Thread.sleep(20);
+    }
+
+    private static void waitForLeader(AtomicInteger loads) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (loads.get() == 0 && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package org.example.enumtalentapi.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TimingWheelTest {
+
+    private static final long TICK = 10;
+
+    @Test
+    void schedule_PastDeadlineRejected() {
+        TimingWheel<String> wheel = new TimingWheel<>(TICK, 3, 1000);
+
+        assertFalse(wheel.schedule("past", 990));
+        assertFalse(wheel.schedule("now", 1000));
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    void advance_ExpiresOnTheTickAfterTheDeadline() {
+        TimingWheel<String> wheel = new TimingWheel<>(TICK, 3, 0);
+        List<String> expired = new ArrayList<>();
+        assertTrue(wheel.schedule("a", 25));
+
+        wheel.advance(29, expired::add);
+        assertTrue(expired.isEmpty());
+
+        wheel.advance(30, expired::add);
+        assertEquals(List.of("a"), expired);
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    void advance_CascadesFromUpperLevels() {
+        TimingWheel<String> wheel = new TimingWheel<>(TICK, 3, 0);
+        List<String> expired = new ArrayList<>();
+        wheel.schedule("level1", 100 * TICK);
+        wheel.schedule("level2", 5000 * TICK);
+        assertEquals(2, wheel.size());
+
+        wheel.advance(100 * TICK - 1, expired::add);
+        assertTrue(expired.isEmpty());
+        wheel.advance(100 * TICK, expired::add);
+        assertEquals(List.of("level1"), expired);
+
+        wheel.advance(5000 * TICK - 1, expired::add);
+        assertEquals(List.of("level1"), expired);
+        wheel.advance(5000 * TICK, expired::add);
+        assertEquals(List.of("level1", "level2"), expired);
+    }
+
+    @Test
+    void advance_DeadlinePastTopLevelNotExpiredEarly() {
+        TimingWheel<String> single = new TimingWheel<>(TICK, 1, 0);
+        TimingWheel<String> two = new TimingWheel<>(TICK, 2, 0);
+        List<String> expired = new ArrayList<>();
+        single.schedule("single", 200 * TICK);
+        two.schedule("two", 10_000 * TICK);
+
+        single.advance(200 * TICK - 1, expired::add);
+        two.advance(10_000 * TICK - 1, expired::add);
+        assertTrue(expired.isEmpty());
+
+        single.advance(200 * TICK, expired::add);
+        two.advance(10_000 * TICK, expired::add);
+        assertEquals(List.of("single", "two"), expired);
+    }
+
+    @Test
+    void advance_EachItemExpiresOnItsOwnTick() {
+        TimingWheel<Integer> wheel = new TimingWheel<>(1, 3, 0);
+        SplittableRandom random = new SplittableRandom(3);
+        Map<Integer, Long> deadlines = new HashMap<>();
+        for (int i = 0; i < 5000; i++) {
+            long deadline = 1 + random.nextLong(300_000);
+            deadlines.put(i, deadline);
+            wheel.schedule(i, deadline);
+        }
+
+        Map<Integer, Long> expiredAt = new HashMap<>();
+        for (long now = 1; now <= 300_000; now++) {
+            long tick = now;
+            wheel.advance(now, item -> expiredAt.put(item, tick));
+        }
+
+        assertEquals(deadlines, expiredAt);
+        assertEquals(0, wheel.size());
+    }
+}